@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.DecimalFormat;
+import walkingkooka.j2cl.java.text.DecimalFormatSymbols;
+import walkingkooka.j2cl.java.text.SimpleDateFormat;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles patterns with applyPattern on the emulated {@link DecimalFormat} and {@link SimpleDateFormat} against the
+ * JDK {@link java.text.DecimalFormat} and {@link java.text.SimpleDateFormat} as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApplyPatternBenchmark {
+
+    private DecimalFormat decimalFormat;
+
+    private java.text.DecimalFormat jdkDecimalFormat;
+
+    private SimpleDateFormat simpleDateFormat;
+
+    private java.text.SimpleDateFormat jdkSimpleDateFormat;
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag("en-AU");
+
+        this.decimalFormat = new DecimalFormat("#", DecimalFormatSymbols.getInstance(locale));
+        this.jdkDecimalFormat = new java.text.DecimalFormat("#", java.text.DecimalFormatSymbols.getInstance(locale));
+        this.simpleDateFormat = new SimpleDateFormat("yyyy", locale);
+        this.jdkSimpleDateFormat = new java.text.SimpleDateFormat("yyyy", locale);
+    }
+
+    @Benchmark
+    public DecimalFormat decimalFormatApplyPattern() {
+        final DecimalFormat format = this.decimalFormat;
+        format.applyPattern(DECIMAL_FORMAT_PATTERN);
+        return format;
+    }
+
+    @Benchmark
+    public java.text.DecimalFormat jdkDecimalFormatApplyPattern() {
+        final java.text.DecimalFormat format = this.jdkDecimalFormat;
+        format.applyPattern(DECIMAL_FORMAT_PATTERN);
+        return format;
+    }
+
+    @Benchmark
+    public SimpleDateFormat simpleDateFormatApplyPattern() {
+        final SimpleDateFormat format = this.simpleDateFormat;
+        format.applyPattern(SIMPLE_DATE_FORMAT_PATTERN);
+        return format;
+    }
+
+    @Benchmark
+    public java.text.SimpleDateFormat jdkSimpleDateFormatApplyPattern() {
+        final java.text.SimpleDateFormat format = this.jdkSimpleDateFormat;
+        format.applyPattern(SIMPLE_DATE_FORMAT_PATTERN);
+        return format;
+    }
+
+    private final static String DECIMAL_FORMAT_PATTERN = "$#,##0.00;($#,##0.00)";
+
+    private final static String SIMPLE_DATE_FORMAT_PATTERN = "EEE, d MMM yyyy HH:mm:ss.SSS Z";
+}
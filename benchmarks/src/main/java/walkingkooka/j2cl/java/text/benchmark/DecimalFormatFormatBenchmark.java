@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.DecimalFormat;
+import walkingkooka.j2cl.java.text.DecimalFormatCompiled;
+import walkingkooka.j2cl.java.text.DecimalFormatSymbols;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats a long and a double with the emulated {@link DecimalFormat} and {@link DecimalFormatCompiled} against the
+ * JDK {@link java.text.DecimalFormat} as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalFormatFormatBenchmark {
+
+    @Param({"#,##0.###", "0.00", "#,##0%", "0.###E0"})
+    public String pattern;
+
+    @Param({"en-AU", "fr-FR"})
+    public String locale;
+
+    private DecimalFormat emul;
+
+    private DecimalFormatCompiled compiled;
+
+    private java.text.DecimalFormat jdk;
+
+    private StringBuilder builder;
+
+    private int[] offsets;
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag(this.locale);
+
+        this.emul = new DecimalFormat(this.pattern, DecimalFormatSymbols.getInstance(locale));
+        this.compiled = this.emul.compile();
+        this.jdk = new java.text.DecimalFormat(this.pattern, java.text.DecimalFormatSymbols.getInstance(locale));
+        this.builder = new StringBuilder();
+        this.offsets = new int[COLUMN.length + 1];
+    }
+
+    @Benchmark
+    public String formatLong() {
+        return this.emul.format(LONG);
+    }
+
+    @Benchmark
+    public String formatDouble() {
+        return this.emul.format(DOUBLE);
+    }
+
+    @Benchmark
+    public String compiledFormatLong() {
+        return this.compiled.format(LONG);
+    }
+
+    @Benchmark
+    public String compiledFormatDouble() {
+        return this.compiled.format(DOUBLE);
+    }
+
+    @Benchmark
+    public int formatDoubleStringBuilder() {
+        final StringBuilder builder = this.builder;
+        builder.setLength(0);
+        return this.emul.format(DOUBLE, builder)
+                .length();
+    }
+
+    /**
+     * Formats a whole column into a single reused {@link StringBuilder}, compare against {@link #jdkFormatDoubleColumn()}.
+     */
+    @Benchmark
+    public int formatDoubleColumn() {
+        final StringBuilder builder = this.builder;
+        builder.setLength(0);
+        return this.emul.format(COLUMN, 0, COLUMN.length, builder, this.offsets)
+                .length();
+    }
+
+    @Benchmark
+    public String jdkFormatLong() {
+        return this.jdk.format(LONG);
+    }
+
+    @Benchmark
+    public String jdkFormatDouble() {
+        return this.jdk.format(DOUBLE);
+    }
+
+    @Benchmark
+    public int jdkFormatDoubleColumn() {
+        final java.text.DecimalFormat jdk = this.jdk;
+
+        int length = 0;
+        for (final double value : COLUMN) {
+            length += jdk.format(value).length();
+        }
+        return length;
+    }
+
+    private final static long LONG = 1234567890L;
+
+    private final static double DOUBLE = 12345.6789;
+
+    private final static double[] COLUMN = new double[1000];
+
+    static {
+        for (int i = 0; i < COLUMN.length; i++) {
+            COLUMN[i] = i * 1234.5678 - 50000;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.DecimalFormat;
+import walkingkooka.j2cl.java.text.DecimalFormatSymbols;
+import walkingkooka.j2cl.java.text.ParsePosition;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses integer and fractional text, such as a column of prices, with the emulated {@link DecimalFormat} including
+ * the primitive {@link DecimalFormat#parseDouble(CharSequence, int, int, ParsePosition)} and a whole delimited column
+ * with {@link DecimalFormat#parseDoubles(CharSequence, int, int, char, double[], int[])}, against the JDK
+ * {@link java.text.DecimalFormat} as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalFormatParseBenchmark {
+
+    @Param({"1234567", "12,345.67", "-0.0042", "1,234,567.890123"})
+    public String text;
+
+    private DecimalFormat emul;
+
+    private java.text.DecimalFormat jdk;
+
+    /**
+     * The text repeated {@link #ROWS} times separated by {@link #DELIMITER}.
+     */
+    private String column;
+
+    private double[] values;
+
+    private int[] errorIndices;
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag("en-AU");
+
+        this.emul = new DecimalFormat(PATTERN, DecimalFormatSymbols.getInstance(locale));
+        this.jdk = new java.text.DecimalFormat(PATTERN, java.text.DecimalFormatSymbols.getInstance(locale));
+
+        final StringBuilder column = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            column.append(this.text)
+                    .append(DELIMITER);
+        }
+        this.column = column.toString();
+        this.values = new double[ROWS];
+        this.errorIndices = new int[ROWS];
+    }
+
+    @Benchmark
+    public Number parse() {
+        return this.emul.parse(this.text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        final String text = this.text;
+        return this.emul.parseDouble(text, 0, text.length(), new ParsePosition(0));
+    }
+
+    @Benchmark
+    public int parseDoubles() {
+        final String column = this.column;
+        return this.emul.parseDoubles(column, 0, column.length(), DELIMITER, this.values, this.errorIndices);
+    }
+
+    @Benchmark
+    public Number jdkParse() {
+        return this.jdk.parse(this.text, new java.text.ParsePosition(0));
+    }
+
+    /**
+     * Splits the column into a substring for each row, the usual way of parsing delimited text with the JDK.
+     */
+    @Benchmark
+    public int jdkParseColumn() {
+        final String column = this.column;
+        final double[] values = this.values;
+
+        int row = 0;
+        int start = 0;
+        while (start < column.length()) {
+            final int end = column.indexOf(DELIMITER, start);
+            values[row++] = this.jdk.parse(column.substring(start, end), new java.text.ParsePosition(0))
+                    .doubleValue();
+            start = end + 1;
+        }
+        return row;
+    }
+
+    private final static String PATTERN = "#,##0.###";
+
+    private final static int ROWS = 1000;
+
+    private final static char DELIMITER = '\t';
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.DateFormatSymbols;
+import walkingkooka.j2cl.java.text.SimpleDateFormat;
+
+import java.text.FieldPosition;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats into a reused buffer, using patterns that print month, weekday, am/pm and era names from the
+ * {@link DateFormatSymbols} and a numeric only pattern. The <code>gc.alloc.rate.norm</code> reported by the GC profiler
+ * for the name patterns should be no higher than the numeric pattern, showing no symbols or symbol arrays are copied
+ * per format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleDateFormatAllocationBenchmark {
+
+    @Param({
+            "dd MM yyyy",
+            "EEEE, d MMMM yyyy",
+            "EEE d MMM",
+            "h a",
+            "G yyyy"
+    })
+    public String pattern;
+
+    private SimpleDateFormat emul;
+
+    private java.text.SimpleDateFormat jdk;
+
+    private Date date;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    private final StringBuffer buffer = new StringBuffer();
+
+    private final FieldPosition fieldPosition = new FieldPosition(0);
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag("en-AU");
+        final TimeZone timeZone = TimeZone.getTimeZone("UTC");
+
+        this.emul = new SimpleDateFormat(this.pattern, locale);
+        this.emul.setTimeZone(timeZone);
+
+        this.jdk = new java.text.SimpleDateFormat(this.pattern, locale);
+        this.jdk.setTimeZone(timeZone);
+
+        this.date = new Date(1_600_000_000_123L);
+    }
+
+    @Benchmark
+    public StringBuilder format() {
+        final StringBuilder builder = this.builder;
+        builder.setLength(0);
+        return this.emul.format(this.date, builder);
+    }
+
+    @Benchmark
+    public StringBuffer jdkFormat() {
+        final StringBuffer buffer = this.buffer;
+        buffer.setLength(0);
+        return this.jdk.format(this.date, buffer, this.fieldPosition);
+    }
+}
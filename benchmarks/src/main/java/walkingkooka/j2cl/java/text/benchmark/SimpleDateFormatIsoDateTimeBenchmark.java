@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.ParsePosition;
+import walkingkooka.j2cl.java.text.SimpleDateFormat;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats and parses the fixed width patterns <code>yyyy-MM-dd'T'HH:mm:ss.SSSXXX</code> and
+ * <code>yyyy-MM-dd HH:mm:ss</code>, which are handled by a single component, beside a pattern of almost the same shape
+ * for each that is still handled one component at a time, with the JDK {@link java.text.SimpleDateFormat} as a
+ * baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleDateFormatIsoDateTimeBenchmark {
+
+    @Param({
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXX",
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy/MM/dd HH:mm:ss"
+    })
+    public String pattern;
+
+    private SimpleDateFormat emul;
+
+    private java.text.SimpleDateFormat jdk;
+
+    private long epochMillis;
+
+    private Date date;
+
+    private String text;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag("en-AU");
+        final TimeZone timeZone = TimeZone.getTimeZone("Australia/Sydney");
+
+        this.emul = new SimpleDateFormat(this.pattern, locale);
+        this.emul.setTimeZone(timeZone);
+
+        this.jdk = new java.text.SimpleDateFormat(this.pattern, locale);
+        this.jdk.setTimeZone(timeZone);
+
+        this.epochMillis = 1_600_000_000_123L;
+        this.date = new Date(this.epochMillis);
+        this.text = this.jdk.format(this.date);
+    }
+
+    @Benchmark
+    public StringBuilder format() {
+        final StringBuilder builder = this.builder;
+        builder.setLength(0);
+        return this.emul.format(this.epochMillis, builder);
+    }
+
+    @Benchmark
+    public long parseEpochMillis() {
+        return this.emul.parseEpochMillis(this.text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public String jdkFormat() {
+        return this.jdk.format(this.date);
+    }
+
+    @Benchmark
+    public Date jdkParse() {
+        return this.jdk.parse(this.text, new java.text.ParsePosition(0));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.ParsePosition;
+import walkingkooka.j2cl.java.text.SimpleDateFormat;
+import walkingkooka.j2cl.java.text.SimpleDateFormatCompiled;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats and parses dates using patterns taken from common log formats, which mix numbers with runs of literal
+ * text, with the emulated {@link SimpleDateFormat} against the JDK {@link java.text.SimpleDateFormat} as a baseline.
+ * The increasing benchmarks format a timestamp that advances by {@link #STEP} millis per invocation like a busy log,
+ * comparing the {@link SimpleDateFormatCompiled} without a cache against the day and second caches.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleDateFormatLogPatternBenchmark {
+
+    @Param({
+            "dd/MMM/yyyy:HH:mm:ss Z",
+            "yyyy-MM-dd HH:mm:ss,SSS",
+            "'['yyyy-MM-dd'T'HH:mm:ss.SSS'] '",
+            "EEE MMM dd HH:mm:ss 'GMT' yyyy",
+            "'Date: 'yyyy/MM/dd' Time: 'HH:mm:ss"
+    })
+    public String pattern;
+
+    private SimpleDateFormat emul;
+
+    private java.text.SimpleDateFormat jdk;
+
+    private final static long STEP = 7;
+
+    private Date date;
+
+    private String text;
+
+    private SimpleDateFormatCompiled compiled;
+
+    private SimpleDateFormatCompiled cacheDay;
+
+    private SimpleDateFormatCompiled cacheSecond;
+
+    private long epochMillis;
+
+    @Setup
+    public void setup() {
+        final Locale locale = Locale.forLanguageTag("en-AU");
+        final TimeZone timeZone = TimeZone.getTimeZone("UTC");
+
+        this.emul = new SimpleDateFormat(this.pattern, locale);
+        this.emul.setTimeZone(timeZone);
+
+        this.jdk = new java.text.SimpleDateFormat(this.pattern, locale);
+        this.jdk.setTimeZone(timeZone);
+
+        this.date = new Date(1_600_000_000_123L);
+        this.text = this.jdk.format(this.date);
+
+        this.compiled = this.emul.compile();
+        this.cacheDay = this.compiled.cacheDay();
+        this.cacheSecond = this.compiled.cacheSecond();
+        this.epochMillis = this.date.getTime();
+    }
+
+    @Benchmark
+    public String format() {
+        return this.emul.format(this.date);
+    }
+
+    @Benchmark
+    public Date parse() {
+        return this.emul.parse(this.text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public String formatIncreasing() {
+        return this.compiled.format(this.epochMillis += STEP);
+    }
+
+    @Benchmark
+    public String formatIncreasingCacheDay() {
+        return this.cacheDay.format(this.epochMillis += STEP);
+    }
+
+    @Benchmark
+    public String formatIncreasingCacheSecond() {
+        return this.cacheSecond.format(this.epochMillis += STEP);
+    }
+
+    @Benchmark
+    public String jdkFormatIncreasing() {
+        return this.jdk.format(new Date(this.epochMillis += STEP));
+    }
+
+    @Benchmark
+    public String jdkFormat() {
+        return this.jdk.format(this.date);
+    }
+
+    @Benchmark
+    public Date jdkParse() {
+        return this.jdk.parse(this.text, new java.text.ParsePosition(0));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.DateFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of loading and initializing the emulated classes, which decode all bundled locale data, followed by
+ * the first instance for a single locale. Each invocation uses a new {@link ClassLoader} so the static initializers
+ * run every time, making this useful to compare startup between commits.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(1)
+@State(Scope.Thread)
+public class StartupBenchmark {
+
+    private final static String PACKAGE = "walkingkooka.j2cl.java.text.";
+
+    @Param({"en-AU", "fr-FR"})
+    public String locale;
+
+    private Locale localeValue;
+
+    private URL[] classPath;
+
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void setup() throws IOException {
+        this.localeValue = Locale.forLanguageTag(this.locale);
+
+        final String[] paths = System.getProperty("java.class.path")
+                .split(File.pathSeparator);
+        final URL[] classPath = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            classPath[i] = new File(paths[i]).toURI().toURL();
+        }
+        this.classPath = classPath;
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoader() {
+        this.classLoader = new URLClassLoader(this.classPath, ClassLoader.getPlatformClassLoader());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() throws IOException {
+        this.classLoader.close();
+    }
+
+    @Benchmark
+    public Object simpleDateFormatDateTimeInstance() throws Exception {
+        return this.load("DateFormat")
+                .getMethod("getDateTimeInstance", int.class, int.class, Locale.class)
+                .invoke(null, DateFormat.SHORT, DateFormat.SHORT, this.localeValue);
+    }
+
+    @Benchmark
+    public Object decimalFormatNumberInstance() throws Exception {
+        return this.load("NumberFormat")
+                .getMethod("getInstance", Locale.class)
+                .invoke(null, this.localeValue);
+    }
+
+    private Class<?> load(final String simpleName) throws ClassNotFoundException {
+        return Class.forName(PACKAGE + simpleName, true, this.classLoader);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.j2cl.java.text.DateFormatSymbols;
+import walkingkooka.j2cl.java.text.DecimalFormatSymbols;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the emulated {@link DateFormatSymbols} and {@link DecimalFormatSymbols} for a locale against the JDK
+ * {@link java.text.DateFormatSymbols} and {@link java.text.DecimalFormatSymbols} as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SymbolsBenchmark {
+
+    @Param({"en-AU", "fr-FR", "de-DE", "ja-JP", "ar-SA"})
+    public String locale;
+
+    private Locale localeValue;
+
+    @Setup
+    public void setup() {
+        this.localeValue = Locale.forLanguageTag(this.locale);
+    }
+
+    @Benchmark
+    public DateFormatSymbols dateFormatSymbols() {
+        return new DateFormatSymbols(this.localeValue);
+    }
+
+    @Benchmark
+    public java.text.DateFormatSymbols jdkDateFormatSymbols() {
+        return new java.text.DateFormatSymbols(this.localeValue);
+    }
+
+    @Benchmark
+    public DecimalFormatSymbols decimalFormatSymbols() {
+        return new DecimalFormatSymbols(this.localeValue);
+    }
+
+    @Benchmark
+    public java.text.DecimalFormatSymbols jdkDecimalFormatSymbols() {
+        return new java.text.DecimalFormatSymbols(this.localeValue);
+    }
+}
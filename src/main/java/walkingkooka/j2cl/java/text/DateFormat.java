@@ -20,6 +20,7 @@ package walkingkooka.j2cl.java.text;
 import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.text.CharSequences;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
@@ -360,12 +361,26 @@ public abstract class DateFormat extends Format {
     @Override
     public final StringBuffer format(Object object, StringBuffer buffer,
             FieldPosition field) {
+        return format(toDate(object), buffer, field);
+    }
+
+    /**
+     * Formats the specified object, which must be a {@code Date} or a {@code Number}, appending the text to the
+     * given {@link StringBuilder}.
+     */
+    @Override
+    public final StringBuilder format(Object object, StringBuilder builder) {
+        return object instanceof Number ?
+                format(((Number) object).longValue(), builder) :
+                format(toDate(object), builder);
+    }
+
+    private static Date toDate(final Object object) {
         if (object instanceof Date) {
-            return format((Date) object, buffer, field);
+            return (Date) object;
         }
         if (object instanceof Number) {
-            return format(new Date(((Number) object).longValue()), buffer,
-                    field);
+            return new Date(((Number) object).longValue());
         }
         throw new IllegalArgumentException();
     }
@@ -378,10 +393,81 @@ public abstract class DateFormat extends Format {
      * @return the formatted string.
      */
     public final String format(Date date) {
-        return format(date, new StringBuffer(), new FieldPosition(0))
+        return format(date, new StringBuilder())
                 .toString();
     }
 
+    /**
+     * Formats the specified date appending the text to the given {@link StringBuilder}. Sub classes should override
+     * this method to write directly into the {@link StringBuilder}, the default formats into a temporary
+     * {@link StringBuffer}.
+     *
+     * @param date
+     *            the date to format.
+     * @param builder
+     *            the target string builder to append the formatted date/time to.
+     * @return the string builder.
+     */
+    public StringBuilder format(Date date, StringBuilder builder) {
+        return builder.append(format(date, new StringBuffer(), new FieldPosition(0)));
+    }
+
+    /**
+     * Formats the specified date appending the text to any {@link Appendable}. A {@link StringBuilder} is written to
+     * directly.
+     *
+     * @param date
+     *            the date to format.
+     * @param appendable
+     *            the target to append the formatted date/time to.
+     * @return the appendable.
+     * @throws IOException
+     *            if the appendable fails.
+     */
+    public final <A extends Appendable> A format(Date date, A appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            format(date, (StringBuilder) appendable);
+        } else {
+            appendable.append(format(date, new StringBuilder()));
+        }
+        return appendable;
+    }
+
+    /**
+     * Formats the specified milliseconds since the epoch appending the text to the given {@link StringBuilder}. Sub
+     * classes should override this method to format without creating a {@link Date}, the default creates one.
+     *
+     * @param epochMillis
+     *            the milliseconds since January 1, 1970 00:00:00 GMT.
+     * @param builder
+     *            the target string builder to append the formatted date/time to.
+     * @return the string builder.
+     */
+    public StringBuilder format(long epochMillis, StringBuilder builder) {
+        return format(new Date(epochMillis), builder);
+    }
+
+    /**
+     * Formats the specified milliseconds since the epoch appending the text to any {@link Appendable}. A
+     * {@link StringBuilder} is written to directly.
+     *
+     * @param epochMillis
+     *            the milliseconds since January 1, 1970 00:00:00 GMT.
+     * @param appendable
+     *            the target to append the formatted date/time to.
+     * @return the appendable.
+     * @throws IOException
+     *            if the appendable fails.
+     */
+    public final <A extends Appendable> A format(long epochMillis, A appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            format(epochMillis, (StringBuilder) appendable);
+        } else {
+            appendable.append(format(epochMillis, new StringBuilder()));
+        }
+        return appendable;
+    }
+
     /**
      * Formats the specified date as a string using the pattern of this date
      * format and appends the string to the specified string buffer.
@@ -31,6 +31,11 @@ import java.util.Set;
 
 /**
  * A very much simplified {@link java.text.DateFormatSymbols}.
+ * <br>
+ * The arrays held by the package private fields are never modified, getters and setters return or save copies, and
+ * {@link #clone()} shares them. This allows {@link SimpleDateFormat} to read the fields directly when formatting and
+ * parsing without copying. Each array has an immutable {@link DateFormatSymbolsTrie} that is built on first use, used
+ * when parsing names, and shared by copies made after it was built.
  */
 @LocaleAware
 public class DateFormatSymbols {
@@ -140,6 +145,28 @@ public class DateFormatSymbols {
         this.shortMonths = source.shortMonths;
         this.shortWeekdays = source.shortWeekdays;
         this.weekdays = source.weekdays;
+
+        // the arrays are shared so any tries already built are also shared, the source is never modified
+        this.ampmTrie = source.ampmTrie;
+        this.erasTrie = source.erasTrie;
+        this.monthsTrie = source.monthsTrie;
+        this.shortMonthsTrie = source.shortMonthsTrie;
+        this.shortWeekdaysTrie = source.shortWeekdaysTrie;
+        this.weekdaysTrie = source.weekdaysTrie;
+    }
+
+    /**
+     * Builds any missing tries, so an instance about to be shared by threads or used as a prototype for copies is never
+     * modified by a lazy getter afterwards.
+     */
+    DateFormatSymbols buildTries() {
+        this.ampmTrie();
+        this.erasTrie();
+        this.monthsTrie();
+        this.shortMonthsTrie();
+        this.shortWeekdaysTrie();
+        this.weekdaysTrie();
+        return this;
     }
 
     public String[] getAmPmStrings() {
@@ -148,60 +175,120 @@ public class DateFormatSymbols {
 
     public void setAmPmStrings(final String[] ampm) {
         this.ampm = copyOf(ampm);
+        this.ampmTrie = null;
     }
 
     String[] ampm;
 
+    DateFormatSymbolsTrie ampmTrie() {
+        if (null == this.ampmTrie) {
+            this.ampmTrie = DateFormatSymbolsTrie.with(this.ampm, 0);
+        }
+        return this.ampmTrie;
+    }
+
+    private DateFormatSymbolsTrie ampmTrie;
+
     public String[] getEras() {
         return copyOf(this.eras);
     }
 
     public void setEras(final String[] eras) {
         this.eras = copyOf(eras);
+        this.erasTrie = null;
     }
 
     String[] eras;
 
+    DateFormatSymbolsTrie erasTrie() {
+        if (null == this.erasTrie) {
+            this.erasTrie = DateFormatSymbolsTrie.with(this.eras, 0);
+        }
+        return this.erasTrie;
+    }
+
+    private DateFormatSymbolsTrie erasTrie;
+
     public String[] getMonths() {
         return copyOf(this.months);
     }
 
     public void setMonths(final String[] months) {
         this.months = copyOf(months);
+        this.monthsTrie = null;
     }
 
     String[] months;
 
+    DateFormatSymbolsTrie monthsTrie() {
+        if (null == this.monthsTrie) {
+            this.monthsTrie = DateFormatSymbolsTrie.with(this.months, 0);
+        }
+        return this.monthsTrie;
+    }
+
+    private DateFormatSymbolsTrie monthsTrie;
+
     public String[] getShortMonths() {
         return copyOf(this.shortMonths);
     }
 
     public void setShortMonths(final String[] shortMonths) {
         this.shortMonths = copyOf(shortMonths);
+        this.shortMonthsTrie = null;
     }
 
     String[] shortMonths;
 
+    DateFormatSymbolsTrie shortMonthsTrie() {
+        if (null == this.shortMonthsTrie) {
+            this.shortMonthsTrie = DateFormatSymbolsTrie.with(this.shortMonths, 0);
+        }
+        return this.shortMonthsTrie;
+    }
+
+    private DateFormatSymbolsTrie shortMonthsTrie;
+
     public String[] getShortWeekdays() {
         return copyOf(this.shortWeekdays);
     }
 
     public void setShortWeekdays(final String[] shortWeekdays) {
         this.shortWeekdays = copyOf(shortWeekdays);
+        this.shortWeekdaysTrie = null;
     }
 
     String[] shortWeekdays;
 
+    DateFormatSymbolsTrie shortWeekdaysTrie() {
+        if (null == this.shortWeekdaysTrie) {
+            this.shortWeekdaysTrie = DateFormatSymbolsTrie.with(this.shortWeekdays, 1);
+        }
+        return this.shortWeekdaysTrie;
+    }
+
+    private DateFormatSymbolsTrie shortWeekdaysTrie;
+
     public String[] getWeekdays() {
         return copyOf(this.weekdays);
     }
 
     public void setWeekdays(final String[] weekdays) {
         this.weekdays = copyOf(weekdays);
+        this.weekdaysTrie = null;
     }
 
     String[] weekdays;
 
+    DateFormatSymbolsTrie weekdaysTrie() {
+        if (null == this.weekdaysTrie) {
+            this.weekdaysTrie = DateFormatSymbolsTrie.with(this.weekdays, 1);
+        }
+        return this.weekdaysTrie;
+    }
+
+    private DateFormatSymbolsTrie weekdaysTrie;
+
     private static String[] copyOf(final String[] array) {
         return Arrays.copyOf(array, array.length);
     }
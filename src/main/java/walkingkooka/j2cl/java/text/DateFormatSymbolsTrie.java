@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+/**
+ * A case insensitive prefix trie of the month, weekday, era or am/pm names held by a {@link DateFormatSymbols}, used
+ * when parsing to find the longest name at a position in time proportional to the length of the match rather than the
+ * number of names. Characters are case folded the same way {@link String#regionMatches(boolean, int, String, int, int)}
+ * compares them when ignoring case.
+ */
+final class DateFormatSymbolsTrie {
+
+    /**
+     * Creates a trie holding the non empty values from the start index, each value mapped to its index.
+     */
+    static DateFormatSymbolsTrie with(final String[] values,
+                                      final int startIndex) {
+        final Builder root = new Builder();
+
+        final int count = values.length;
+        for (int i = startIndex; i < count; i++) {
+            final String value = values[i];
+            if (value.length() > 0) {
+                root.add(value, i);
+            }
+        }
+
+        return root.build();
+    }
+
+    /**
+     * A mutable node used only while adding values, which is then copied into an immutable
+     * {@link DateFormatSymbolsTrie} whose fields are all final, so a trie may be shared by threads without
+     * synchronization.
+     */
+    private final static class Builder {
+
+        void add(final String value,
+                 final int index) {
+            Builder node = this;
+
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                final char c = fold(value.charAt(i));
+
+                Builder child = node.child(c);
+                if (null == child) {
+                    child = node.addChild(c);
+                }
+                node = child;
+            }
+
+            // the first of any duplicates wins
+            if (-1 == node.index) {
+                node.index = index;
+            }
+        }
+
+        private Builder child(final char c) {
+            final char[] keys = this.keys;
+            final int count = this.childCount;
+
+            Builder child = null;
+            for (int i = 0; i < count; i++) {
+                if (c == keys[i]) {
+                    child = this.children[i];
+                    break;
+                }
+            }
+            return child;
+        }
+
+        private Builder addChild(final char c) {
+            final int count = this.childCount;
+
+            if (this.keys.length == count) {
+                final int capacity = Math.max(count * 2, 2);
+
+                final char[] keys = new char[capacity];
+                System.arraycopy(this.keys, 0, keys, 0, count);
+                this.keys = keys;
+
+                final Builder[] children = new Builder[capacity];
+                System.arraycopy(this.children, 0, children, 0, count);
+                this.children = children;
+            }
+
+            final Builder child = new Builder();
+            this.keys[count] = c;
+            this.children[count] = child;
+            this.childCount = count + 1;
+
+            return child;
+        }
+
+        /**
+         * Copies this node and its children into arrays sized to the number of children.
+         */
+        DateFormatSymbolsTrie build() {
+            final int count = this.childCount;
+
+            final char[] keys = new char[count];
+            System.arraycopy(this.keys, 0, keys, 0, count);
+
+            final DateFormatSymbolsTrie[] children = new DateFormatSymbolsTrie[count];
+            for (int i = 0; i < count; i++) {
+                children[i] = this.children[i].build();
+            }
+
+            return new DateFormatSymbolsTrie(keys,
+                    children,
+                    this.index);
+        }
+
+        private char[] keys = EMPTY_KEYS;
+
+        private Builder[] children = EMPTY_CHILDREN;
+
+        private int childCount;
+
+        private int index = -1;
+
+        private final static Builder[] EMPTY_CHILDREN = new Builder[0];
+    }
+
+    private DateFormatSymbolsTrie(final char[] keys,
+                                  final DateFormatSymbolsTrie[] children,
+                                  final int index) {
+        super();
+        this.keys = keys;
+        this.children = children;
+        this.index = index;
+    }
+
+    /**
+     * Returns the index of the longest value matching the text at the {@link ParsePosition} index ignoring case,
+     * advancing the index past the match, or returns -1 leaving the {@link ParsePosition} unchanged.
+     */
+    int longestMatch(final CharSequence text,
+                     final ParsePosition position) {
+        final int offset = position.getIndex();
+
+        int longest = -1;
+        int longestEnd = offset;
+
+        DateFormatSymbolsTrie node = this;
+        final int length = text.length();
+
+        for (int i = offset; i < length; i++) {
+            node = node.child(fold(text.charAt(i)));
+            if (null == node) {
+                break;
+            }
+            final int index = node.index;
+            if (-1 != index) {
+                longest = index;
+                longestEnd = i + 1;
+            }
+        }
+
+        if (-1 != longest) {
+            position.setIndex(longestEnd);
+        }
+
+        return longest;
+    }
+
+    private DateFormatSymbolsTrie child(final char c) {
+        final char[] keys = this.keys;
+        final int count = keys.length;
+
+        DateFormatSymbolsTrie child = null;
+        for (int i = 0; i < count; i++) {
+            if (c == keys[i]) {
+                child = this.children[i];
+                break;
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Case folds a character so two characters that are equal ignoring case have the same folded value.
+     */
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private final char[] keys;
+
+    private final DateFormatSymbolsTrie[] children;
+
+    /**
+     * The index of the value ending at this node or -1.
+     */
+    private final int index;
+
+    private final static char[] EMPTY_KEYS = new char[0];
+
+    // Object...........................................................................................................
+
+    /**
+     * Lists the case folded values and their index, eg <pre>am=0, pm=1</pre>
+     */
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        this.toString(new StringBuilder(), b);
+        return b.toString();
+    }
+
+    private void toString(final StringBuilder prefix,
+                          final StringBuilder b) {
+        if (-1 != this.index) {
+            if (b.length() > 0) {
+                b.append(", ");
+            }
+            b.append(prefix)
+                    .append('=')
+                    .append(this.index);
+        }
+
+        final int count = this.keys.length;
+        for (int i = 0; i < count; i++) {
+            prefix.append(this.keys[i]);
+            this.children[i].toString(prefix, b);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import walkingkooka.ToStringBuilder;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.j2cl.java.io.string.StringDataInputDataOutput;
 import walkingkooka.j2cl.java.util.locale.support.LocaleSupport;
-import walkingkooka.text.CharSequences;
 
 import java.io.DataInput;
 import java.io.IOException;
@@ -60,11 +59,12 @@ public class DecimalFormat extends NumberFormat {
     final static char ZERO = '0';
 
     /**
-     * Locale to an array of {@link DecimalFormat}, this is used internally to "get" the symbols for a given Locale.
+     * Locale to a {@link DecimalFormatLocale} which lazily creates the {@link DecimalFormat} for each style the first time
+     * the locale is used.
      */
-    final static LocaleLookup<DecimalFormat[]> LOCALE_TO_FORMATS = LocaleLookup.empty();
+    final static LocaleLookup<DecimalFormatLocale> LOCALE_TO_FORMATS = LocaleLookup.empty();
 
-    // indices into the LANGUAGE_TAG_TO_FORMATS array.
+    // indices into the DecimalFormatLocale styles.
 
     final static int INDEX_CURRENCY = 0;
     final static int INDEX_INSTANCE = 1;
@@ -72,8 +72,10 @@ public class DecimalFormat extends NumberFormat {
     final static int INDEX_NUMBER = 3;
     final static int INDEX_PERCENT = 4;
 
+    final static int INDEX_COUNT = 5;
+
     /**
-     * Loads all the {@link DecimalFormatSymbols} data and creates constants.
+     * Loads all the {@link DecimalFormatStyle} data, the {@link DecimalFormat} are only created when a locale is first used.
      */
     static {
         try {
@@ -91,204 +93,19 @@ public class DecimalFormat extends NumberFormat {
         final int count = data.readInt();
 
         for (int i = 0; i < count; i++) {
-            register0(LocaleSupport.readLocales(data), // locales
-                    data.readBoolean(), // currencyDecimalSeparatorAlwaysShown,
-                    data.readInt(), // currencyGroupingSize,
-                    data.readBoolean(), // currencyGroupingUsed,
-                    data.readInt(), // currencyMaximumFractionDigits,
-                    data.readInt(), // currencyMinimumFractionDigits,
-                    data.readInt(), // currencyMaximumIntegerDigits,
-                    data.readInt(), // currencyMinimumIntegerDigits,
-                    data.readInt(), // currencyMultiplier,
-                    data.readUTF(), // currencyNegativePrefix,
-                    data.readUTF(), // currencyNegativeSuffix,
-                    data.readInt(), // currencyParse,
-                    data.readUTF(), // currencyPattern,
-                    data.readUTF(), // currencyPositivePrefix,
-                    data.readUTF(), // currencyPositiveSuffix,
-                    readRoundingMode(data), // currencyRoundingMode,
-
-                    data.readBoolean(), // currencyDecimalSeparatorAlwaysShown,
-                    data.readInt(), // currencyGroupingSize,
-                    data.readBoolean(), // currencyGroupingUsed,
-                    data.readInt(), // currencyMaximumFractionDigits,
-                    data.readInt(), // currencyMinimumFractionDigits,
-                    data.readInt(), // currencyMaximumIntegerDigits,
-                    data.readInt(), // currencyMinimumIntegerDigits,
-                    data.readInt(), // currencyMultiplier,
-                    data.readUTF(), // currencyNegativePrefix,
-                    data.readUTF(), // currencyNegativeSuffix,
-                    data.readInt(), // currencyParse,
-                    data.readUTF(), // currencyPattern,
-                    data.readUTF(), // currencyPositivePrefix,
-                    data.readUTF(), // currencyPositiveSuffix,
-                    readRoundingMode(data), // currencyRoundingMode,
-
-                    data.readBoolean(), // currencyDecimalSeparatorAlwaysShown,
-                    data.readInt(), // currencyGroupingSize,
-                    data.readBoolean(), // currencyGroupingUsed,
-                    data.readInt(), // currencyMaximumFractionDigits,
-                    data.readInt(), // currencyMinimumFractionDigits,
-                    data.readInt(), // currencyMaximumIntegerDigits,
-                    data.readInt(), // currencyMinimumIntegerDigits,
-                    data.readInt(), // currencyMultiplier,
-                    data.readUTF(), // currencyNegativePrefix,
-                    data.readUTF(), // currencyNegativeSuffix,
-                    data.readInt(), // currencyParse,
-                    data.readUTF(), // currencyPattern,
-                    data.readUTF(), // currencyPositivePrefix,
-                    data.readUTF(), // currencyPositiveSuffix,
-                    readRoundingMode(data), // currencyRoundingMode,
-
-                    data.readBoolean(), // currencyDecimalSeparatorAlwaysShown,
-                    data.readInt(), // currencyGroupingSize,
-                    data.readBoolean(), // currencyGroupingUsed,
-                    data.readInt(), // currencyMaximumFractionDigits,
-                    data.readInt(), // currencyMinimumFractionDigits,
-                    data.readInt(), // currencyMaximumIntegerDigits,
-                    data.readInt(), // currencyMinimumIntegerDigits,
-                    data.readInt(), // currencyMultiplier,
-                    data.readUTF(), // currencyNegativePrefix,
-                    data.readUTF(), // currencyNegativeSuffix,
-                    data.readInt(), // currencyParse,
-                    data.readUTF(), // currencyPattern,
-                    data.readUTF(), // currencyPositivePrefix,
-                    data.readUTF(), // currencyPositiveSuffix,
-                    readRoundingMode(data), // currencyRoundingMode,
-
-                    data.readBoolean(), // currencyDecimalSeparatorAlwaysShown,
-                    data.readInt(), // currencyGroupingSize,
-                    data.readBoolean(), // currencyGroupingUsed,
-                    data.readInt(), // currencyMaximumFractionDigits,
-                    data.readInt(), // currencyMinimumFractionDigits,
-                    data.readInt(), // currencyMaximumIntegerDigits,
-                    data.readInt(), // currencyMinimumIntegerDigits,
-                    data.readInt(), // currencyMultiplier,
-                    data.readUTF(), // currencyNegativePrefix,
-                    data.readUTF(), // currencyNegativeSuffix,
-                    data.readInt(), // currencyParse,
-                    data.readUTF(), // currencyPattern,
-                    data.readUTF(), // currencyPositivePrefix,
-                    data.readUTF(), // currencyPositiveSuffix,
-                    readRoundingMode(data) // currencyRoundingMode,
-            );
-        }
-    }
+            final Set<Locale> locales = LocaleSupport.readLocales(data);
 
-    private static RoundingMode readRoundingMode(final DataInput data) throws IOException {
-        return RoundingMode.valueOf(data.readUTF());
-    }
-
-    /**
-     * Factory called by the static init above.
-     */
-    private static void register0(final Set<Locale> locales,
-
-                                  final boolean currencyDecimalSeparatorAlwaysShown,
-                                  final int currencyGroupingSize,
-                                  final boolean currencyGroupingUsed,
-                                  final int currencyMaximumFractionDigits,
-                                  final int currencyMinimumFractionDigits,
-                                  final int currencyMaximumIntegerDigits,
-                                  final int currencyMinimumIntegerDigits,
-                                  final int currencyMultiplier,
-                                  final String currencyNegativePrefix,
-                                  final String currencyNegativeSuffix,
-                                  final int currencyParse,
-                                  final String currencyPattern,
-                                  final String currencyPositivePrefix,
-                                  final String currencyPositiveSuffix,
-                                  final RoundingMode currencyRoundingMode,
-                                  
-                                  final boolean instanceDecimalSeparatorAlwaysShown,
-                                  final int instanceGroupingSize,
-                                  final boolean instanceGroupingUsed,
-                                  final int instanceMaximumFractionDigits,
-                                  final int instanceMinimumFractionDigits,
-                                  final int instanceMaximumIntegerDigits,
-                                  final int instanceMinimumIntegerDigits,
-                                  final int instanceMultiplier,
-                                  final String instanceNegativePrefix,
-                                  final String instanceNegativeSuffix,
-                                  final int instanceParse,
-                                  final String instancePattern,
-                                  final String instancePositivePrefix,
-                                  final String instancePositiveSuffix,
-                                  final RoundingMode instanceRoundingMode,
-                                  
-                                  final boolean integerDecimalSeparatorAlwaysShown,
-                                  final int integerGroupingSize,
-                                  final boolean integerGroupingUsed,
-                                  final int integerMaximumFractionDigits,
-                                  final int integerMinimumFractionDigits,
-                                  final int integerMaximumIntegerDigits,
-                                  final int integerMinimumIntegerDigits,
-                                  final int integerMultiplier,
-                                  final String integerNegativePrefix,
-                                  final String integerNegativeSuffix,
-                                  final int integerParse,
-                                  final String integerPattern,
-                                  final String integerPositivePrefix,
-                                  final String integerPositiveSuffix,
-                                  final RoundingMode integerRoundingMode,
-                                  
-                                  final boolean numberDecimalSeparatorAlwaysShown,
-                                  final int numberGroupingSize,
-                                  final boolean numberGroupingUsed,
-                                  final int numberMaximumFractionDigits,
-                                  final int numberMinimumFractionDigits,
-                                  final int numberMaximumIntegerDigits,
-                                  final int numberMinimumIntegerDigits,
-                                  final int numberMultiplier,
-                                  final String numberNegativePrefix,
-                                  final String numberNegativeSuffix,
-                                  final int numberParse,
-                                  final String numberPattern,
-                                  final String numberPositivePrefix,
-                                  final String numberPositiveSuffix,
-                                  final RoundingMode numberRoundingMode,
-                                  
-                                  final boolean percentDecimalSeparatorAlwaysShown,
-                                  final int percentGroupingSize,
-                                  final boolean percentGroupingUsed,
-                                  final int percentMaximumFractionDigits,
-                                  final int percentMinimumFractionDigits,
-                                  final int percentMaximumIntegerDigits,
-                                  final int percentMinimumIntegerDigits,
-                                  final int percentMultiplier,
-                                  final String percentNegativePrefix,
-                                  final String percentNegativeSuffix,
-                                  final int percentParse,
-                                  final String percentPattern,
-                                  final String percentPositivePrefix,
-                                  final String percentPositiveSuffix,
-                                  final RoundingMode percentRoundingMode
-
-    ) {
-        final Currency defaultCurrency = Currency.getInstance("XXX");
-
-        for (final Locale locale : locales) {
-            String country = locale.getCountry();
-            Currency currency;
-
-            try {
-                currency = country.length()  == 2?
-                        Currency.getInstance(locale) :
-                        defaultCurrency;
-            } catch (final IllegalArgumentException cause) {
-                currency = defaultCurrency;
+            final DecimalFormatStyle[] styles = new DecimalFormatStyle[INDEX_COUNT];
+            for (int j = 0; j < INDEX_COUNT; j++) {
+                styles[j] = DecimalFormatStyle.read(data);
             }
 
-            final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-
-            LOCALE_TO_FORMATS.add(locale,
-                    new DecimalFormat[]{
-                            new DecimalFormat(currency, currencyDecimalSeparatorAlwaysShown, currencyGroupingSize, currencyGroupingUsed, currencyMaximumFractionDigits, currencyMinimumFractionDigits, currencyMaximumIntegerDigits, currencyMinimumIntegerDigits, currencyMultiplier, currencyNegativePrefix, currencyNegativeSuffix, currencyParse, currencyPattern, currencyPositivePrefix, currencyPositiveSuffix, currencyRoundingMode, symbols),
-                            new DecimalFormat(currency, instanceDecimalSeparatorAlwaysShown, instanceGroupingSize, instanceGroupingUsed, instanceMaximumFractionDigits, instanceMinimumFractionDigits, instanceMaximumIntegerDigits, instanceMinimumIntegerDigits, instanceMultiplier, instanceNegativePrefix, instanceNegativeSuffix, instanceParse, instancePattern, instancePositivePrefix, instancePositiveSuffix, instanceRoundingMode, symbols),
-                            new DecimalFormat(currency, integerDecimalSeparatorAlwaysShown, integerGroupingSize, integerGroupingUsed, integerMaximumFractionDigits, integerMinimumFractionDigits, integerMaximumIntegerDigits, integerMinimumIntegerDigits, integerMultiplier, integerNegativePrefix, integerNegativeSuffix, integerParse, integerPattern, integerPositivePrefix, integerPositiveSuffix, integerRoundingMode, symbols),
-                            new DecimalFormat(currency, numberDecimalSeparatorAlwaysShown, numberGroupingSize, numberGroupingUsed, numberMaximumFractionDigits, numberMinimumFractionDigits, numberMaximumIntegerDigits, numberMinimumIntegerDigits, numberMultiplier, numberNegativePrefix, numberNegativeSuffix, numberParse, numberPattern, numberPositivePrefix, numberPositiveSuffix, numberRoundingMode, symbols),
-                            new DecimalFormat(currency, percentDecimalSeparatorAlwaysShown, percentGroupingSize, percentGroupingUsed, percentMaximumFractionDigits, percentMinimumFractionDigits, percentMaximumIntegerDigits, percentMinimumIntegerDigits, percentMultiplier, percentNegativePrefix, percentNegativeSuffix, percentParse, percentPattern, percentPositivePrefix, percentPositiveSuffix, percentRoundingMode, symbols),
-                    });
+            for (final Locale locale : locales) {
+                LOCALE_TO_FORMATS.add(
+                        locale,
+                        DecimalFormatLocale.with(locale, styles)
+                );
+            }
         }
     }
 
@@ -298,29 +115,30 @@ public class DecimalFormat extends NumberFormat {
 
     static DecimalFormat forLocale(final Locale locale,
                                    final int selectorIndex) {
-        return LOCALE_TO_FORMATS.getOrFail(locale)[selectorIndex];
+        return LOCALE_TO_FORMATS.getOrFail(locale)
+                .get(selectorIndex);
     }
 
     /**
-     * Ctor used to register locale to decimal format and by {@link #clone()}
+     * Ctor used by {@link DecimalFormatStyle} to create the decimal format for a locale and by {@link #clone()}
      */
-    private DecimalFormat(final Currency currency,
-                          final boolean decimalSeparatorAlwaysShown,
-                          final int groupingSize,
-                          final boolean groupingUsed,
-                          final int maximumFractionDigits,
-                          final int minimumFractionDigits,
-                          final int maximumIntegerDigits,
-                          final int minimumIntegerDigits,
-                          final int multiplier,
-                          final String negativePrefix,
-                          final String negativeSuffix,
-                          final int parse,
-                          final String pattern,
-                          final String positivePrefix,
-                          final String positiveSuffix,
-                          final RoundingMode roundingMode,
-                          final DecimalFormatSymbols symbols) {
+    DecimalFormat(final Currency currency,
+                  final boolean decimalSeparatorAlwaysShown,
+                  final int groupingSize,
+                  final boolean groupingUsed,
+                  final int maximumFractionDigits,
+                  final int minimumFractionDigits,
+                  final int maximumIntegerDigits,
+                  final int minimumIntegerDigits,
+                  final int multiplier,
+                  final String negativePrefix,
+                  final String negativeSuffix,
+                  final int parse,
+                  final String pattern,
+                  final String positivePrefix,
+                  final String positiveSuffix,
+                  final RoundingMode roundingMode,
+                  final DecimalFormatSymbols symbols) {
         super();
 
         this.currency = currency;
@@ -492,6 +310,7 @@ public class DecimalFormat extends NumberFormat {
         } else {
             this.applyPatternNotEmpty(pattern);
         }
+        this.formatPropertyChanged();
     }
 
     private void applyPatternEmpty() {
@@ -524,89 +343,59 @@ public class DecimalFormat extends NumberFormat {
     private static final int MAXIMUM_FRACTION_DIGITS = Integer.MAX_VALUE;
 
     private void applyPatternNotEmpty(final String pattern) {
-        final DecimalFormatPatternParserNumber positive = DecimalFormatPatternParserNumber.with(pattern, 0);
-        positive.parse();
-
-        boolean currency = positive.currency;
-
-        final int groupingSize = positive.groupingSize;
-        final int multiplier = positive.multiplier;
-
-        // String versions will be computed later.
-        final List<DecimalFormatPatternComponent> positivePrefixComponents = positive.prefix;
-        final List<DecimalFormatPatternComponent> positiveSuffixComponents = positive.suffix;
-
-        final List<DecimalFormatPatternComponent> negativePrefixComponents;
-        final List<DecimalFormatPatternComponent> negativeSuffixComponents;
-
-        final boolean custom;
-
-        final int position = positive.position;
-        if (position < pattern.length()) {
-            final DecimalFormatPatternParserNumber negative = DecimalFormatPatternParserNumber.with(pattern, position + 1);
-            negative.parse();
-
-            // if negative pattern has its on subPatternSeparator character fail!
-            if (negative.subPatternSeparator) {
-                negative.failInvalidCharacter();
-            }
-
-            currency |= negative.currency;
-
-            // if negative prefix is empty make it minus only if there was no +ve/-ve prefix
-            final List<DecimalFormatPatternComponent> prefix = negative.prefix;
-            negativePrefixComponents = prefix.isEmpty() && positivePrefixComponents.isEmpty() && positiveSuffixComponents.isEmpty() ?
-                    NEGATIVE_PREFIX_MINUS_SIGN :
-                    prefix;
-
-            negativeSuffixComponents = negative.suffix;
-
-            custom = true;
-
-            // ignore groupingSeparator, multiplier from negative.
-        } else {
-            // no negative pattern...negative prefix is minus sign + positive prefix
-            negativePrefixComponents = Lists.array();
-            negativePrefixComponents.add(DecimalFormatPatternComponent.minusSign());
-            negativePrefixComponents.addAll(positivePrefixComponents);
-
-            negativeSuffixComponents = positiveSuffixComponents;
-
-            custom = false;
-        }
+        final DecimalFormatPattern parsed = PATTERN_CACHE.get(
+                new DecimalFormatPattern.DecimalFormatPatternKey(pattern, this.symbols),
+                DecimalFormatPattern.DecimalFormatPatternKey::parse
+        );
 
         // commit pattern changes to this.
+        final int groupingSize = parsed.groupingSize;
         this.setGroupingSize(groupingSize);
         this.setGroupingUsed(groupingSize > 0);
-        this.setMultiplier(multiplier);
+        this.setMultiplier(parsed.multiplier);
 
-        this.maximumFractionDigits = positive.maximumFractionDigits;
-        this.minimumFractionDigits = positive.minimumFractionDigits;
+        this.maximumFractionDigits = parsed.maximumFractionDigits;
+        this.minimumFractionDigits = parsed.minimumFractionDigits;
 
-        this.maximumIntegerDigits = positive.maximumIntegerDigits;
-        this.minimumIntegerDigits = positive.minimumIntegerDigits;
+        this.maximumIntegerDigits = parsed.maximumIntegerDigits;
+        this.minimumIntegerDigits = parsed.minimumIntegerDigits;
 
-        this.numberComponents = positive.number;
-        this.decimalSeparator = positive.hasDecimalSeparator();
+        this.numberComponents = parsed.numberComponents;
+        this.decimalSeparator = parsed.decimalSeparator;
 
-        this.positivePrefixComponents = positivePrefixComponents;
-        this.positivePrefix = this.toPatternLocalized(positivePrefixComponents);
-        this.positiveSuffixComponents = positiveSuffixComponents;
-        this.positiveSuffix = this.toPatternLocalized(positiveSuffixComponents);
+        this.positivePrefixComponents = parsed.positivePrefixComponents;
+        this.positivePrefix = parsed.positivePrefix;
+        this.positiveSuffixComponents = parsed.positiveSuffixComponents;
+        this.positiveSuffix = parsed.positiveSuffix;
 
-        this.negativePrefixComponents = negativePrefixComponents;
-        this.negativePrefix = this.toPatternLocalized(negativePrefixComponents);
-        this.negativeSuffixComponents = negativeSuffixComponents;
-        this.negativeSuffix = this.toPatternLocalized(negativeSuffixComponents);
+        this.negativePrefixComponents = parsed.negativePrefixComponents;
+        this.negativePrefix = parsed.negativePrefix;
+        this.negativeSuffixComponents = parsed.negativeSuffixComponents;
+        this.negativeSuffix = parsed.negativeSuffix;
 
-        this.customNegativePrefixSuffix = custom;
-        this.scientificFormat = positive.isScientificFormat();
+        this.customNegativePrefixSuffix = parsed.customNegativePrefixSuffix;
+        this.scientificFormat = parsed.scientificFormat;
     }
 
     /**
-     * Patterns that include a negative sub pattern without a prefix defaults to prefix = minus sign.
+     * Parsed non empty patterns shared by all instances, keyed by pattern and the {@link DecimalFormatSymbols} values
+     * used to localize prefixes and suffixes.
      */
-    private final static List<DecimalFormatPatternComponent> NEGATIVE_PREFIX_MINUS_SIGN = Lists.of(DecimalFormatPatternComponent.minusSign());
+    private final static PatternCache<DecimalFormatPattern.DecimalFormatPatternKey, DecimalFormatPattern> PATTERN_CACHE = PatternCache.with(256);
+
+    /**
+     * The number of times a pattern was found in the process wide pattern cache.
+     */
+    public static long patternCacheHits() {
+        return PATTERN_CACHE.hits();
+    }
+
+    /**
+     * The number of times a pattern was not found in the process wide pattern cache and had to be parsed.
+     */
+    public static long patternCacheMisses() {
+        return PATTERN_CACHE.misses();
+    }
 
     /**
      * Returns the pattern of this decimal format using non-localized pattern
@@ -654,19 +443,6 @@ public class DecimalFormat extends NumberFormat {
         }
     }
 
-    /**
-     * Converts the components into a pattern localizing locale aware components such as currency.
-     */
-    private String toPatternLocalized(final List<DecimalFormatPatternComponent> components) {
-        final DecimalFormatSymbols symbols = this.symbols;
-
-        final StringBuilder b = new StringBuilder();
-        for (final DecimalFormatPatternComponent component : components) {
-            component.toPatternLocalized(symbols, b);
-        }
-        return b.toString();
-    }
-
     /**
      * This method should be called by all prefix/suffix setters.
      */
@@ -681,7 +457,7 @@ public class DecimalFormat extends NumberFormat {
     /**
      * When true the pattern contains an exponent and thus is in scientific format.
      */
-    private boolean scientificFormat;
+    boolean scientificFormat;
 
     // format...........................................................................................................
 
@@ -689,360 +465,601 @@ public class DecimalFormat extends NumberFormat {
     public StringBuffer format(final double number,
                                final StringBuffer append,
                                final FieldPosition position) {
-
-
-        return Double.isNaN(number) ?
-                this.formatDoubleNan(number, append, position) :
-                Double.isInfinite(number) ?
-                        this.formatDoubleInfinite(number, append, position) :
-                        number >= 0 ?
-                                this.formatBigDecimal(BigDecimal.valueOf(number), append, this.positivePrefix, this.positiveSuffix) :
-                                this.formatBigDecimal(BigDecimal.valueOf(-number), append, this.negativePrefix, this.negativeSuffix);
+        return append.append(this.format(number, this.scratch()));
     }
 
-    private StringBuffer formatDoubleInfinite(final double value,
-                                            final StringBuffer append,
-                                            final FieldPosition position) {
-        final String prefix;
-        final String suffix;
+    @Override
+    public StringBuffer format(final long number,
+                               final StringBuffer append,
+                               final FieldPosition position) {
+        return append.append(this.format(number, this.scratch()));
+    }
 
-        if (value > 0) {
-            prefix = this.positivePrefix;
-            suffix = this.positiveSuffix;
+    /**
+     * Returns the {@link StringBuilder} reused by the {@link StringBuffer} format methods, cleared of the previous text.
+     * A single builder is enough because an instance is not thread safe.
+     */
+    private StringBuilder scratch() {
+        StringBuilder scratch = this.scratch;
+        if (null == scratch) {
+            scratch = new StringBuilder();
+            this.scratch = scratch;
         } else {
-            prefix = this.negativePrefix;
-            suffix = this.negativeSuffix;
+            scratch.setLength(0);
         }
+        return scratch;
+    }
+
+    /**
+     * Lazily created by {@link #scratch()}, never shared by clones.
+     */
+    private StringBuilder scratch;
 
-        append.append(prefix);
-        append.append(this.getDecimalFormatSymbols().getInfinity());
-        append.append(suffix);
+    @Override
+    public StringBuilder format(final double number,
+                                final StringBuilder append) {
+        return this.compile()
+                .format(number, append, this.digits());
+    }
 
-        return append;
+    @Override
+    public StringBuilder format(final long number,
+                                final StringBuilder append) {
+        return this.compile()
+                .format(number, append, this.digits());
     }
 
     /**
-     * To match the behaviour of {@link java.text.DecimalFormat#format(double)}, no prefix or suffix is included in the
-     * formatted output.
+     * Compiles once for the whole column rather than checking for each value.
      */
-    private StringBuffer formatDoubleNan(final double value,
-                                       final StringBuffer append,
-                                       final FieldPosition position) {
-        append.append(this.getDecimalFormatSymbols().getNaN());
-        return append;
+    @Override
+    public StringBuilder format(final double[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return this.compile()
+                .format(numbers, start, end, append, offsets, this.digits());
     }
 
+    /**
+     * Compiles once for the whole column rather than checking for each value.
+     */
     @Override
-    public StringBuffer format(final long number,
-                               final StringBuffer append,
-                               final FieldPosition position) {
-        return number >= 0 ?
-                this.formatBigDecimal(BigDecimal.valueOf(number), append, this.positivePrefix, this.positiveSuffix) :
-                this.formatBigDecimal(BigDecimal.valueOf(-number), append, this.negativePrefix, this.negativeSuffix);
+    public StringBuilder format(final long[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return this.compile()
+                .format(numbers, start, end, append, offsets, this.digits());
     }
 
     /**
-     * Dispatches the given value and its associated parameters to either scientific or non scientific handling.
+     * Lazily creates the {@link DecimalFormatDigits} which is reused by all format calls.
      */
-    private StringBuffer formatBigDecimal(final BigDecimal value,
-                                        final StringBuffer append,
-                                        final String prefix,
-                                        final String suffix) {
-        append.append(prefix);
-        if (this.scientificFormat) {
-            this.formatBigDecimalScientific(value, append);
-        } else {
-            this.formatBigDecimalDecimal(value, append);
+    private DecimalFormatDigits digits() {
+        if (null == this.digits) {
+            this.digits = DecimalFormatDigits.empty();
         }
-        return append.append(suffix);
+        return this.digits;
     }
 
     /**
-     * Handles formatting the given absolute/positive value into characters as a decimal format.
+     * A buffer holding the digits of the value being formatted, this is not copied by {@link #clone()}.
      */
-    private void formatBigDecimalDecimal(final BigDecimal value,
-                                       final StringBuffer append) {
-        final DecimalFormatSymbols symbols = this.symbols;
+    private DecimalFormatDigits digits;
 
-        final int maxInteger = this.maximumIntegerDigits;
-        final int minInteger = this.minimumIntegerDigits;
+    // compile..........................................................................................................
 
-        final int maxFraction = this.maximumFractionDigits;
+    /**
+     * Returns an immutable {@link DecimalFormatCompiled} holding the current properties of this {@link DecimalFormat},
+     * which may be shared by many threads. The same instance is returned until a property is changed.
+     */
+    public DecimalFormatCompiled compile() {
+        if (null == this.compiled) {
+            this.compiled = DecimalFormatCompiled.with(this);
+        }
+        return this.compiled;
+    }
 
-        // round to $maxFractionDigits decimal places
-        final BigDecimal rounded = value
-                .multiply(this.multiplierBigDecimal) // required might be a percent/perMille or have a custom multiplier.
-                .setScale(maxFraction, this.roundingMode);
+    /**
+     * Clears the cached {@link DecimalFormatCompiled}, this should be called by all setters of properties that affect
+     * formatting.
+     */
+    @Override
+    void formatPropertyChanged() {
+        this.compiled = null;
+    }
 
-        final String digits = rounded.abs().unscaledValue().toString();
+    /**
+     * The cached {@link DecimalFormatCompiled}, this is not copied by {@link #clone()}.
+     */
+    private DecimalFormatCompiled compiled;
 
-        final int precision = rounded.precision();
-        final int scale = rounded.scale();
-        final char zero = symbols.getZeroDigit();
+    // parse............................................................................................................
 
-        // add integer digits with grouping separator if necessary......................................................
-        {
-            CharSequence integer = digits.substring(0, precision - scale);
-            if (integer.length() < minInteger) {
-                integer = CharSequences.padLeft(integer, minInteger, '0');
-            }
-            final int integerDigitCount = integer.length();
-            int i = maxInteger < integerDigitCount ?
-                    integerDigitCount - maxInteger :
-                    0;
+    @Override
+    public Number parse(final String source,
+                        final ParsePosition position) {
+        return this.parse(source, source.length(), position);
+    }
 
-            // add the portion integer digits that will include grouping
-            if (this.isGroupingUsed()) {
-                final int groupingSize = this.groupingSize;
-                final char groupingSeparator = symbols.getGroupingSeparator();
+    /**
+     * Parses a {@link Number} from the range of the given {@link CharSequence} between start (inclusive) and end
+     * (exclusive) without copying any characters, allowing numbers to be parsed directly from a
+     * {@link java.nio.CharBuffer} or similar window over a larger input. The given {@link ParsePosition} is only
+     * an output, its index or error index are set to absolute positions within the text, exactly like
+     * {@link #parse(String, ParsePosition)}.
+     */
+    public Number parse(final CharSequence text,
+                        final int start,
+                        final int end,
+                        final ParsePosition position) {
+        parseStart(text, start, end, position);
 
-                final int stopGrouping = integerDigitCount - groupingSize;
-                while (i < stopGrouping) {
+        return this.parse(text, end, position);
+    }
 
-                    append.append(translate(integer.charAt(i), zero));
-                    i++;
+    /**
+     * Parses a {@link Number} starting at the {@link ParsePosition} index and never reading at or past end.
+     */
+    private Number parse(final CharSequence text,
+                         final int end,
+                         final ParsePosition position) {
+        final DecimalFormatDigits digits = this.digits();
 
-                    if (0 == (integerDigitCount - i) % groupingSize) {
-                        append.append(groupingSeparator);
-                    }
-                }
-            }
+        final Number result;
+        final int parsed = this.parseDigits(text, end, position, digits);
+        switch (parsed) {
+            case PARSED_NONE:
+                result = null;
+                break;
+            case PARSED_NAN:
+                result = Double.NaN;
+                break;
+            case PARSED_POSITIVE_INFINITY:
+                result = Double.POSITIVE_INFINITY;
+                break;
+            case PARSED_NEGATIVE_INFINITY:
+                result = Double.NEGATIVE_INFINITY;
+                break;
+            case PARSED_POSITIVE:
+            case PARSED_NEGATIVE:
+                result = this.toNumber(digits, PARSED_NEGATIVE == parsed);
+                break;
+            default:
+                NeverError.unhandledCase(parsed, PARSED_NONE, PARSED_NAN, PARSED_POSITIVE_INFINITY, PARSED_NEGATIVE_INFINITY, PARSED_POSITIVE, PARSED_NEGATIVE);
+                result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the parsed digits into a {@link Number} honouring {@link #isParseBigDecimal()} and
+     * {@link #isParseIntegerOnly()}. Integers that fit in a long become a {@link Long}, everything else including
+     * values with a non zero fraction become a {@link Double}, decided by inspecting the digits rather than attempting
+     * a {@link BigDecimal#setScale(int, RoundingMode)} and catching the {@link ArithmeticException}.
+     */
+    private Number toNumber(final DecimalFormatDigits digits,
+                            final boolean negative) {
+        final Number result;
 
-            // add remainder of digits without any grouping...
-            while (i < integerDigitCount) {
-                append.append(translate(integer.charAt(i), zero));
-                i++;
+        if (this.isParseBigDecimal()) {
+            result = digits.toBigDecimal(negative)
+                    .divide(this.multiplierBigDecimal);
+        } else {
+            this.parseDivideByMultiplier(digits, negative);
+
+            if (this.isParseIntegerOnly()) {
+                digits.truncateFraction();
             }
-        }
 
-        // add fraction digits..........................................................................................
-        {
-            CharSequence fraction = digits.substring(precision - scale);
-            if (CharSequences.isNullOrEmpty(fraction)) {
-                if (this.decimalSeparatorAlwaysShown) {
-                    append.append(symbols.getDecimalSeparator());
-                }
+            // a conditional expression would promote the long to a double
+            if (digits.isLong(negative)) {
+                result = digits.toLong(negative);
             } else {
-                append.append(symbols.getDecimalSeparator());
-
-                for (final char c : fraction.toString().toCharArray()) {
-                    append.append(translate(c, zero));
-                }
+                result = digits.toDouble(negative);
             }
         }
+
+        return result;
     }
 
     /**
-     * Handles formatting the given absolute/positive value into characters as a scientific format.
+     * Parses a long from the range of the given {@link CharSequence} between start (inclusive) and end (exclusive),
+     * accumulating the digits without creating a {@link BigDecimal} or boxing the result. If the text is not a number,
+     * has a fraction or does not fit in a long, zero is returned and the error index of the {@link ParsePosition} is set.
+     * {@link #isParseBigDecimal()} is ignored.
      */
-    private void formatBigDecimalScientific(final BigDecimal value,
-                                          final StringBuffer append) {
-        final DecimalFormatSymbols symbols = this.symbols;
-
-        final int maxInteger = this.maximumIntegerDigits;
-        final int maxFraction = this.maximumFractionDigits;
-        final int minFraction = this.minimumFractionDigits;
-
-        final BigDecimal rounded = value.multiply(this.multiplierBigDecimal)// required might be a percent/perMille or have a custom multiplier.
-                .movePointLeft(-maxInteger - maxFraction)
-                .setScale(0, this.roundingMode)
-                .stripTrailingZeros();
+    public long parseLong(final CharSequence text,
+                          final int start,
+                          final int end,
+                          final ParsePosition position) {
+        parseStart(text, start, end, position);
 
-        int powerOfTen = value.precision() - value.scale();
+        final DecimalFormatDigits digits = this.digits();
 
-        final int integerDigitCount;
-        final int minFractionDigitCount;
-        final int maxFractionDigitCount;
+        long result = 0;
+        boolean error = true;
 
-        if (maxInteger > 1) {
-            integerDigitCount = ((maxInteger - 1) % maxInteger) + 1;
+        final int parsed = this.parseDigits(text, end, position, digits);
+        if (PARSED_POSITIVE == parsed || PARSED_NEGATIVE == parsed) {
+            final boolean negative = PARSED_NEGATIVE == parsed;
+            this.parseDivideByMultiplier(digits, negative);
 
-            final int delta = maxInteger - integerDigitCount;
-            minFractionDigitCount = minFraction + delta;
-            maxFractionDigitCount = maxFraction + delta;
-        } else {
-            integerDigitCount = 1;
-            final int delta = maxInteger - integerDigitCount;
-            minFractionDigitCount = minFraction + delta;
-            maxFractionDigitCount = maxFraction + delta;
+            if (digits.isLong(negative)) {
+                result = digits.toLong(negative);
+                error = false;
+            }
         }
 
-        // mantissa......................................................................................................
-        final char zero = symbols.getZeroDigit();
-
-        final String digits = rounded.unscaledValue().toString();
-        final int digitCount = digits.length();
-        int next = 0;
+        if (error && PARSED_NONE != parsed) {
+            position.setIndex(start);
+            position.setErrorIndex(start);
+        }
 
-        // integer......................................................................................................
-        {
-            int i = 0;
+        return result;
+    }
 
-            while (next < digitCount && i < integerDigitCount) {
-                append.append(translate(digits.charAt(next), zero));
-                next++;
-                i++;
-                powerOfTen--;
-            }
+    /**
+     * Parses a double from the range of the given {@link CharSequence} between start (inclusive) and end (exclusive),
+     * accumulating the digits without creating a {@link BigDecimal} or boxing the result. A {@link BigDecimal} is
+     * only used when there are more than 15 significant digits or a large exponent where a double conversion would
+     * lose precision. If the text is not a number zero is returned and the error index of the {@link ParsePosition}
+     * is set. {@link #isParseBigDecimal()} is ignored.
+     */
+    public double parseDouble(final CharSequence text,
+                              final int start,
+                              final int end,
+                              final ParsePosition position) {
+        parseStart(text, start, end, position);
+
+        final DecimalFormatDigits digits = this.digits();
+
+        final double result;
+        final int parsed = this.parseDigits(text, end, position, digits);
+        switch (parsed) {
+            case PARSED_NONE:
+                result = 0;
+                break;
+            case PARSED_NAN:
+                result = Double.NaN;
+                break;
+            case PARSED_POSITIVE_INFINITY:
+                result = Double.POSITIVE_INFINITY;
+                break;
+            case PARSED_NEGATIVE_INFINITY:
+                result = Double.NEGATIVE_INFINITY;
+                break;
+            case PARSED_POSITIVE:
+            case PARSED_NEGATIVE:
+                final boolean negative = PARSED_NEGATIVE == parsed;
+                this.parseDivideByMultiplier(digits, negative);
+                result = digits.toDouble(negative);
+                break;
+            default:
+                NeverError.unhandledCase(parsed, PARSED_NONE, PARSED_NAN, PARSED_POSITIVE_INFINITY, PARSED_NEGATIVE_INFINITY, PARSED_POSITIVE, PARSED_NEGATIVE);
+                result = 0;
         }
 
-        // fraction......................................................................................................
-        {
-            int i = 0;
+        return result;
+    }
 
-            if ((next < digitCount && i < maxFractionDigitCount) ||
-                    i < minFractionDigitCount ||
-                    this.decimalSeparatorAlwaysShown) {
-                append.append(symbols.getDecimalSeparator());
-            }
+    // parse column.....................................................................................................
 
-            while (next < digitCount && i < maxFractionDigitCount) {
-                append.append(translate(digits.charAt(next), zero));
+    /**
+     * Parses every field of the range of the given {@link CharSequence} between start (inclusive) and end (exclusive)
+     * into the values, as if by {@link #parseLong(CharSequence, int, int, ParsePosition)}. Fields are terminated by
+     * the delimiter or end, a delimiter immediately before end does not start another field, and there is no quoting.
+     * The error index of each row is written to errorIndices, -1 when the entire field was parsed, otherwise the
+     * absolute position of the error within the text and the value is zero. Returns the number of rows.
+     *
+     * @throws IndexOutOfBoundsException if the range is invalid or there are more fields than values or error indices.
+     */
+    public int parseLongs(final CharSequence text,
+                          final int start,
+                          final int end,
+                          final char delimiter,
+                          final long[] values,
+                          final int[] errorIndices) {
+        parseCheckRange(text, start, end);
+
+        final ParsePosition position = new ParsePosition(start);
+
+        int row = 0;
+        int fieldStart = start;
+        while (fieldStart < end) {
+            parseColumnRowCheck(row, values.length, errorIndices);
+
+            final int fieldEnd = parseColumnFieldEnd(text, fieldStart, end, delimiter);
+            final long value = this.parseLong(text, fieldStart, fieldEnd, position);
+            final int errorIndex = parseColumnErrorIndex(position, fieldEnd);
+
+            values[row] = -1 == errorIndex ? value : 0;
+            errorIndices[row] = errorIndex;
+
+            row++;
+            fieldStart = fieldEnd + 1;
+        }
 
-                next++;
-                i++;
-            }
+        return row;
+    }
 
-            while (i < minFractionDigitCount) {
-                append.append(zero);
-                i++;
-            }
+    /**
+     * Parses every field of the range of the given {@link CharSequence} into the values, as if by
+     * {@link #parseDouble(CharSequence, int, int, ParsePosition)}, splitting fields and recording errors exactly like
+     * {@link #parseLongs(CharSequence, int, int, char, long[], int[])}.
+     *
+     * @throws IndexOutOfBoundsException if the range is invalid or there are more fields than values or error indices.
+     */
+    public int parseDoubles(final CharSequence text,
+                            final int start,
+                            final int end,
+                            final char delimiter,
+                            final double[] values,
+                            final int[] errorIndices) {
+        parseCheckRange(text, start, end);
+
+        final ParsePosition position = new ParsePosition(start);
+
+        int row = 0;
+        int fieldStart = start;
+        while (fieldStart < end) {
+            parseColumnRowCheck(row, values.length, errorIndices);
+
+            final int fieldEnd = parseColumnFieldEnd(text, fieldStart, end, delimiter);
+            final double value = this.parseDouble(text, fieldStart, fieldEnd, position);
+            final int errorIndex = parseColumnErrorIndex(position, fieldEnd);
+
+            values[row] = -1 == errorIndex ? value : 0;
+            errorIndices[row] = errorIndex;
+
+            row++;
+            fieldStart = fieldEnd + 1;
         }
 
-        // exponent......................................................................................................
-        append.append(symbols.getExponentSeparator());
+        return row;
+    }
 
-        if (powerOfTen < 0) {
-            append.append(symbols.getMinusSign());
+    /**
+     * Fails if the range is not within the text.
+     */
+    private static void parseCheckRange(final CharSequence text,
+                                        final int start,
+                                        final int end) {
+        final int length = text.length();
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + ".." + end + " for text with length " + length);
         }
+    }
 
-        for (final char c : String.valueOf(Math.abs(powerOfTen)).toCharArray()) {
-            append.append(translate(c, zero));
+    private static void parseColumnRowCheck(final int row,
+                                            final int valuesLength,
+                                            final int[] errorIndices) {
+        if (row >= valuesLength || row >= errorIndices.length) {
+            throw new IndexOutOfBoundsException("Too many fields, values length " + valuesLength + " error indices length " + errorIndices.length);
         }
     }
 
     /**
-     * Handles translating zero based digits to a new base.
+     * Returns the index of the delimiter ending the field or end.
      */
-    private static char translate(final char digit,
-                                  final char zero) {
-        return (char) (digit - '0' + zero);
+    private static int parseColumnFieldEnd(final CharSequence text,
+                                           final int fieldStart,
+                                           final int end,
+                                           final char delimiter) {
+        int i = fieldStart;
+        while (i < end && delimiter != text.charAt(i)) {
+            i++;
+        }
+        return i;
     }
 
-    // parse............................................................................................................
+    /**
+     * Returns the error index of the field, text left over after a number is also an error.
+     */
+    private static int parseColumnErrorIndex(final ParsePosition position,
+                                             final int fieldEnd) {
+        final int errorIndex = position.getErrorIndex();
+        final int index = position.getIndex();
 
-    @Override
-    public Number parse(final String source,
-                        final ParsePosition position) {
+        return -1 != errorIndex ?
+                errorIndex :
+                index != fieldEnd ?
+                        index :
+                        -1;
+    }
+
+    /**
+     * Validates the range and resets the {@link ParsePosition} to the start.
+     */
+    private static void parseStart(final CharSequence text,
+                                   final int start,
+                                   final int end,
+                                   final ParsePosition position) {
+        parseCheckRange(text, start, end);
+        position.setIndex(start);
+        position.setErrorIndex(-1);
+    }
+
+    /**
+     * Divides the parsed digits by the multiplier, multipliers that are a power of ten such as percent and per mille
+     * simply move the decimal point, other multipliers use {@link BigDecimal}.
+     */
+    private void parseDivideByMultiplier(final DecimalFormatDigits digits,
+                                         final boolean negative) {
+        int multiplier = this.multiplier;
+        int powerOfTen = 0;
+        while (multiplier > 1 && 0 == multiplier % 10) {
+            multiplier = multiplier / 10;
+            powerOfTen++;
+        }
+
+        if (1 == multiplier) {
+            digits.decimalAt -= powerOfTen;
+        } else {
+            digits.setBigDecimal(
+                    digits.toBigDecimal(negative)
+                            .divide(this.multiplierBigDecimal)
+            );
+        }
+    }
+
+    /**
+     * Parses NAN, infinity or a number with the positive or negative prefix and suffix, returning one of the PARSED
+     * constants, with the digits of any number in the given {@link DecimalFormatDigits}.
+     */
+    private int parseDigits(final CharSequence text,
+                            final int end,
+                            final ParsePosition position,
+                            final DecimalFormatDigits digits) {
         final int index = position.getIndex();
 
-        Number result = this.parseNan(source, position);
-        if (null == result) {
-            result = this.parsePrefixNumberSuffix(source, position, this.positivePrefix, this.positiveSuffix, new StringBuilder());
-            if (null == result) {
+        int parsed = this.parseNan(text, end, position);
+        if (PARSED_NONE == parsed) {
+            parsed = this.parsePrefixNumberSuffix(text, end, position, this.positivePrefix, this.positiveSuffix, false, digits);
+            if (PARSED_NONE == parsed) {
                 position.setIndex(index);
-                result = this.parsePrefixNumberSuffix(source, position, this.negativePrefix, this.negativeSuffix, new StringBuilder("-"));
+                parsed = this.parsePrefixNumberSuffix(text, end, position, this.negativePrefix, this.negativeSuffix, true, digits);
 
                 // if no Number parsed and no error set error.
-                if (null == result && position.getErrorIndex() == -1) {
+                if (PARSED_NONE == parsed && position.getErrorIndex() == -1) {
                     position.setErrorIndex(index);
                 }
             }
         }
 
-        return result;
+        return parsed;
     }
 
     /**
-     * If the text matches the NAN without prefix or suffix return {@link Double#NaN}.
+     * Nothing was parsed.
      */
-    private Number parseNan(final String text,
-                            final ParsePosition position) {
-        final Number result;
+    private final static int PARSED_NONE = 0;
+
+    private final static int PARSED_NAN = 1;
+
+    private final static int PARSED_POSITIVE_INFINITY = 2;
+
+    private final static int PARSED_NEGATIVE_INFINITY = 3;
+
+    /**
+     * A positive number was parsed into the digits.
+     */
+    private final static int PARSED_POSITIVE = 4;
+
+    /**
+     * A negative number was parsed into the digits.
+     */
+    private final static int PARSED_NEGATIVE = 5;
+
+    /**
+     * If the remaining text matches the NAN without prefix or suffix returns {@link #PARSED_NAN}.
+     */
+    private int parseNan(final CharSequence text,
+                         final int end,
+                         final ParsePosition position) {
+        final int parsed;
 
-        final String nan = this.getDecimalFormatSymbols().getNaN();
-        if(text.equals(nan)) {
-            result = Double.NaN;
-            position.setIndex(nan.length());
+        final String nan = this.symbols.getNaN();
+        final int index = position.getIndex();
+        if (end - index == nan.length() && regionMatches(text, index, end, nan)) {
+            parsed = PARSED_NAN;
+            position.setIndex(end);
         } else {
-            result = null;
+            parsed = PARSED_NONE;
         }
 
-        return result;
+        return parsed;
     }
 
-    private Number parsePrefixNumberSuffix(final String text,
-                                         final ParsePosition position,
-                                         final String prefix,
-                                         final String suffix,
-                                         final StringBuilder digits) {
-        Number result = null;
+    private int parsePrefixNumberSuffix(final CharSequence text,
+                                        final int end,
+                                        final ParsePosition position,
+                                        final String prefix,
+                                        final String suffix,
+                                        final boolean negative,
+                                        final DecimalFormatDigits digits) {
+        int parsed = PARSED_NONE;
 
-        if (subTextEquals(text, position, prefix)) {
+        if (regionMatches(text, position.getIndex(), end, prefix)) {
             position.setIndex(position.getIndex() + prefix.length());
 
-            result = this.parseInfinityOrNumber(text, position, digits);
+            parsed = this.parseInfinityOrNumber(text, end, position, negative, digits);
 
-            if (null != result) {
-                if (subTextEquals(text, position, suffix)) {
+            if (PARSED_NONE != parsed) {
+                if (regionMatches(text, position.getIndex(), end, suffix)) {
                     position.setIndex(position.getIndex() + suffix.length());
                 }
             }
         }
 
-        return result;
+        return parsed;
     }
 
     /**
-     * Tests if the text contains infinity otherwise tries to {@link #parseNumber(String, ParsePosition, StringBuilder)}
+     * Tests if the text contains infinity otherwise tries to {@link #parseNumber(CharSequence, int, ParsePosition, DecimalFormatDigits)}
      */
-    private Number parseInfinityOrNumber(final String text,
-                                       final ParsePosition position,
-                                       final StringBuilder digits) {
-        final Number result;
-
-        final String infinity = this.getDecimalFormatSymbols().getInfinity();
-        if (subTextEquals(text, position, infinity)) {
+    private int parseInfinityOrNumber(final CharSequence text,
+                                      final int end,
+                                      final ParsePosition position,
+                                      final boolean negative,
+                                      final DecimalFormatDigits digits) {
+        final int parsed;
+
+        final String infinity = this.symbols.getInfinity();
+        if (regionMatches(text, position.getIndex(), end, infinity)) {
             position.setIndex(position.getIndex() + infinity.length());
 
-            result = digits.length() == 0 ?
-                    Double.POSITIVE_INFINITY :
-                    Double.NEGATIVE_INFINITY;
+            parsed = negative ?
+                    PARSED_NEGATIVE_INFINITY :
+                    PARSED_POSITIVE_INFINITY;
         } else {
-            result = this.parseNumber(text, position, digits);
+            parsed = this.parseNumber(text, end, position, digits) ?
+                    negative ?
+                            PARSED_NEGATIVE :
+                            PARSED_POSITIVE :
+                    PARSED_NONE;
         }
 
-        return result;
+        return parsed;
     }
 
     /**
-     * Only returns true if the source contains text at {@link ParsePosition}.
+     * Only returns true if the text before end contains the sub text at index. Characters are compared in place,
+     * nothing is copied.
      */
-    private static boolean subTextEquals(final String text,
-                                       final ParsePosition position,
-                                       final String subText) {
-        return subTextEquals(text, position.getIndex(), subText);
-    }
+    private static boolean regionMatches(final CharSequence text,
+                                         final int index,
+                                         final int end,
+                                         final String subText) {
+        final int subTextLength = subText.length();
+        boolean matches = index < end && index + subTextLength <= end;
+
+        for (int i = 0; matches && i < subTextLength; i++) {
+            matches = text.charAt(index + i) == subText.charAt(i);
+        }
 
-    private static boolean subTextEquals(final String text,
-                                       final int index,
-                                       final String subText) {
-        return index < text.length() && text.substring(index).startsWith(subText);
+        return matches;
     }
 
     /**
-     * Parses the given text into a {@link Number} honouring {@link #isParseBigDecimal()} and {@link #isParseIntegerOnly()}.
+     * Scans the digits of a number into the given {@link DecimalFormatDigits} honouring {@link #isParseIntegerOnly()},
+     * returning true if some digits were found without error.
      * Note both {@link #getMinimumIntegerDigits()} and {@link #getMinimumFractionDigits()} are ignored to match
      * behaviour with the real {@link java.text.DecimalFormat}.
      */
-    private Number parseNumber(final String text,
-                               final ParsePosition position,
-                               final StringBuilder digits) {
-        final DecimalFormatSymbols symbols = this.getDecimalFormatSymbols();
+    private boolean parseNumber(final CharSequence text,
+                                final int end,
+                                final ParsePosition position,
+                                final DecimalFormatDigits digits) {
+        final DecimalFormatSymbols symbols = this.symbols;
 
         final char decimalSeparator = symbols.getDecimalSeparator();
         final char zero = symbols.getZeroDigit();
-        final String exponent = symbols.getExponentSeparator();
+        final String exponentSeparator = symbols.getExponentSeparator();
         final char minus = symbols.getMinusSign();
 
         final boolean groupingUsed = this.isGroupingUsed();
@@ -1053,19 +1070,23 @@ public class DecimalFormat extends NumberFormat {
         int integerDigitCount = 0;
         int fractionDigitCount = 0;
 
+        int exponentStart = -1;
         boolean exponentSign = false;
-        final boolean parseIntegerOnly = this.isParseIntegerOnly();
+        int exponentDigitCount = 0;
+        int exponent = 0;
 
-        final int textLength = text.length();
+        final boolean parseIntegerOnly = this.isParseIntegerOnly();
 
         int mode = MODE_INTEGER;
 
         int index = position.getIndex();
         int errorIndex = position.getErrorIndex();
 
+        digits.parseStart();
+
         Exit:
         //
-        while (index < textLength) {
+        while (index < end) {
             final char c = text.charAt(index);
 
             switch (mode) {
@@ -1081,7 +1102,7 @@ public class DecimalFormat extends NumberFormat {
                             errorIndex = index;
                             break Exit;
                         }
-                        digits.append(digitValue);
+                        digits.parseDigit(digitValue);
                         index++;
                         break;
                     }
@@ -1092,16 +1113,15 @@ public class DecimalFormat extends NumberFormat {
                     }
 
                     if (decimalSeparator == c) {
-                        digits.append('.');
                         index++;
                         mode = MODE_FRACTION;
                         break;
                     }
 
                     // invalid digit, could be exponent
-                    if (subTextEquals(text, index, exponent)) {
-                        digits.append('E');
-                        index += exponent.length();
+                    if (regionMatches(text, index, end, exponentSeparator)) {
+                        exponentStart = index;
+                        index += exponentSeparator.length();
                         mode = MODE_EXPONENT;
                         break;
                     }
@@ -1113,15 +1133,15 @@ public class DecimalFormat extends NumberFormat {
                     final int digitValue = c - zero;
                     if (digitValue >= 0 && digitValue <= 9) {
                         fractionDigitCount++;
-                        digits.append(digitValue);
+                        digits.parseDigit(digitValue);
                         index++;
                         break;
                     }
 
                     // invalid digit, could be exponent
-                    if (subTextEquals(text, index, exponent)) {
-                        digits.append('E');
-                        index += exponent.length();
+                    if (regionMatches(text, index, end, exponentSeparator)) {
+                        exponentStart = index;
+                        index += exponentSeparator.length();
                         mode = MODE_EXPONENT;
                         break;
                     }
@@ -1130,17 +1150,20 @@ public class DecimalFormat extends NumberFormat {
                 }
                 case MODE_EXPONENT:
                     if (minus == c) {
-                        if (exponentSign) {
+                        if (exponentSign || exponentDigitCount > 0) {
                             break Exit;
                         }
-                        digits.append('-');
                         exponentSign = true;
                         index++;
                         break;
                     }
                     final int digitValue = c - zero;
                     if (digitValue >= 0 && digitValue <= 9) {
-                        digits.append(digitValue);
+                        exponentDigitCount++;
+                        // stop accumulating before the exponent overflows, such a value is zero or infinity anyway
+                        if (exponent < EXPONENT_MAX) {
+                            exponent = exponent * 10 + digitValue;
+                        }
                         index++;
                         break;
                     }
@@ -1151,35 +1174,27 @@ public class DecimalFormat extends NumberFormat {
             }
         }
 
+        // an exponent separator without any digits is not part of the number, eg "1E" parses as 1 stopping before the "E"
+        if (MODE_EXPONENT == mode && 0 == exponentDigitCount) {
+            index = exponentStart;
+            exponentSign = false;
+        }
+
         position.setIndex(index);
         position.setErrorIndex(errorIndex);
 
-        Number result = null;
-
-        // if no error and some digits were found, convert to the desired Number type...................................
-        if (errorIndex == -1 && integerDigitCount + fractionDigitCount > 0) {
-            final BigDecimal bigDecimal = integerDigitCount + fractionDigitCount > 0 ?
-                    new BigDecimal(digits.toString()).divide(this.multiplierBigDecimal) :
-                    BigDecimal.ZERO;
-            if (this.isParseBigDecimal()) {
-                result = bigDecimal;
-            } else {
-                if (parseIntegerOnly) {
-                    result = bigDecimal.longValue();
-                } else {
-                    try {
-                        result = bigDecimal.setScale(0, RoundingMode.UNNECESSARY)
-                                .longValue();
-                    } catch (final ArithmeticException ignore) {
-                        result = bigDecimal.doubleValue();
-                    }
-                }
-            }
+        final boolean parsed = errorIndex == -1 && integerDigitCount + fractionDigitCount > 0;
+        if (parsed) {
+            digits.parseEnd(fractionDigitCount - (exponentSign ? -exponent : exponent));
         }
-
-        return result;
+        return parsed;
     }
 
+    /**
+     * The largest exponent accumulated while parsing.
+     */
+    private final static int EXPONENT_MAX = 100_000_000;
+
     /**
      * Processing digits before the decimal separator or exponent.
      */
@@ -1244,6 +1259,7 @@ public class DecimalFormat extends NumberFormat {
             this.pattern = null; // the change in decimalSeparatorAlwaysShown affects the cached pattern in String form.
         }
         this.decimalSeparatorAlwaysShown = value;
+        this.formatPropertyChanged();
     }
 
     private boolean decimalSeparatorAlwaysShown;
@@ -1256,6 +1272,7 @@ public class DecimalFormat extends NumberFormat {
 
     public void setGroupingSize(final int groupingSize) {
         this.groupingSize = Math.max(0, groupingSize);
+        this.formatPropertyChanged();
     }
 
     private int groupingSize;
@@ -1269,6 +1286,7 @@ public class DecimalFormat extends NumberFormat {
     public void setMultiplier(final int multiplier) {
         this.multiplier = Math.max(0, multiplier);
         this.multiplierBigDecimal = BigDecimal.valueOf(this.multiplier);
+        this.formatPropertyChanged();
     }
 
     private int multiplier;
@@ -1284,6 +1302,7 @@ public class DecimalFormat extends NumberFormat {
         this.negativePrefix = negativePrefix;
         this.negativePrefixComponents = null;
         this.recomputePattern();
+        this.formatPropertyChanged();
     }
 
     private String negativePrefix;
@@ -1307,6 +1326,7 @@ public class DecimalFormat extends NumberFormat {
         this.negativeSuffix = negativeSuffix;
         this.negativeSuffixComponents = null;
         this.recomputePattern();
+        this.formatPropertyChanged();
     }
 
     private String negativeSuffix;
@@ -1344,6 +1364,7 @@ public class DecimalFormat extends NumberFormat {
         this.positivePrefix = positivePrefix;
         this.positivePrefixComponents = null;
         this.recomputePattern();
+        this.formatPropertyChanged();
     }
 
     private String positivePrefix;
@@ -1367,6 +1388,7 @@ public class DecimalFormat extends NumberFormat {
         this.positiveSuffix = positiveSuffix;
         this.positiveSuffixComponents = null;
         this.recomputePattern();
+        this.formatPropertyChanged();
     }
 
     private String positiveSuffix;
@@ -1389,6 +1411,7 @@ public class DecimalFormat extends NumberFormat {
     public void setRoundingMode(final RoundingMode roundingMode) {
         Objects.requireNonNull(roundingMode, "roundingMode");
         this.roundingMode = roundingMode;
+        this.formatPropertyChanged();
     }
 
     private RoundingMode roundingMode;
@@ -1414,6 +1437,7 @@ public class DecimalFormat extends NumberFormat {
     public void setDecimalFormatSymbols(final DecimalFormatSymbols symbols) {
         if (symbols != null) {
             this.symbols = symbols.clone();
+            this.formatPropertyChanged();
         }
     }
 
@@ -0,0 +1,620 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.ToStringBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An immutable snapshot of all the properties of a {@link DecimalFormat} that are required to format numbers. The
+ * prefixes, suffixes, symbols, digit limits and rounding parameters are all read once when compiled, and a single
+ * instance may be shared by many threads without cloning or synchronization. Changes to the {@link DecimalFormat}
+ * after compilation are not reflected.
+ */
+public final class DecimalFormatCompiled {
+
+    /**
+     * Compiles the current properties of the given {@link DecimalFormat}.
+     */
+    static DecimalFormatCompiled with(final DecimalFormat format) {
+        return new DecimalFormatCompiled(format);
+    }
+
+    private DecimalFormatCompiled(final DecimalFormat format) {
+        super();
+
+        final DecimalFormatSymbols symbols = format.symbols;
+
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+
+        final char zero = symbols.getZeroDigit();
+        final char[] digits = new char[10];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = (char) (zero + i);
+        }
+        this.digits = digits;
+
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.decimalSeparatorAlwaysShown = format.isDecimalSeparatorAlwaysShown();
+        this.exponentSeparator = symbols.getExponentSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.groupingSize = format.isGroupingUsed() ?
+                format.getGroupingSize() :
+                0;
+        this.infinity = symbols.getInfinity();
+        this.minusSign = symbols.getMinusSign();
+        this.nan = symbols.getNaN();
+
+        this.maximumFractionDigits = format.maximumFractionDigits;
+        this.minimumFractionDigits = format.minimumFractionDigits;
+        this.maximumIntegerDigits = format.maximumIntegerDigits;
+        this.minimumIntegerDigits = format.minimumIntegerDigits;
+
+        this.multiplier = format.getMultiplier();
+        this.roundingMode = format.getRoundingMode();
+        this.scientificFormat = format.scientificFormat;
+    }
+
+    // format double....................................................................................................
+
+    /**
+     * Formats the given double returning a {@link String}.
+     */
+    public String format(final double number) {
+        return this.format(number, new StringBuilder())
+                .toString();
+    }
+
+    /**
+     * Formats the given double appending the text to the given {@link StringBuilder}.
+     */
+    public StringBuilder format(final double number,
+                                final StringBuilder append) {
+        return Double.isNaN(number) ?
+                this.formatDoubleNan(append) :
+                this.formatDouble(number, append, null);
+    }
+
+    /**
+     * Formats the given double, using the given {@link DecimalFormatDigits} which may be null, avoiding the creation of
+     * a new buffer for each call.
+     */
+    StringBuilder format(final double number,
+                         final StringBuilder append,
+                         final DecimalFormatDigits digits) {
+        return Double.isNaN(number) ?
+                this.formatDoubleNan(append) :
+                this.formatDouble(number, append, digits);
+    }
+
+    /**
+     * Multiplies the absolute value and then converts it into the shortest digits that round trip, before rounding
+     * and formatting them. Negative zero is formatted with the negative prefix and suffix just like the JDK.
+     */
+    private StringBuilder formatDouble(final double number,
+                                       final StringBuilder append,
+                                       final DecimalFormatDigits digits) {
+        final boolean negative = number < 0 || (0 == number && 1 / number < 0);
+        final double multiplied = Math.abs(number) * this.multiplier;
+
+        final StringBuilder result;
+        if (multiplied < Double.POSITIVE_INFINITY) {
+            final DecimalFormatDigits d = digits(digits);
+            d.setDouble(multiplied);
+            result = this.formatDigits(d, negative, append);
+        } else {
+            result = this.formatDoubleInfinite(negative, append);
+        }
+        return result;
+    }
+
+    private StringBuilder formatDoubleInfinite(final boolean negative,
+                                               final StringBuilder append) {
+        final String prefix;
+        final String suffix;
+
+        if (negative) {
+            prefix = this.negativePrefix;
+            suffix = this.negativeSuffix;
+        } else {
+            prefix = this.positivePrefix;
+            suffix = this.positiveSuffix;
+        }
+
+        append.append(prefix);
+        append.append(this.infinity);
+        append.append(suffix);
+
+        return append;
+    }
+
+    /**
+     * To match the behaviour of {@link java.text.DecimalFormat#format(double)}, no prefix or suffix is included in the
+     * formatted output.
+     */
+    private StringBuilder formatDoubleNan(final StringBuilder append) {
+        append.append(this.nan);
+        return append;
+    }
+
+    // format long......................................................................................................
+
+    /**
+     * Formats the given long returning a {@link String}.
+     */
+    public String format(final long number) {
+        return this.format(number, new StringBuilder())
+                .toString();
+    }
+
+    /**
+     * Formats the given long appending the text to the given {@link StringBuilder}.
+     */
+    public StringBuilder format(final long number,
+                                final StringBuilder append) {
+        return this.format(number, append, null);
+    }
+
+    /**
+     * Formats the given long, using the given {@link DecimalFormatDigits} which may be null, if one is required.
+     */
+    StringBuilder format(final long number,
+                         final StringBuilder append,
+                         final DecimalFormatDigits digits) {
+        final int multiplier = this.multiplier;
+        final boolean overflow = number == Long.MIN_VALUE || (multiplier > 1 && Math.abs(number) > Long.MAX_VALUE / multiplier);
+
+        return this.scientificFormat || overflow ?
+                this.formatLongDigits(number, overflow, append, digits) :
+                this.formatLong(number * multiplier, append);
+    }
+
+    /**
+     * Handles scientific formats and values that would overflow after being multiplied, the latter are multiplied
+     * using {@link BigDecimal}.
+     */
+    private StringBuilder formatLongDigits(final long number,
+                                           final boolean overflow,
+                                           final StringBuilder append,
+                                           final DecimalFormatDigits digits) {
+        final DecimalFormatDigits d = digits(digits);
+
+        if (overflow) {
+            d.setIntegerDigits(
+                    BigDecimal.valueOf(number)
+                            .multiply(BigDecimal.valueOf(this.multiplier))
+                            .abs()
+                            .toPlainString()
+            );
+        } else {
+            d.setLong(Math.abs(number * this.multiplier));
+        }
+
+        return this.formatDigits(d, number < 0, append);
+    }
+
+    /**
+     * Formats an already multiplied long value, emitting digits directly from the value without creating any
+     * {@link BigDecimal} or {@link String}. Because the value is an integer no rounding is necessary and only
+     * the minimum fraction digits, all zeros are added.
+     */
+    private StringBuilder formatLong(final long value,
+                                     final StringBuilder append) {
+        final long absolute;
+        final String suffix;
+
+        if (value < 0) {
+            append.append(this.negativePrefix);
+            absolute = -value;
+            suffix = this.negativeSuffix;
+        } else {
+            append.append(this.positivePrefix);
+            absolute = value;
+            suffix = this.positiveSuffix;
+        }
+
+        final char[] digits = this.digits;
+
+        // count significant digits, zero has none......................................................................
+        final long[] powersOfTen = LONG_POWERS_OF_TEN;
+        int significant = 0;
+        while (significant < powersOfTen.length && absolute >= powersOfTen[significant]) {
+            significant++;
+        }
+
+        // integer digits, padded to min and truncated to max keeping the least significant digits......................
+        final int integerDigitCount = Math.min(
+                Math.max(significant, this.minimumIntegerDigits),
+                this.maximumIntegerDigits
+        );
+        final int groupingSize = this.groupingSize;
+        final char groupingSeparator = this.groupingSeparator;
+
+        for (int i = integerDigitCount - 1; i >= 0; i--) {
+            append.append(
+                    digits[i < powersOfTen.length ? (int) (absolute / powersOfTen[i] % 10) : 0]
+            );
+
+            if (groupingSize > 0 && i > 0 && 0 == i % groupingSize) {
+                append.append(groupingSeparator);
+            }
+        }
+
+        // fraction digits are always zeros.............................................................................
+        final int minFraction = this.minimumFractionDigits;
+        final char zero = digits[0];
+        if (0 == integerDigitCount && 0 == minFraction) {
+            append.append(zero);
+        }
+        if (minFraction > 0 || this.decimalSeparatorAlwaysShown) {
+            append.append(this.decimalSeparator);
+        }
+        for (int i = 0; i < minFraction; i++) {
+            append.append(zero);
+        }
+
+        return append.append(suffix);
+    }
+
+    /**
+     * Powers of ten for all 19 digits of a positive long, used to extract individual digits.
+     */
+    private final static long[] LONG_POWERS_OF_TEN = new long[]{
+            1L,
+            10L,
+            100L,
+            1000L,
+            10000L,
+            100000L,
+            1000000L,
+            10000000L,
+            100000000L,
+            1000000000L,
+            10000000000L,
+            100000000000L,
+            1000000000000L,
+            10000000000000L,
+            100000000000000L,
+            1000000000000000L,
+            10000000000000000L,
+            100000000000000000L,
+            1000000000000000000L
+    };
+
+    // format digits....................................................................................................
+
+    /**
+     * Dispatches the given digits to either scientific or non scientific handling, adding the prefix and suffix.
+     */
+    private StringBuilder formatDigits(final DecimalFormatDigits digits,
+                                       final boolean negative,
+                                       final StringBuilder append) {
+        final String prefix;
+        final String suffix;
+
+        if (negative) {
+            prefix = this.negativePrefix;
+            suffix = this.negativeSuffix;
+        } else {
+            prefix = this.positivePrefix;
+            suffix = this.positiveSuffix;
+        }
+
+        append.append(prefix);
+        if (this.scientificFormat) {
+            this.formatDigitsScientific(digits, negative, append);
+        } else {
+            this.formatDigitsDecimal(digits, negative, append);
+        }
+        return append.append(suffix);
+    }
+
+    /**
+     * Rounds the digits to $maxFractionDigits decimal places and then formats them as a decimal format.
+     */
+    private void formatDigitsDecimal(final DecimalFormatDigits digits,
+                                     final boolean negative,
+                                     final StringBuilder append) {
+        final int maxInteger = this.maximumIntegerDigits;
+        final int minInteger = this.minimumIntegerDigits;
+        final int maxFraction = this.maximumFractionDigits;
+        final int minFraction = this.minimumFractionDigits;
+
+        digits.roundFraction(maxFraction, this.roundingMode, negative);
+
+        final byte[] digitValues = digits.digits;
+        final int digitCount = digits.count;
+        final int decimalAt = digits.decimalAt;
+        final char[] translate = this.digits;
+        final char zero = translate[0];
+
+        // add integer digits with grouping separator if necessary......................................................
+        int integerDigitCount = Math.max(minInteger, decimalAt);
+        int next = 0;
+        if (integerDigitCount > maxInteger) {
+            integerDigitCount = maxInteger;
+            next = decimalAt - integerDigitCount;
+        }
+
+        final int groupingSize = this.groupingSize;
+        final char groupingSeparator = this.groupingSeparator;
+
+        for (int i = integerDigitCount - 1; i >= 0; i--) {
+            if (i < decimalAt && next < digitCount) {
+                append.append(translate[digitValues[next]]);
+                next++;
+            } else {
+                append.append(zero);
+            }
+
+            if (groupingSize > 0 && i > 0 && 0 == i % groupingSize) {
+                append.append(groupingSeparator);
+            }
+        }
+
+        // add fraction digits..........................................................................................
+        final boolean fractionPresent = minFraction > 0 || next < digitCount;
+        if (false == fractionPresent && 0 == integerDigitCount) {
+            append.append(zero);
+        }
+        if (fractionPresent || this.decimalSeparatorAlwaysShown) {
+            append.append(this.decimalSeparator);
+        }
+
+        for (int i = 0; i < maxFraction; i++) {
+            if (i >= minFraction && next >= digitCount) {
+                break;
+            }
+            if (i < -decimalAt || next >= digitCount) {
+                append.append(zero); // leading zeros of a value less than 0.1 or padding to $minFractionDigits
+            } else {
+                append.append(translate[digitValues[next]]);
+                next++;
+            }
+        }
+    }
+
+    /**
+     * Rounds the digits to the significant digits of the mantissa and then formats them as a scientific format.
+     * The mantissa always has $maxIntegerDigits integer digits.
+     */
+    private void formatDigitsScientific(final DecimalFormatDigits digits,
+                                        final boolean negative,
+                                        final StringBuilder append) {
+        final int maxInteger = this.maximumIntegerDigits;
+        final int maxFraction = this.maximumFractionDigits;
+        final int minFraction = this.minimumFractionDigits;
+
+        final int integerDigitCount = maxInteger > 1 ?
+                maxInteger :
+                1;
+        digits.roundSignificant(
+                (int) Math.min(Integer.MAX_VALUE, (long) integerDigitCount + maxFraction),
+                this.roundingMode,
+                negative
+        );
+
+        final byte[] digitValues = digits.digits;
+        final int digitCount = digits.count;
+        final int powerOfTen = digits.isZero() ?
+                0 :
+                digits.decimalAt - integerDigitCount;
+
+        // mantissa......................................................................................................
+        final char[] translate = this.digits;
+        final char zero = translate[0];
+        int next = 0;
+
+        // integer, zero is padded to $minIntegerDigits...................................................................
+        final int integerPadding = digits.isZero() ?
+                Math.max(1, this.minimumIntegerDigits) :
+                integerDigitCount;
+        for (int i = 0; i < integerPadding; i++) {
+            if (next < digitCount) {
+                append.append(translate[digitValues[next]]);
+                next++;
+            } else {
+                append.append(zero);
+            }
+        }
+
+        // fraction......................................................................................................
+        {
+            int i = 0;
+
+            if ((next < digitCount && i < maxFraction) ||
+                    i < minFraction ||
+                    this.decimalSeparatorAlwaysShown) {
+                append.append(this.decimalSeparator);
+            }
+
+            while (next < digitCount && i < maxFraction) {
+                append.append(translate[digitValues[next]]);
+
+                next++;
+                i++;
+            }
+
+            while (i < minFraction) {
+                append.append(zero);
+                i++;
+            }
+        }
+
+        // exponent......................................................................................................
+        append.append(this.exponentSeparator);
+
+        if (powerOfTen < 0) {
+            append.append(this.minusSign);
+        }
+
+        appendExponent(Math.abs(powerOfTen), translate, append);
+    }
+
+    /**
+     * Appends the digits of the positive exponent most significant first without creating a {@link String}.
+     */
+    private static void appendExponent(final int exponent,
+                                       final char[] translate,
+                                       final StringBuilder append) {
+        if (exponent >= 10) {
+            appendExponent(exponent / 10, translate, append);
+        }
+        append.append(translate[exponent % 10]);
+    }
+
+    // format column....................................................................................................
+
+    /**
+     * Formats a column of doubles, see {@link NumberFormat#format(double[], int, int, StringBuilder, int[])}.
+     */
+    public StringBuilder format(final double[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return this.format(numbers, start, end, append, offsets, null);
+    }
+
+    /**
+     * Formats a column of doubles sharing a single {@link DecimalFormatDigits}, which is created if null.
+     */
+    StringBuilder format(final double[] numbers,
+                         final int start,
+                         final int end,
+                         final StringBuilder append,
+                         final int[] offsets,
+                         final DecimalFormatDigits digits) {
+        final DecimalFormatDigits d = digits(digits);
+
+        return NumberFormat.formatColumn(numbers.length,
+                start,
+                end,
+                append,
+                offsets,
+                (i) -> this.format(numbers[i], append, d));
+    }
+
+    /**
+     * Formats a column of longs, see {@link NumberFormat#format(long[], int, int, StringBuilder, int[])}.
+     */
+    public StringBuilder format(final long[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return this.format(numbers, start, end, append, offsets, null);
+    }
+
+    /**
+     * Formats a column of longs sharing a single {@link DecimalFormatDigits}, which is created if null.
+     */
+    StringBuilder format(final long[] numbers,
+                         final int start,
+                         final int end,
+                         final StringBuilder append,
+                         final int[] offsets,
+                         final DecimalFormatDigits digits) {
+        final DecimalFormatDigits d = digits(digits);
+
+        return NumberFormat.formatColumn(numbers.length,
+                start,
+                end,
+                append,
+                offsets,
+                (i) -> this.format(numbers[i], append, d));
+    }
+
+    /**
+     * Returns the given {@link DecimalFormatDigits} or creates a new one, a shared instance is never kept because
+     * many threads may be formatting at the same time.
+     */
+    private static DecimalFormatDigits digits(final DecimalFormatDigits digits) {
+        return null != digits ?
+                digits :
+                DecimalFormatDigits.empty();
+    }
+
+    // properties.......................................................................................................
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+
+    /**
+     * Translates a digit value between 0 and 9 into the localized digit character starting at the zero digit.
+     */
+    private final char[] digits;
+
+    private final char decimalSeparator;
+    private final boolean decimalSeparatorAlwaysShown;
+    private final String exponentSeparator;
+    private final char groupingSeparator;
+
+    /**
+     * The grouping size or zero when grouping is not used.
+     */
+    private final int groupingSize;
+    private final String infinity;
+    private final char minusSign;
+    private final String nan;
+
+    private final int maximumFractionDigits;
+    private final int minimumFractionDigits;
+    private final int maximumIntegerDigits;
+    private final int minimumIntegerDigits;
+
+    private final int multiplier;
+    private final RoundingMode roundingMode;
+    private final boolean scientificFormat;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.empty()
+                .valueSeparator("")
+                .label("decimalSeparator").value(this.decimalSeparator)
+                .label("decimalSeparatorAlwaysShown").value(this.decimalSeparatorAlwaysShown)
+                .label("exponentSeparator").value(this.exponentSeparator)
+                .label("groupingSeparator").value(this.groupingSeparator)
+                .label("groupingSize").value(this.groupingSize)
+                .label("infinity").value(this.infinity)
+                .label("maximumFractionDigits").value(this.maximumFractionDigits)
+                .label("minimumFractionDigits").value(this.minimumFractionDigits)
+                .label("maximumIntegerDigits").value(this.maximumIntegerDigits)
+                .label("minimumIntegerDigits").value(this.minimumIntegerDigits)
+                .label("minusSign").value(this.minusSign)
+                .label("multiplier").value(this.multiplier)
+                .label("nan").value(this.nan)
+                .label("negativePrefix").value(this.negativePrefix)
+                .label("negativeSuffix").value(this.negativeSuffix)
+                .label("positivePrefix").value(this.positivePrefix)
+                .label("positiveSuffix").value(this.positiveSuffix)
+                .label("roundingMode").value(this.roundingMode)
+                .label("scientificFormat").value(this.scientificFormat)
+                .label("zeroDigit").value(this.digits[0])
+                .build();
+    }
+}
@@ -0,0 +1,920 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * A reusable buffer holding the decimal digits of a positive value, similar to the JDK DigitList. The value is
+ * <pre>0.digits[0]digits[1]...digits[count-1] * 10^decimalAt</pre> with no leading or trailing zeros, zero has a count
+ * of zero.
+ * <br>
+ * Doubles are converted into the shortest digits that round trip back to the same double. Most values with up to
+ * 15 significant digits and a moderate exponent are found using exact double arithmetic, by finding the smallest power
+ * of ten that scales the value to an integer that divides or multiplies back to the same double. Other values fall
+ * back to parsing the digits from {@link Double#toString(double)}. No {@link BigDecimal} is created except when rounding
+ * a tie for a value that took the fallback.
+ * <br>
+ * Digits accumulated while parsing keep their trailing zeros, so the scale of the parsed text is not lost, and may be
+ * converted into a long, double or {@link BigDecimal}.
+ */
+final class DecimalFormatDigits {
+
+    static DecimalFormatDigits empty() {
+        return new DecimalFormatDigits();
+    }
+
+    private DecimalFormatDigits() {
+        super();
+    }
+
+    // set..............................................................................................................
+
+    /**
+     * Sets the digits to the given positive long value. The digits are exact.
+     */
+    void setLong(final long value) {
+        this.clear();
+
+        long remaining = value;
+        while (remaining > 0) {
+            this.append((byte) (remaining % 10));
+            remaining = remaining / 10;
+        }
+        this.reverse();
+        this.decimalAt = this.count;
+        this.trimTrailingZeros();
+    }
+
+    /**
+     * Sets the digits from the given positive integer digits. The digits are exact.
+     */
+    void setIntegerDigits(final CharSequence integer) {
+        this.clear();
+
+        final int length = integer.length();
+        for (int i = 0; i < length; i++) {
+            final byte digit = (byte) (integer.charAt(i) - '0');
+            if (0 != digit || 0 != this.count) {
+                this.append(digit);
+            }
+        }
+        this.decimalAt = this.count;
+        this.trimTrailingZeros();
+    }
+
+    /**
+     * Sets the digits to the shortest digits that will round trip back to the given positive finite double.
+     */
+    void setDouble(final double value) {
+        this.clear();
+
+        if (value > 0) {
+            if (false == this.setDoubleScaledUp(value) && false == this.setDoubleScaledDown(value)) {
+                this.setDoubleToString(value);
+            }
+        }
+    }
+
+    /**
+     * Attempts to find the smallest scale where value * 10^scale is an integer that divides back to the same double.
+     */
+    private boolean setDoubleScaledUp(final double value) {
+        boolean found = false;
+
+        if (value < TWO_POWER_53) {
+            final double[] powersOfTen = DOUBLE_POWERS_OF_TEN;
+
+            for (int scale = 0; scale < powersOfTen.length; scale++) {
+                final double powerOfTen = powersOfTen[scale];
+                final double scaled = value * powerOfTen;
+                if (scaled >= TWO_POWER_53) {
+                    break;
+                }
+
+                final long rounded = Math.round(scaled);
+                long mantissa = -1;
+                if (rounded / powerOfTen == value) {
+                    mantissa = rounded;
+                } else {
+                    if (rounded > 1 && (rounded - 1) / powerOfTen == value) {
+                        mantissa = rounded - 1;
+                    } else {
+                        if ((rounded + 1) / powerOfTen == value) {
+                            mantissa = rounded + 1;
+                        }
+                    }
+                }
+
+                if (mantissa > 0) {
+                    this.setMantissa(mantissa, -scale, value);
+                    found = true;
+                    break;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Attempts to find the largest power of ten where value / 10^power is an integer that multiplies back to the
+     * same double. This handles large values that are beyond the range of {@link #setDoubleScaledUp(double)}.
+     */
+    private boolean setDoubleScaledDown(final double value) {
+        boolean found = false;
+
+        final double[] powersOfTen = DOUBLE_POWERS_OF_TEN;
+        final int last = powersOfTen.length - 1;
+
+        if (value >= TWO_POWER_53 && value < TWO_POWER_53 * powersOfTen[last]) {
+            for (int power = last; power > 0; power--) {
+                final double powerOfTen = powersOfTen[power];
+                final double scaled = value / powerOfTen;
+                if (scaled < 1) {
+                    continue;
+                }
+                if (scaled >= TWO_POWER_53) {
+                    break;
+                }
+
+                final long rounded = Math.round(scaled);
+                long mantissa = -1;
+                if (rounded * powerOfTen == value) {
+                    mantissa = rounded;
+                } else {
+                    if (rounded > 1 && (rounded - 1) * powerOfTen == value) {
+                        mantissa = rounded - 1;
+                    } else {
+                        if ((rounded + 1) * powerOfTen == value) {
+                            mantissa = rounded + 1;
+                        }
+                    }
+                }
+
+                if (mantissa > 0) {
+                    if (last == power) {
+                        mantissa = shorten(mantissa, powerOfTen, value);
+                    }
+                    this.setMantissa(mantissa, power, value);
+                    found = true;
+                    break;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * A match with the largest power of ten may have a shorter form with an even larger power of ten, which is the
+     * same as a mantissa with more trailing zeros.
+     */
+    private static long shorten(final long mantissa,
+                                final double powerOfTen,
+                                final double value) {
+        long shortest = mantissa;
+        long factor = 10;
+
+        for (; ; ) {
+            final long shorter = (shortest + factor / 2) / factor * factor;
+            if (shorter >= TWO_POWER_53 || shorter * powerOfTen != value) {
+                break;
+            }
+            shortest = shorter;
+            factor = factor * 10;
+        }
+
+        return shortest;
+    }
+
+    /**
+     * Sets the digits to mantissa * 10^exponent, recording the source so the rounding direction can be computed
+     * when a tie is being rounded.
+     */
+    private void setMantissa(final long mantissa,
+                             final int exponent,
+                             final double value) {
+        this.setLong(mantissa);
+        this.decimalAt += exponent;
+
+        this.mantissa = mantissa;
+        this.exponent = exponent;
+        this.value = value;
+        this.source = SOURCE_MANTISSA;
+    }
+
+    /**
+     * Fallback that parses the digits and exponent from {@link Double#toString(double)}, eg <pre>1.2345E-10</pre> or
+     * <pre>123.45</pre>.
+     */
+    private void setDoubleToString(final double value) {
+        final String text = String.valueOf(value);
+        final int length = text.length();
+
+        int decimalAt = 0;
+        boolean integer = true;
+        int i = 0;
+
+        while (i < length) {
+            final char c = text.charAt(i);
+            i++;
+
+            if ('.' == c) {
+                integer = false;
+                continue;
+            }
+            if ('E' == c) {
+                decimalAt += Integer.parseInt(text.substring(i));
+                break;
+            }
+
+            final byte digit = (byte) (c - '0');
+            if (0 == this.count) {
+                // leading zeros before the decimal point are ignored, after the decimal point they move the decimalAt
+                if (0 == digit) {
+                    if (false == integer) {
+                        decimalAt--;
+                    }
+                    continue;
+                }
+            }
+            this.append(digit);
+            if (integer) {
+                decimalAt++;
+            }
+        }
+
+        this.decimalAt = decimalAt;
+        this.trimTrailingZeros();
+
+        this.value = value;
+        this.source = SOURCE_TO_STRING;
+    }
+
+    /**
+     * 2^53, integers less than this are exactly representable as doubles.
+     */
+    private final static double TWO_POWER_53 = 9007199254740992.0;
+
+    /**
+     * All the powers of ten that are exactly representable as a double.
+     */
+    private final static double[] DOUBLE_POWERS_OF_TEN = new double[]{
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+            1e20, 1e21, 1e22
+    };
+
+    // round............................................................................................................
+
+    /**
+     * Rounds the digits so that at most maximumFractionDigits remain after the decimal point.
+     */
+    void roundFraction(final int maximumFractionDigits,
+                       final RoundingMode roundingMode,
+                       final boolean negative) {
+        if (this.count > 0) {
+            final int decimalAt = this.decimalAt;
+
+            if (-decimalAt > maximumFractionDigits) {
+                // eg 0.0009 rounded to 2 fraction digits underflows to zero.
+                this.count = 0;
+                this.decimalAt = 0;
+            } else {
+                if (-decimalAt == maximumFractionDigits) {
+                    // eg 0.0009 rounded to 3 fraction digits may round up to a new single digit
+                    if (this.shouldRoundUp(0, roundingMode, negative)) {
+                        this.digits[0] = 1;
+                        this.count = 1;
+                        this.decimalAt++;
+                    } else {
+                        this.count = 0;
+                        this.decimalAt = 0;
+                    }
+                } else {
+                    final long keep = (long) decimalAt + maximumFractionDigits;
+                    if (keep < this.count) {
+                        this.round((int) keep, roundingMode, negative);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rounds the digits so that at most maximumDigits significant digits remain.
+     */
+    void roundSignificant(final int maximumDigits,
+                          final RoundingMode roundingMode,
+                          final boolean negative) {
+        if (maximumDigits > 0 && maximumDigits < this.count) {
+            this.round(maximumDigits, roundingMode, negative);
+        }
+    }
+
+    /**
+     * Keeps the first keep digits, possibly incrementing the last kept digit and carrying.
+     */
+    private void round(final int keep,
+                       final RoundingMode roundingMode,
+                       final boolean negative) {
+        int count = keep;
+
+        if (this.shouldRoundUp(keep, roundingMode, negative)) {
+            final byte[] digits = this.digits;
+
+            for (; ; ) {
+                count--;
+                if (count < 0) {
+                    // all digits were 9, eg 999 becomes 1000
+                    digits[0] = 1;
+                    this.decimalAt++;
+                    count = 0;
+                    break;
+                }
+                digits[count]++;
+                if (digits[count] <= 9) {
+                    break;
+                }
+            }
+            count++;
+        }
+
+        this.count = count;
+        this.trimTrailingZeros();
+    }
+
+    /**
+     * Decides if the digits before the given index should be incremented, following the same rules as the JDK.
+     * When the only digit being dropped is a 5, the exact value is consulted to decide whether the digits are
+     * exact, rounded up or rounded down.
+     */
+    private boolean shouldRoundUp(final int keep,
+                                  final RoundingMode roundingMode,
+                                  final boolean negative) {
+        final byte[] digits = this.digits;
+        final int count = this.count;
+
+        boolean up = false;
+
+        switch (roundingMode) {
+            case UP:
+                up = true; // digits never have trailing zeros, dropping any digit means a non zero digit was dropped
+                break;
+            case DOWN:
+                break;
+            case CEILING:
+                up = false == negative;
+                break;
+            case FLOOR:
+                up = negative;
+                break;
+            case HALF_UP:
+            case HALF_DOWN:
+                if (digits[keep] > 5) {
+                    up = true;
+                } else {
+                    if (digits[keep] == 5) {
+                        if (keep != count - 1) {
+                            up = true;
+                        } else {
+                            final int direction = this.direction();
+                            up = DIRECTION_EXACT == direction ?
+                                    RoundingMode.HALF_UP == roundingMode :
+                                    DIRECTION_BELOW == direction;
+                        }
+                    }
+                }
+                break;
+            case HALF_EVEN:
+                if (digits[keep] > 5) {
+                    up = true;
+                } else {
+                    if (digits[keep] == 5) {
+                        if (keep != count - 1) {
+                            up = true;
+                        } else {
+                            final int direction = this.direction();
+                            up = DIRECTION_EXACT == direction ?
+                                    keep > 0 && digits[keep - 1] % 2 != 0 :
+                                    DIRECTION_BELOW == direction;
+                        }
+                    }
+                }
+                break;
+            case UNNECESSARY:
+                throw new ArithmeticException("Rounding needed with the rounding mode being set to RoundingMode.UNNECESSARY");
+            default:
+                break;
+        }
+
+        return up;
+    }
+
+    /**
+     * Returns whether the digits are exact, above or below the value they were generated from.
+     */
+    private int direction() {
+        final int direction;
+
+        switch (this.source) {
+            case SOURCE_MANTISSA:
+                direction = directionMantissa(this.mantissa, this.exponent, this.value);
+                break;
+            case SOURCE_TO_STRING:
+                direction = this.directionToString();
+                break;
+            default:
+                direction = DIRECTION_EXACT;
+                break;
+        }
+
+        return direction;
+    }
+
+    /**
+     * Compares mantissa * 10^exponent against the exact binary value of the double using 128 bit integer arithmetic.
+     * The double is mantissa * 2^binaryExponent.
+     */
+    private static int directionMantissa(final long mantissa,
+                                         final int exponent,
+                                         final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        final int biasedExponent = (int) ((bits >>> 52) & 0x7ff);
+        final long fraction = bits & 0xfffffffffffffL;
+
+        final long binaryMantissa;
+        final int binaryExponent;
+        if (0 == biasedExponent) {
+            binaryMantissa = fraction;
+            binaryExponent = -1074;
+        } else {
+            binaryMantissa = fraction | 0x10000000000000L;
+            binaryExponent = biasedExponent - 1075;
+        }
+
+        // digits = mantissa * 5^exponent * 2^exponent
+        // value = binaryMantissa * 2^binaryExponent
+        final int comparison;
+        if (exponent >= 0) {
+            // mantissa * 5^exponent * 2^exponent versus binaryMantissa * 2^binaryExponent
+            comparison = compare(mantissa, exponent, exponent, binaryMantissa, 0, binaryExponent);
+        } else {
+            // mantissa versus binaryMantissa * 5^-exponent * 2^(binaryExponent - exponent)
+            comparison = compare(mantissa, 0, 0, binaryMantissa, -exponent, binaryExponent - exponent);
+        }
+
+        return comparison == 0 ?
+                DIRECTION_EXACT :
+                comparison > 0 ?
+                        DIRECTION_ABOVE :
+                        DIRECTION_BELOW;
+    }
+
+    /**
+     * Compares left * 5^leftFive * 2^leftTwo against right * 5^rightFive * 2^rightTwo, only one side may have a power
+     * of five and the powers of five must fit in a long.
+     */
+    private static int compare(final long left,
+                               final int leftFive,
+                               final int leftTwo,
+                               final long right,
+                               final int rightFive,
+                               final int rightTwo) {
+        // cancel the common power of two
+        final int common = Math.min(leftTwo, rightTwo);
+
+        final long[] leftValue = multiply(left, FIVE_POWERS[leftFive]);
+        final long[] rightValue = multiply(right, FIVE_POWERS[rightFive]);
+
+        final int leftShift = leftTwo - common;
+        final int rightShift = rightTwo - common;
+
+        final int leftLength = bitLength(leftValue) + leftShift;
+        final int rightLength = bitLength(rightValue) + rightShift;
+
+        int comparison = Integer.compare(leftLength, rightLength);
+        if (0 == comparison) {
+            // same bit length and one side is shifted by zero so both fit in 128 bits
+            shiftLeft(leftValue, leftShift);
+            shiftLeft(rightValue, rightShift);
+
+            comparison = compareUnsigned(leftValue[0], rightValue[0]);
+            if (0 == comparison) {
+                comparison = compareUnsigned(leftValue[1], rightValue[1]);
+            }
+        }
+        return comparison;
+    }
+
+    private static int compareUnsigned(final long left,
+                                       final long right) {
+        return Long.compare(left + Long.MIN_VALUE, right + Long.MIN_VALUE);
+    }
+
+    /**
+     * Multiplies two positive longs giving a 128 bit result high then low.
+     */
+    private static long[] multiply(final long left,
+                                   final long right) {
+        final long mask = 0xffffffffL;
+
+        final long left0 = left & mask;
+        final long left1 = left >>> 32;
+        final long right0 = right & mask;
+        final long right1 = right >>> 32;
+
+        final long low = left0 * right0;
+        final long middle0 = left0 * right1;
+        final long middle1 = left1 * right0;
+        final long high = left1 * right1;
+
+        final long carry = (low >>> 32) + (middle0 & mask) + (middle1 & mask);
+
+        return new long[]{
+                high + (middle0 >>> 32) + (middle1 >>> 32) + (carry >>> 32),
+                (low & mask) | (carry << 32)
+        };
+    }
+
+    private static int bitLength(final long[] value) {
+        return 0 != value[0] ?
+                128 - Long.numberOfLeadingZeros(value[0]) :
+                64 - Long.numberOfLeadingZeros(value[1]);
+    }
+
+    private static void shiftLeft(final long[] value,
+                                  final int shift) {
+        if (shift >= 64) {
+            value[0] = value[1] << (shift - 64);
+            value[1] = 0;
+        } else {
+            if (shift > 0) {
+                value[0] = (value[0] << shift) | (value[1] >>> (64 - shift));
+                value[1] = value[1] << shift;
+            }
+        }
+    }
+
+    /**
+     * Powers of five up to 5^22 which covers all {@link #DOUBLE_POWERS_OF_TEN}.
+     */
+    private final static long[] FIVE_POWERS = new long[]{
+            1L,
+            5L,
+            25L,
+            125L,
+            625L,
+            3125L,
+            15625L,
+            78125L,
+            390625L,
+            1953125L,
+            9765625L,
+            48828125L,
+            244140625L,
+            1220703125L,
+            6103515625L,
+            30517578125L,
+            152587890625L,
+            762939453125L,
+            3814697265625L,
+            19073486328125L,
+            95367431640625L,
+            476837158203125L,
+            2384185791015625L
+    };
+
+    /**
+     * Slow path that uses {@link BigDecimal} to compare the digits against the exact value of the double.
+     */
+    private int directionToString() {
+        final StringBuilder unscaled = new StringBuilder();
+        for (int i = 0; i < this.count; i++) {
+            unscaled.append((char) ('0' + this.digits[i]));
+        }
+
+        final int comparison = new BigDecimal(unscaled.toString())
+                .scaleByPowerOfTen(this.decimalAt - this.count)
+                .compareTo(new BigDecimal(this.value));
+        return comparison == 0 ?
+                DIRECTION_EXACT :
+                comparison > 0 ?
+                        DIRECTION_ABOVE :
+                        DIRECTION_BELOW;
+    }
+
+    private final static int DIRECTION_EXACT = 0;
+
+    private final static int DIRECTION_ABOVE = 1;
+
+    private final static int DIRECTION_BELOW = 2;
+
+    // parse............................................................................................................
+
+    /**
+     * Clears the digits before parsing.
+     */
+    void parseStart() {
+        this.clear();
+    }
+
+    /**
+     * Appends a parsed digit, leading zeros are skipped while trailing zeros are kept.
+     */
+    void parseDigit(final int digit) {
+        if (0 != digit || 0 != this.count) {
+            this.append((byte) digit);
+        }
+    }
+
+    /**
+     * Completes parsing, the scale is the number of fraction digits less any exponent, exactly like
+     * {@link BigDecimal#scale()}.
+     */
+    void parseEnd(final int scale) {
+        this.decimalAt = this.count - scale;
+    }
+
+    /**
+     * Replaces the digits with those of the given {@link BigDecimal}, ignoring its sign.
+     */
+    void setBigDecimal(final BigDecimal value) {
+        this.parseStart();
+
+        final String unscaled = value.unscaledValue().abs().toString();
+        final int length = unscaled.length();
+        for (int i = 0; i < length; i++) {
+            this.parseDigit(unscaled.charAt(i) - '0');
+        }
+        this.parseEnd(value.scale());
+    }
+
+    /**
+     * Removes any digits after the decimal point, truncating the value towards zero.
+     */
+    void truncateFraction() {
+        final int decimalAt = this.decimalAt;
+        if (decimalAt < this.count) {
+            if (decimalAt > 0) {
+                this.count = decimalAt;
+            } else {
+                this.clear();
+            }
+        }
+    }
+
+    /**
+     * Tests if the digits are an integer that fits in a long with the given sign.
+     */
+    boolean isLong(final boolean negative) {
+        final int significant = this.significantCount();
+
+        boolean isLong = 0 == significant;
+        if (false == isLong) {
+            final int decimalAt = this.decimalAt;
+            if (decimalAt >= significant) {
+                if (decimalAt < LONG_DIGIT_COUNT) {
+                    isLong = true;
+                } else {
+                    if (decimalAt == LONG_DIGIT_COUNT) {
+                        isLong = this.compareLongLimit(negative ? LONG_MIN_VALUE_DIGITS : LONG_MAX_VALUE_DIGITS) <= 0;
+                    }
+                }
+            }
+        }
+
+        return isLong;
+    }
+
+    /**
+     * Compares the integer digits against the digits of {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} which have
+     * the same length.
+     */
+    private int compareLongLimit(final String limit) {
+        int comparison = 0;
+
+        for (int i = 0; 0 == comparison && i < LONG_DIGIT_COUNT; i++) {
+            final int digit = i < this.count ? this.digits[i] : 0;
+            comparison = Integer.compare(digit, limit.charAt(i) - '0');
+        }
+
+        return comparison;
+    }
+
+    private final static int LONG_DIGIT_COUNT = 19;
+
+    private final static String LONG_MAX_VALUE_DIGITS = "9223372036854775807";
+
+    private final static String LONG_MIN_VALUE_DIGITS = "9223372036854775808";
+
+    /**
+     * Returns the digits as a long, this assumes {@link #isLong(boolean)} is true. Negative values are accumulated
+     * negatively so {@link Long#MIN_VALUE} does not overflow.
+     */
+    long toLong(final boolean negative) {
+        final byte[] digits = this.digits;
+        final int count = this.count;
+
+        long value = 0;
+        if (0 != this.significantCount()) {
+            for (int i = 0; i < this.decimalAt; i++) {
+                final int digit = i < count ? digits[i] : 0;
+                value = negative ?
+                        value * 10 - digit :
+                        value * 10 + digit;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the digits as a double. Up to 15 significant digits with a small exponent are computed with a single
+     * exact multiply or divide by a power of ten which is correctly rounded, other values are converted using
+     * {@link BigDecimal#doubleValue()}.
+     */
+    double toDouble(final boolean negative) {
+        final int significant = this.significantCount();
+
+        double value;
+        if (0 == significant) {
+            value = 0;
+        } else {
+            final int exponent = this.decimalAt - significant;
+            final double[] powersOfTen = DOUBLE_POWERS_OF_TEN;
+
+            if (significant <= 15 && exponent > -powersOfTen.length && exponent < powersOfTen.length) {
+                final byte[] digits = this.digits;
+
+                long mantissa = 0;
+                for (int i = 0; i < significant; i++) {
+                    mantissa = mantissa * 10 + digits[i];
+                }
+
+                value = exponent >= 0 ?
+                        mantissa * powersOfTen[exponent] :
+                        mantissa / powersOfTen[-exponent];
+            } else {
+                value = this.toBigDecimal(false)
+                        .doubleValue();
+            }
+        }
+
+        return negative ?
+                -value :
+                value;
+    }
+
+    /**
+     * Returns the digits as a {@link BigDecimal} including any trailing zeros, giving the same value and scale as
+     * {@link BigDecimal#BigDecimal(String)} of the parsed text.
+     */
+    BigDecimal toBigDecimal(final boolean negative) {
+        final byte[] digits = this.digits;
+        final int count = this.count;
+        final int scale = count - this.decimalAt;
+
+        final BigDecimal value;
+        if (count < LONG_DIGIT_COUNT) {
+            long unscaled = 0;
+            for (int i = 0; i < count; i++) {
+                unscaled = unscaled * 10 + digits[i];
+            }
+            value = BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+        } else {
+            final char[] chars = new char[count];
+            for (int i = 0; i < count; i++) {
+                chars[i] = (char) ('0' + digits[i]);
+            }
+            final BigInteger unscaled = new BigInteger(new String(chars));
+            value = new BigDecimal(negative ? unscaled.negate() : unscaled, scale);
+        }
+
+        return value;
+    }
+
+    /**
+     * The number of digits ignoring any trailing zeros.
+     */
+    private int significantCount() {
+        final byte[] digits = this.digits;
+
+        int count = this.count;
+        while (count > 0 && 0 == digits[count - 1]) {
+            count--;
+        }
+        return count;
+    }
+
+    // helpers..........................................................................................................
+
+    boolean isZero() {
+        return 0 == this.count;
+    }
+
+    private void clear() {
+        this.count = 0;
+        this.decimalAt = 0;
+        this.source = SOURCE_EXACT;
+    }
+
+    private void append(final byte digit) {
+        if (this.count == this.digits.length) {
+            final byte[] digits = new byte[this.count * 2];
+            System.arraycopy(this.digits, 0, digits, 0, this.count);
+            this.digits = digits;
+        }
+        this.digits[this.count] = digit;
+        this.count++;
+    }
+
+    private void reverse() {
+        final byte[] digits = this.digits;
+
+        int left = 0;
+        int right = this.count - 1;
+        while (left < right) {
+            final byte swap = digits[left];
+            digits[left] = digits[right];
+            digits[right] = swap;
+            left++;
+            right--;
+        }
+    }
+
+    private void trimTrailingZeros() {
+        final byte[] digits = this.digits;
+
+        int count = this.count;
+        while (count > 0 && 0 == digits[count - 1]) {
+            count--;
+        }
+        this.count = count;
+        if (0 == count) {
+            this.decimalAt = 0;
+        }
+    }
+
+    /**
+     * The digits, only the first {@link #count} are valid, each is a value between 0 and 9.
+     */
+    byte[] digits = new byte[20];
+
+    int count;
+
+    /**
+     * The position of the decimal point relative to the start of the digits.
+     */
+    int decimalAt;
+
+    /**
+     * The source of the digits, used to compute the rounding direction of ties.
+     */
+    private int source;
+
+    private final static int SOURCE_EXACT = 0;
+
+    private final static int SOURCE_MANTISSA = 1;
+
+    private final static int SOURCE_TO_STRING = 2;
+
+    /**
+     * When the source is {@link #SOURCE_MANTISSA} the digits are mantissa * 10^exponent.
+     */
+    private long mantissa;
+
+    private int exponent;
+
+    /**
+     * The double that was converted into digits.
+     */
+    private double value;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append("0.");
+        for (int i = 0; i < this.count; i++) {
+            b.append((char) ('0' + this.digits[i]));
+        }
+        return b.append("E").append(this.decimalAt).toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Holds the {@link DecimalFormatStyle} for a single {@link Locale}, the {@link DecimalFormatSymbols}, {@link Currency}
+ * and {@link DecimalFormat} for each style are only created when the locale is first used and then cached.
+ */
+final class DecimalFormatLocale {
+
+    static DecimalFormatLocale with(final Locale locale,
+                                    final DecimalFormatStyle[] styles) {
+        return new DecimalFormatLocale(locale, styles);
+    }
+
+    private DecimalFormatLocale(final Locale locale,
+                                final DecimalFormatStyle[] styles) {
+        super();
+        this.locale = locale;
+        this.styles = styles;
+    }
+
+    /**
+     * Returns the {@link DecimalFormat} for the given style index, creating all styles on first use.
+     */
+    DecimalFormat get(final int index) {
+        DecimalFormat[] formats = this.formats;
+        if (null == formats) {
+            formats = this.formats();
+            this.formats = formats;
+        }
+        return formats[index];
+    }
+
+    private DecimalFormat[] formats() {
+        final Locale locale = this.locale;
+        final Currency currency = currency(locale);
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+
+        final DecimalFormatStyle[] styles = this.styles;
+        final int count = styles.length;
+        final DecimalFormat[] formats = new DecimalFormat[count];
+
+        for (int i = 0; i < count; i++) {
+            formats[i] = styles[i].decimalFormat(
+                    currency,
+                    symbols
+            );
+        }
+
+        return formats;
+    }
+
+    private static Currency currency(final Locale locale) {
+        final Currency defaultCurrency = Currency.getInstance("XXX");
+        Currency currency;
+
+        try {
+            currency = locale.getCountry().length() == 2 ?
+                    Currency.getInstance(locale) :
+                    defaultCurrency;
+        } catch (final IllegalArgumentException cause) {
+            currency = defaultCurrency;
+        }
+
+        return currency;
+    }
+
+    private final Locale locale;
+
+    /**
+     * The styles, shared by all locales in the same provider record.
+     */
+    private final DecimalFormatStyle[] styles;
+
+    /**
+     * Lazily created the first time {@link #get(int)} is called. The array is filled before it is assigned and never
+     * modified afterwards, and volatile so every thread sees the {@link DecimalFormat} instances fully created. Threads
+     * racing on first use may each create an array, with the last one kept.
+     */
+    private volatile DecimalFormat[] formats;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.locale.toString();
+    }
+}
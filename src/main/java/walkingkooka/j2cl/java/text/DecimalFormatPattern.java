@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The immutable result of parsing a non empty {@link DecimalFormat} pattern with localized prefixes and suffixes,
+ * cached by {@link DecimalFormat} so repeated {@link DecimalFormat#applyPattern(String)} skip parsing.
+ */
+final class DecimalFormatPattern {
+
+    /**
+     * Parses the non empty pattern, localizing the prefixes and suffixes with the given symbols.
+     */
+    static DecimalFormatPattern parse(final String pattern,
+                                      final DecimalFormatSymbols symbols) {
+        final DecimalFormatPatternParserNumber positive = DecimalFormatPatternParserNumber.with(pattern, 0);
+        positive.parse();
+
+        // String versions will be computed later.
+        final List<DecimalFormatPatternComponent> positivePrefixComponents = positive.prefix;
+        final List<DecimalFormatPatternComponent> positiveSuffixComponents = positive.suffix;
+
+        final List<DecimalFormatPatternComponent> negativePrefixComponents;
+        final List<DecimalFormatPatternComponent> negativeSuffixComponents;
+
+        final boolean custom;
+
+        final int position = positive.position;
+        if (position < pattern.length()) {
+            final DecimalFormatPatternParserNumber negative = DecimalFormatPatternParserNumber.with(pattern, position + 1);
+            negative.parse();
+
+            // if negative pattern has its on subPatternSeparator character fail!
+            if (negative.subPatternSeparator) {
+                negative.failInvalidCharacter();
+            }
+
+            // if negative prefix is empty make it minus only if there was no +ve/-ve prefix
+            final List<DecimalFormatPatternComponent> prefix = negative.prefix;
+            negativePrefixComponents = prefix.isEmpty() && positivePrefixComponents.isEmpty() && positiveSuffixComponents.isEmpty() ?
+                    NEGATIVE_PREFIX_MINUS_SIGN :
+                    prefix;
+
+            negativeSuffixComponents = negative.suffix;
+
+            custom = true;
+
+            // ignore groupingSeparator, multiplier from negative.
+        } else {
+            // no negative pattern...negative prefix is minus sign + positive prefix
+            negativePrefixComponents = Lists.array();
+            negativePrefixComponents.add(DecimalFormatPatternComponent.minusSign());
+            negativePrefixComponents.addAll(positivePrefixComponents);
+
+            negativeSuffixComponents = positiveSuffixComponents;
+
+            custom = false;
+        }
+
+        return new DecimalFormatPattern(pattern,
+                positive,
+                positivePrefixComponents,
+                toPatternLocalized(positivePrefixComponents, symbols),
+                positiveSuffixComponents,
+                toPatternLocalized(positiveSuffixComponents, symbols),
+                negativePrefixComponents,
+                toPatternLocalized(negativePrefixComponents, symbols),
+                negativeSuffixComponents,
+                toPatternLocalized(negativeSuffixComponents, symbols),
+                custom);
+    }
+
+    /**
+     * Patterns that include a negative sub pattern without a prefix defaults to prefix = minus sign.
+     */
+    private final static List<DecimalFormatPatternComponent> NEGATIVE_PREFIX_MINUS_SIGN = Lists.of(DecimalFormatPatternComponent.minusSign());
+
+    /**
+     * Converts the components into a pattern localizing locale aware components such as currency.
+     */
+    private static String toPatternLocalized(final List<DecimalFormatPatternComponent> components,
+                                             final DecimalFormatSymbols symbols) {
+        final StringBuilder b = new StringBuilder();
+        for (final DecimalFormatPatternComponent component : components) {
+            component.toPatternLocalized(symbols, b);
+        }
+        return b.toString();
+    }
+
+    private DecimalFormatPattern(final String pattern,
+                                 final DecimalFormatPatternParserNumber positive,
+                                 final List<DecimalFormatPatternComponent> positivePrefixComponents,
+                                 final String positivePrefix,
+                                 final List<DecimalFormatPatternComponent> positiveSuffixComponents,
+                                 final String positiveSuffix,
+                                 final List<DecimalFormatPatternComponent> negativePrefixComponents,
+                                 final String negativePrefix,
+                                 final List<DecimalFormatPatternComponent> negativeSuffixComponents,
+                                 final String negativeSuffix,
+                                 final boolean customNegativePrefixSuffix) {
+        this.pattern = pattern;
+
+        this.groupingSize = positive.groupingSize;
+        this.multiplier = positive.multiplier;
+
+        this.maximumFractionDigits = positive.maximumFractionDigits;
+        this.minimumFractionDigits = positive.minimumFractionDigits;
+
+        this.maximumIntegerDigits = positive.maximumIntegerDigits;
+        this.minimumIntegerDigits = positive.minimumIntegerDigits;
+
+        this.numberComponents = positive.number;
+        this.decimalSeparator = positive.hasDecimalSeparator();
+
+        this.positivePrefixComponents = positivePrefixComponents;
+        this.positivePrefix = positivePrefix;
+        this.positiveSuffixComponents = positiveSuffixComponents;
+        this.positiveSuffix = positiveSuffix;
+
+        this.negativePrefixComponents = negativePrefixComponents;
+        this.negativePrefix = negativePrefix;
+        this.negativeSuffixComponents = negativeSuffixComponents;
+        this.negativeSuffix = negativeSuffix;
+
+        this.customNegativePrefixSuffix = customNegativePrefixSuffix;
+        this.scientificFormat = positive.isScientificFormat();
+    }
+
+    private final String pattern;
+
+    final int groupingSize;
+    final int multiplier;
+
+    final int maximumFractionDigits;
+    final int minimumFractionDigits;
+
+    final int maximumIntegerDigits;
+    final int minimumIntegerDigits;
+
+    final List<DecimalFormatPatternComponent> numberComponents;
+    final boolean decimalSeparator;
+
+    final List<DecimalFormatPatternComponent> positivePrefixComponents;
+    final String positivePrefix;
+    final List<DecimalFormatPatternComponent> positiveSuffixComponents;
+    final String positiveSuffix;
+
+    final List<DecimalFormatPatternComponent> negativePrefixComponents;
+    final String negativePrefix;
+    final List<DecimalFormatPatternComponent> negativeSuffixComponents;
+    final String negativeSuffix;
+
+    final boolean customNegativePrefixSuffix;
+    final boolean scientificFormat;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteAndEscape(this.pattern).toString();
+    }
+
+    /**
+     * The cache key, a pattern and the {@link DecimalFormatSymbols} values used to localize its prefixes and suffixes.
+     * The values are compared rather than the symbols identity, because {@link DecimalFormat} clones the symbols it is
+     * given, so equal symbols from different formats still share the parsed pattern.
+     */
+    static final class DecimalFormatPatternKey {
+
+        DecimalFormatPatternKey(final String pattern,
+                                final DecimalFormatSymbols symbols) {
+            this.pattern = pattern;
+            this.symbols = symbols;
+
+            this.currencySymbol = symbols.getCurrencySymbol();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.exponentSeparator = symbols.getExponentSeparator();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.internationalCurrencySymbol = symbols.getInternationalCurrencySymbol();
+            this.minusSign = symbols.getMinusSign();
+            this.percent = symbols.getPercent();
+            this.perMill = symbols.getPerMill();
+        }
+
+        final String pattern;
+        final DecimalFormatSymbols symbols;
+
+        private final String currencySymbol;
+        private final char decimalSeparator;
+        private final String exponentSeparator;
+        private final char groupingSeparator;
+        private final String internationalCurrencySymbol;
+        private final char minusSign;
+        private final char percent;
+        private final char perMill;
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.pattern,
+                    this.currencySymbol,
+                    this.decimalSeparator,
+                    this.exponentSeparator,
+                    this.groupingSeparator,
+                    this.internationalCurrencySymbol,
+                    this.minusSign,
+                    this.percent,
+                    this.perMill);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other ||
+                    other instanceof DecimalFormatPatternKey && this.equals0((DecimalFormatPatternKey) other);
+        }
+
+        private boolean equals0(final DecimalFormatPatternKey other) {
+            return this.pattern.equals(other.pattern) &&
+                    Objects.equals(this.currencySymbol, other.currencySymbol) &&
+                    this.decimalSeparator == other.decimalSeparator &&
+                    Objects.equals(this.exponentSeparator, other.exponentSeparator) &&
+                    this.groupingSeparator == other.groupingSeparator &&
+                    Objects.equals(this.internationalCurrencySymbol, other.internationalCurrencySymbol) &&
+                    this.minusSign == other.minusSign &&
+                    this.percent == other.percent &&
+                    this.perMill == other.perMill;
+        }
+
+        DecimalFormatPattern parse() {
+            return DecimalFormatPattern.parse(this.pattern, this.symbols);
+        }
+
+        @Override
+        public String toString() {
+            return CharSequences.quoteAndEscape(this.pattern).toString();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * The provider data for one of the currency, instance, integer, number or percent styles of a locale. These are read
+ * when {@link DecimalFormat} is initialized, the more expensive {@link DecimalFormat} which parses the pattern is only
+ * created when a locale is first used.
+ */
+final class DecimalFormatStyle {
+
+    /**
+     * Reads the properties of a single style in the order written by the provider.
+     */
+    static DecimalFormatStyle read(final DataInput data) throws IOException {
+        return with(data.readBoolean(), // decimalSeparatorAlwaysShown,
+                data.readInt(), // groupingSize,
+                data.readBoolean(), // groupingUsed,
+                data.readInt(), // maximumFractionDigits,
+                data.readInt(), // minimumFractionDigits,
+                data.readInt(), // maximumIntegerDigits,
+                data.readInt(), // minimumIntegerDigits,
+                data.readInt(), // multiplier,
+                data.readUTF(), // negativePrefix,
+                data.readUTF(), // negativeSuffix,
+                data.readInt(), // parse,
+                data.readUTF(), // pattern,
+                data.readUTF(), // positivePrefix,
+                data.readUTF(), // positiveSuffix,
+                RoundingMode.valueOf(data.readUTF()) // roundingMode,
+        );
+    }
+
+    static DecimalFormatStyle with(final boolean decimalSeparatorAlwaysShown,
+                                   final int groupingSize,
+                                   final boolean groupingUsed,
+                                   final int maximumFractionDigits,
+                                   final int minimumFractionDigits,
+                                   final int maximumIntegerDigits,
+                                   final int minimumIntegerDigits,
+                                   final int multiplier,
+                                   final String negativePrefix,
+                                   final String negativeSuffix,
+                                   final int parse,
+                                   final String pattern,
+                                   final String positivePrefix,
+                                   final String positiveSuffix,
+                                   final RoundingMode roundingMode) {
+        return new DecimalFormatStyle(decimalSeparatorAlwaysShown,
+                groupingSize,
+                groupingUsed,
+                maximumFractionDigits,
+                minimumFractionDigits,
+                maximumIntegerDigits,
+                minimumIntegerDigits,
+                multiplier,
+                negativePrefix,
+                negativeSuffix,
+                parse,
+                pattern,
+                positivePrefix,
+                positiveSuffix,
+                roundingMode);
+    }
+
+    private DecimalFormatStyle(final boolean decimalSeparatorAlwaysShown,
+                               final int groupingSize,
+                               final boolean groupingUsed,
+                               final int maximumFractionDigits,
+                               final int minimumFractionDigits,
+                               final int maximumIntegerDigits,
+                               final int minimumIntegerDigits,
+                               final int multiplier,
+                               final String negativePrefix,
+                               final String negativeSuffix,
+                               final int parse,
+                               final String pattern,
+                               final String positivePrefix,
+                               final String positiveSuffix,
+                               final RoundingMode roundingMode) {
+        super();
+
+        this.decimalSeparatorAlwaysShown = decimalSeparatorAlwaysShown;
+        this.groupingSize = groupingSize;
+        this.groupingUsed = groupingUsed;
+        this.maximumFractionDigits = maximumFractionDigits;
+        this.minimumFractionDigits = minimumFractionDigits;
+        this.maximumIntegerDigits = maximumIntegerDigits;
+        this.minimumIntegerDigits = minimumIntegerDigits;
+        this.multiplier = multiplier;
+        this.negativePrefix = negativePrefix;
+        this.negativeSuffix = negativeSuffix;
+        this.parse = parse;
+        this.pattern = pattern;
+        this.positivePrefix = positivePrefix;
+        this.positiveSuffix = positiveSuffix;
+        this.roundingMode = roundingMode;
+    }
+
+    /**
+     * Creates a new {@link DecimalFormat} with this style and the given {@link Currency} and {@link DecimalFormatSymbols}.
+     */
+    DecimalFormat decimalFormat(final Currency currency,
+                                final DecimalFormatSymbols symbols) {
+        return new DecimalFormat(currency,
+                this.decimalSeparatorAlwaysShown,
+                this.groupingSize,
+                this.groupingUsed,
+                this.maximumFractionDigits,
+                this.minimumFractionDigits,
+                this.maximumIntegerDigits,
+                this.minimumIntegerDigits,
+                this.multiplier,
+                this.negativePrefix,
+                this.negativeSuffix,
+                this.parse,
+                this.pattern,
+                this.positivePrefix,
+                this.positiveSuffix,
+                this.roundingMode,
+                symbols);
+    }
+
+    private final boolean decimalSeparatorAlwaysShown;
+    private final int groupingSize;
+    private final boolean groupingUsed;
+    private final int maximumFractionDigits;
+    private final int minimumFractionDigits;
+    private final int maximumIntegerDigits;
+    private final int minimumIntegerDigits;
+    private final int multiplier;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final int parse;
+    private final String pattern;
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final RoundingMode roundingMode;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+}
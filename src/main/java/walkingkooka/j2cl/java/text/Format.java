@@ -17,6 +17,7 @@
 
 package walkingkooka.j2cl.java.text;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Objects;
 
@@ -26,15 +27,39 @@ public abstract class Format {
     }
 
     public final String format(final Object value) {
-        return format(value,
-            new StringBuffer(),
-            new FieldPosition(0)).toString();
+        return this.format(value, new StringBuilder())
+                .toString();
     }
 
     public abstract StringBuffer format(final Object value,
                                         final StringBuffer appendTo,
                                         final FieldPosition pos);
 
+    /**
+     * Formats the value appending the text to the given {@link StringBuilder}, which unlike {@link StringBuffer} is not
+     * synchronized. Sub classes should override this method to write directly into the {@link StringBuilder}, the
+     * default formats into a temporary {@link StringBuffer}.
+     */
+    public StringBuilder format(final Object value,
+                                final StringBuilder appendTo) {
+        return appendTo.append(
+                this.format(value, new StringBuffer(), new FieldPosition(0))
+        );
+    }
+
+    /**
+     * Formats the value appending the text to any {@link Appendable}. A {@link StringBuilder} is written to directly.
+     */
+    public final <A extends Appendable> A format(final Object value,
+                                                 final A appendTo) throws IOException {
+        if (appendTo instanceof StringBuilder) {
+            this.format(value, (StringBuilder) appendTo);
+        } else {
+            appendTo.append(this.format(value, new StringBuilder()));
+        }
+        return appendTo;
+    }
+
 
     public abstract Object parseObject(final String source,
                                        final ParsePosition pos);
@@ -17,6 +17,7 @@
 
 package walkingkooka.j2cl.java.text;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.ParseException;
@@ -25,6 +26,7 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 
 public abstract class NumberFormat extends Format {
 
@@ -167,37 +169,94 @@ public abstract class NumberFormat extends Format {
     public StringBuffer format(final Object number,
                                final StringBuffer target,
                                final FieldPosition pos) {
+        return isLong(number) ?
+                format(((Number) number).longValue(), target, pos) :
+                format(((Number) number).doubleValue(), target, pos);
+    }
+
+    @Override
+    public StringBuilder format(final Object number,
+                                final StringBuilder target) {
+        return isLong(number) ?
+                this.format(((Number) number).longValue(), target) :
+                this.format(((Number) number).doubleValue(), target);
+    }
+
+    /**
+     * Returns true if the given {@link Number} should be formatted as a long, failing if it is not a {@link Number}.
+     */
+    private static boolean isLong(final Object number) {
         if (false == number instanceof Number) {
             throw new IllegalArgumentException("Cannot format given Object as a Number");
         }
 
-        if (number instanceof Byte ||
+        return number instanceof Byte ||
                 number instanceof Short ||
                 number instanceof Integer ||
                 number instanceof Long ||
                 number instanceof AtomicInteger || number instanceof AtomicLong ||
                 (number instanceof BigInteger &&
-                        ((BigInteger) number).bitLength() < 64)) {
-            return format(((Number) number).longValue(), target, pos);
-        } else {
-            return format(((Number) number).doubleValue(), target, pos);
-        }
+                        ((BigInteger) number).bitLength() < 64);
     }
 
     public final String format(final double number) {
-        return this.format(number,
-                new StringBuffer(),
-                FIELD_POSITION)
+        return this.format(number, new StringBuilder())
                 .toString();
     }
 
     public final String format(final long number) {
-        return this.format(number,
-                new StringBuffer(),
-                FIELD_POSITION)
+        return this.format(number, new StringBuilder())
                 .toString();
     }
 
+    /**
+     * Formats the double appending the text to the given {@link StringBuilder}. Sub classes should override this
+     * method to write directly into the {@link StringBuilder}, the default formats into a temporary {@link StringBuffer}.
+     */
+    public StringBuilder format(final double number,
+                                final StringBuilder append) {
+        return append.append(
+                this.format(number, new StringBuffer(), FIELD_POSITION)
+        );
+    }
+
+    /**
+     * Formats the long appending the text to the given {@link StringBuilder}. Sub classes should override this
+     * method to write directly into the {@link StringBuilder}, the default formats into a temporary {@link StringBuffer}.
+     */
+    public StringBuilder format(final long number,
+                                final StringBuilder append) {
+        return append.append(
+                this.format(number, new StringBuffer(), FIELD_POSITION)
+        );
+    }
+
+    /**
+     * Formats the double appending the text to any {@link Appendable}. A {@link StringBuilder} is written to directly.
+     */
+    public final <A extends Appendable> A format(final double number,
+                                                 final A append) throws IOException {
+        if (append instanceof StringBuilder) {
+            this.format(number, (StringBuilder) append);
+        } else {
+            append.append(this.format(number, new StringBuilder()));
+        }
+        return append;
+    }
+
+    /**
+     * Formats the long appending the text to any {@link Appendable}. A {@link StringBuilder} is written to directly.
+     */
+    public final <A extends Appendable> A format(final long number,
+                                                 final A append) throws IOException {
+        if (append instanceof StringBuilder) {
+            this.format(number, (StringBuilder) append);
+        } else {
+            append.append(this.format(number, new StringBuilder()));
+        }
+        return append;
+    }
+
     /**
      * A dummy FieldPosition that will be updated by the {@link #format(long, StringBuffer, FieldPosition)} and ignored
      * because it is never known by callers.
@@ -208,6 +267,73 @@ public abstract class NumberFormat extends Format {
                                         final StringBuffer append,
                                         final FieldPosition pos);
 
+    // format column....................................................................................................
+
+    /**
+     * Formats the doubles between start (inclusive) and end (exclusive) one after another into the given
+     * {@link StringBuilder}, which may be reused for many columns. The offsets receive the position within the
+     * {@link StringBuilder} where each value starts, followed by one extra element holding the end of the last value, so
+     * the text of <code>numbers[i]</code> is between <code>offsets[i - start]</code> and
+     * <code>offsets[i - start + 1]</code>.
+     */
+    public StringBuilder format(final double[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return formatColumn(numbers.length,
+                start,
+                end,
+                append,
+                offsets,
+                (i) -> this.format(numbers[i], append));
+    }
+
+    /**
+     * Formats the longs between start (inclusive) and end (exclusive) one after another into the given
+     * {@link StringBuilder}, filling offsets exactly like {@link #format(double[], int, int, StringBuilder, int[])}.
+     */
+    public StringBuilder format(final long[] numbers,
+                                final int start,
+                                final int end,
+                                final StringBuilder append,
+                                final int[] offsets) {
+        return formatColumn(numbers.length,
+                start,
+                end,
+                append,
+                offsets,
+                (i) -> this.format(numbers[i], append));
+    }
+
+    /**
+     * Checks the range is within the numbers and the offsets have room for every value plus the end, then formats each
+     * index between start and end, recording where each value starts and where the last value ends in offsets.
+     */
+    static StringBuilder formatColumn(final int length,
+                                      final int start,
+                                      final int end,
+                                      final StringBuilder append,
+                                      final int[] offsets,
+                                      final IntConsumer format) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid range " + start + ".." + end + " for numbers with length " + length);
+        }
+        final int required = end - start + 1;
+        if (offsets.length < required) {
+            throw new IndexOutOfBoundsException("Offsets length " + offsets.length + " < " + required);
+        }
+
+        int offset = 0;
+        for (int i = start; i < end; i++) {
+            offsets[offset++] = append.length();
+            format.accept(i);
+        }
+        offsets[offset] = append.length();
+
+        return append;
+    }
+
     public abstract StringBuffer format(final long number,
                                         final StringBuffer append,
                                         final FieldPosition pos);
@@ -294,6 +420,7 @@ public abstract class NumberFormat extends Format {
      */
     public void setGroupingUsed(boolean value) {
         groupingUsed = value;
+        this.formatPropertyChanged();
     }
 
     boolean groupingUsed = true;
@@ -347,6 +474,7 @@ public abstract class NumberFormat extends Format {
         if (maximumFractionDigits < minimumFractionDigits) {
             minimumFractionDigits = maximumFractionDigits;
         }
+        this.formatPropertyChanged();
     }
 
     int maximumFractionDigits = 3;
@@ -374,6 +502,7 @@ public abstract class NumberFormat extends Format {
         if (maximumIntegerDigits < minimumIntegerDigits) {
             minimumIntegerDigits = maximumIntegerDigits;
         }
+        this.formatPropertyChanged();
     }
 
     int maximumIntegerDigits = 40;
@@ -399,6 +528,7 @@ public abstract class NumberFormat extends Format {
         if (maximumFractionDigits < minimumFractionDigits) {
             maximumFractionDigits = minimumFractionDigits;
         }
+        this.formatPropertyChanged();
     }
 
     int minimumFractionDigits = 0;
@@ -424,10 +554,18 @@ public abstract class NumberFormat extends Format {
         if (maximumIntegerDigits < minimumIntegerDigits) {
             maximumIntegerDigits = minimumIntegerDigits;
         }
+        this.formatPropertyChanged();
     }
 
     int minimumIntegerDigits = 1;
 
+    /**
+     * Invoked by setters of properties that affect formatting, allowing sub classes to discard anything cached.
+     */
+    void formatPropertyChanged() {
+        // nop
+    }
+
     // RoundingMode.....................................................................................................
 
     public RoundingMode getRoundingMode() {
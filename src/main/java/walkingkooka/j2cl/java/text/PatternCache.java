@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread safe cache of compiled patterns, shared by all instances of a format class. Entries are spread
+ * over a fixed number of stripes selected by the key hash, each stripe a small LRU guarded by its own lock, so
+ * threads compiling different patterns rarely contend. Values must be immutable as they are shared by every caller.
+ */
+final class PatternCache<K, V> {
+
+    /**
+     * The number of stripes, must be a power of two.
+     */
+    private final static int STRIPE_COUNT = 8;
+
+    static <K, V> PatternCache<K, V> with(final int maxSize) {
+        if (maxSize < STRIPE_COUNT) {
+            throw new IllegalArgumentException("Invalid max size " + maxSize + " < " + STRIPE_COUNT);
+        }
+        return new PatternCache<>(maxSize);
+    }
+
+    private PatternCache(final int maxSize) {
+        final int stripeMaxSize = maxSize / STRIPE_COUNT;
+
+        @SuppressWarnings("unchecked")
+        final PatternCacheStripe<K, V>[] stripes = (PatternCacheStripe<K, V>[]) new PatternCacheStripe<?, ?>[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new PatternCacheStripe<>(stripeMaxSize);
+        }
+        this.stripes = stripes;
+    }
+
+    /**
+     * Returns the cached value for the key, calling the compiler and caching its result on a miss. Exceptions thrown by
+     * the compiler are not cached.
+     */
+    V get(final K key,
+          final Function<K, V> compiler) {
+        final Map<K, V> stripe = this.stripe(key);
+
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+
+        if (null != value) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+
+            // compile outside the lock, two threads racing on the same key simply compile equal values
+            value = compiler.apply(key);
+            synchronized (stripe) {
+                stripe.put(key, value);
+            }
+        }
+
+        return value;
+    }
+
+    private Map<K, V> stripe(final K key) {
+        final int hash = key.hashCode();
+        return this.stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private final PatternCacheStripe<K, V>[] stripes;
+
+    /**
+     * The number of entries currently cached.
+     */
+    int size() {
+        int size = 0;
+        for (final Map<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries, leaving the hit and miss counters unchanged.
+     */
+    void clear() {
+        for (final Map<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * The number of {@link #get(Object, Function)} that returned a cached value.
+     */
+    long hits() {
+        return this.hits.get();
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of {@link #get(Object, Function)} that called the compiler.
+     */
+    long misses() {
+        return this.misses.get();
+    }
+
+    private final AtomicLong misses = new AtomicLong();
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "hits=" + this.hits() + " misses=" + this.misses() + " size=" + this.size();
+    }
+
+    /**
+     * A single stripe holding the least recently used entries up to its max size.
+     */
+    private static final class PatternCacheStripe<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        PatternCacheStripe(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return this.size() > this.maxSize;
+        }
+
+        private final int maxSize;
+    }
+}
@@ -26,12 +26,12 @@ import walkingkooka.j2cl.locale.LocaleAware;
 import java.io.DataInput;
 import java.io.IOException;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.TimeZone;
 
 /**
  * A concrete class for formatting and parsing dates in a locale-sensitive
@@ -309,10 +309,10 @@ import java.util.TimeZone;
 @LocaleAware
 public class SimpleDateFormat extends DateFormat {
 
-    private final static LocaleLookup<SimpleDateFormat[]> localeToInstances = LocaleLookup.empty();
+    private final static LocaleLookup<SimpleDateFormatLocale> localeToInstances = LocaleLookup.empty();
 
     /**
-     * Loads all the {@link DateFormatSymbols} data and creates constants.
+     * Loads all the patterns, the {@link SimpleDateFormat} for each are only created when first requested.
      */
     static {
         try {
@@ -338,13 +338,10 @@ public class SimpleDateFormat extends DateFormat {
             }
 
             for(final Locale locale : locales) {
-                final SimpleDateFormat[] instances = new SimpleDateFormat[STYLE_COUNT + STYLE_COUNT * STYLE_COUNT + STYLE_COUNT];
-
-                for(int p = 0; p < patterns.length; p++) {
-                    instances[p] = new SimpleDateFormat(patterns[p], locale);
-                }
-
-                localeToInstances.add(locale, instances);
+                localeToInstances.add(
+                        locale,
+                        SimpleDateFormatLocale.with(locale, patterns)
+                );
             }
         }
     }
@@ -391,11 +388,12 @@ public class SimpleDateFormat extends DateFormat {
                                              final int base,
                                              final int style) {
         return localeToInstances.getOrFail(locale)
-                [base + styleToIndex(style)].clone();
+                .get(base + styleToIndex(style))
+                .clone();
     }
 
     /**
-     * Translates the style value into an index matching the order present in the {@link #localeToInstances} values array
+     * Translates the style value into an index matching the order of the patterns held by each {@link SimpleDateFormatLocale}
      */
     static int styleToIndex(final int style) {
         final int styleIndex;
@@ -428,9 +426,9 @@ public class SimpleDateFormat extends DateFormat {
 
     private String pattern;
 
-    private DateFormatSymbols formatData;
+    DateFormatSymbols formatData;
 
-    transient private int creationYear;
+    transient int creationYear;
 
     private Date defaultCenturyStart;
 
@@ -630,7 +628,7 @@ public class SimpleDateFormat extends DateFormat {
         this.locale = locale;
     }
 
-    private Locale locale;
+    Locale locale;
 
     /**
      * Changes the pattern of this simple date format to the specified pattern
@@ -657,7 +655,7 @@ public class SimpleDateFormat extends DateFormat {
      *                if the pattern is invalid.
      */
     public void applyPattern(String template) {
-        this.components = SimpleDateFormatComponent.parsePattern(template);
+        this.components = PATTERN_CACHE.get(template, SimpleDateFormat::parsePattern);
         this.pattern = template;
         /*
          * ICU spec explicitly mentions that "ICU interprets a single 'y'
@@ -668,7 +666,31 @@ public class SimpleDateFormat extends DateFormat {
 //        icuFormat.applyPattern(templateForICU);
     }
 
-    private List<SimpleDateFormatComponent> components;
+    List<SimpleDateFormatComponent> components;
+
+    private static List<SimpleDateFormatComponent> parsePattern(final String pattern) {
+        return Collections.unmodifiableList(SimpleDateFormatComponent.parsePattern(pattern));
+    }
+
+    /**
+     * Compiled pattern components shared by all instances, avoiding parsing the same pattern each time a
+     * {@link SimpleDateFormat} is created.
+     */
+    private final static PatternCache<String, List<SimpleDateFormatComponent>> PATTERN_CACHE = PatternCache.with(256);
+
+    /**
+     * The number of times a pattern was found in the process wide pattern cache.
+     */
+    public static long patternCacheHits() {
+        return PATTERN_CACHE.hits();
+    }
+
+    /**
+     * The number of times a pattern was not found in the process wide pattern cache and had to be parsed.
+     */
+    public static long patternCacheMisses() {
+        return PATTERN_CACHE.misses();
+    }
 
 //    /**
 //     * Converts the Java-spec pattern into an equivalent pattern used by ICU.
@@ -732,6 +754,7 @@ public class SimpleDateFormat extends DateFormat {
         clone.components = this.components; // sharing is ok, list never modified
         clone.tzId = this.tzId;
         clone.locale = this.locale;
+        clone.gregorian = this.gregorian;
 
         return clone;
     }
@@ -1132,21 +1155,72 @@ public class SimpleDateFormat extends DateFormat {
 //        }
 //        return icuFormat.format(date, buffer, fieldPos);
 
-        final TimeZone timeZone = this.getTimeZone();
-        final Calendar calendar = Calendar.getInstance(timeZone, this.locale);
-        calendar.setTime(date);
-        final SimpleDateFormatFormatRequest request = SimpleDateFormatFormatRequest.with(calendar,
-                buffer,
-                this.getDateFormatSymbols(),
-                timeZone.inDaylightTime(date));
+        return buffer.append(this.format(date, this.scratch()));
+    }
 
-        for (final SimpleDateFormatComponent component : this.components) {
-            component.formatDate(request);
+    /**
+     * Returns the {@link StringBuilder} reused by the {@link StringBuffer} format methods, cleared of the previous text.
+     * A single builder is enough because an instance is not thread safe.
+     */
+    private StringBuilder scratch() {
+        StringBuilder scratch = this.scratch;
+        if (null == scratch) {
+            scratch = new StringBuilder();
+            this.scratch = scratch;
+        } else {
+            scratch.setLength(0);
         }
+        return scratch;
+    }
+
+    /**
+     * Lazily created by {@link #scratch()}, never shared by clones.
+     */
+    private transient StringBuilder scratch;
+
+    /**
+     * Formats the date writing directly into the given unsynchronized {@link StringBuilder}.
+     */
+    @Override
+    public StringBuilder format(final Date date,
+                                final StringBuilder builder) {
+        return this.format(date.getTime(), builder);
+    }
+
+    /**
+     * Formats the epoch millis writing directly into the given unsynchronized {@link StringBuilder}, without creating
+     * a {@link Date}.
+     */
+    @Override
+    public StringBuilder format(final long epochMillis,
+                                final StringBuilder builder) {
+        return SimpleDateFormatCompiled.format(this.components,
+                this.locale,
+                this.formatData,
+                this.isGregorian(),
+                epochMillis,
+                this.getTimeZone(),
+                builder);
+    }
 
-        return buffer;
+    /**
+     * Returns true if the {@link Calendar} for the locale is a {@link GregorianCalendar}, which means
+     * {@link SimpleDateFormatFields} may be used instead when formatting.
+     */
+    boolean isGregorian() {
+        Boolean gregorian = this.gregorian;
+        if (null == gregorian) {
+            gregorian = Calendar.getInstance(this.locale) instanceof GregorianCalendar;
+            this.gregorian = gregorian;
+        }
+        return gregorian;
     }
 
+    /**
+     * Lazily computed by {@link #isGregorian()}.
+     */
+    private transient Boolean gregorian;
+
 //    /**
 //     * Maps the Java-spec date format field to the equivalent field in ICU.
 //     *
@@ -1264,25 +1338,44 @@ public class SimpleDateFormat extends DateFormat {
                 calendar,
                 this.creationYear,
                 this.formatData);
-
-        final int length = string.length();
-        for (final SimpleDateFormatComponent component : this.components) {
-            if (position.getIndex() >= length) {
-                position.setErrorIndex(length);
-                break;
-            }
-
-            component.parseText(request);
-            if (request.isError()) {
-                break;
-            }
-        }
+        SimpleDateFormatCompiled.parseComponents(this.components, request);
 
         return request.isError() ?
                 null:
                 calendar.getTime();
     }
 
+    /**
+     * Parses a date from the text starting at the index specified by {@code position}, returning the epoch millis.
+     * The parsed fields are gathered into primitive values and converted to epoch millis using arithmetic, along with
+     * any parsed zone offset, a {@link Calendar} is only used for fields such as weeks, strict parsing, or a time zone
+     * with a transition near the parsed time. The position is updated in the same way as
+     * {@link #parse(String, ParsePosition)}, and because any long may be a valid result, zero is returned on
+     * failure and the error index of the position must be tested.
+     */
+    public long parseEpochMillis(final CharSequence text,
+                                 final ParsePosition position) {
+        final Calendar calendar = this.calendar;
+        return SimpleDateFormatCompiled.parseEpochMillis(this.components,
+                this.creationYear,
+                this.formatData,
+                calendar,
+                calendar.getTimeZone(),
+                text,
+                position);
+    }
+
+    // compile..........................................................................................................
+
+    /**
+     * Returns an immutable {@link SimpleDateFormatCompiled} holding the current pattern, symbols, locale, time zone and
+     * calendar of this {@link SimpleDateFormat}, which may be shared by many threads. Each call returns a new snapshot,
+     * as the time zone and leniency may be changed through the {@link Calendar}.
+     */
+    public SimpleDateFormatCompiled compile() {
+        return SimpleDateFormatCompiled.with(this);
+    }
+
     /**
      * Sets the date which is the start of the one hundred year period for two
      * digits year values.
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.ToStringBuilder;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * An immutable snapshot of a {@link SimpleDateFormat}, holding the compiled pattern components, the
+ * {@link DateFormatSymbols}, {@link Locale}, {@link TimeZone} and a copy of the {@link Calendar}. All state for a single
+ * format or parse is held in a request, and a single instance may be shared by many threads without cloning or
+ * synchronization. Changes to the {@link SimpleDateFormat} after compilation are not reflected. The optional cache of
+ * the last formatted day or second is itself an immutable entry replaced atomically.
+ */
+public final class SimpleDateFormatCompiled {
+
+    /**
+     * Compiles the current properties of the given {@link SimpleDateFormat}.
+     */
+    static SimpleDateFormatCompiled with(final SimpleDateFormat format) {
+        return new SimpleDateFormatCompiled(format);
+    }
+
+    private SimpleDateFormatCompiled(final SimpleDateFormat format) {
+        super();
+
+        this.pattern = format.toPattern();
+        this.components = format.components;
+        this.locale = format.locale;
+
+        // the tries are built in the copy now so they are never lazily created by any thread
+        this.symbols = format.formatData.clone()
+                .buildTries();
+
+        this.gregorian = format.isGregorian();
+        this.creationYear = format.creationYear;
+
+        final Calendar calendar = (Calendar) format.getCalendar().clone();
+        this.calendar = calendar;
+        this.timeZone = calendar.getTimeZone();
+
+        this.cached = false;
+        this.seconds = false;
+    }
+
+    private SimpleDateFormatCompiled(final SimpleDateFormatCompiled compiled,
+                                     final boolean seconds) {
+        super();
+
+        this.pattern = compiled.pattern;
+        this.components = compiled.components;
+        this.locale = compiled.locale;
+        this.symbols = compiled.symbols;
+        this.gregorian = compiled.gregorian;
+        this.creationYear = compiled.creationYear;
+        this.calendar = compiled.calendar;
+        this.timeZone = compiled.timeZone;
+
+        this.cached = true;
+        this.seconds = seconds;
+    }
+
+    // cache............................................................................................................
+
+    /**
+     * Returns a {@link SimpleDateFormatCompiled} that remembers the text of the components that are constant for the
+     * day of the last formatted instant, such as the year, month and day, so following instants of the same day only
+     * format the time of day components. This suits a stream of increasing timestamps such as those of a log, and
+     * days with a change of the time zone offset are only cached for the second.
+     */
+    public SimpleDateFormatCompiled cacheDay() {
+        return this.cached && false == this.seconds ?
+                this :
+                new SimpleDateFormatCompiled(this, false);
+    }
+
+    /**
+     * Returns a {@link SimpleDateFormatCompiled} that remembers the text of all components except milliseconds for
+     * the second of the last formatted instant, so following instants of the same second only format the
+     * milliseconds, or nothing if the pattern has no milliseconds.
+     */
+    public SimpleDateFormatCompiled cacheSecond() {
+        return this.cached && this.seconds ?
+                this :
+                new SimpleDateFormatCompiled(this, true);
+    }
+
+    // format...........................................................................................................
+
+    /**
+     * Formats the given {@link Date} returning a {@link String}.
+     */
+    public String format(final Date date) {
+        return this.format(date, new StringBuilder())
+                .toString();
+    }
+
+    /**
+     * Formats the given {@link Date} appending the text to the given {@link StringBuilder}.
+     */
+    public StringBuilder format(final Date date,
+                                final StringBuilder append) {
+        return this.format(date.getTime(), append);
+    }
+
+    /**
+     * Formats the given epoch millis returning a {@link String}.
+     */
+    public String format(final long epochMillis) {
+        return this.format(epochMillis, new StringBuilder())
+                .toString();
+    }
+
+    /**
+     * Formats the given epoch millis appending the text to the given {@link StringBuilder}, without creating a
+     * {@link Date}.
+     */
+    public StringBuilder format(final long epochMillis,
+                                final StringBuilder append) {
+        if (this.gregorian && SimpleDateFormatFields.isSupported(epochMillis)) {
+            final SimpleDateFormatTimeZoneInterval timeZoneInterval = this.timeZoneInterval(epochMillis);
+
+            if (this.cached) {
+                this.formatCached(epochMillis, timeZoneInterval, append);
+            } else {
+                formatFields(this.components,
+                        this.locale,
+                        this.symbols,
+                        epochMillis,
+                        timeZoneInterval,
+                        append);
+            }
+        } else {
+            formatCalendar(this.components,
+                    this.locale,
+                    this.symbols,
+                    epochMillis,
+                    this.timeZone,
+                    append);
+        }
+        return append;
+    }
+
+    /**
+     * Returns the {@link SimpleDateFormatTimeZoneInterval} holding the epoch millis, replacing the last interval when
+     * necessary. Intervals are immutable, so threads sharing this instance at worst replace each other's intervals.
+     */
+    private SimpleDateFormatTimeZoneInterval timeZoneInterval(final long epochMillis) {
+        final SimpleDateFormatTimeZoneInterval last = this.timeZoneInterval;
+        final SimpleDateFormatTimeZoneInterval timeZoneInterval = SimpleDateFormatTimeZoneInterval.get(last,
+                this.timeZone,
+                epochMillis);
+        if (last != timeZoneInterval) {
+            this.timeZoneInterval = timeZoneInterval;
+        }
+        return timeZoneInterval;
+    }
+
+    /**
+     * Formats using the cache entry when the epoch millis is within its window, otherwise formats all components
+     * replacing the entry. The entry is immutable, so threads sharing this instance at worst replace each other's
+     * entries.
+     */
+    private void formatCached(final long epochMillis,
+                              final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                              final StringBuilder append) {
+        final SimpleDateFormatCompiledCache cache = this.cache;
+        if (null != cache && cache.test(epochMillis)) {
+            cache.format(epochMillis, timeZoneInterval, append);
+        } else {
+            this.cache = SimpleDateFormatCompiledCache.with(this.components,
+                    fields(epochMillis, timeZoneInterval),
+                    timeZoneInterval,
+                    this.locale,
+                    this.symbols,
+                    this.seconds,
+                    append);
+        }
+    }
+
+    /**
+     * Formats the epoch millis with each component, computing the fields without a {@link Calendar} when the locale
+     * uses a {@link GregorianCalendar} and the date is supported by {@link SimpleDateFormatFields}. No
+     * {@link SimpleDateFormatTimeZoneInterval} is kept, because the {@link TimeZone} of a {@link SimpleDateFormat} is
+     * shared with callers and may be modified between formats.
+     */
+    static StringBuilder format(final List<SimpleDateFormatComponent> components,
+                                final Locale locale,
+                                final DateFormatSymbols symbols,
+                                final boolean gregorian,
+                                final long epochMillis,
+                                final TimeZone timeZone,
+                                final StringBuilder append) {
+        if (gregorian && SimpleDateFormatFields.isSupported(epochMillis)) {
+            formatComponents(components,
+                    SimpleDateFormatFormatRequest.withFields(SimpleDateFormatFields.with(epochMillis, timeZone),
+                            null,
+                            locale,
+                            append,
+                            symbols));
+        } else {
+            formatCalendar(components,
+                    locale,
+                    symbols,
+                    epochMillis,
+                    timeZone,
+                    append);
+        }
+
+        return append;
+    }
+
+    /**
+     * Formats using {@link SimpleDateFormatFields} with the offset, daylight saving time and time zone texts of the
+     * given {@link SimpleDateFormatTimeZoneInterval}, evaluating no time zone rules.
+     */
+    private static void formatFields(final List<SimpleDateFormatComponent> components,
+                                     final Locale locale,
+                                     final DateFormatSymbols symbols,
+                                     final long epochMillis,
+                                     final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                                     final StringBuilder append) {
+        formatComponents(components,
+                SimpleDateFormatFormatRequest.withFields(fields(epochMillis, timeZoneInterval),
+                        timeZoneInterval,
+                        locale,
+                        append,
+                        symbols));
+    }
+
+    private static SimpleDateFormatFields fields(final long epochMillis,
+                                                 final SimpleDateFormatTimeZoneInterval timeZoneInterval) {
+        return SimpleDateFormatFields.with(epochMillis,
+                timeZoneInterval.timeZone,
+                timeZoneInterval.offset);
+    }
+
+    /**
+     * Formats using a {@link Calendar}, for dates before the gregorian calendar or locales with another calendar.
+     */
+    private static void formatCalendar(final List<SimpleDateFormatComponent> components,
+                                       final Locale locale,
+                                       final DateFormatSymbols symbols,
+                                       final long epochMillis,
+                                       final TimeZone timeZone,
+                                       final StringBuilder append) {
+        final Date date = new Date(epochMillis);
+        final Calendar calendar = Calendar.getInstance(timeZone, locale);
+        calendar.setTime(date);
+
+        formatComponents(components,
+                SimpleDateFormatFormatRequest.with(calendar,
+                        append,
+                        symbols,
+                        timeZone.inDaylightTime(date)));
+    }
+
+    private static void formatComponents(final List<SimpleDateFormatComponent> components,
+                                         final SimpleDateFormatFormatRequest request) {
+        for (final SimpleDateFormatComponent component : components) {
+            component.formatDate(request);
+        }
+    }
+
+    // parse............................................................................................................
+
+    /**
+     * Parses a date from the text starting at the index specified by {@code position}, returning the epoch millis or
+     * zero with the error index of the position set on failure, just like
+     * {@link SimpleDateFormat#parseEpochMillis(CharSequence, ParsePosition)}.
+     */
+    public long parseEpochMillis(final CharSequence text,
+                                 final ParsePosition position) {
+        return parseEpochMillis(this.components,
+                this.creationYear,
+                this.symbols,
+                this.calendar,
+                this.timeZone,
+                text,
+                position);
+    }
+
+    /**
+     * Parses the text into {@link SimpleDateFormatParseFields}, computing the epoch millis without a {@link Calendar}
+     * when possible, otherwise the fields are copied to a copy of the given {@link Calendar}, which is never modified.
+     */
+    static long parseEpochMillis(final List<SimpleDateFormatComponent> components,
+                                 final int creationYear,
+                                 final DateFormatSymbols symbols,
+                                 final Calendar calendar,
+                                 final TimeZone timeZone,
+                                 final CharSequence text,
+                                 final ParsePosition position) {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        final SimpleDateFormatParseRequest request = SimpleDateFormatParseRequest.withFields(text.toString(),
+                position,
+                fields,
+                creationYear,
+                symbols);
+        parseComponents(components, request);
+
+        final long epochMillis;
+        if (request.isError()) {
+            epochMillis = 0;
+        } else {
+            if (calendar.isLenient() && isGregorianChangeBefore1583(calendar) && fields.isSupported(timeZone)) {
+                epochMillis = fields.epochMillis(timeZone);
+            } else {
+                final Calendar copy = (Calendar) calendar.clone();
+                copy.clear();
+                fields.copyTo(copy);
+                epochMillis = copy.getTimeInMillis();
+            }
+        }
+
+        return epochMillis;
+    }
+
+    /**
+     * Tests if the {@link Calendar} is a {@link GregorianCalendar} whose change from the julian calendar happens before
+     * the dates computed by {@link SimpleDateFormatParseFields}.
+     */
+    private static boolean isGregorianChangeBefore1583(final Calendar calendar) {
+        return calendar instanceof GregorianCalendar &&
+                ((GregorianCalendar) calendar).getGregorianChange().getTime() < SimpleDateFormatFields.FIRST_GREGORIAN_YEAR;
+    }
+
+    /**
+     * Parses the text with each component in turn, stopping at the first error or the end of the text.
+     */
+    static void parseComponents(final List<SimpleDateFormatComponent> components,
+                                final SimpleDateFormatParseRequest request) {
+        final ParsePosition position = request.position;
+        final int length = request.text.length();
+
+        for (final SimpleDateFormatComponent component : components) {
+            if (position.getIndex() >= length) {
+                position.setErrorIndex(length);
+                break;
+            }
+
+            component.parseText(request);
+            if (request.isError()) {
+                break;
+            }
+        }
+    }
+
+    private final String pattern;
+
+    /**
+     * The components are never modified after the pattern is parsed.
+     */
+    private final List<SimpleDateFormatComponent> components;
+
+    private final Locale locale;
+
+    private final DateFormatSymbols symbols;
+
+    private final boolean gregorian;
+
+    private final int creationYear;
+
+    /**
+     * Only read and cloned, never modified.
+     */
+    private final Calendar calendar;
+
+    private final TimeZone timeZone;
+
+    /**
+     * When true formatting uses and replaces the {@link #cache}.
+     */
+    private final boolean cached;
+
+    /**
+     * When true the {@link #cache} holds the text of a second rather than a day.
+     */
+    private final boolean seconds;
+
+    /**
+     * The entry for the last formatted instant, volatile so an entry created by one thread is visible to others.
+     */
+    private volatile SimpleDateFormatCompiledCache cache;
+
+    /**
+     * The offset interval of the last formatted instant, volatile so an interval created by one thread is visible to
+     * others. The {@link TimeZone} is a private copy that is never modified.
+     */
+    private volatile SimpleDateFormatTimeZoneInterval timeZoneInterval;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final ToStringBuilder b = ToStringBuilder.empty()
+                .valueSeparator("")
+                .label("pattern").value(this.pattern)
+                .label("locale").value(this.locale)
+                .label("timeZone").value(this.timeZone.getID());
+        if (this.cached) {
+            b.label("cache").value(this.seconds ? "second" : "day");
+        }
+        return b.build();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * An immutable entry remembering the formatted text of the components that are constant for a window of epoch millis,
+ * either the day or the second holding the last formatted instant. Instants within the window only format the
+ * remaining components such as the time of day or milliseconds, reusing the date fields of the entry.
+ */
+final class SimpleDateFormatCompiledCache {
+
+    /**
+     * Formats the instant of the given {@link SimpleDateFormatFields} with all components, appending the text and
+     * returning an entry holding the text of the components that are constant for its day or second.
+     */
+    static SimpleDateFormatCompiledCache with(final List<SimpleDateFormatComponent> components,
+                                              final SimpleDateFormatFields fields,
+                                              final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                                              final Locale locale,
+                                              final DateFormatSymbols symbols,
+                                              final boolean seconds,
+                                              final StringBuilder append) {
+        final SimpleDateFormatFormatRequest request = SimpleDateFormatFormatRequest.withFields(fields,
+                timeZoneInterval,
+                locale,
+                append,
+                symbols);
+
+        final List<String> texts = Lists.array();
+        final List<SimpleDateFormatComponent> varying = Lists.array();
+
+        int constantStart = -1;
+        // a fixed width pattern is cached one original component at a time
+        for (final SimpleDateFormatComponent component : SimpleDateFormatComponentIsoDateTime.components(components)) {
+            final boolean constant = seconds ?
+                    false == component instanceof SimpleDateFormatComponentMilli : // only milliseconds change within a second
+                    component.isDayConstant();
+            if (constant) {
+                if (-1 == constantStart) {
+                    constantStart = append.length();
+                }
+            } else {
+                if (-1 != constantStart) {
+                    texts.add(append.substring(constantStart));
+                    varying.add(null);
+                    constantStart = -1;
+                }
+                texts.add(null);
+                varying.add(component);
+            }
+            component.formatDate(request);
+        }
+        if (-1 != constantStart) {
+            texts.add(append.substring(constantStart));
+            varying.add(null);
+        }
+
+        final long epochMillis = fields.epochMillis;
+        final long secondStart = epochMillis - fields.millisecond;
+
+        long start = secondStart;
+        long end = secondStart + 1000;
+        if (false == seconds) {
+            final long dayStart = secondStart - ((fields.hourOfDay * 60L + fields.minute) * 60 + fields.second) * 1000;
+            final long dayEnd = dayStart + SimpleDateFormatFields.MILLIS_PER_DAY;
+
+            // a day with a transition of the offset is only cached for the second
+            final TimeZone timeZone = fields.timeZone;
+            final int offset = fields.offset;
+            if (null != timeZoneInterval && timeZoneInterval.start <= dayStart && dayEnd <= timeZoneInterval.end ||
+                    timeZone.getOffset(dayStart) == offset && timeZone.getOffset(dayEnd - 1) == offset) {
+                start = dayStart;
+                end = dayEnd;
+            }
+        }
+
+        return new SimpleDateFormatCompiledCache(fields,
+                locale,
+                symbols,
+                seconds,
+                start,
+                end,
+                texts.toArray(new String[texts.size()]),
+                varying.toArray(new SimpleDateFormatComponent[varying.size()]));
+    }
+
+    private SimpleDateFormatCompiledCache(final SimpleDateFormatFields fields,
+                                          final Locale locale,
+                                          final DateFormatSymbols symbols,
+                                          final boolean seconds,
+                                          final long start,
+                                          final long end,
+                                          final String[] texts,
+                                          final SimpleDateFormatComponent[] components) {
+        super();
+
+        this.fields = fields;
+        this.locale = locale;
+        this.symbols = symbols;
+        this.seconds = seconds;
+        this.start = start;
+        this.end = end;
+        this.texts = texts;
+        this.components = components;
+    }
+
+    /**
+     * Tests if the epoch millis is within the window of this entry.
+     */
+    boolean test(final long epochMillis) {
+        return epochMillis >= this.start && epochMillis < this.end;
+    }
+
+    /**
+     * Formats an instant within the window of this entry, appending the remembered text and only formatting the
+     * remaining components. A request is only created when there is at least one remaining component, using the
+     * {@link SimpleDateFormatTimeZoneInterval} holding the epoch millis, which may be null.
+     */
+    StringBuilder format(final long epochMillis,
+                         final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                         final StringBuilder append) {
+        final String[] texts = this.texts;
+        final SimpleDateFormatComponent[] components = this.components;
+        final int count = texts.length;
+
+        SimpleDateFormatFormatRequest request = null;
+
+        for (int i = 0; i < count; i++) {
+            final String text = texts[i];
+            if (null != text) {
+                append.append(text);
+            } else {
+                if (null == request) {
+                    request = SimpleDateFormatFormatRequest.withFields(this.fields.sameDay(epochMillis),
+                            timeZoneInterval,
+                            this.locale,
+                            append,
+                            this.symbols);
+                }
+                components[i].formatDate(request);
+            }
+        }
+
+        return append;
+    }
+
+    private final SimpleDateFormatFields fields;
+
+    private final Locale locale;
+
+    private final DateFormatSymbols symbols;
+
+    private final boolean seconds;
+
+    /**
+     * The first epoch millis of the window, inclusive.
+     */
+    final long start;
+
+    /**
+     * The end of the window, exclusive.
+     */
+    final long end;
+
+    /**
+     * Each element is either the remembered text or null when the component at the same index must be formatted.
+     */
+    private final String[] texts;
+
+    private final SimpleDateFormatComponent[] components;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append(this.seconds ? "second " : "day ")
+                .append(this.start)
+                .append("..")
+                .append(this.end);
+
+        final String[] texts = this.texts;
+        final int count = texts.length;
+        for (int i = 0; i < count; i++) {
+            final String text = texts[i];
+            b.append(' ')
+                    .append(null != text ?
+                            CharSequences.quoteAndEscape(text) :
+                            this.components[i]);
+        }
+        return b.toString();
+    }
+}
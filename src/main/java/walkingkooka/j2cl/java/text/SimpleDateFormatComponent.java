@@ -53,7 +53,8 @@ abstract class SimpleDateFormatComponent {
     final static char YEAR = 'y';
 
     /**
-     * Parses and validates the pattern creating a {@link List} of {@link SimpleDateFormatComponent}.
+     * Parses and validates the pattern creating a {@link List} of {@link SimpleDateFormatComponent}. Well known fixed
+     * width patterns are replaced by a single {@link SimpleDateFormatComponentIsoDateTime}.
      */
     static List<SimpleDateFormatComponent> parsePattern(String pattern) {
         final List<SimpleDateFormatComponent> components = Lists.array();
@@ -147,10 +148,12 @@ abstract class SimpleDateFormatComponent {
 
         prepareComponents(components);
 
-        return components;
+        return SimpleDateFormatComponentIsoDateTime.replace(components);
     }
 
     private static void prepareComponents(final List<SimpleDateFormatComponent> components) {
+        coalesceLiterals(components);
+
         // this helps support parsing of digit only patterns such as HOURS followed immediaately by MINUTES. In this case
         // HOURS will no longer be greedy and consume all digits but limit itself to 2.
         final int componentCount = components.size();
@@ -167,6 +170,31 @@ abstract class SimpleDateFormatComponent {
         }
     }
 
+    /**
+     * Replaces runs of two or more {@link SimpleDateFormatComponentLiteral} with a single
+     * {@link SimpleDateFormatComponentLiteralString}, so the run is formatted and parsed in one step.
+     */
+    private static void coalesceLiterals(final List<SimpleDateFormatComponent> components) {
+        for (int i = 0; i < components.size(); i++) {
+            int end = i;
+            while (end < components.size() && components.get(end) instanceof SimpleDateFormatComponentLiteral) {
+                end++;
+            }
+
+            if (end - i > 1) {
+                final List<SimpleDateFormatComponent> run = components.subList(i, end);
+
+                final StringBuilder text = new StringBuilder();
+                for (final SimpleDateFormatComponent literal : run) {
+                    text.append(((SimpleDateFormatComponentLiteral) literal).c);
+                }
+
+                run.clear();
+                components.add(i, literalString(text.toString()));
+            }
+        }
+    }
+
     /**
      * Returns a factory that accepts the length of the character.
      */
@@ -332,6 +360,13 @@ abstract class SimpleDateFormatComponent {
         return SimpleDateFormatComponentLiteral.with(c);
     }
 
+    /**
+     * {@see SimpleDateFormatComponentLiteralString}
+     */
+    static SimpleDateFormatComponent literalString(final String text) {
+        return SimpleDateFormatComponentLiteralString.with(text);
+    }
+
     /**
      * {@see SimpleDateFormatComponentMinuteInHour}
      */
@@ -426,6 +461,12 @@ abstract class SimpleDateFormatComponent {
      */
     abstract SimpleDateFormatComponent setNumberNext();
 
+    /**
+     * Returns true if the formatted text is the same for every instant of a day with the same offset, such as the year,
+     * month or day names and literals, but not the time of day or time zone.
+     */
+    abstract boolean isDayConstant();
+
     /**
      * Formats a component of the given {@link Date} to the {@link StringBuilder}.
      */
@@ -17,12 +17,12 @@
 
 package walkingkooka.j2cl.java.text;
 
+import walkingkooka.NeverError;
 import walkingkooka.text.CharSequences;
 
 import java.sql.Date;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.IntUnaryOperator;
 
 /**
  * Base class for most {@link SimpleDateFormatComponent} holding a run count for the length of that pattern.
@@ -39,32 +39,79 @@ abstract class SimpleDateFormatComponent2 extends SimpleDateFormatComponent {
 
     // format...........................................................................................................
 
-    final void formatCalendarFieldNumericValue(final SimpleDateFormatFormatRequest request,
-                                               final int calendarField,
-                                               final IntUnaryOperator adjustValue,
-                                               final int maxLength) {
-        final int value = request.calendar.get(calendarField);
-        this.formatNumericValue(request,
-                adjustValue.applyAsInt(value),
-                maxLength);
-    }
-
+    /**
+     * Appends the value padded with leading zeros to the min length, without creating a {@link String} for values
+     * from 0 to 9999, which includes every field except large years.
+     */
     final void formatNumericValue(final SimpleDateFormatFormatRequest request,
                                   final int value,
-                                  final int maxLength) {
-        final String text = String.valueOf(value);
+                                  final int minLength) {
+        formatNumericValue(value,
+                minLength,
+                request.text);
+    }
+
+    static void formatNumericValue(final int value,
+                                   final int minLength,
+                                   final StringBuilder text) {
+        if (value >= 0 && value < 10000) {
+            final int digitCount = value < 10 ?
+                    1 :
+                    value < 100 ?
+                            2 :
+                            value < 1000 ?
+                                    3 :
+                                    4;
+            for (int i = digitCount; i < minLength; i++) {
+                text.append('0');
+            }
 
-        // pad as necessary
-        request.text.append(text.length() >= maxLength ?
-                text :
-                CharSequences.padLeft(text, maxLength, '0'));
+            final char[] pairs = DIGIT_PAIRS;
+            switch (digitCount) {
+                case 1:
+                    text.append((char) ('0' + value));
+                    break;
+                case 2:
+                    text.append(pairs, value * 2, 2);
+                    break;
+                case 3:
+                    text.append((char) ('0' + value / 100))
+                            .append(pairs, value % 100 * 2, 2);
+                    break;
+                case 4:
+                    text.append(pairs, value / 100 * 2, 2)
+                            .append(pairs, value % 100 * 2, 2);
+                    break;
+                default:
+                    NeverError.unhandledCase(digitCount, 1, 2, 3, 4);
+            }
+        } else {
+            final String digits = String.valueOf(value);
+            text.append(digits.length() >= minLength ?
+                    digits :
+                    CharSequences.padLeft(digits, minLength, '0'));
+        }
+    }
+
+    /**
+     * The two digits of each value from 00 to 99, the tens followed by the units.
+     */
+    final static char[] DIGIT_PAIRS = digitPairs();
+
+    private static char[] digitPairs() {
+        final char[] pairs = new char[200];
+        for (int i = 0; i < 100; i++) {
+            pairs[i * 2] = (char) ('0' + i / 10);
+            pairs[i * 2 + 1] = (char) ('0' + i % 10);
+        }
+        return pairs;
     }
 
     final void formatCalendarFieldName(final SimpleDateFormatFormatRequest request,
                                        final int calendarField,
                                        final String[] names) {
         this.formatName(request,
-                request.calendar.get(calendarField),
+                request.get(calendarField),
                 names);
     }
 
@@ -86,26 +133,22 @@ abstract class SimpleDateFormatComponent2 extends SimpleDateFormatComponent {
                                             final BiFunction<Integer, SimpleDateFormatParseRequest, Integer> adjustWriteValue) {
         final int value = request.parseNumberOrError(1, maxLength, request.position.getIndex());
         if (false == request.isError()) {
-            request.calendar.set(calendarField, adjustWriteValue.apply(value, request));
+            request.set(calendarField, adjustWriteValue.apply(value, request));
         }
     }
 
     /**
-     * Attempts to best match any of hte possible options and then update the calendar field and position index or error index.
+     * Attempts to best match any of the possible options and then update the calendar field and position index or error index.
      */
     final void parseFromOptionsAndUpdateCalendar(final SimpleDateFormatParseRequest request,
                                                  final int calendarField,
-                                                 final int optionStartIndex,
-                                                 final String[]... options) {
+                                                 final DateFormatSymbolsTrie... options) {
         int best = -1;
 
-        for (final String[] possible : options) {
-            best = request.bestMatch(possible, optionStartIndex);
+        for (final DateFormatSymbolsTrie possible : options) {
+            best = request.bestMatch(possible);
             if (-1 != best) {
-                final String bestMatch = possible[best];
-                final ParsePosition position = request.position;
-                position.setIndex(position.getIndex() + bestMatch.length());
-                request.calendar.set(calendarField, best);
+                request.set(calendarField, best);
                 break;
             }
         }
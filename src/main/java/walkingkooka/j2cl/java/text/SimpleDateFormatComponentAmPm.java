@@ -44,12 +44,17 @@ final class SimpleDateFormatComponentAmPm extends SimpleDateFormatComponent2 {
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        final int ampm = request.calendar.get(CALENDAR_FIELD);
-        request.text.append(request.symbols.getAmPmStrings()[ampm]);
+        final int ampm = request.get(CALENDAR_FIELD);
+        request.text.append(request.symbols.ampm[ampm]);
     }
 
     // parse...........................................................................................................
@@ -59,8 +64,7 @@ final class SimpleDateFormatComponentAmPm extends SimpleDateFormatComponent2 {
         final DateFormatSymbols symbols = request.symbols;
         this.parseFromOptionsAndUpdateCalendar(request,
                 CALENDAR_FIELD,
-                0,
-                symbols.getAmPmStrings());
+                symbols.ampmTrie());
     }
 
     private final static int CALENDAR_FIELD = Calendar.AM_PM;
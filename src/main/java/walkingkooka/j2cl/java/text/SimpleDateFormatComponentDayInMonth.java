@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentDayInMonth extends SimpleDateFormatComponen
         return new SimpleDateFormatComponentDayInMonth(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
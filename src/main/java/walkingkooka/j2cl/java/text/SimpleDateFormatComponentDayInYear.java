@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentDayInYear extends SimpleDateFormatComponent
         return new SimpleDateFormatComponentDayInYear(this.length, 3);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
@@ -43,11 +43,16 @@ final class SimpleDateFormatComponentDayNameInWeek extends SimpleDateFormatCompo
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        final int day = request.calendar.get(CALENDAR_FIELD);
+        final int day = request.get(CALENDAR_FIELD);
         final int length = this.length;
         final DateFormatSymbols symbols = request.symbols;
 
@@ -55,10 +60,10 @@ final class SimpleDateFormatComponentDayNameInWeek extends SimpleDateFormatCompo
             case 1:
             case 2:
             case 3:
-                this.formatName(request, day, symbols.getShortWeekdays());
+                this.formatName(request, day, symbols.shortWeekdays);
                 break;
             default:
-                this.formatName(request, day, symbols.getWeekdays());
+                this.formatName(request, day, symbols.weekdays);
                 break;
         }
     }
@@ -70,8 +75,7 @@ final class SimpleDateFormatComponentDayNameInWeek extends SimpleDateFormatCompo
         final DateFormatSymbols symbols = request.symbols;
         this.parseFromOptionsAndUpdateCalendar(request,
                 CALENDAR_FIELD,
-                1,
-                symbols.getWeekdays(), symbols.getShortWeekdays());
+                symbols.weekdaysTrie(), symbols.shortWeekdaysTrie());
     }
 
     private final static int CALENDAR_FIELD = Calendar.DAY_OF_WEEK;
@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentDayNumberOfWeek extends SimpleDateFormatCom
         return new SimpleDateFormatComponentDayNumberOfWeek(this.length, 1);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
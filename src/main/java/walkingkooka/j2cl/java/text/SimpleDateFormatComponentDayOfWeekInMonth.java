@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentDayOfWeekInMonth extends SimpleDateFormatCo
         return new SimpleDateFormatComponentDayOfWeekInMonth(this.length, 1);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
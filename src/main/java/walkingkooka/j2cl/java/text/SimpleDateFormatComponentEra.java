@@ -41,13 +41,18 @@ final class SimpleDateFormatComponentEra extends SimpleDateFormatComponent2 {
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
         this.formatCalendarFieldName(request,
                 CALENDAR_FIELD,
-                request.symbols.getEras());
+                request.symbols.eras);
     }
 
     // parse...........................................................................................................
@@ -57,8 +62,7 @@ final class SimpleDateFormatComponentEra extends SimpleDateFormatComponent2 {
         final DateFormatSymbols symbols = request.symbols;
         this.parseFromOptionsAndUpdateCalendar(request,
                 CALENDAR_FIELD,
-                0,
-                symbols.getEras());
+                symbols.erasTrie());
     }
 
     private final static int CALENDAR_FIELD = Calendar.ERA;
@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentHourAmPm011 extends SimpleDateFormatCompone
         return new SimpleDateFormatComponentHourAmPm011(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentHourAmPm112 extends SimpleDateFormatCompone
         return new SimpleDateFormatComponentHourAmPm112(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentHourInDay023 extends SimpleDateFormatCompon
         return new SimpleDateFormatComponentHourInDay023(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
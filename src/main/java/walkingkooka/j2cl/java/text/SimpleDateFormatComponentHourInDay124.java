@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentHourInDay124 extends SimpleDateFormatCompon
         return new SimpleDateFormatComponentHourInDay124(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
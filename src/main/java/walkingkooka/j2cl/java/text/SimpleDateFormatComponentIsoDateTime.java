@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Replaces the components of the well known fixed width patterns <code>yyyy-MM-dd'T'HH:mm:ss.SSSXXX</code> and
+ * <code>yyyy-MM-dd HH:mm:ss</code>, formatting and parsing every field at its fixed offset in a single step rather
+ * than one component at a time. Parsing text that is not exactly the fixed width shape, such as single digit fields,
+ * other digits or too many digits in the last field, is left to the original components, so the results are always
+ * the same.
+ */
+final class SimpleDateFormatComponentIsoDateTime extends SimpleDateFormatComponent {
+
+    /**
+     * Returns a {@link List} holding only a {@link SimpleDateFormatComponentIsoDateTime} if the components are those
+     * of a well known fixed width pattern, otherwise the components are returned.
+     */
+    static List<SimpleDateFormatComponent> replace(final List<SimpleDateFormatComponent> components) {
+        final List<SimpleDateFormatComponent> replaced;
+
+        if (DATE_TIME_MILLIS_OFFSET.components.equals(components)) {
+            replaced = Lists.of(DATE_TIME_MILLIS_OFFSET);
+        } else {
+            if (DATE_TIME.components.equals(components)) {
+                replaced = Lists.of(DATE_TIME);
+            } else {
+                replaced = components;
+            }
+        }
+
+        return replaced;
+    }
+
+    /**
+     * Returns the original components if the given {@link List} holds only a
+     * {@link SimpleDateFormatComponentIsoDateTime}, otherwise the components are returned.
+     */
+    static List<SimpleDateFormatComponent> components(final List<SimpleDateFormatComponent> components) {
+        return 1 == components.size() && components.get(0) instanceof SimpleDateFormatComponentIsoDateTime ?
+                ((SimpleDateFormatComponentIsoDateTime) components.get(0)).components :
+                components;
+    }
+
+    /**
+     * <code>yyyy-MM-dd'T'HH:mm:ss.SSSXXX</code>
+     */
+    final static SimpleDateFormatComponentIsoDateTime DATE_TIME_MILLIS_OFFSET = new SimpleDateFormatComponentIsoDateTime(
+            "0000-00-00T00:00:00.000",
+            Lists.of(
+                    year(4),
+                    literal('-'),
+                    monthInYear(2),
+                    literal('-'),
+                    dayInMonth(2),
+                    literal('T'),
+                    hourInDay023(2),
+                    literal(':'),
+                    minuteInHour(2),
+                    literal(':'),
+                    secondInMinute(2),
+                    literal('.'),
+                    milli(3),
+                    timeZoneIso8601(3)
+            )
+    );
+
+    /**
+     * <code>yyyy-MM-dd HH:mm:ss</code>
+     */
+    final static SimpleDateFormatComponentIsoDateTime DATE_TIME = new SimpleDateFormatComponentIsoDateTime(
+            "0000-00-00 00:00:00",
+            Lists.of(
+                    year(4),
+                    literal('-'),
+                    monthInYear(2),
+                    literal('-'),
+                    dayInMonth(2),
+                    literal(' '),
+                    hourInDay023(2),
+                    literal(':'),
+                    minuteInHour(2),
+                    literal(':'),
+                    secondInMinute(2)
+            )
+    );
+
+    private SimpleDateFormatComponentIsoDateTime(final String shape,
+                                                 final List<SimpleDateFormatComponent> components) {
+        super();
+        this.shape = shape;
+        this.millis = shape.length() > 19;
+        this.components = components;
+
+        final SimpleDateFormatComponent last = components.get(components.size() - 1);
+        this.offset = last instanceof SimpleDateFormatComponentTimeZoneIso8601 ?
+                last :
+                null;
+    }
+
+    @Override
+    boolean isNumber() {
+        return true; // starts with the year
+    }
+
+    @Override
+    SimpleDateFormatComponent setNumberNext() {
+        return this; // always the entire pattern, nothing comes before
+    }
+
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
+    // format...........................................................................................................
+
+    /**
+     * Appends every field with the two digit table, only the year may need more than four digits.
+     */
+    @Override
+    void formatDate(final SimpleDateFormatFormatRequest request) {
+        final StringBuilder text = request.text;
+        final char[] pairs = SimpleDateFormatComponent2.DIGIT_PAIRS;
+
+        SimpleDateFormatComponent2.formatNumericValue(request.get(Calendar.YEAR), 4, text);
+        text.append('-')
+                .append(pairs, (request.get(Calendar.MONTH) + 1) * 2, 2)
+                .append('-')
+                .append(pairs, request.get(Calendar.DAY_OF_MONTH) * 2, 2)
+                .append(this.shape.charAt(10))
+                .append(pairs, request.get(Calendar.HOUR_OF_DAY) * 2, 2)
+                .append(':')
+                .append(pairs, request.get(Calendar.MINUTE) * 2, 2)
+                .append(':')
+                .append(pairs, request.get(Calendar.SECOND) * 2, 2);
+
+        if (this.millis) {
+            final int millis = request.get(Calendar.MILLISECOND);
+            text.append('.')
+                    .append((char) ('0' + millis / 100))
+                    .append(pairs, millis % 100 * 2, 2);
+        }
+
+        final SimpleDateFormatComponent offset = this.offset;
+        if (null != offset) {
+            offset.formatDate(request);
+        }
+    }
+
+    // parse............................................................................................................
+
+    /**
+     * Reads every field from its fixed offset when the text matches the shape and the following character is not a
+     * digit, otherwise the original components parse the text.
+     */
+    @Override
+    void parseText(final SimpleDateFormatParseRequest request) {
+        final String text = request.text;
+        final ParsePosition position = request.position;
+        final int start = position.getIndex();
+
+        if (this.test(text, start)) {
+            request.set(Calendar.YEAR, digits(text, start) * 100 + digits(text, start + 2));
+            request.set(Calendar.MONTH, Math.max(0, digits(text, start + 5) - 1));
+            request.set(Calendar.DAY_OF_MONTH, digits(text, start + 8));
+            request.set(Calendar.HOUR_OF_DAY, digits(text, start + 11));
+            request.set(Calendar.MINUTE, digits(text, start + 14));
+            request.set(Calendar.SECOND, digits(text, start + 17));
+            if (this.millis) {
+                request.set(Calendar.MILLISECOND, (text.charAt(start + 20) - '0') * 100 + digits(text, start + 21));
+            }
+            position.setIndex(start + this.shape.length());
+
+            final SimpleDateFormatComponent offset = this.offset;
+            if (null != offset) {
+                offset.parseText(request);
+            }
+        } else {
+            SimpleDateFormatCompiled.parseComponents(this.components, request);
+        }
+    }
+
+    /**
+     * Tests if the text at the start matches the shape, with an ASCII digit for every zero, followed by a character
+     * that is not a digit, or the end of the text if there is no offset.
+     */
+    private boolean test(final String text,
+                         final int start) {
+        final String shape = this.shape;
+        final int shapeLength = shape.length();
+        final int end = start + shapeLength;
+        final int textLength = text.length();
+
+        boolean matched = end < textLength ?
+                Character.digit(text.charAt(end), 10) < 0 :
+                end == textLength && null == this.offset;
+
+        for (int i = 0; matched && i < shapeLength; i++) {
+            final char c = text.charAt(start + i);
+            final char expected = shape.charAt(i);
+            matched = '0' == expected ?
+                    c >= '0' && c <= '9' :
+                    c == expected;
+        }
+
+        return matched;
+    }
+
+    private static int digits(final String text,
+                              final int offset) {
+        return (text.charAt(offset) - '0') * 10 + text.charAt(offset + 1) - '0';
+    }
+
+    /**
+     * The fixed width text, with a zero for each digit.
+     */
+    private final String shape;
+
+    /**
+     * When true the seconds are followed by a dot and three digit milliseconds.
+     */
+    private final boolean millis;
+
+    /**
+     * The original components, parsing any text that is not the fixed width shape.
+     */
+    final List<SimpleDateFormatComponent> components;
+
+    /**
+     * The {@link SimpleDateFormatComponentTimeZoneIso8601} following the fixed width fields, or null.
+     */
+    private final SimpleDateFormatComponent offset;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.components.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || (other instanceof SimpleDateFormatComponentIsoDateTime && this.equals0((SimpleDateFormatComponentIsoDateTime) other));
+    }
+
+    private boolean equals0(final SimpleDateFormatComponentIsoDateTime other) {
+        return this.components.equals(other.components);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        for (final SimpleDateFormatComponent component : this.components) {
+            b.append(component);
+        }
+        return b.toString();
+    }
+}
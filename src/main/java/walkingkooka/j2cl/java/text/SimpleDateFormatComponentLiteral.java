@@ -43,6 +43,11 @@ final class SimpleDateFormatComponentLiteral extends SimpleDateFormatComponent {
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    final boolean isDayConstant() {
+        return true;
+    }
+
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
         request.text.append(this.c);
@@ -76,7 +81,7 @@ final class SimpleDateFormatComponentLiteral extends SimpleDateFormatComponent {
         return this.c == other.c;
     }
 
-    private final char c;
+    final char c;
 
     @Override
     public String toString() {
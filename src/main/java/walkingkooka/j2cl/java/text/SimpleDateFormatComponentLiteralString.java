@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+/**
+ * A run of two or more literal characters, which are appended or matched in a single step rather than by a
+ * {@link SimpleDateFormatComponentLiteral} for each character.
+ */
+final class SimpleDateFormatComponentLiteralString extends SimpleDateFormatComponent {
+
+    static SimpleDateFormatComponentLiteralString with(final String text) {
+        return new SimpleDateFormatComponentLiteralString(text);
+    }
+
+    private SimpleDateFormatComponentLiteralString(final String text) {
+        super();
+        this.text = text;
+    }
+
+    @Override
+    final boolean isNumber() {
+        return false;// false because is a literal.
+    }
+
+    @Override
+    SimpleDateFormatComponent setNumberNext() {
+        return this; // dont care if followed by a number.
+    }
+
+    @Override
+    final boolean isDayConstant() {
+        return true;
+    }
+
+    @Override
+    void formatDate(final SimpleDateFormatFormatRequest request) {
+        request.text.append(this.text);
+    }
+
+    /**
+     * Matches each character in turn, leaving the position at the first character that does not match, just like a
+     * {@link SimpleDateFormatComponentLiteral} for each character.
+     */
+    @Override
+    void parseText(final SimpleDateFormatParseRequest request) {
+        final String text = request.text;
+        final int textLength = text.length();
+
+        final String literal = this.text;
+        final int literalLength = literal.length();
+
+        final ParsePosition position = request.position;
+        final int start = position.getIndex();
+        final int end = Math.min(start + literalLength, textLength);
+
+        int i = start;
+        while (i < end && literal.charAt(i - start) == text.charAt(i)) {
+            i++;
+        }
+
+        position.setIndex(i);
+        if (i < start + literalLength) {
+            position.setErrorIndex(i);
+        }
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.text.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || (other instanceof SimpleDateFormatComponentLiteralString && this.equals0((SimpleDateFormatComponentLiteralString) other));
+    }
+
+    private boolean equals0(final SimpleDateFormatComponentLiteralString other) {
+        return this.text.equals(other.text);
+    }
+
+    private final String text;
+
+    /**
+     * Returns the literal quoted as it would appear in a pattern.
+     */
+    @Override
+    public String toString() {
+        return '\'' + this.text.replace("'", "''") + '\'';
+    }
+}
@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentMilli extends SimpleDateFormatComponentNumb
         return this; // parsing will fail if a number follows a milli, maybe should honour $maxDigitLength
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
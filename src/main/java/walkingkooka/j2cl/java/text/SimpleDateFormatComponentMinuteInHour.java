@@ -42,6 +42,11 @@ final class SimpleDateFormatComponentMinuteInHour extends SimpleDateFormatCompon
         return new SimpleDateFormatComponentMinuteInHour(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
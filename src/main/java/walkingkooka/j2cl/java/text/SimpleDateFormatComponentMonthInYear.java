@@ -60,11 +60,16 @@ final class SimpleDateFormatComponentMonthInYear extends SimpleDateFormatCompone
                 this;
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        final int month = request.calendar.get(CALENDAR_FIELD);
+        final int month = request.get(CALENDAR_FIELD);
         final int length = this.length;
 
         switch(length) {
@@ -73,10 +78,10 @@ final class SimpleDateFormatComponentMonthInYear extends SimpleDateFormatCompone
                 this.formatNumericValue(request, month + 1, length);
                 break;
             case 3:
-                this.formatName(request, month, request.symbols.getShortMonths());
+                this.formatName(request, month, request.symbols.shortMonths);
                 break;
             default:
-                this.formatName(request, month, request.symbols.getMonths());
+                this.formatName(request, month, request.symbols.months);
                 break;
         }
     }
@@ -97,9 +102,8 @@ final class SimpleDateFormatComponentMonthInYear extends SimpleDateFormatCompone
                 final DateFormatSymbols symbols = request.symbols;
                 this.parseFromOptionsAndUpdateCalendar(request,
                         CALENDAR_FIELD,
-                        0,
-                        symbols.getMonths(),
-                        symbols.getShortMonths());
+                        symbols.monthsTrie(),
+                        symbols.shortMonthsTrie());
                 break;
         }
     }
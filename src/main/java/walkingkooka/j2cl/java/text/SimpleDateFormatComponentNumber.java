@@ -40,7 +40,9 @@ abstract class SimpleDateFormatComponentNumber extends SimpleDateFormatComponent
 
     @Override
     final void formatDate(final SimpleDateFormatFormatRequest request) {
-        this.formatCalendarFieldNumericValue(request, this.calendarField(), this::adjustReadValue, this.length);
+        this.formatNumericValue(request,
+                this.adjustReadValue(request.get(this.calendarField())),
+                this.length);
     }
 
     abstract int calendarField();
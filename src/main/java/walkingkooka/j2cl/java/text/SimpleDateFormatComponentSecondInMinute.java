@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentSecondInMinute extends SimpleDateFormatComp
         return new SimpleDateFormatComponentSecondInMinute(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false;
+    }
+
     // format...........................................................................................................
 
     @Override
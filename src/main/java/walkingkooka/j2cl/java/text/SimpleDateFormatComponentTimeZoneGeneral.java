@@ -35,9 +35,13 @@ final class SimpleDateFormatComponentTimeZoneGeneral extends SimpleDateFormatCom
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        request.text.append(request.calendar.getTimeZone()
-                .getDisplayName(request.daylightSavingTime,
-                        this.length < 4 ? TimeZone.SHORT : TimeZone.LONG));
+        final int style = this.length < 4 ? TimeZone.SHORT : TimeZone.LONG;
+        final SimpleDateFormatTimeZoneInterval interval = request.timeZoneInterval;
+
+        request.text.append(null != interval ?
+                interval.displayName(style) :
+                request.timeZone()
+                        .getDisplayName(request.daylightSavingTime(), style));
     }
 
     // SimpleDateFormatComponent........................................................................................
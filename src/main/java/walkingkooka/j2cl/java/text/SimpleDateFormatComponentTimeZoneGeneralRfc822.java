@@ -38,6 +38,11 @@ abstract class SimpleDateFormatComponentTimeZoneGeneralRfc822 extends SimpleDate
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    final boolean isDayConstant() {
+        return false; // the offset and daylight saving time may change during a day
+    }
+
     // parse............................................................................................................
 
     /**
@@ -121,7 +126,7 @@ abstract class SimpleDateFormatComponentTimeZoneGeneralRfc822 extends SimpleDate
             if(request.parseColonOrError()){
                 final int minutes = request.parseTwoDigitMinutesOrError(Math.min(position.getIndex() + 2, textLength));
                 if (false == request.isError()) {
-                    request.calendar.set(CALENDAR_FIELD, hoursMinutesToMillis(hours, minutes) * multiplier);
+                    request.setZoneOffset(hoursMinutesToMillis(hours, minutes) * multiplier);
                 }
             }
         }
@@ -135,7 +140,7 @@ abstract class SimpleDateFormatComponentTimeZoneGeneralRfc822 extends SimpleDate
         if (false == request.isError()) {
             final int minutes = request.parseTwoDigitMinutesOrError(failErrorIndex);
             if (false == request.isError()) {
-                request.calendar.set(CALENDAR_FIELD, hoursMinutesToMillis(hours, minutes) * multiplier);
+                request.setZoneOffset(hoursMinutesToMillis(hours, minutes) * multiplier);
             }
         }
     }
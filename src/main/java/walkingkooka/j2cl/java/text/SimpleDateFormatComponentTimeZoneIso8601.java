@@ -17,9 +17,6 @@
 
 package walkingkooka.j2cl.java.text;
 
-import java.util.Calendar;
-import java.util.TimeZone;
-
 final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatComponent2 {
 
     final static char LETTER = TIME_ZONE_ISO8601;
@@ -42,21 +39,29 @@ final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatCom
         return this; // dont care if followed by a number.
     }
 
+    @Override
+    boolean isDayConstant() {
+        return false; // the offset may change during a day
+    }
+
     // format...........................................................................................................
 
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        final Calendar calendar = request.calendar;
-        final TimeZone timeZone = calendar.getTimeZone();
+        final SimpleDateFormatTimeZoneInterval interval = request.timeZoneInterval;
+        if (null != interval) {
+            request.text.append(interval.iso8601(this.length));
+        } else {
+            formatOffset(request.offset(), this.length, request.text);
+        }
+    }
 
-        final int daylightSaving = timeZone.inDaylightTime(calendar.getTime()) ?
-                calendar.get(Calendar.DST_OFFSET) :
-                0;
-        final int offset = (calendar.get(Calendar.ZONE_OFFSET) + daylightSaving) / 36000;
+    static void formatOffset(final int totalOffset,
+                             final int length,
+                             final StringBuilder text) {
+        final int offset = totalOffset / 36000;
         final int absolute = Math.abs(offset);
 
-        final StringBuffer text = request.text;
-
         if (0 == offset) {
             text.append('Z');
         } else {
@@ -64,18 +69,18 @@ final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatCom
             final int hours = absolute / 100;
             final int minutes = (int)(((absolute - hours * 100f)/ 100f) * 60);
 
-            switch (this.length) {
+            switch (length) {
                 case 1:
-                    addDoubleDigit(hours, text); // ignore minutes component
+                    formatNumericValue(hours, 2, text); // ignore minutes component
                     break;
                 case 2:
-                    addDoubleDigit(hours, text);
-                    addDoubleDigit(minutes, text);
+                    formatNumericValue(hours, 2, text);
+                    formatNumericValue(minutes, 2, text);
                     break;
                 case 3:
-                    addDoubleDigit(hours, text);
+                    formatNumericValue(hours, 2, text);
                     text.append(':');
-                    addDoubleDigit(minutes, text);
+                    formatNumericValue(minutes, 2, text);
                     break;
                 default:
                     break;
@@ -83,13 +88,6 @@ final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatCom
         }
     }
 
-    private void addDoubleDigit(final int value, final StringBuffer text) {
-        if(value < 10) {
-            text.append('0');
-        }
-        text.append(value);
-    }
-
     // parse............................................................................................................
 
     @Override
@@ -160,7 +158,7 @@ final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatCom
         }
 
         if(false == request.isError()) {
-            request.calendar.set(CALENDAR_FIELD, value * multiplier);
+            request.setZoneOffset(value * multiplier);
         }
     }
 
@@ -197,8 +195,6 @@ final class SimpleDateFormatComponentTimeZoneIso8601 extends SimpleDateFormatCom
         return value;
     }
 
-    private final static int CALENDAR_FIELD = Calendar.ZONE_OFFSET;
-
     // SimpleDateFormatComponent........................................................................................
 
     @Override
@@ -17,10 +17,6 @@
 
 package walkingkooka.j2cl.java.text;
 
-import walkingkooka.j2cl.locale.Calendar;
-
-import java.sql.Date;
-
 final class SimpleDateFormatComponentTimeZoneRfc822 extends SimpleDateFormatComponentTimeZoneGeneralRfc822 {
 
     final static char LETTER = TIME_ZONE_RFC822;
@@ -35,14 +31,28 @@ final class SimpleDateFormatComponentTimeZoneRfc822 extends SimpleDateFormatComp
 
     // format...........................................................................................................
 
+    /**
+     * Formats the total offset including any daylight saving as a sign followed by two digit hours and minutes.
+     */
     @Override
     void formatDate(final SimpleDateFormatFormatRequest request) {
-        final int offset = request.calendar.get(CALENDAR_FIELD) / 36000;
-        request.text.append(offset < 0 ? '-' : '+');
+        final SimpleDateFormatTimeZoneInterval interval = request.timeZoneInterval;
+        if (null != interval) {
+            request.text.append(interval.rfc822());
+        } else {
+            formatOffset(request.offset(), request.text);
+        }
+    }
+
+    static void formatOffset(final int offset,
+                             final StringBuilder text) {
+        final int minutes = offset / (60 * 1000);
+        final int absolute = Math.abs(minutes);
+        text.append(minutes < 0 ? '-' : '+');
 
-        this.formatNumericValue(request,
-                offset,
-                4);
+        formatNumericValue(absolute / 60 * 100 + absolute % 60,
+                4,
+                text);
     }
 
     // SimpleDateFormatComponent........................................................................................
@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentWeekInMonth extends SimpleDateFormatCompone
         return new SimpleDateFormatComponentWeekInMonth(this.length, 1);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
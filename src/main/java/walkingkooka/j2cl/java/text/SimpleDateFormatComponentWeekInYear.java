@@ -39,6 +39,11 @@ final class SimpleDateFormatComponentWeekInYear extends SimpleDateFormatComponen
         return new SimpleDateFormatComponentWeekInYear(this.length, 2);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // format...........................................................................................................
 
     @Override
@@ -40,6 +40,11 @@ final class SimpleDateFormatComponentWeekYear extends SimpleDateFormatComponentN
         return new SimpleDateFormatComponentWeekYear(length, 2 == length ? 2 : 4);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // formatDate.......................................................................................................
 
     @Override
@@ -40,6 +40,11 @@ final class SimpleDateFormatComponentYear extends SimpleDateFormatComponentNumbe
         return new SimpleDateFormatComponentYear(length, 2 == length ? 2 : 4);
     }
 
+    @Override
+    boolean isDayConstant() {
+        return true;
+    }
+
     // formatDate.......................................................................................................
 
     @Override
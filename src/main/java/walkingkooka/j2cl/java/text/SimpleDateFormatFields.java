@@ -0,0 +1,298 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import walkingkooka.NeverError;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * The date and time fields of an instant, computed directly from the epoch millis and the total offset of a
+ * {@link TimeZone} using civil from days arithmetic, avoiding the cost of creating and computing a {@link Calendar}.
+ * Only the fields of the proleptic gregorian calendar are supported, week based fields and the split of the offset into
+ * {@link Calendar#ZONE_OFFSET} and {@link Calendar#DST_OFFSET} must be read from a {@link Calendar}.
+ */
+final class SimpleDateFormatFields {
+
+    /**
+     * 1583-01-01T00:00:00Z the first instant of the first complete gregorian year, the gregorian calendar starts at
+     * 1582-10-15 and the fields of the days of 1582 do not follow the usual rules.
+     */
+    final static long FIRST_GREGORIAN_YEAR = -12212553600000L;
+
+    final static long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    /**
+     * The number of days between 0000-03-01 and 1970-01-01.
+     */
+    private final static long DAYS_0000_03_01_TO_EPOCH = 719468;
+
+    private final static int DAYS_PER_400_YEARS = 146097;
+
+    /**
+     * Tests if the given epoch millis may be converted by this class, using a day of tolerance around the first
+     * complete gregorian year and {@link Long#MAX_VALUE} so any time zone offset may be added.
+     */
+    static boolean isSupported(final long epochMillis) {
+        return epochMillis >= FIRST_GREGORIAN_YEAR + MILLIS_PER_DAY &&
+                epochMillis <= Long.MAX_VALUE - MILLIS_PER_DAY;
+    }
+
+    /**
+     * Tests if the given {@link Calendar} field is computed by this class.
+     */
+    static boolean isSupported(final int calendarField) {
+        final boolean supported;
+
+        switch (calendarField) {
+            case Calendar.ERA:
+            case Calendar.YEAR:
+            case Calendar.MONTH:
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.DAY_OF_WEEK:
+            case Calendar.DAY_OF_WEEK_IN_MONTH:
+            case Calendar.AM_PM:
+            case Calendar.HOUR:
+            case Calendar.HOUR_OF_DAY:
+            case Calendar.MINUTE:
+            case Calendar.SECOND:
+            case Calendar.MILLISECOND:
+                supported = true;
+                break;
+            default:
+                supported = false;
+                break;
+        }
+
+        return supported;
+    }
+
+    static SimpleDateFormatFields with(final long epochMillis,
+                                       final TimeZone timeZone) {
+        return with(epochMillis, timeZone, timeZone.getOffset(epochMillis));
+    }
+
+    /**
+     * Creates the fields using an offset already known for the epoch millis, such as the offset of a
+     * {@link SimpleDateFormatTimeZoneInterval}.
+     */
+    static SimpleDateFormatFields with(final long epochMillis,
+                                       final TimeZone timeZone,
+                                       final int offset) {
+        return new SimpleDateFormatFields(epochMillis, timeZone, offset);
+    }
+
+    private SimpleDateFormatFields(final long epochMillis,
+                                   final TimeZone timeZone,
+                                   final int offset) {
+        super();
+
+        this.epochMillis = epochMillis;
+        this.timeZone = timeZone;
+        this.offset = offset;
+
+        final long local = epochMillis + offset;
+        final long days = Math.floorDiv(local, MILLIS_PER_DAY);
+
+        // civil from days, with years starting on the 1st of March so the leap day is the last day of the year.
+        final long shifted = days + DAYS_0000_03_01_TO_EPOCH;
+        final long era = Math.floorDiv(shifted, DAYS_PER_400_YEARS);
+        final int dayOfEra = (int) (shifted - era * DAYS_PER_400_YEARS); // 0..146096
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_400_YEARS - 1)) / 365; // 0..399
+        final int dayOfMarchYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100); // 0..365
+        final int marchMonth = (5 * dayOfMarchYear + 2) / 153; // 0..11 with 0 = March
+
+        final int month = marchMonth < 10 ? marchMonth + 2 : marchMonth - 10; // 0..11 with 0 = January
+        final long year = yearOfEra + era * 400 + (month < Calendar.MARCH ? 1 : 0);
+
+        this.month = month;
+        this.dayOfMonth = dayOfMarchYear - (153 * marchMonth + 2) / 5 + 1;
+        this.dayOfYear = month < Calendar.MARCH ?
+                dayOfMarchYear - 305 :
+                dayOfMarchYear + 60 + (isLeapYear(year) ? 1 : 0);
+        this.dayOfWeek = (int) Math.floorMod(days + Calendar.THURSDAY - 1, 7) + Calendar.SUNDAY; // 1970-01-01 was a thursday
+
+        if (year > 0) {
+            this.era = GregorianCalendar.AD;
+            this.year = (int) year;
+        } else {
+            this.era = GregorianCalendar.BC;
+            this.year = (int) (1 - year);
+        }
+
+        final int millisOfDay = (int) (local - days * MILLIS_PER_DAY);
+        this.hourOfDay = millisOfDay / (60 * 60 * 1000);
+        this.minute = millisOfDay / (60 * 1000) % 60;
+        this.second = millisOfDay / 1000 % 60;
+        this.millisecond = millisOfDay % 1000;
+    }
+
+    /**
+     * Returns the fields of another instant within the same day, which the caller must verify has the same offset,
+     * copying the date fields and only computing the time of day.
+     */
+    SimpleDateFormatFields sameDay(final long epochMillis) {
+        return new SimpleDateFormatFields(epochMillis, this);
+    }
+
+    private SimpleDateFormatFields(final long epochMillis,
+                                   final SimpleDateFormatFields day) {
+        super();
+
+        this.epochMillis = epochMillis;
+        this.timeZone = day.timeZone;
+        this.offset = day.offset;
+
+        this.era = day.era;
+        this.year = day.year;
+        this.month = day.month;
+        this.dayOfMonth = day.dayOfMonth;
+        this.dayOfYear = day.dayOfYear;
+        this.dayOfWeek = day.dayOfWeek;
+
+        final int millisOfDay = (int) Math.floorMod(epochMillis + day.offset, MILLIS_PER_DAY);
+        this.hourOfDay = millisOfDay / (60 * 60 * 1000);
+        this.minute = millisOfDay / (60 * 1000) % 60;
+        this.second = millisOfDay / 1000 % 60;
+        this.millisecond = millisOfDay % 1000;
+    }
+
+    /**
+     * Days from civil, the inverse of the arithmetic in the constructor, returning the epoch day of the first day of
+     * the given month, the month may be any value and is normalised into the year.
+     */
+    static long epochDay(final long year,
+                         final long month) {
+        final long normalizedYear = year + Math.floorDiv(month, 12);
+        final int normalizedMonth = (int) Math.floorMod(month, 12); // 0..11 with 0 = January
+
+        final long marchYear = normalizedYear - (normalizedMonth < Calendar.MARCH ? 1 : 0);
+        final long era = Math.floorDiv(marchYear, 400);
+        final int yearOfEra = (int) (marchYear - era * 400); // 0..399
+        final int marchMonth = normalizedMonth < Calendar.MARCH ? normalizedMonth + 10 : normalizedMonth - 2; // 0..11 with 0 = March
+        final int dayOfMarchYear = (153 * marchMonth + 2) / 5; // 0..365
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfMarchYear; // 0..146096
+
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_03_01_TO_EPOCH;
+    }
+
+    private static boolean isLeapYear(final long year) {
+        return 0 == (year & 3) && (0 != year % 100 || 0 == year % 400);
+    }
+
+    /**
+     * Returns the value of a supported {@link Calendar} field, matching the value returned by a
+     * {@link java.util.GregorianCalendar} with the same time and {@link TimeZone}.
+     */
+    int get(final int calendarField) {
+        final int value;
+
+        switch (calendarField) {
+            case Calendar.ERA:
+                value = this.era;
+                break;
+            case Calendar.YEAR:
+                value = this.year;
+                break;
+            case Calendar.MONTH:
+                value = this.month;
+                break;
+            case Calendar.DAY_OF_MONTH:
+                value = this.dayOfMonth;
+                break;
+            case Calendar.DAY_OF_YEAR:
+                value = this.dayOfYear;
+                break;
+            case Calendar.DAY_OF_WEEK:
+                value = this.dayOfWeek;
+                break;
+            case Calendar.DAY_OF_WEEK_IN_MONTH:
+                value = (this.dayOfMonth - 1) / 7 + 1;
+                break;
+            case Calendar.AM_PM:
+                value = this.hourOfDay < 12 ? Calendar.AM : Calendar.PM;
+                break;
+            case Calendar.HOUR:
+                value = this.hourOfDay % 12;
+                break;
+            case Calendar.HOUR_OF_DAY:
+                value = this.hourOfDay;
+                break;
+            case Calendar.MINUTE:
+                value = this.minute;
+                break;
+            case Calendar.SECOND:
+                value = this.second;
+                break;
+            case Calendar.MILLISECOND:
+                value = this.millisecond;
+                break;
+            default:
+                NeverError.unhandledCase(calendarField,
+                        Calendar.ERA,
+                        Calendar.YEAR,
+                        Calendar.MONTH,
+                        Calendar.DAY_OF_MONTH,
+                        Calendar.DAY_OF_YEAR,
+                        Calendar.DAY_OF_WEEK,
+                        Calendar.DAY_OF_WEEK_IN_MONTH,
+                        Calendar.AM_PM,
+                        Calendar.HOUR,
+                        Calendar.HOUR_OF_DAY,
+                        Calendar.MINUTE,
+                        Calendar.SECOND,
+                        Calendar.MILLISECOND);
+                value = -1;
+                break;
+        }
+
+        return value;
+    }
+
+    final long epochMillis;
+
+    final TimeZone timeZone;
+
+    /**
+     * The total offset of the time zone at this instant, the sum of {@link Calendar#ZONE_OFFSET} and {@link Calendar#DST_OFFSET}.
+     */
+    final int offset;
+
+    final int era;
+    final int year;
+    final int month;
+    final int dayOfMonth;
+    final int dayOfYear;
+    final int dayOfWeek;
+    final int hourOfDay;
+    final int minute;
+    final int second;
+    final int millisecond;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.year + "-" + (this.month + 1) + "-" + this.dayOfMonth + " " +
+                this.hourOfDay + ":" + this.minute + ":" + this.second + "." + this.millisecond + " " +
+                this.offset;
+    }
+}
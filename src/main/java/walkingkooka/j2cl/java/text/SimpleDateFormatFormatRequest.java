@@ -20,6 +20,9 @@ package walkingkooka.j2cl.java.text;
 import walkingkooka.text.CharSequences;
 
 import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * Captures the state and some values related to a {@link SimpleDateFormat} request.
@@ -27,33 +30,138 @@ import java.util.Calendar;
 final class SimpleDateFormatFormatRequest {
 
     static SimpleDateFormatFormatRequest with(final Calendar calendar,
-                                              final StringBuffer text,
+                                              final StringBuilder text,
                                               final DateFormatSymbols symbols,
                                               final boolean daylightSavingTime) {
-        return new SimpleDateFormatFormatRequest(calendar, text, symbols, daylightSavingTime);
+        return new SimpleDateFormatFormatRequest(calendar,
+                null,
+                null,
+                null,
+                text,
+                symbols,
+                daylightSavingTime);
+    }
+
+    /**
+     * Creates a request that reads most fields from the given {@link SimpleDateFormatFields}, only creating a
+     * {@link Calendar} when a field that is not supported is read. Daylight saving time and the text of time zones
+     * are read from the {@link SimpleDateFormatTimeZoneInterval} when present, otherwise only computed when required.
+     */
+    static SimpleDateFormatFormatRequest withFields(final SimpleDateFormatFields fields,
+                                                    final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                                                    final Locale locale,
+                                                    final StringBuilder text,
+                                                    final DateFormatSymbols symbols) {
+        return new SimpleDateFormatFormatRequest(null,
+                fields,
+                timeZoneInterval,
+                locale,
+                text,
+                symbols,
+                null != timeZoneInterval ?
+                        timeZoneInterval.daylightSavingTime :
+                        null);
     }
 
     private SimpleDateFormatFormatRequest(final Calendar calendar,
-                                          final StringBuffer text,
+                                          final SimpleDateFormatFields fields,
+                                          final SimpleDateFormatTimeZoneInterval timeZoneInterval,
+                                          final Locale locale,
+                                          final StringBuilder text,
                                           final DateFormatSymbols symbols,
-                                          final boolean daylightSavingTime) {
+                                          final Boolean daylightSavingTime) {
         super();
         this.calendar = calendar;
+        this.fields = fields;
+        this.timeZoneInterval = timeZoneInterval;
+        this.locale = locale;
         this.text = text;
         this.symbols = symbols;
         this.daylightSavingTime = daylightSavingTime;
     }
-    
-    final Calendar calendar;
 
-    final StringBuffer text;
+    /**
+     * Returns the value of the given {@link Calendar} field, using the {@link SimpleDateFormatFields} when present
+     * and the field is supported.
+     */
+    int get(final int calendarField) {
+        final SimpleDateFormatFields fields = this.fields;
+        return null != fields && SimpleDateFormatFields.isSupported(calendarField) ?
+                fields.get(calendarField) :
+                this.calendar().get(calendarField);
+    }
+
+    /**
+     * The total offset of the {@link TimeZone} for this date, which is the sum of the {@link Calendar#ZONE_OFFSET} and
+     * {@link Calendar#DST_OFFSET}.
+     */
+    int offset() {
+        final SimpleDateFormatFields fields = this.fields;
+        final int offset;
+
+        if (null != fields) {
+            offset = fields.offset;
+        } else {
+            final Calendar calendar = this.calendar;
+            offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+        }
+        return offset;
+    }
+
+    TimeZone timeZone() {
+        final SimpleDateFormatFields fields = this.fields;
+        return null != fields ?
+                fields.timeZone :
+                this.calendar.getTimeZone();
+    }
+
+    /**
+     * Returns the {@link Calendar}, creating it from the {@link SimpleDateFormatFields} on the first call.
+     */
+    Calendar calendar() {
+        Calendar calendar = this.calendar;
+        if (null == calendar) {
+            final SimpleDateFormatFields fields = this.fields;
+            calendar = Calendar.getInstance(fields.timeZone, this.locale);
+            calendar.setTimeInMillis(fields.epochMillis);
+            this.calendar = calendar;
+        }
+        return calendar;
+    }
+
+    private Calendar calendar;
+
+    private final SimpleDateFormatFields fields;
+
+    /**
+     * When present holds the offset, daylight saving time and the text of the time zone components.
+     */
+    final SimpleDateFormatTimeZoneInterval timeZoneInterval;
+
+    private final Locale locale;
+
+    final StringBuilder text;
 
     final DateFormatSymbols symbols;
 
-    boolean daylightSavingTime;
+    /**
+     * Returns true if the date is in daylight saving time. For requests with fields this is computed on the first
+     * call, creating the only {@link Date} because {@link TimeZone#inDaylightTime(Date)} has no epoch millis overload.
+     */
+    boolean daylightSavingTime() {
+        Boolean daylightSavingTime = this.daylightSavingTime;
+        if (null == daylightSavingTime) {
+            final SimpleDateFormatFields fields = this.fields;
+            daylightSavingTime = fields.timeZone.inDaylightTime(new Date(fields.epochMillis));
+            this.daylightSavingTime = daylightSavingTime;
+        }
+        return daylightSavingTime;
+    }
+
+    private Boolean daylightSavingTime;
 
     @Override
     public String toString() {
-        return this.calendar + " " + CharSequences.quoteAndEscape(this.text) + " " + symbols + " " + daylightSavingTime;
+        return (null != this.calendar ? this.calendar : this.fields) + " " + CharSequences.quoteAndEscape(this.text) + " " + symbols + " " + this.daylightSavingTime();
     }
 }
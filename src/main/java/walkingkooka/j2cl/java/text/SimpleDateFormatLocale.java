@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import java.util.Locale;
+
+/**
+ * Holds the date, date time and time patterns for a single {@link Locale}, each {@link SimpleDateFormat} is only created
+ * the first time its style is requested and then cached.
+ */
+final class SimpleDateFormatLocale {
+
+    static SimpleDateFormatLocale with(final Locale locale,
+                                       final String[] patterns) {
+        return new SimpleDateFormatLocale(locale, patterns);
+    }
+
+    private SimpleDateFormatLocale(final Locale locale,
+                                   final String[] patterns) {
+        super();
+        this.locale = locale;
+        this.patterns = patterns;
+        this.instances = new SimpleDateFormat[patterns.length];
+    }
+
+    /**
+     * Returns the cached {@link SimpleDateFormat} at the given index, creating it on first use. Callers should clone
+     * the returned instance before giving it out. Synchronized so every thread sees a prototype only after it is fully
+     * created.
+     */
+    synchronized SimpleDateFormat get(final int index) {
+        SimpleDateFormat instance = this.instances[index];
+        if (null == instance) {
+            instance = new SimpleDateFormat(this.patterns[index], this.locale);
+            instance.formatData.buildTries(); // shared by every clone
+            this.instances[index] = instance;
+        }
+        return instance;
+    }
+
+    private final Locale locale;
+
+    /**
+     * The patterns, shared by all locales in the same provider record.
+     */
+    private final String[] patterns;
+
+    /**
+     * Each element is created the first time {@link #get(int)} is called with its index, only read and written while
+     * holding the lock of this instance.
+     */
+    private final SimpleDateFormat[] instances;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.locale.toString();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Gathers the {@link Calendar} fields set by the {@link SimpleDateFormatComponent components} during a parse into
+ * primitive slots, so the epoch millis of the common field combinations may be computed with days from civil
+ * arithmetic instead of a {@link Calendar}. The order fields were set is recorded, so fields may be copied to a
+ * {@link Calendar} when that is not possible, and the {@link Calendar} resolves conflicting fields in the same way.
+ */
+final class SimpleDateFormatParseFields {
+
+    static SimpleDateFormatParseFields empty() {
+        return new SimpleDateFormatParseFields();
+    }
+
+    private SimpleDateFormatParseFields() {
+        super();
+    }
+
+    /**
+     * Records the value of a {@link Calendar} field.
+     */
+    void set(final int calendarField,
+             final int value) {
+        this.values[calendarField] = value;
+        this.stamps[calendarField] = ++this.stamp;
+    }
+
+    private boolean isSet(final int calendarField) {
+        return UNSET != this.stamps[calendarField];
+    }
+
+    /**
+     * Tests if the epoch millis may be computed without a {@link Calendar}, which requires only the fields of a date
+     * and a time, and either a parsed zone offset or a {@link TimeZone} whose offset does not change within a day of
+     * the parsed local time.
+     */
+    boolean isSupported(final TimeZone timeZone) {
+        boolean supported = true;
+
+        for (int i = 0; supported && i < Calendar.FIELD_COUNT; i++) {
+            if (this.isSet(i)) {
+                switch (i) {
+                    case Calendar.ERA:
+                        supported = GregorianCalendar.AD == this.values[i];
+                        break;
+                    case Calendar.YEAR:
+                        final int year = this.values[i];
+                        supported = year >= FIRST_YEAR && year <= LAST_YEAR;
+                        break;
+                    case Calendar.DAY_OF_WEEK:
+                        // ignored by the calendar when the day of month is also present
+                        supported = this.isSet(Calendar.DAY_OF_MONTH);
+                        break;
+                    case Calendar.MONTH:
+                    case Calendar.DAY_OF_MONTH:
+                    case Calendar.AM_PM:
+                    case Calendar.HOUR:
+                    case Calendar.HOUR_OF_DAY:
+                    case Calendar.MINUTE:
+                    case Calendar.SECOND:
+                    case Calendar.MILLISECOND:
+                        break;
+                    case Calendar.ZONE_OFFSET:
+                    case Calendar.DST_OFFSET:
+                        // a calendar fills a missing half from the time zone
+                        supported = this.isSet(Calendar.ZONE_OFFSET) && this.isSet(Calendar.DST_OFFSET);
+                        break;
+                    default:
+                        supported = false;
+                        break;
+                }
+            }
+        }
+
+        if (supported) {
+            final long local = this.localMillis();
+            supported = SimpleDateFormatFields.isSupported(local);
+
+            if (supported && false == this.isSet(Calendar.ZONE_OFFSET)) {
+                final int offset = timeZone.getOffset(local);
+                supported = offset == timeZone.getOffset(local - SimpleDateFormatFields.MILLIS_PER_DAY) &&
+                        offset == timeZone.getOffset(local + SimpleDateFormatFields.MILLIS_PER_DAY) &&
+                        offset == timeZone.getOffset(local - offset);
+            }
+        }
+
+        return supported;
+    }
+
+    /**
+     * The year range that is computed without a {@link Calendar}, the upper limit keeps the arithmetic well within a long.
+     */
+    private final static int FIRST_YEAR = 1583;
+    private final static int LAST_YEAR = 1_000_000;
+
+    /**
+     * Computes the epoch millis of the gathered fields, this should only be called after {@link #isSupported(TimeZone)}
+     * returns true.
+     */
+    long epochMillis(final TimeZone timeZone) {
+        final long local = this.localMillis();
+
+        return local - (this.isSet(Calendar.ZONE_OFFSET) ?
+                this.values[Calendar.ZONE_OFFSET] + this.values[Calendar.DST_OFFSET] :
+                timeZone.getOffset(local));
+    }
+
+    /**
+     * Computes the local millis, resolving the hour fields and normalising out of range values like a lenient
+     * {@link GregorianCalendar}.
+     */
+    private long localMillis() {
+        final int[] values = this.values;
+
+        final long year = this.isSet(Calendar.YEAR) ?
+                values[Calendar.YEAR] :
+                EPOCH_YEAR;
+        final long days = SimpleDateFormatFields.epochDay(year, values[Calendar.MONTH]) +
+                (this.isSet(Calendar.DAY_OF_MONTH) ? values[Calendar.DAY_OF_MONTH] - 1 : 0);
+
+        final int[] stamps = this.stamps;
+        final int hourStamp = this.isSet(Calendar.HOUR) && this.isSet(Calendar.AM_PM) ?
+                Math.max(stamps[Calendar.HOUR], stamps[Calendar.AM_PM]) :
+                UNSET;
+
+        final long hours;
+        if (this.isSet(Calendar.HOUR_OF_DAY) && stamps[Calendar.HOUR_OF_DAY] >= hourStamp) {
+            hours = values[Calendar.HOUR_OF_DAY];
+        } else {
+            hours = values[Calendar.HOUR] + 12L * values[Calendar.AM_PM];
+        }
+
+        return days * SimpleDateFormatFields.MILLIS_PER_DAY +
+                ((hours * 60 + values[Calendar.MINUTE]) * 60 + values[Calendar.SECOND]) * 1000 +
+                values[Calendar.MILLISECOND];
+    }
+
+    private final static int EPOCH_YEAR = 1970;
+
+    /**
+     * Sets the gathered fields on a cleared {@link Calendar} in the order they were parsed.
+     */
+    void copyTo(final Calendar calendar) {
+        final int[] stamps = this.stamps;
+        final int[] values = this.values;
+
+        int previous = UNSET;
+        for (;;) {
+            int next = -1;
+            for (int i = 0; i < Calendar.FIELD_COUNT; i++) {
+                final int stamp = stamps[i];
+                if (stamp > previous && (-1 == next || stamp < stamps[next])) {
+                    next = i;
+                }
+            }
+            if (-1 == next) {
+                break;
+            }
+            calendar.set(next, values[next]);
+            previous = stamps[next];
+        }
+    }
+
+    private final int[] values = new int[Calendar.FIELD_COUNT];
+
+    /**
+     * The stamp of the last set for each field, with larger values set later, an unset field has {@link #UNSET}.
+     */
+    private final int[] stamps = new int[Calendar.FIELD_COUNT];
+
+    private final static int UNSET = 0;
+
+    private int stamp;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+
+        final int[] stamps = this.stamps;
+        for (int i = 0; i < Calendar.FIELD_COUNT; i++) {
+            if (UNSET != stamps[i]) {
+                if (b.length() > 0) {
+                    b.append(", ");
+                }
+                b.append(i).append('=').append(this.values[i]);
+            }
+        }
+
+        return b.toString();
+    }
+}
@@ -32,19 +32,33 @@ final class SimpleDateFormatParseRequest {
             final Calendar calendar,
             final int twoDigitDate,
             final DateFormatSymbols symbols) {
-        return new SimpleDateFormatParseRequest(text, position, calendar, twoDigitDate, symbols);
+        return new SimpleDateFormatParseRequest(text, position, calendar, null, twoDigitDate, symbols);
+    }
+
+    /**
+     * Creates a request that gathers the parsed fields into a {@link SimpleDateFormatParseFields} without a {@link Calendar}.
+     */
+    static SimpleDateFormatParseRequest withFields(
+            final String text,
+            final ParsePosition position,
+            final SimpleDateFormatParseFields fields,
+            final int twoDigitDate,
+            final DateFormatSymbols symbols) {
+        return new SimpleDateFormatParseRequest(text, position, null, fields, twoDigitDate, symbols);
     }
 
     private SimpleDateFormatParseRequest(
             final String text,
             ParsePosition position,
             final Calendar calendar,
+            final SimpleDateFormatParseFields fields,
             final int twoDigitDate,
             final DateFormatSymbols symbols) {
         super();
         this.text = text;
         this.position = position;
         this.calendar = calendar;
+        this.fields = fields;
 
         final int century = twoDigitDate / 100 * 100;
         this.twoDigitRollOver = twoDigitDate - century;
@@ -61,8 +75,38 @@ final class SimpleDateFormatParseRequest {
 
     final ParsePosition position;
 
+    /**
+     * Sets a parsed {@link Calendar} field on either the {@link Calendar} or the {@link SimpleDateFormatParseFields}.
+     */
+    void set(final int calendarField,
+             final int value) {
+        final SimpleDateFormatParseFields fields = this.fields;
+        if (null != fields) {
+            fields.set(calendarField, value);
+        } else {
+            this.calendar.set(calendarField, value);
+        }
+    }
+
+    /**
+     * Sets a parsed zone offset, the {@link Calendar#DST_OFFSET} is cleared just like the JDK, so the daylight saving
+     * of the {@link java.util.TimeZone} is not also added.
+     */
+    void setZoneOffset(final int offset) {
+        this.set(Calendar.ZONE_OFFSET, offset);
+        this.set(Calendar.DST_OFFSET, 0);
+    }
+
+    /**
+     * The {@link Calendar} receiving fields, or null when the fields are gathered by {@link #fields}.
+     */
     final Calendar calendar;
 
+    /**
+     * The {@link SimpleDateFormatParseFields} receiving fields, or null when a {@link Calendar} is updated.
+     */
+    final SimpleDateFormatParseFields fields;
+
     final int adjustTwoDigitYear(final int value) {
         return value +
                 this.twoDigitCentury +
@@ -277,10 +321,18 @@ final class SimpleDateFormatParseRequest {
 
     private final static boolean IGNORE_CASE = true;
 
+    /**
+     * Finds the longest name in the {@link DateFormatSymbolsTrie} at the current position, advancing the position and
+     * returning its index, or returns -1.
+     */
+    final int bestMatch(final DateFormatSymbolsTrie possibles) {
+        return possibles.longestMatch(this.text, this.position);
+    }
+
     // Object...........................................................................................................
 
     @Override
     public String toString() {
-        return CharSequences.quoteAndEscape(this.text) + " " + this.position + " " + this.calendar.getTime().toGMTString() + " twoDigitCentury: " + twoDigitCentury + " twoDigitRollOver: " + this.twoDigitRollOver;
+        return CharSequences.quoteAndEscape(this.text) + " " + this.position + " " + (null != this.fields ? this.fields : this.calendar.getTime().toGMTString()) + " twoDigitCentury: " + twoDigitCentury + " twoDigitRollOver: " + this.twoDigitRollOver;
     }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * An immutable interval of epoch millis during which a {@link TimeZone} has the same total offset and daylight saving
+ * time, with the text of the time zone components computed once on first use. Formatting any instant within the
+ * interval requires no evaluation of the time zone rules.
+ * <br>
+ * The interval around an instant is found by comparing the offset and daylight saving time a day either side, using a
+ * binary search when they differ, assuming no time zone changes twice within a day. When the previous interval has the
+ * same values and ends or starts within a day of the instant, it is extended rather than probed again, so a stream of
+ * increasing timestamps probes about once a day.
+ * <br>
+ * The {@link TimeZone} is compared by identity and is assumed not to be modified, so intervals are only kept by
+ * {@link SimpleDateFormatCompiled} which holds a private copy. The default {@link Locale}, which selects the display
+ * names, is captured when the interval is created.
+ */
+final class SimpleDateFormatTimeZoneInterval {
+
+    /**
+     * Returns the given interval if it holds the epoch millis of the same {@link TimeZone}, otherwise a new interval.
+     */
+    static SimpleDateFormatTimeZoneInterval get(final SimpleDateFormatTimeZoneInterval interval,
+                                                final TimeZone timeZone,
+                                                final long epochMillis) {
+        return null != interval && interval.test(timeZone, epochMillis) ?
+                interval :
+                with(timeZone, epochMillis, interval);
+    }
+
+    /**
+     * Finds the interval holding the epoch millis, which must be at least a day from {@link Long#MIN_VALUE} and
+     * {@link Long#MAX_VALUE}, extending the previous interval when possible.
+     */
+    static SimpleDateFormatTimeZoneInterval with(final TimeZone timeZone,
+                                                 final long epochMillis,
+                                                 final SimpleDateFormatTimeZoneInterval previous) {
+        final int offset = timeZone.getOffset(epochMillis);
+        final boolean daylightSavingTime = timeZone.inDaylightTime(new Date(epochMillis));
+        final Locale locale = Locale.getDefault();
+
+        final boolean extend = null != previous &&
+                previous.timeZone == timeZone &&
+                previous.locale == locale &&
+                previous.offset == offset &&
+                previous.daylightSavingTime == daylightSavingTime;
+
+        final long start;
+        if (extend && epochMillis >= previous.end && epochMillis - (previous.end - 1) < MILLIS_PER_DAY) {
+            start = previous.start;
+        } else {
+            final long dayBefore = epochMillis - MILLIS_PER_DAY + 1;
+            if (same(timeZone, dayBefore, offset, daylightSavingTime)) {
+                start = dayBefore;
+            } else {
+                long different = dayBefore;
+                long same = epochMillis;
+                while (same - different > 1) {
+                    final long middle = different + (same - different) / 2;
+                    if (same(timeZone, middle, offset, daylightSavingTime)) {
+                        same = middle;
+                    } else {
+                        different = middle;
+                    }
+                }
+                start = same;
+            }
+        }
+
+        final long end;
+        if (extend && epochMillis < previous.start && previous.start - epochMillis < MILLIS_PER_DAY) {
+            end = previous.end;
+        } else {
+            final long dayAfter = epochMillis + MILLIS_PER_DAY - 1;
+            if (same(timeZone, dayAfter, offset, daylightSavingTime)) {
+                end = dayAfter + 1;
+            } else {
+                long same = epochMillis;
+                long different = dayAfter;
+                while (different - same > 1) {
+                    final long middle = same + (different - same) / 2;
+                    if (same(timeZone, middle, offset, daylightSavingTime)) {
+                        same = middle;
+                    } else {
+                        different = middle;
+                    }
+                }
+                end = different;
+            }
+        }
+
+        return new SimpleDateFormatTimeZoneInterval(timeZone,
+                locale,
+                start,
+                end,
+                offset,
+                daylightSavingTime);
+    }
+
+    private final static long MILLIS_PER_DAY = SimpleDateFormatFields.MILLIS_PER_DAY;
+
+    private static boolean same(final TimeZone timeZone,
+                                final long epochMillis,
+                                final int offset,
+                                final boolean daylightSavingTime) {
+        return timeZone.getOffset(epochMillis) == offset &&
+                timeZone.inDaylightTime(new Date(epochMillis)) == daylightSavingTime;
+    }
+
+    private SimpleDateFormatTimeZoneInterval(final TimeZone timeZone,
+                                             final Locale locale,
+                                             final long start,
+                                             final long end,
+                                             final int offset,
+                                             final boolean daylightSavingTime) {
+        super();
+
+        this.timeZone = timeZone;
+        this.locale = locale;
+        this.start = start;
+        this.end = end;
+        this.offset = offset;
+        this.daylightSavingTime = daylightSavingTime;
+    }
+
+    /**
+     * Tests if this interval holds the epoch millis of the given {@link TimeZone} and the default {@link Locale} is
+     * unchanged.
+     */
+    boolean test(final TimeZone timeZone,
+                 final long epochMillis) {
+        return this.timeZone == timeZone &&
+                epochMillis >= this.start &&
+                epochMillis < this.end &&
+                this.locale == Locale.getDefault();
+    }
+
+    /**
+     * Returns the display name for {@link TimeZone#SHORT} or {@link TimeZone#LONG}.
+     */
+    String displayName(final int style) {
+        String displayName = TimeZone.SHORT == style ?
+                this.shortDisplayName :
+                this.longDisplayName;
+        if (null == displayName) {
+            displayName = this.timeZone.getDisplayName(this.daylightSavingTime, style);
+            if (TimeZone.SHORT == style) {
+                this.shortDisplayName = displayName;
+            } else {
+                this.longDisplayName = displayName;
+            }
+        }
+        return displayName;
+    }
+
+    /**
+     * Returns the offset formatted by {@link SimpleDateFormatComponentTimeZoneRfc822}.
+     */
+    String rfc822() {
+        String rfc822 = this.rfc822;
+        if (null == rfc822) {
+            final StringBuilder text = new StringBuilder();
+            SimpleDateFormatComponentTimeZoneRfc822.formatOffset(this.offset, text);
+            rfc822 = text.toString();
+            this.rfc822 = rfc822;
+        }
+        return rfc822;
+    }
+
+    /**
+     * Returns the offset formatted by {@link SimpleDateFormatComponentTimeZoneIso8601} with the given pattern length.
+     */
+    String iso8601(final int length) {
+        final String[] iso8601 = this.iso8601;
+        String text = iso8601[length - 1];
+        if (null == text) {
+            final StringBuilder b = new StringBuilder();
+            SimpleDateFormatComponentTimeZoneIso8601.formatOffset(this.offset, length, b);
+            text = b.toString();
+            iso8601[length - 1] = text;
+        }
+        return text;
+    }
+
+    final TimeZone timeZone;
+
+    /**
+     * The default {@link Locale} when this interval was created.
+     */
+    private final Locale locale;
+
+    /**
+     * The first epoch millis of the interval, inclusive.
+     */
+    final long start;
+
+    /**
+     * The end of the interval, exclusive.
+     */
+    final long end;
+
+    /**
+     * The total offset of the time zone during this interval.
+     */
+    final int offset;
+
+    final boolean daylightSavingTime;
+
+    /*
+     * The texts below are computed on first use. Like {@link String#hashCode()} a thread may compute a text again,
+     * the result is always the same.
+     */
+
+    private String shortDisplayName;
+
+    private String longDisplayName;
+
+    private String rfc822;
+
+    /**
+     * Indexed by the pattern length of a {@link SimpleDateFormatComponentTimeZoneIso8601} less one.
+     */
+    private final String[] iso8601 = new String[4];
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.timeZone.getID() + " " + this.start + ".." + this.end + " " + this.offset +
+                (this.daylightSavingTime ? " daylightSavingTime" : "");
+    }
+}
@@ -36,6 +36,7 @@ import java.util.function.Predicate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class DateFormatSymbolsTest extends JavaTextTestCase<DateFormatSymbols>
         implements
@@ -207,6 +208,59 @@ public final class DateFormatSymbolsTest extends JavaTextTestCase<DateFormatSymb
         }
     }
 
+    // trie.............................................................................................................
+
+    @Test
+    public void testMonthsTrieCached() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE);
+        assertSame(symbols.monthsTrie(), symbols.monthsTrie());
+    }
+
+    @Test
+    public void testTriesSharedByClone() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE).buildTries();
+        final DateFormatSymbols clone = symbols.clone();
+
+        assertSame(symbols.ampmTrie(), clone.ampmTrie(), "ampm");
+        assertSame(symbols.erasTrie(), clone.erasTrie(), "eras");
+        assertSame(symbols.monthsTrie(), clone.monthsTrie(), "months");
+        assertSame(symbols.shortMonthsTrie(), clone.shortMonthsTrie(), "shortMonths");
+        assertSame(symbols.shortWeekdaysTrie(), clone.shortWeekdaysTrie(), "shortWeekdays");
+        assertSame(symbols.weekdaysTrie(), clone.weekdaysTrie(), "weekdays");
+    }
+
+    @Test
+    public void testCloneBuildsTriesInCopy() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE);
+        final DateFormatSymbols clone = symbols.clone();
+
+        final DateFormatSymbolsTrie months = clone.monthsTrie();
+        assertNotSame(months, symbols.monthsTrie(), "trie built by the clone must not be given to the source");
+        assertEquals(months.toString(), symbols.monthsTrie().toString());
+    }
+
+    @Test
+    public void testBuildTries() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE);
+        assertSame(symbols, symbols.buildTries());
+    }
+
+    @Test
+    public void testSetAmPmStringsRebuildsTrie() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE);
+        symbols.ampmTrie();
+        symbols.setAmPmStrings(new String[]{"X", "Y"});
+        assertEquals("x=0, y=1", symbols.ampmTrie().toString());
+    }
+
+    @Test
+    public void testSetWeekdaysRebuildsTrieSkipsFirst() {
+        final DateFormatSymbols symbols = new DateFormatSymbols(Locale.FRANCE);
+        symbols.weekdaysTrie();
+        symbols.setWeekdays(new String[]{"skipped", "A", "B", "C", "D", "E", "F", "G"});
+        assertEquals("a=1, b=2, c=3, d=4, e=5, f=6, g=7", symbols.weekdaysTrie().toString());
+    }
+
     // equals...........................................................................................................
 
     @Test
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CharSequences;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class DateFormatSymbolsTrieTest implements ClassTesting2<DateFormatSymbolsTrie>,
+        ToStringTesting<DateFormatSymbolsTrie> {
+
+    /**
+     * A trie is shared by threads without synchronization, which is only safe when every field is final.
+     */
+    @Test
+    public void testFieldsFinal() {
+        for (final Field field : DateFormatSymbolsTrie.class.getDeclaredFields()) {
+            assertEquals(true, Modifier.isFinal(field.getModifiers()), () -> field.toString());
+        }
+    }
+
+    @Test
+    public void testLongestMatchNone() {
+        this.longestMatchAndCheck(new String[]{"hello"}, "abc", 0, -1);
+    }
+
+    @Test
+    public void testLongestMatchPartial() {
+        this.longestMatchAndCheck(new String[]{"hello"}, "hel", 0, -1);
+    }
+
+    @Test
+    public void testLongestMatchEmptyText() {
+        this.longestMatchAndCheck(new String[]{"hello"}, "", 0, -1);
+    }
+
+    @Test
+    public void testLongestMatchPositionEnd() {
+        this.longestMatchAndCheck(new String[]{"abc"}, "abc", 3, -1);
+    }
+
+    @Test
+    public void testLongestMatch() {
+        this.longestMatchAndCheck(new String[]{"x", "abc"}, "abcdef", 0, 1);
+    }
+
+    @Test
+    public void testLongestMatchAtPosition() {
+        this.longestMatchAndCheck(new String[]{"x", "abc"}, "!abcdef", 1, 1);
+    }
+
+    @Test
+    public void testLongestMatchIgnoresCase() {
+        this.longestMatchAndCheck(new String[]{"January", "February"}, "FEBRUARY 2000", 0, 1);
+    }
+
+    @Test
+    public void testLongestMatchIgnoresCase2() {
+        this.longestMatchAndCheck(new String[]{"MAI", "JUIN"}, "juin", 0, 1);
+    }
+
+    @Test
+    public void testLongestMatchIgnoresCaseNonAscii() {
+        this.longestMatchAndCheck(new String[]{"janv.", "févr."}, "FÉVR.", 0, 1);
+    }
+
+    @Test
+    public void testLongestMatchIgnoresEmpties() {
+        this.longestMatchAndCheck(new String[]{"", "", "abc"}, "!abcdef", 1, 2);
+    }
+
+    @Test
+    public void testLongestMatchLongerAfter() {
+        this.longestMatchAndCheck(new String[]{"x", "abc", "y", "abcd"}, "!abcdef", 1, 3);
+    }
+
+    @Test
+    public void testLongestMatchLongerBefore() {
+        this.longestMatchAndCheck(new String[]{"x", "abcd", "y", "abc"}, "!abcdef", 1, 1);
+    }
+
+    @Test
+    public void testLongestMatchShorterWhenLongerIncomplete() {
+        this.longestMatchAndCheck(new String[]{"abc", "abcdz"}, "abcdef", 0, 0);
+    }
+
+    @Test
+    public void testLongestMatchDuplicateFirst() {
+        this.longestMatchAndCheck(new String[]{"abc", "ABC"}, "abc", 0, 0);
+    }
+
+    @Test
+    public void testLongestMatchStartIndex() {
+        this.longestMatchAndCheck(new String[]{"abc"}, 1, "abc", 0, -1);
+    }
+
+    @Test
+    public void testLongestMatchCharBuffer() {
+        final DateFormatSymbolsTrie trie = DateFormatSymbolsTrie.with(new String[]{"am", "pm"}, 0);
+        final ParsePosition position = new ParsePosition(1);
+        assertEquals(1, trie.longestMatch(CharBuffer.wrap("!PM!"), position));
+        assertEquals(3, position.getIndex(), "index");
+    }
+
+    private void longestMatchAndCheck(final String[] values,
+                                      final String text,
+                                      final int index,
+                                      final int expected) {
+        this.longestMatchAndCheck(values, 0, text, index, expected);
+    }
+
+    private void longestMatchAndCheck(final String[] values,
+                                      final int startIndex,
+                                      final String text,
+                                      final int index,
+                                      final int expected) {
+        final ParsePosition position = new ParsePosition(index);
+        assertEquals(expected,
+                DateFormatSymbolsTrie.with(values, startIndex).longestMatch(text, position),
+                () -> "longestMatch " + Arrays.toString(values) + " " + CharSequences.quoteAndEscape(text) + " index: " + index);
+        assertEquals(-1 == expected ? index : index + values[expected].length(),
+                position.getIndex(),
+                () -> "position index " + Arrays.toString(values) + " " + CharSequences.quoteAndEscape(text));
+        assertEquals(-1,
+                position.getErrorIndex(),
+                () -> "position errorIndex " + Arrays.toString(values) + " " + CharSequences.quoteAndEscape(text));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(DateFormatSymbolsTrie.with(new String[]{"", "Sun", "Sunday", "Mon"}, 0),
+                "sun=1, sunday=2, mon=3");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DateFormatSymbolsTrie> type() {
+        return DateFormatSymbolsTrie.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -22,6 +22,7 @@ import walkingkooka.predicate.Predicates;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Date;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -57,7 +58,27 @@ public final class DateFormatTest extends JavaTextTestCase<DateFormat> {
 
     @Override
     public Predicate<Method> requiredMethods() {
-        return Predicates.always();
+        return (m) -> {
+            final boolean required;
+
+            switch (m.getName()) {
+                case "format":
+                    // format(Object|Date|long, StringBuilder) and format(Date|long, Appendable) are emulation only
+                    required = false == isDateFormatToStringBuilderOrAppendable(m.getParameterTypes());
+                    break;
+                default:
+                    required = true;
+                    break;
+            }
+
+            return required;
+        };
+    }
+
+    private static boolean isDateFormatToStringBuilderOrAppendable(final Class<?>[] parameters) {
+        return 2 == parameters.length &&
+                (Object.class == parameters[0] || Date.class == parameters[0] || long.class == parameters[0]) &&
+                (StringBuilder.class == parameters[1] || Appendable.class == parameters[1]);
     }
 
     @Override
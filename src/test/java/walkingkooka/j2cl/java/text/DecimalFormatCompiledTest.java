@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class DecimalFormatCompiledTest implements ClassTesting2<DecimalFormatCompiled>,
+        ToStringTesting<DecimalFormatCompiled> {
+
+    private final static Locale EN_AU = Locale.forLanguageTag("EN-AU");
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatLong() {
+        this.formatAndCheck("#,##0.###", 1234567L);
+    }
+
+    @Test
+    public void testFormatLongNegative() {
+        this.formatAndCheck("#,##0.###", -1234567L);
+    }
+
+    @Test
+    public void testFormatLongMinValue() {
+        this.formatAndCheck("#,##0.###", Long.MIN_VALUE);
+    }
+
+    @Test
+    public void testFormatLongPercent() {
+        this.formatAndCheck("#,##0%", 12L);
+    }
+
+    @Test
+    public void testFormatLongScientific() {
+        this.formatAndCheck("0.###E0", 1234567L);
+    }
+
+    @Test
+    public void testFormatDouble() {
+        this.formatAndCheck("#,##0.###", 1234.5);
+    }
+
+    @Test
+    public void testFormatDoubleNegative() {
+        this.formatAndCheck("#,##0.###", -1234.5);
+    }
+
+    @Test
+    public void testFormatDoubleRounding() {
+        this.formatAndCheck("#,##0.##", 1.125);
+    }
+
+    @Test
+    public void testFormatDoubleMinimumFractionDigits() {
+        this.formatAndCheck("0.000", 1.5);
+    }
+
+    @Test
+    public void testFormatDoublePrefixSuffix() {
+        this.formatAndCheck("P#,##0.###S;N#,##0.###M", -1234.5);
+    }
+
+    @Test
+    public void testFormatDoubleScientific() {
+        this.formatAndCheck("0.###E0", 0.0001234);
+    }
+
+    @Test
+    public void testFormatDoubleNan() {
+        this.formatAndCheck("#,##0.###", Double.NaN);
+    }
+
+    @Test
+    public void testFormatDoublePositiveInfinity() {
+        this.formatAndCheck("#,##0.###", Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testFormatDoubleNegativeInfinity() {
+        this.formatAndCheck("#,##0.###", Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    public void testFormatCustomZeroDigit() {
+        final String pattern = "#,##0.###";
+
+        final java.text.DecimalFormatSymbols jdkSymbols = new java.text.DecimalFormatSymbols(EN_AU);
+        jdkSymbols.setZeroDigit('A');
+
+        final DecimalFormatSymbols emulSymbols = new DecimalFormatSymbols(EN_AU);
+        emulSymbols.setZeroDigit('A');
+
+        final double value = 1234.5;
+        assertEquals(new java.text.DecimalFormat(pattern, jdkSymbols).format(value),
+                new DecimalFormat(pattern, emulSymbols).compile().format(value));
+    }
+
+    @Test
+    public void testFormatUnaffectedByLaterChanges() {
+        Locale.setDefault(EN_AU);
+
+        final DecimalFormat format = new DecimalFormat("#,##0.###");
+        final DecimalFormatCompiled compiled = format.compile();
+
+        format.applyPattern("0.0");
+        format.setPositivePrefix("P");
+
+        assertEquals("1,234.5", compiled.format(1234.5));
+    }
+
+    @Test
+    public void testFormatStringBuilder() {
+        Locale.setDefault(EN_AU);
+
+        final StringBuilder append = new StringBuilder("before ");
+        new DecimalFormat("#,##0.###")
+                .compile()
+                .format(1234.5, append);
+        assertEquals("before 1,234.5", append.toString());
+    }
+
+    @Test
+    public void testFormatManyThreads() throws Exception {
+        Locale.setDefault(EN_AU);
+
+        final DecimalFormatCompiled compiled = new DecimalFormat("#,##0.###").compile();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final double value = i + 0.5;
+                        assertEquals(new java.text.DecimalFormat("#,##0.###").format(value), compiled.format(value));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // format column....................................................................................................
+
+    @Test
+    public void testFormatDoubleColumn() {
+        this.formatColumnAndCheck("#,##0.###", new double[]{0, 1.5, -1234.5, Double.NaN, Double.POSITIVE_INFINITY, 1.125});
+    }
+
+    @Test
+    public void testFormatDoubleColumnScientific() {
+        this.formatColumnAndCheck("0.###E0", new double[]{0.0001234, 1234567, -5});
+    }
+
+    @Test
+    public void testFormatLongColumn() {
+        this.formatColumnAndCheck("#,##0.###", new long[]{0, 1, -1234567, Long.MAX_VALUE, Long.MIN_VALUE});
+    }
+
+    @Test
+    public void testFormatLongColumnPercent() {
+        this.formatColumnAndCheck("#,##0%", new long[]{0, 12, Long.MAX_VALUE});
+    }
+
+    private void formatColumnAndCheck(final String pattern,
+                                      final double[] values) {
+        Locale.setDefault(EN_AU);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setRoundingMode(RoundingMode.HALF_EVEN);
+
+        final StringBuilder b = new StringBuilder();
+        final int[] offsets = new int[values.length + 1];
+        new DecimalFormat(pattern).compile().format(values, 0, values.length, b, offsets);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(jdk.format(values[i]),
+                    b.substring(offsets[i], offsets[i + 1]),
+                    pattern + " format " + values[i]);
+        }
+        assertEquals(b.length(), offsets[values.length], "end");
+    }
+
+    private void formatColumnAndCheck(final String pattern,
+                                      final long[] values) {
+        Locale.setDefault(EN_AU);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setRoundingMode(RoundingMode.HALF_EVEN);
+
+        final StringBuilder b = new StringBuilder();
+        final int[] offsets = new int[values.length + 1];
+        new DecimalFormat(pattern).compile().format(values, 0, values.length, b, offsets);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(jdk.format(values[i]),
+                    b.substring(offsets[i], offsets[i + 1]),
+                    pattern + " format " + values[i]);
+        }
+        assertEquals(b.length(), offsets[values.length], "end");
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final long value) {
+        Locale.setDefault(EN_AU);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setRoundingMode(RoundingMode.HALF_EVEN);
+
+        assertEquals(jdk.format(value),
+                new DecimalFormat(pattern).compile().format(value),
+                () -> pattern + " format " + value);
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final double value) {
+        Locale.setDefault(EN_AU);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setRoundingMode(RoundingMode.HALF_EVEN);
+
+        assertEquals(jdk.format(value),
+                new DecimalFormat(pattern).compile().format(value),
+                () -> pattern + " format " + value);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        Locale.setDefault(EN_AU);
+
+        this.toStringAndCheck(new DecimalFormat("#,##0.###").compile(),
+                "decimalSeparator='.' exponentSeparator=\"e\" groupingSeparator=',' groupingSize=3 infinity=\"∞\" maximumFractionDigits=3 maximumIntegerDigits=2147483647 minimumIntegerDigits=1 minusSign='-' multiplier=1 nan=\"NaN\" negativePrefix=\"-\" roundingMode=HALF_EVEN zeroDigit='0'");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatCompiled> type() {
+        return DecimalFormatCompiled.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalFormatDigitsTest implements ClassTesting2<DecimalFormatDigits>,
+        ToStringTesting<DecimalFormatDigits> {
+
+    // setLong..........................................................................................................
+
+    @Test
+    public void testSetLongZero() {
+        this.setLongAndCheck(0, "0.E0");
+    }
+
+    @Test
+    public void testSetLong() {
+        this.setLongAndCheck(123, "0.123E3");
+    }
+
+    @Test
+    public void testSetLongTrailingZeros() {
+        this.setLongAndCheck(1200, "0.12E4");
+    }
+
+    @Test
+    public void testSetLongMaxValue() {
+        this.setLongAndCheck(Long.MAX_VALUE, "0.9223372036854775807E19");
+    }
+
+    private void setLongAndCheck(final long value,
+                                 final String expected) {
+        final DecimalFormatDigits digits = DecimalFormatDigits.empty();
+        digits.setLong(value);
+        this.toStringAndCheck(digits, expected);
+    }
+
+    // setIntegerDigits.................................................................................................
+
+    @Test
+    public void testSetIntegerDigits() {
+        final DecimalFormatDigits digits = DecimalFormatDigits.empty();
+        digits.setIntegerDigits("00922337203685477580700");
+        this.toStringAndCheck(digits, "0.9223372036854775807E21");
+    }
+
+    // setDouble........................................................................................................
+
+    @Test
+    public void testSetDoubleZero() {
+        this.setDoubleAndCheck(0.0, "0.E0");
+    }
+
+    @Test
+    public void testSetDoubleWhole() {
+        this.setDoubleAndCheck(1234.0, "0.1234E4");
+    }
+
+    @Test
+    public void testSetDoubleFraction() {
+        this.setDoubleAndCheck(0.125, "0.125E0");
+    }
+
+    @Test
+    public void testSetDoubleSmallFraction() {
+        this.setDoubleAndCheck(0.001, "0.1E-2");
+    }
+
+    @Test
+    public void testSetDoubleShortest() {
+        this.setDoubleAndCheck(0.1 + 0.2, "0.30000000000000004E0");
+    }
+
+    @Test
+    public void testSetDoubleTwoPower53() {
+        this.setDoubleAndCheck(9007199254740992.0, "0.9007199254740992E16");
+    }
+
+    @Test
+    public void testSetDoubleLarge() {
+        this.setDoubleAndCheck(1.0E23, "0.1E24");
+    }
+
+    @Test
+    public void testSetDoubleMaxValue() {
+        this.setDoubleAndCheck(Double.MAX_VALUE, "0.17976931348623157E309");
+    }
+
+    @Test
+    public void testSetDoubleMinValue() {
+        this.setDoubleAndCheck(Double.MIN_VALUE, "0.49E-323");
+    }
+
+    private void setDoubleAndCheck(final double value,
+                                   final String expected) {
+        this.toStringAndCheck(this.setDouble(value), expected);
+    }
+
+    // roundFraction....................................................................................................
+
+    @Test
+    public void testRoundFractionNotRequired() {
+        this.roundFractionAndCheck(1.25, 2, RoundingMode.UNNECESSARY, "0.125E1");
+    }
+
+    @Test
+    public void testRoundFractionHalfEven() {
+        this.roundFractionAndCheck(1.25, 1, RoundingMode.HALF_EVEN, "0.12E1");
+    }
+
+    @Test
+    public void testRoundFractionHalfUp() {
+        this.roundFractionAndCheck(1.25, 1, RoundingMode.HALF_UP, "0.13E1");
+    }
+
+    @Test
+    public void testRoundFractionHalfUpBinaryBelowTie() {
+        // 1.005 is really 1.00499999999999989...
+        this.roundFractionAndCheck(1.005, 2, RoundingMode.HALF_UP, "0.1E1");
+    }
+
+    @Test
+    public void testRoundFractionHalfDownBinaryAboveTie() {
+        // 0.15 is really 0.1499999999999999944...
+        this.roundFractionAndCheck(0.15, 1, RoundingMode.HALF_DOWN, "0.1E0");
+    }
+
+    @Test
+    public void testRoundFractionCarry() {
+        this.roundFractionAndCheck(9.99, 1, RoundingMode.HALF_UP, "0.1E2");
+    }
+
+    @Test
+    public void testRoundFractionUnderflow() {
+        this.roundFractionAndCheck(0.001, 1, RoundingMode.UP, "0.E0");
+    }
+
+    @Test
+    public void testRoundFractionUnderflowRoundsUp() {
+        this.roundFractionAndCheck(0.001, 2, RoundingMode.UP, "0.1E-1");
+    }
+
+    @Test
+    public void testRoundFractionUnnecessaryFails() {
+        final DecimalFormatDigits digits = this.setDouble(1.25);
+        assertThrows(ArithmeticException.class, () -> digits.roundFraction(1, RoundingMode.UNNECESSARY, false));
+    }
+
+    private void roundFractionAndCheck(final double value,
+                                       final int maximumFractionDigits,
+                                       final RoundingMode roundingMode,
+                                       final String expected) {
+        final DecimalFormatDigits digits = this.setDouble(value);
+        digits.roundFraction(maximumFractionDigits, roundingMode, false);
+        this.toStringAndCheck(digits, expected);
+    }
+
+    // roundSignificant.................................................................................................
+
+    @Test
+    public void testRoundSignificantCeilingNegative() {
+        final DecimalFormatDigits digits = this.setDouble(1.25);
+        digits.roundSignificant(2, RoundingMode.CEILING, true);
+        this.toStringAndCheck(digits, "0.12E1");
+    }
+
+    @Test
+    public void testRoundSignificantFloorNegative() {
+        final DecimalFormatDigits digits = this.setDouble(1.25);
+        digits.roundSignificant(2, RoundingMode.FLOOR, true);
+        this.toStringAndCheck(digits, "0.13E1");
+    }
+
+    @Test
+    public void testRoundSignificantCarry() {
+        final DecimalFormatDigits digits = this.setDouble(999.5);
+        digits.roundSignificant(3, RoundingMode.HALF_EVEN, false);
+        this.toStringAndCheck(digits, "0.1E4");
+    }
+
+    private DecimalFormatDigits setDouble(final double value) {
+        final DecimalFormatDigits digits = DecimalFormatDigits.empty();
+        digits.setDouble(value);
+        return digits;
+    }
+
+    // isZero...........................................................................................................
+
+    @Test
+    public void testIsZero() {
+        assertEquals(true, this.setDouble(0).isZero());
+    }
+
+    @Test
+    public void testIsZeroNotZero() {
+        assertEquals(false, this.setDouble(1).isZero());
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseLeadingZerosSkipped() {
+        this.toStringAndCheck(this.parse("00120"), "0.120E3");
+    }
+
+    @Test
+    public void testParseFraction() {
+        this.toStringAndCheck(this.parse("0.0120"), "0.120E-1");
+    }
+
+    @Test
+    public void testParseExponent() {
+        this.toStringAndCheck(this.parse("1.5E3"), "0.15E4");
+    }
+
+    @Test
+    public void testToBigDecimal() {
+        this.toBigDecimalAndCheck("123");
+    }
+
+    @Test
+    public void testToBigDecimalZero() {
+        this.toBigDecimalAndCheck("0");
+    }
+
+    @Test
+    public void testToBigDecimalZeroFraction() {
+        this.toBigDecimalAndCheck("0.00");
+    }
+
+    @Test
+    public void testToBigDecimalTrailingZeros() {
+        this.toBigDecimalAndCheck("1.500");
+    }
+
+    @Test
+    public void testToBigDecimalExponent() {
+        this.toBigDecimalAndCheck("1.25E5");
+    }
+
+    @Test
+    public void testToBigDecimalNegativeExponent() {
+        this.toBigDecimalAndCheck("1.25E-5");
+    }
+
+    @Test
+    public void testToBigDecimalManyDigits() {
+        this.toBigDecimalAndCheck("12345678901234567890.123456789");
+    }
+
+    private void toBigDecimalAndCheck(final String text) {
+        assertEquals(new BigDecimal(text), this.parse(text).toBigDecimal(false), () -> text);
+        assertEquals(new BigDecimal("-" + text), this.parse(text).toBigDecimal(true), () -> "-" + text);
+    }
+
+    @Test
+    public void testTruncateFraction() {
+        final DecimalFormatDigits digits = this.parse("12.75");
+        digits.truncateFraction();
+        this.toStringAndCheck(digits, "0.12E2");
+    }
+
+    @Test
+    public void testTruncateFractionInteger() {
+        final DecimalFormatDigits digits = this.parse("1200");
+        digits.truncateFraction();
+        this.toStringAndCheck(digits, "0.1200E4");
+    }
+
+    @Test
+    public void testTruncateFractionZero() {
+        final DecimalFormatDigits digits = this.parse("0.75");
+        digits.truncateFraction();
+        this.toStringAndCheck(digits, "0.E0");
+    }
+
+    @Test
+    public void testIsLongZero() {
+        this.isLongAndCheck("0", false, true);
+    }
+
+    @Test
+    public void testIsLongInteger() {
+        this.isLongAndCheck("123", false, true);
+    }
+
+    @Test
+    public void testIsLongFractionZeros() {
+        this.isLongAndCheck("123.000", false, true);
+    }
+
+    @Test
+    public void testIsLongFraction() {
+        this.isLongAndCheck("123.5", false, false);
+    }
+
+    @Test
+    public void testIsLongExponent() {
+        this.isLongAndCheck("1.5E1", false, true);
+    }
+
+    @Test
+    public void testIsLongMaxValue() {
+        this.isLongAndCheck("9223372036854775807", false, true);
+    }
+
+    @Test
+    public void testIsLongMaxValuePlusOne() {
+        this.isLongAndCheck("9223372036854775808", false, false);
+    }
+
+    @Test
+    public void testIsLongMinValue() {
+        this.isLongAndCheck("9223372036854775808", true, true);
+    }
+
+    @Test
+    public void testIsLongMinValueMinusOne() {
+        this.isLongAndCheck("9223372036854775809", true, false);
+    }
+
+    @Test
+    public void testIsLongTooManyDigits() {
+        this.isLongAndCheck("1E19", false, false);
+    }
+
+    private void isLongAndCheck(final String text,
+                                final boolean negative,
+                                final boolean expected) {
+        assertEquals(expected, this.parse(text).isLong(negative), () -> (negative ? "-" : "") + text);
+    }
+
+    @Test
+    public void testToLong() {
+        this.toLongAndCheck("120", false, 120);
+    }
+
+    @Test
+    public void testToLongNegative() {
+        this.toLongAndCheck("120", true, -120);
+    }
+
+    @Test
+    public void testToLongExponent() {
+        this.toLongAndCheck("1.2E3", false, 1200);
+    }
+
+    @Test
+    public void testToLongMaxValue() {
+        this.toLongAndCheck("9223372036854775807", false, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testToLongMinValue() {
+        this.toLongAndCheck("9223372036854775808", true, Long.MIN_VALUE);
+    }
+
+    private void toLongAndCheck(final String text,
+                                final boolean negative,
+                                final long expected) {
+        assertEquals(expected, this.parse(text).toLong(negative), () -> (negative ? "-" : "") + text);
+    }
+
+    @Test
+    public void testToDoubleZero() {
+        this.toDoubleAndCheck("0");
+    }
+
+    @Test
+    public void testToDoubleFraction() {
+        this.toDoubleAndCheck("0.1");
+    }
+
+    @Test
+    public void testToDoubleFifteenDigits() {
+        this.toDoubleAndCheck("1234567.89012345");
+    }
+
+    @Test
+    public void testToDoubleManyDigits() {
+        this.toDoubleAndCheck("1234567.890123456789");
+    }
+
+    @Test
+    public void testToDoubleLargeExponent() {
+        this.toDoubleAndCheck("1.5E300");
+    }
+
+    @Test
+    public void testToDoubleSmallExponent() {
+        this.toDoubleAndCheck("1.5E-300");
+    }
+
+    @Test
+    public void testToDoubleMany() {
+        for (long i = 1; i < 100_000_000_000L; i = i * 3 + 1) {
+            for (int scale = 0; scale < 25; scale++) {
+                this.toDoubleAndCheck(BigDecimal.valueOf(i, scale).toPlainString());
+            }
+        }
+    }
+
+    @Test
+    public void testToDoubleNegativeZero() {
+        assertEquals(-0.0, this.parse("0").toDouble(true));
+    }
+
+    private void toDoubleAndCheck(final String text) {
+        assertEquals(Double.parseDouble(text), this.parse(text).toDouble(false), () -> text);
+        assertEquals(Double.parseDouble("-" + text), this.parse(text).toDouble(true), () -> "-" + text);
+    }
+
+    @Test
+    public void testSetBigDecimal() {
+        final DecimalFormatDigits digits = DecimalFormatDigits.empty();
+        digits.setBigDecimal(new BigDecimal("-12.50"));
+        this.toStringAndCheck(digits, "0.1250E2");
+    }
+
+    /**
+     * Parses digits with an optional decimal point and exponent, similar to the text accepted by
+     * {@link BigDecimal#BigDecimal(String)}.
+     */
+    private DecimalFormatDigits parse(final String text) {
+        final DecimalFormatDigits digits = DecimalFormatDigits.empty();
+        digits.parseStart();
+
+        final int exponentAt = text.indexOf('E');
+        final String number = -1 == exponentAt ? text : text.substring(0, exponentAt);
+
+        int fractionDigitCount = 0;
+        boolean fraction = false;
+        for (final char c : number.toCharArray()) {
+            if ('.' == c) {
+                fraction = true;
+            } else {
+                digits.parseDigit(c - '0');
+                if (fraction) {
+                    fractionDigitCount++;
+                }
+            }
+        }
+
+        digits.parseEnd(fractionDigitCount - (-1 == exponentAt ? 0 : Integer.parseInt(text.substring(exponentAt + 1))));
+        return digits;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatDigits> type() {
+        return DecimalFormatDigits.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
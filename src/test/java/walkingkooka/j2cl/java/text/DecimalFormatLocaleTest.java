@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DecimalFormatLocaleTest implements ClassTesting2<DecimalFormatLocale>,
+        ToStringTesting<DecimalFormatLocale> {
+
+    private final static Locale LOCALE = Locale.forLanguageTag("en-AU");
+
+    @Test
+    public void testWithInvalidPatternNotParsedUntilGet() {
+        final DecimalFormatLocale locale = DecimalFormatLocale.with(LOCALE, new DecimalFormatStyle[]{style("#.#.#")});
+        assertThrows(IllegalArgumentException.class, () -> locale.get(0));
+    }
+
+    @Test
+    public void testGet() {
+        final DecimalFormat format = this.createLocale()
+                .get(1);
+        assertEquals("#,##0.00", format.toPattern(), "pattern");
+        assertEquals(Currency.getInstance(LOCALE), format.getCurrency(), "currency");
+        assertEquals(new DecimalFormatSymbols(LOCALE), format.getDecimalFormatSymbols(), "symbols");
+    }
+
+    @Test
+    public void testGetCached() {
+        final DecimalFormatLocale locale = this.createLocale();
+        final DecimalFormat format = locale.get(0);
+        assertSame(format, locale.get(0));
+    }
+
+    @Test
+    public void testGetSharesSymbols() {
+        final DecimalFormatLocale locale = this.createLocale();
+        assertSame(locale.get(0).getCurrency(), locale.get(1).getCurrency());
+    }
+
+    @Test
+    public void testGetNoCountryCurrency() {
+        assertEquals(Currency.getInstance("XXX"),
+                DecimalFormatLocale.with(Locale.ENGLISH, new DecimalFormatStyle[]{style("#")})
+                        .get(0)
+                        .getCurrency());
+    }
+
+    @Test
+    public void testGetManyThreads() throws Exception {
+        final DecimalFormatLocale locale = this.createLocale();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<DecimalFormat>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return locale.get(1);
+                }));
+            }
+            start.countDown();
+
+            for (final Future<DecimalFormat> future : futures) {
+                final DecimalFormat format = future.get();
+                assertEquals("#,##0.00", format.toPattern(), "pattern");
+                assertEquals(Currency.getInstance(LOCALE), format.getCurrency(), "currency");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createLocale(), LOCALE.toString());
+    }
+
+    private DecimalFormatLocale createLocale() {
+        return DecimalFormatLocale.with(LOCALE,
+                new DecimalFormatStyle[]{
+                        style("#,##0.###"),
+                        style("#,##0.00")
+                });
+    }
+
+    private static DecimalFormatStyle style(final String pattern) {
+        return DecimalFormatStyle.with(false, // decimalSeparatorAlwaysShown
+                3, // groupingSize
+                true, // groupingUsed
+                3, // maximumFractionDigits
+                0, // minimumFractionDigits
+                Integer.MAX_VALUE, // maximumIntegerDigits
+                1, // minimumIntegerDigits
+                1, // multiplier
+                "-", // negativePrefix
+                "", // negativeSuffix
+                DecimalFormatProvider.PARSE_NONE, // parse
+                pattern, // pattern
+                "", // positivePrefix
+                "", // positiveSuffix
+                RoundingMode.HALF_EVEN // roundingMode
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatLocale> type() {
+        return DecimalFormatLocale.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public final class DecimalFormatPatternTest implements ClassTesting2<DecimalFormatPattern>,
+        ToStringTesting<DecimalFormatPattern> {
+
+    private final static Locale EN_AU = Locale.forLanguageTag("en-AU");
+    private final static Locale DE_DE = Locale.forLanguageTag("de-DE");
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParse() {
+        final DecimalFormatPattern pattern = this.parse("#,##0.00#", EN_AU);
+
+        assertEquals(3, pattern.groupingSize, "groupingSize");
+        assertEquals(1, pattern.multiplier, "multiplier");
+        assertEquals(1, pattern.minimumIntegerDigits, "minimumIntegerDigits");
+        assertEquals(2, pattern.minimumFractionDigits, "minimumFractionDigits");
+        assertEquals(3, pattern.maximumFractionDigits, "maximumFractionDigits");
+        assertEquals(true, pattern.decimalSeparator, "decimalSeparator");
+        assertEquals(false, pattern.scientificFormat, "scientificFormat");
+        assertEquals(false, pattern.customNegativePrefixSuffix, "customNegativePrefixSuffix");
+
+        this.checkAffixes(pattern, "", "", "-", "");
+    }
+
+    @Test
+    public void testParsePercent() {
+        final DecimalFormatPattern pattern = this.parse("0%", EN_AU);
+
+        assertEquals(100, pattern.multiplier, "multiplier");
+        this.checkAffixes(pattern, "", "%", "-", "%");
+    }
+
+    @Test
+    public void testParseScientific() {
+        assertEquals(true, this.parse("0.###E0", EN_AU).scientificFormat);
+    }
+
+    @Test
+    public void testParseNegativeSubPattern() {
+        final DecimalFormatPattern pattern = this.parse("0;(0)", EN_AU);
+
+        assertEquals(true, pattern.customNegativePrefixSuffix, "customNegativePrefixSuffix");
+        this.checkAffixes(pattern, "", "", "(", ")");
+    }
+
+    @Test
+    public void testParseCurrencyLocalized() {
+        final String pattern = "\u00A4#,##0.00";
+
+        for (final Locale locale : new Locale[]{EN_AU, DE_DE}) {
+            final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern, new java.text.DecimalFormatSymbols(locale));
+
+            this.checkAffixes(this.parse(pattern, locale),
+                    jdk.getPositivePrefix(),
+                    jdk.getPositiveSuffix(),
+                    jdk.getNegativePrefix(),
+                    jdk.getNegativeSuffix());
+        }
+    }
+
+    private DecimalFormatPattern parse(final String pattern,
+                                       final Locale locale) {
+        return DecimalFormatPattern.parse(pattern, new DecimalFormatSymbols(locale));
+    }
+
+    private void checkAffixes(final DecimalFormatPattern pattern,
+                              final String positivePrefix,
+                              final String positiveSuffix,
+                              final String negativePrefix,
+                              final String negativeSuffix) {
+        assertEquals(positivePrefix, pattern.positivePrefix, "positivePrefix");
+        assertEquals(positiveSuffix, pattern.positiveSuffix, "positiveSuffix");
+        assertEquals(negativePrefix, pattern.negativePrefix, "negativePrefix");
+        assertEquals(negativeSuffix, pattern.negativeSuffix, "negativeSuffix");
+    }
+
+    // DecimalFormatPatternKey..........................................................................................
+
+    @Test
+    public void testKeyEqualsSameSymbols() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+        final DecimalFormatPattern.DecimalFormatPatternKey key = new DecimalFormatPattern.DecimalFormatPatternKey("0.0", symbols);
+        final DecimalFormatPattern.DecimalFormatPatternKey other = new DecimalFormatPattern.DecimalFormatPatternKey("0.0", symbols);
+
+        assertEquals(key, other);
+        assertEquals(key.hashCode(), other.hashCode(), "hashCode");
+    }
+
+    @Test
+    public void testKeyEqualsDifferentPattern() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+
+        assertNotEquals(new DecimalFormatPattern.DecimalFormatPatternKey("0.0", symbols),
+                new DecimalFormatPattern.DecimalFormatPatternKey("0.00", symbols));
+    }
+
+    @Test
+    public void testKeyEqualsEqualSymbolsDifferentIdentity() {
+        final DecimalFormatPattern.DecimalFormatPatternKey key = new DecimalFormatPattern.DecimalFormatPatternKey("0.0", new DecimalFormatSymbols(EN_AU));
+        final DecimalFormatPattern.DecimalFormatPatternKey other = new DecimalFormatPattern.DecimalFormatPatternKey("0.0", new DecimalFormatSymbols(EN_AU));
+
+        assertEquals(key, other);
+        assertEquals(key.hashCode(), other.hashCode(), "hashCode");
+    }
+
+    @Test
+    public void testKeyEqualsDifferentSymbolValue() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+        symbols.setPercent('!');
+
+        assertNotEquals(new DecimalFormatPattern.DecimalFormatPatternKey("0.0%", new DecimalFormatSymbols(EN_AU)),
+                new DecimalFormatPattern.DecimalFormatPatternKey("0.0%", symbols));
+    }
+
+    @Test
+    public void testKeyEqualsDifferentCurrencySymbol() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+        symbols.setCurrencySymbol("!");
+
+        assertNotEquals(new DecimalFormatPattern.DecimalFormatPatternKey("\u00A40.0", new DecimalFormatSymbols(EN_AU)),
+                new DecimalFormatPattern.DecimalFormatPatternKey("\u00A40.0", symbols));
+    }
+
+    @Test
+    public void testKeyParse() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+        assertEquals("\"0.0\"", new DecimalFormatPattern.DecimalFormatPatternKey("0.0", symbols).parse().toString());
+    }
+
+    @Test
+    public void testKeyToString() {
+        assertEquals("\"0.0\"", new DecimalFormatPattern.DecimalFormatPatternKey("0.0", new DecimalFormatSymbols(EN_AU)).toString());
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.parse("#,##0.0", EN_AU), "\"#,##0.0\"");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatPattern> type() {
+        return DecimalFormatPattern.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public final class DecimalFormatStyleTest implements ClassTesting2<DecimalFormatStyle>,
+        ToStringTesting<DecimalFormatStyle> {
+
+    private final static String PATTERN = "#,##0.###";
+
+    @Test
+    public void testDecimalFormat() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.ENGLISH);
+        final Currency currency = Currency.getInstance("AUD");
+
+        final DecimalFormat format = this.createStyle()
+                .decimalFormat(currency, symbols);
+        this.checkFormat(format, currency);
+    }
+
+    @Test
+    public void testDecimalFormatDifferentInstances() {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.ENGLISH);
+        final Currency currency = Currency.getInstance("AUD");
+        final DecimalFormatStyle style = this.createStyle();
+
+        assertNotSame(style.decimalFormat(currency, symbols), style.decimalFormat(currency, symbols));
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(bytes);
+
+        data.writeBoolean(false); // decimalSeparatorAlwaysShown
+        data.writeInt(3); // groupingSize
+        data.writeBoolean(true); // groupingUsed
+        data.writeInt(3); // maximumFractionDigits
+        data.writeInt(0); // minimumFractionDigits
+        data.writeInt(Integer.MAX_VALUE); // maximumIntegerDigits
+        data.writeInt(1); // minimumIntegerDigits
+        data.writeInt(1); // multiplier
+        data.writeUTF("-"); // negativePrefix
+        data.writeUTF(""); // negativeSuffix
+        data.writeInt(DecimalFormatProvider.PARSE_NONE); // parse
+        data.writeUTF(PATTERN); // pattern
+        data.writeUTF(""); // positivePrefix
+        data.writeUTF(""); // positiveSuffix
+        data.writeUTF(RoundingMode.HALF_EVEN.name()); // roundingMode
+        data.flush();
+
+        final DecimalFormatStyle style = DecimalFormatStyle.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        final Currency currency = Currency.getInstance("AUD");
+        this.checkFormat(style.decimalFormat(currency, new DecimalFormatSymbols(Locale.ENGLISH)), currency);
+    }
+
+    private void checkFormat(final DecimalFormat format,
+                             final Currency currency) {
+        assertEquals(PATTERN, format.toPattern(), "pattern");
+        assertEquals(currency, format.getCurrency(), "currency");
+        assertEquals(3, format.getMaximumFractionDigits(), "maximumFractionDigits");
+        assertEquals(RoundingMode.HALF_EVEN, format.getRoundingMode(), "roundingMode");
+        assertEquals("1,234.5", format.format(1234.5), "format");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createStyle(), PATTERN);
+    }
+
+    private DecimalFormatStyle createStyle() {
+        return DecimalFormatStyle.with(false, // decimalSeparatorAlwaysShown
+                3, // groupingSize
+                true, // groupingUsed
+                3, // maximumFractionDigits
+                0, // minimumFractionDigits
+                Integer.MAX_VALUE, // maximumIntegerDigits
+                1, // minimumIntegerDigits
+                1, // multiplier
+                "-", // negativePrefix
+                "", // negativeSuffix
+                DecimalFormatProvider.PARSE_NONE, // parse
+                PATTERN, // pattern
+                "", // positivePrefix
+                "", // positiveSuffix
+                RoundingMode.HALF_EVEN // roundingMode
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<DecimalFormatStyle> type() {
+        return DecimalFormatStyle.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -24,22 +24,30 @@ import walkingkooka.j2cl.locale.WalkingkookaLanguageTag;
 import walkingkooka.predicate.Predicates;
 import walkingkooka.text.CharSequences;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.math.RoundingMode;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> implements ToStringTesting<DecimalFormat> {
 
     private final static Locale EN_AU = Locale.forLanguageTag("en-AU");
     private final static Locale FR = Locale.forLanguageTag("fr");
+    private final static Locale DE_DE = Locale.forLanguageTag("de-DE");
 
     private final static Locale DEFAULT_LOCALE = EN_AU;
 
@@ -766,6 +774,87 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
                 locale);
     }
 
+    // applyPattern.....................................................................................................
+
+    @Test
+    public void testApplyPatternCached() {
+        final String pattern = "###,##0.0#########";
+        final DecimalFormat format = new DecimalFormat("0", new DecimalFormatSymbols(EN_AU));
+
+        final long misses = DecimalFormat.patternCacheMisses();
+        format.applyPattern(pattern);
+        assertEquals(misses + 1, DecimalFormat.patternCacheMisses(), "misses");
+
+        final long hits = DecimalFormat.patternCacheHits();
+        format.applyPattern("0");
+        format.applyPattern(pattern);
+        assertEquals(hits + 2, DecimalFormat.patternCacheHits(), "hits");
+
+        assertEquals(new java.text.DecimalFormat(pattern, new java.text.DecimalFormatSymbols(EN_AU)).format(1234.5),
+                format.format(1234.5));
+    }
+
+    @Test
+    public void testApplyPatternCachedEqualSymbols() {
+        final String pattern = "#,##0.0##########%";
+
+        final long misses = DecimalFormat.patternCacheMisses();
+        new DecimalFormat(pattern, new DecimalFormatSymbols(EN_AU));
+        assertEquals(misses + 1, DecimalFormat.patternCacheMisses(), "misses");
+
+        final long hits = DecimalFormat.patternCacheHits();
+        final DecimalFormat format = new DecimalFormat(pattern, new DecimalFormatSymbols(EN_AU));
+        assertEquals(hits + 1, DecimalFormat.patternCacheHits(), "hits");
+        assertEquals(misses + 1, DecimalFormat.patternCacheMisses(), "misses");
+
+        assertEquals(new java.text.DecimalFormat(pattern, new java.text.DecimalFormatSymbols(EN_AU)).format(0.125),
+                format.format(0.125));
+    }
+
+    @Test
+    public void testApplyPatternCachedSymbolValueChanged() {
+        final String pattern = "#,##0.0###########%";
+
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+        new DecimalFormat(pattern, symbols);
+        symbols.setPercent('!');
+
+        final long misses = DecimalFormat.patternCacheMisses();
+        final DecimalFormat format = new DecimalFormat(pattern, symbols);
+        assertEquals(misses + 1, DecimalFormat.patternCacheMisses(), "misses");
+
+        final java.text.DecimalFormatSymbols jdkSymbols = new java.text.DecimalFormatSymbols(EN_AU);
+        jdkSymbols.setPercent('!');
+        assertEquals(new java.text.DecimalFormat(pattern, jdkSymbols).getPositiveSuffix(),
+                format.getPositiveSuffix());
+    }
+
+    @Test
+    public void testApplyPatternCachedDifferentSymbols() {
+        final String pattern = "\u00A4##,##0.000;(\u00A4##,##0.000)";
+
+        for (final Locale locale : new Locale[]{EN_AU, DE_DE, EN_AU}) {
+            final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern, new java.text.DecimalFormatSymbols(locale));
+            final DecimalFormat emul = new DecimalFormat("0", new DecimalFormatSymbols(locale));
+            emul.applyPattern(pattern);
+
+            assertEquals(jdk.getPositivePrefix(), emul.getPositivePrefix(), () -> "positivePrefix " + locale);
+            assertEquals(jdk.getNegativePrefix(), emul.getNegativePrefix(), () -> "negativePrefix " + locale);
+            assertEquals(jdk.format(-1234.5), emul.format(-1234.5), () -> "format " + locale);
+        }
+    }
+
+    @Test
+    public void testApplyPatternInvalidNotCached() {
+        final DecimalFormat format = new DecimalFormat("0", new DecimalFormatSymbols(EN_AU));
+
+        for (int i = 0; i < 2; i++) {
+            final long misses = DecimalFormat.patternCacheMisses();
+            assertThrows(IllegalArgumentException.class, () -> format.applyPattern("0;0;0"));
+            assertEquals(misses + 1, DecimalFormat.patternCacheMisses(), "misses");
+        }
+    }
+
     // currency.........................................................................................................
 
     @Test
@@ -1705,338 +1794,848 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
                 123.5);
     }
 
-    // formatScientific.................................................................................................
-
-    @Test
-    public void testFormatScientificZeroOneSignificant() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                0);
-    }
-
-    @Test
-    public void testFormatScientificZeroTwoSignificant() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                0);
-    }
-
-    @Test
-    public void testFormatScientificOneSignificantLarge() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                12);
-    }
+    // formatLong.......................................................................................................
 
     @Test
-    public void testFormatScientificOneSignificant() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                1.2);
+    public void testFormatLongZero() {
+        this.formatAndCheck("#", 0L);
     }
 
     @Test
-    public void testFormatScientificOneSignificant2() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                1.5);
-    }
+    public void testFormatLongZeroMinimumIntegerDigitsZero() {
+        final String pattern = "#.00";
+        final int min = 0;
 
-    @Test
-    public void testFormatScientificOneSignificantSmall() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                0.23);
-    }
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setMinimumIntegerDigits(min);
 
-    @Test
-    public void testFormatScientificOneSignificantSmall2() {
-        this.formatAndCheck("#.#E0",
-                RoundingMode.HALF_UP,
-                0.25);
-    }
+        final DecimalFormat emul = new DecimalFormat(pattern);
+        emul.setMinimumIntegerDigits(min);
 
-    @Test
-    public void testFormatScientificTwoSignificantLarge() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                12);
+        this.formatAndCheck(jdk,
+                emul,
+                0L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificantLarge2() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                15);
+    public void testFormatLongNegative() {
+        this.formatAndCheck("#", -1234L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificant() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                1.23,
-                "12.3e-1");
+    public void testFormatLongGrouping() {
+        this.formatAndCheck("#,##0", 1234567890123L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificant2() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                1.53,
-                "15.3e-1");
+    public void testFormatLongGroupingNegative() {
+        this.formatAndCheck("#,##0;(#,##0)", -1234567890123L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificant3() {
-        this.formatAndCheck("00.0E0",
-                RoundingMode.HALF_UP,
-                1.2,
-                "12.0e-1");
+    public void testFormatLongMinimumFractionDigits() {
+        this.formatAndCheck("#,##0.00", 1234L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificant4() {
-        this.formatAndCheck("00.0E0",
-                RoundingMode.HALF_UP,
-                1.23);
+    public void testFormatLongMaximumFractionDigits() {
+        this.formatAndCheck("#,##0.###", 1234L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificant4Rounding() {
-        this.formatAndCheck("00.0E0",
-                RoundingMode.HALF_UP,
-                1.234);
+    public void testFormatLongMinimumIntegerDigits() {
+        this.formatAndCheck("00000", 12L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificantSmall() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                0.23);
+    public void testFormatLongMinimumIntegerDigitsGrouping() {
+        this.formatAndCheck("0,000", 12L);
     }
 
     @Test
-    public void testFormatScientificTwoSignificantSmall2() {
-        this.formatAndCheck("##.#E0",
-                RoundingMode.HALF_UP,
-                0.25);
-    }
+    public void testFormatLongMaximumIntegerDigits() {
+        final String pattern = "#,##0";
+        final int max = 5;
 
-    // helpers..........................................................................................................
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setMaximumIntegerDigits(max);
 
-    private void formatAndCheck(final String pattern,
-                                final Object value) {
-        this.formatAndCheck(pattern,
-                RoundingMode.UNNECESSARY,
-                value);
-    }
+        final DecimalFormat emul = new DecimalFormat(pattern);
+        emul.setMaximumIntegerDigits(max);
 
-    private void formatAndCheck(final String pattern,
-                                final RoundingMode roundingMode,
-                                final Object value) {
-        this.formatAndCheck(pattern,
-                roundingMode,
-                value,
-                EN_AU);
+        this.formatAndCheck(jdk,
+                emul,
+                1234567890L);
     }
 
-    private void formatAndCheck(final String pattern,
-                                final RoundingMode roundingMode,
-                                final Object value,
-                                final Locale locale) {
-        Locale.setDefault(locale);
+    @Test
+    public void testFormatLongCustomZero() {
+        final String pattern = "#,##0";
 
-        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
-        jdk.setRoundingMode(roundingMode);
+        final java.text.DecimalFormatSymbols jdkSymbols = new java.text.DecimalFormatSymbols(EN_AU);
+        jdkSymbols.setZeroDigit('A');
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern, jdkSymbols);
 
-        final DecimalFormat emul = new DecimalFormat(pattern);
-        emul.setRoundingMode(roundingMode);
+        final DecimalFormatSymbols emulSymbols = new DecimalFormatSymbols(EN_AU);
+        emulSymbols.setZeroDigit('A');
+        final DecimalFormat emul = new DecimalFormat(pattern, emulSymbols);
 
-        this.formatAndCheck(jdk, emul, value, locale);
+        this.formatAndCheck(jdk,
+                emul,
+                1234567890L);
     }
 
-    private void formatAndCheck(final java.text.DecimalFormat jdk,
-                                final DecimalFormat emul,
-                                final Object value) {
-        this.formatAndCheck(jdk, emul, value, EN_AU);
+    @Test
+    public void testFormatLongPrefixSuffix() {
+        this.formatAndCheck("PP#,##0SS", 1234567L);
     }
 
-    private void formatAndCheck(final java.text.DecimalFormat jdk,
-                                final DecimalFormat emul,
-                                final Object value,
-                                final Locale locale) {
-        this.check(jdk, emul, locale, true);
-
-        this.formatAndCheck(emul, value, locale, jdk.format(value));
+    @Test
+    public void testFormatLongPercent() {
+        this.formatAndCheck("#,##0%", 1234L);
     }
 
-    private void formatAndCheck(final String pattern,
-                                final RoundingMode roundingMode,
-                                final Object value,
-                                final String expected) {
-        final Locale locale = EN_AU;
-        Locale.setDefault(locale);
-
-        final DecimalFormat emul = new DecimalFormat(pattern);
-        emul.setRoundingMode(roundingMode);
-
-        this.formatAndCheck(emul, value, locale, expected);
+    @Test
+    public void testFormatLongPerMille() {
+        this.formatAndCheck("#,##0" + DecimalFormat.PER_MILLE, -1234L);
     }
 
-    private void formatAndCheck(final DecimalFormat emul,
-                                final Object value,
-                                final Locale locale,
-                                final String expected) {
-        assertEquals(expected,
-                emul.format(value),
-                () -> emul.toPattern() + " value " + value + " locale " + locale + " decimalFormat: " + emul);
+    @Test
+    public void testFormatLongMaxValue() {
+        this.formatAndCheck("#,##0", Long.MAX_VALUE);
     }
 
-    // parse............................................................................................................
-
     @Test
-    public void testParseDoubleNan() {
-        Locale.setDefault(DEFAULT_LOCALE);
-        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getNaN());
+    public void testFormatLongMinValue() {
+        this.formatAndCheck("#,##0", Long.MIN_VALUE);
     }
 
     @Test
-    public void testParseDoublePositiveInfinity() {
-        Locale.setDefault(DEFAULT_LOCALE);
-        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getInfinity());
+    public void testFormatLongMaxValuePercentOverflow() {
+        this.formatAndCheck("#,##0%", Long.MAX_VALUE);
     }
 
     @Test
-    public void testParseDoublePositiveInfinityWithPrefixAndSuffix() {
-        Locale.setDefault(DEFAULT_LOCALE);
-        this.parseAndCheck("P0S;Q0Z", "" + new DecimalFormatSymbols().getInfinity());
+    public void testFormatLongMinValuePerMilleOverflow() {
+        this.formatAndCheck("#,##0" + DecimalFormat.PER_MILLE, Long.MIN_VALUE + 1);
     }
 
+    // formatDouble.....................................................................................................
+
     @Test
-    public void testParseDoubleNegativeInfinity() {
-        Locale.setDefault(DEFAULT_LOCALE);
-        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getInfinity());
+    public void testFormatDoubleZero() {
+        this.formatAndCheck("#,##0.###", 0.0);
     }
 
     @Test
-    public void testParseDoubleNegativeInfinityWithPrefixAndSuffix() {
-        Locale.setDefault(DEFAULT_LOCALE);
-        this.parseAndCheck("P0S;Q0Z", "" + new DecimalFormatSymbols().getInfinity());
+    public void testFormatDoubleNegativeZero() {
+        this.formatAndCheck("#,##0.###", -0.0);
     }
 
     @Test
-    public void testParseIntegerTooFewDigits() {
-        this.parseBigDecimalOnlyAndCheck("00", "1");
+    public void testFormatDoubleZeroMinimumIntegerDigitsZero() {
+        this.formatAndCheck("#.##", 0.0);
     }
 
     @Test
-    public void testParseIntegerTooFewDigits2() {
-        this.parseBigDecimalOnlyAndCheck("0000", "123");
+    public void testFormatDoubleWhole() {
+        this.formatAndCheck("#,##0.###", 1234.0);
     }
 
     @Test
-    public void testParseIntegerTooManyDigits() {
-        this.parseBigDecimalOnlyAndCheck("0", "12");
+    public void testFormatDoubleFraction() {
+        this.formatAndCheck("#,##0.###", 1234.5);
     }
 
     @Test
-    public void testParseIntegerTooManyDigits2() {
-        this.parseBigDecimalOnlyAndCheck("00", "123");
+    public void testFormatDoubleSmallFraction() {
+        this.formatAndCheck("#,##0.###", 0.01);
     }
 
     @Test
-    public void testParseFractionTooFewDigits() {
-        this.parseBigDecimalOnlyAndCheck("0.00", "1");
+    public void testFormatDoubleSmallFractionMinimumIntegerDigitsZero() {
+        this.formatAndCheck("#.##", 0.01);
     }
 
     @Test
-    public void testParseFractionTooFewDigits2() {
-        this.parseBigDecimalOnlyAndCheck("0.000", "1.23");
+    public void testFormatDoubleMinimumFractionDigits() {
+        this.formatAndCheck("0.000", 1.5);
     }
 
     @Test
-    public void testParseFractionTooManyDigits() {
-        this.parseBigDecimalOnlyAndCheck("0", "1.2");
+    public void testFormatDoubleMinimumIntegerDigits() {
+        this.formatAndCheck("000.#", 1.5);
     }
 
     @Test
-    public void testParseFractionTooManyDigits2() {
-        this.parseBigDecimalOnlyAndCheck("0.0", "1.23");
+    public void testFormatDoubleNegative() {
+        this.formatAndCheck("#,##0.###", -1234.5);
     }
 
     @Test
-    public void testParseZeroBigDecimalOnly() {
-        this.parseBigDecimalOnlyAndCheck("#", "0");
+    public void testFormatDoubleRoundingHalfEven() {
+        this.formatAndCheck("0.##", RoundingMode.HALF_EVEN, 0.125);
     }
 
     @Test
-    public void testParseZeroIntegerOnly() {
-        this.parseIntegerOnlyAndCheck("#", "0");
+    public void testFormatDoubleRoundingHalfUp() {
+        this.formatAndCheck("0.##", RoundingMode.HALF_UP, 0.125);
     }
 
     @Test
-    public void testParseZero() {
-        this.parseAndCheck("#", "0");
+    public void testFormatDoubleRoundingHalfUpBinaryBelowTie() {
+        this.formatAndCheck("0.##", RoundingMode.HALF_UP, 1.005);
     }
 
     @Test
-    public void testParseOneBigDecimalOnly() {
-        this.parseBigDecimalOnlyAndCheck("#", "1");
+    public void testFormatDoubleRoundingHalfDownBinaryAboveTie() {
+        this.formatAndCheck("0.#", RoundingMode.HALF_DOWN, 0.15);
     }
 
     @Test
-    public void testParseOneIntegerOnly() {
-        this.parseIntegerOnlyAndCheck("#", "1");
+    public void testFormatDoubleRoundingCeiling() {
+        this.formatAndCheck("0.#", RoundingMode.CEILING, -1.25);
     }
 
     @Test
-    public void testParseOne() {
-        this.parseAndCheck("#", "1");
+    public void testFormatDoubleRoundingFloor() {
+        this.formatAndCheck("0.#", RoundingMode.FLOOR, -1.25);
     }
 
     @Test
-    public void testParseMinusOneBigDecimalOnly() {
-        this.parseBigDecimalOnlyAndCheck("#", "-1");
+    public void testFormatDoubleRoundingCarry() {
+        this.formatAndCheck("#,##0.##", RoundingMode.HALF_UP, 999.999);
     }
 
     @Test
-    public void testParseMinusOneIntegerOnly() {
-        this.parseIntegerOnlyAndCheck("#", "-1");
+    public void testFormatDoubleRoundingUnderflow() {
+        this.formatAndCheck("0.##", RoundingMode.HALF_EVEN, 0.001);
     }
 
     @Test
-    public void testParseMinusOne() {
-        this.parseAndCheck("#", "-1");
+    public void testFormatDoubleRoundingUnderflowUp() {
+        this.formatAndCheck("0.##", RoundingMode.UP, 0.001);
     }
 
     @Test
-    public void testParseZeroHalfBigDecimalOnly() {
-        this.parseBigDecimalOnlyAndCheck("#.#", "0.5");
+    public void testFormatDoubleRoundingUnnecessaryFails() {
+        final DecimalFormat format = new DecimalFormat("0.#");
+        format.setRoundingMode(RoundingMode.UNNECESSARY);
+
+        assertThrows(ArithmeticException.class, () -> format.format(1.25));
     }
 
     @Test
-    public void testParseZeroHalfIntegerOnly() {
-        this.parseIntegerOnlyAndCheck("#.#", "0.5");
+    public void testFormatDoubleMaxValue() {
+        this.formatAndCheck("#,##0.###", RoundingMode.HALF_EVEN, Double.MAX_VALUE);
     }
 
     @Test
-    public void testParseZeroHalf() {
-        this.parseAndCheck("#.#", "0.5");
+    public void testFormatDoubleMinValue() {
+        this.formatAndCheck("0.###", RoundingMode.HALF_EVEN, Double.MIN_VALUE);
     }
 
     @Test
-    public void testParseHalfBigDecimalOnly() {
-        this.parseBigDecimalOnlyAndCheck("#.#", ".5");
+    public void testFormatDoublePercent() {
+        this.formatAndCheck("#,##0.#" + DecimalFormat.PERCENT, RoundingMode.HALF_EVEN, 0.123456);
     }
 
     @Test
-    public void testParseHalfIntegerOnly() {
-        this.parseIntegerOnlyAndCheck("#.#", ".5");
+    public void testFormatDoubleTenthPercent() {
+        this.formatAndCheck("0" + DecimalFormat.PERCENT, 0.1);
     }
 
     @Test
-    public void testParseHalf() {
-        this.parseAndCheck("#.#", ".5");
+    public void testFormatDoubleLarge() {
+        this.formatAndCheck("#,##0.###", 123456789012.375);
+    }
+
+    @Test
+    public void testFormatDoubleCustomZero() {
+        final String pattern = "#,##0.###";
+
+        final java.text.DecimalFormatSymbols jdkSymbols = new java.text.DecimalFormatSymbols(EN_AU);
+        jdkSymbols.setZeroDigit('A');
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern, jdkSymbols);
+
+        final DecimalFormatSymbols emulSymbols = new DecimalFormatSymbols(EN_AU);
+        emulSymbols.setZeroDigit('A');
+        final DecimalFormat emul = new DecimalFormat(pattern, emulSymbols);
+
+        this.formatAndCheck(jdk,
+                emul,
+                -1234.05);
+    }
+
+    // formatScientific.................................................................................................
+
+    @Test
+    public void testFormatScientificDoubleRounding() {
+        this.formatAndCheck("0.###E0",
+                RoundingMode.HALF_EVEN,
+                1234.5678);
+    }
+
+    @Test
+    public void testFormatScientificDoubleRoundingCarry() {
+        this.formatAndCheck("0.##E0",
+                RoundingMode.HALF_UP,
+                9.999);
+    }
+
+    @Test
+    public void testFormatScientificDoubleNegativeExponent() {
+        this.formatAndCheck("0.0E0",
+                RoundingMode.HALF_EVEN,
+                -0.000123);
+    }
+
+    @Test
+    public void testFormatScientificZeroOneSignificant() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                0);
+    }
+
+    @Test
+    public void testFormatScientificZeroTwoSignificant() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                0);
+    }
+
+    @Test
+    public void testFormatScientificOneSignificantLarge() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                12);
+    }
+
+    @Test
+    public void testFormatScientificOneSignificant() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                1.2);
+    }
+
+    @Test
+    public void testFormatScientificOneSignificant2() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                1.5);
+    }
+
+    @Test
+    public void testFormatScientificOneSignificantSmall() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                0.23);
+    }
+
+    @Test
+    public void testFormatScientificOneSignificantSmall2() {
+        this.formatAndCheck("#.#E0",
+                RoundingMode.HALF_UP,
+                0.25);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificantLarge() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                12);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificantLarge2() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                15);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificant() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                1.23,
+                "12.3e-1");
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificant2() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                1.53,
+                "15.3e-1");
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificant3() {
+        this.formatAndCheck("00.0E0",
+                RoundingMode.HALF_UP,
+                1.2,
+                "12.0e-1");
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificant4() {
+        this.formatAndCheck("00.0E0",
+                RoundingMode.HALF_UP,
+                1.23);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificant4Rounding() {
+        this.formatAndCheck("00.0E0",
+                RoundingMode.HALF_UP,
+                1.234);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificantSmall() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                0.23);
+    }
+
+    @Test
+    public void testFormatScientificTwoSignificantSmall2() {
+        this.formatAndCheck("##.#E0",
+                RoundingMode.HALF_UP,
+                0.25);
+    }
+
+    // compile..........................................................................................................
+
+    @Test
+    public void testCompileCached() {
+        final DecimalFormat format = new DecimalFormat("#,##0.###");
+        assertSame(format.compile(), format.compile());
+    }
+
+    @Test
+    public void testCompileAfterApplyPattern() {
+        this.compileAfterChangeAndCheck((f) -> f.applyPattern("0.00"), 1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetDecimalFormatSymbols() {
+        this.compileAfterChangeAndCheck((f) -> {
+            final DecimalFormatSymbols symbols = new DecimalFormatSymbols(EN_AU);
+            symbols.setZeroDigit('A');
+            f.setDecimalFormatSymbols(symbols);
+        }, 1234.5);
+    }
+
+    @Test
+    public void testCompileAfterSetDecimalSeparatorAlwaysShown() {
+        this.compileAfterChangeAndCheck((f) -> f.setDecimalSeparatorAlwaysShown(true), 12L);
+    }
+
+    @Test
+    public void testCompileAfterSetGroupingSize() {
+        this.compileAfterChangeAndCheck((f) -> f.setGroupingSize(2), 1234.5);
+    }
+
+    @Test
+    public void testCompileAfterSetGroupingUsed() {
+        this.compileAfterChangeAndCheck((f) -> f.setGroupingUsed(false), 1234.5);
+    }
+
+    @Test
+    public void testCompileAfterSetMaximumFractionDigits() {
+        this.compileAfterChangeAndCheck((f) -> f.setMaximumFractionDigits(1), 1.25);
+    }
+
+    @Test
+    public void testCompileAfterSetMinimumFractionDigits() {
+        this.compileAfterChangeAndCheck((f) -> f.setMinimumFractionDigits(2), 1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetMaximumIntegerDigits() {
+        this.compileAfterChangeAndCheck((f) -> f.setMaximumIntegerDigits(2), 1234L);
+    }
+
+    @Test
+    public void testCompileAfterSetMinimumIntegerDigits() {
+        this.compileAfterChangeAndCheck((f) -> f.setMinimumIntegerDigits(6), 1234L);
+    }
+
+    @Test
+    public void testCompileAfterSetMultiplier() {
+        this.compileAfterChangeAndCheck((f) -> f.setMultiplier(100), 1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetNegativePrefix() {
+        this.compileAfterChangeAndCheck((f) -> f.setNegativePrefix("N"), -1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetNegativeSuffix() {
+        this.compileAfterChangeAndCheck((f) -> f.setNegativeSuffix("N"), -1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetPositivePrefix() {
+        this.compileAfterChangeAndCheck((f) -> f.setPositivePrefix("P"), 1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetPositiveSuffix() {
+        this.compileAfterChangeAndCheck((f) -> f.setPositiveSuffix("P"), 1.5);
+    }
+
+    @Test
+    public void testCompileAfterSetRoundingMode() {
+        this.compileAfterChangeAndCheck((f) -> f.setRoundingMode(RoundingMode.UP), 1.2345);
+    }
+
+    /**
+     * Compiles, changes the {@link DecimalFormat} and verifies a new {@link DecimalFormatCompiled} is returned while the
+     * previous is unaffected.
+     */
+    private void compileAfterChangeAndCheck(final Consumer<DecimalFormat> change,
+                                            final Object value) {
+        Locale.setDefault(EN_AU);
+
+        final DecimalFormat format = new DecimalFormat("#,##0.###");
+        final DecimalFormatCompiled before = format.compile();
+        final String expectedBefore = format.format(value);
+
+        change.accept(format);
+
+        final DecimalFormatCompiled after = format.compile();
+        assertNotSame(before, after, "compile after change");
+
+        final String expected = format.format(value);
+        assertNotEquals(expectedBefore, expected, () -> "format after change " + format);
+
+        assertEquals(expectedBefore,
+                value instanceof Long ? before.format((long) value) : before.format((double) value),
+                () -> "previous compile " + before);
+        assertEquals(expected,
+                value instanceof Long ? after.format((long) value) : after.format((double) value),
+                () -> "compile " + after);
+    }
+
+    // format StringBuilder / Appendable...............................................................................
+
+    @Test
+    public void testFormatDoubleStringBuilder() {
+        Locale.setDefault(EN_AU);
+        final StringBuilder b = new StringBuilder("prefix ");
+        assertSame(b, new DecimalFormat("#,##0.###").format(-1234.5678, b));
+        assertEquals("prefix " + new java.text.DecimalFormat("#,##0.###").format(-1234.5678), b.toString());
+    }
+
+    @Test
+    public void testFormatLongStringBuilder() {
+        Locale.setDefault(EN_AU);
+        final StringBuilder b = new StringBuilder("prefix ");
+        assertSame(b, new DecimalFormat("#,##0.###").format(-1234567L, b));
+        assertEquals("prefix " + new java.text.DecimalFormat("#,##0.###").format(-1234567L), b.toString());
+    }
+
+    @Test
+    public void testFormatStringBufferTwice() {
+        Locale.setDefault(EN_AU);
+        final DecimalFormat emul = new DecimalFormat("#,##0.###");
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat("#,##0.###");
+
+        final StringBuffer b = new StringBuffer("prefix ");
+        assertSame(b, emul.format(-1234.5678, b, new FieldPosition(0)));
+        assertEquals("prefix " + jdk.format(-1234.5678), b.toString());
+
+        final StringBuffer b2 = new StringBuffer();
+        assertSame(b2, emul.format(98L, b2, new FieldPosition(0)));
+        assertEquals(jdk.format(98L), b2.toString());
+    }
+
+    @Test
+    public void testFormatDoubleAppendable() throws IOException {
+        Locale.setDefault(EN_AU);
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new DecimalFormat("0.00E0").format(123.456, writer));
+        assertEquals(new java.text.DecimalFormat("0.00E0").format(123.456), writer.toString());
+    }
+
+    @Test
+    public void testFormatLongAppendable() throws IOException {
+        Locale.setDefault(EN_AU);
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new DecimalFormat("#,##0%").format(Long.MAX_VALUE, writer));
+        assertEquals(new java.text.DecimalFormat("#,##0%").format(Long.MAX_VALUE), writer.toString());
+    }
+
+    // format column....................................................................................................
+
+    @Test
+    public void testFormatDoubleColumn() {
+        Locale.setDefault(EN_AU);
+
+        final double[] values = {1.5, -1234.5678, 0, Double.NaN};
+        final StringBuilder b = new StringBuilder("prefix ");
+        final int[] offsets = new int[values.length + 1];
+
+        assertSame(b, new DecimalFormat("#,##0.###").format(values, 0, values.length, b, offsets));
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat("#,##0.###");
+        assertEquals("prefix ".length(), offsets[0], "start");
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(jdk.format(values[i]), b.substring(offsets[i], offsets[i + 1]), "format " + values[i]);
+        }
+    }
+
+    @Test
+    public void testFormatLongColumnRange() {
+        Locale.setDefault(EN_AU);
+
+        final long[] values = {1, -1234567L, Long.MAX_VALUE, 99};
+        final StringBuilder b = new StringBuilder();
+        final int[] offsets = new int[3];
+
+        new DecimalFormat("#,##0%").format(values, 1, 3, b, offsets);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat("#,##0%");
+        assertEquals(jdk.format(values[1]) + jdk.format(values[2]), b.toString());
+        assertEquals(jdk.format(values[1]).length(), offsets[1], "offsets[1]");
+        assertEquals(b.length(), offsets[2], "end");
+    }
+
+    @Test
+    public void testFormatLongColumnReuseStringBuilder() {
+        Locale.setDefault(EN_AU);
+
+        final DecimalFormat format = new DecimalFormat("#,##0");
+        final StringBuilder b = new StringBuilder();
+        final int[] offsets = new int[3];
+
+        format.format(new long[]{1000, 2000}, 0, 2, b, offsets);
+
+        b.setLength(0);
+        format.format(new long[]{3, 4000}, 0, 2, b, offsets);
+
+        assertEquals("34,000", b.toString());
+        assertArrayEquals(new int[]{0, 1, 6}, offsets);
+    }
+
+    // helpers..........................................................................................................
+
+    private void formatAndCheck(final String pattern,
+                                final Object value) {
+        this.formatAndCheck(pattern,
+                RoundingMode.UNNECESSARY,
+                value);
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final RoundingMode roundingMode,
+                                final Object value) {
+        this.formatAndCheck(pattern,
+                roundingMode,
+                value,
+                EN_AU);
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final RoundingMode roundingMode,
+                                final Object value,
+                                final Locale locale) {
+        Locale.setDefault(locale);
+
+        final java.text.DecimalFormat jdk = new java.text.DecimalFormat(pattern);
+        jdk.setRoundingMode(roundingMode);
+
+        final DecimalFormat emul = new DecimalFormat(pattern);
+        emul.setRoundingMode(roundingMode);
+
+        this.formatAndCheck(jdk, emul, value, locale);
+    }
+
+    private void formatAndCheck(final java.text.DecimalFormat jdk,
+                                final DecimalFormat emul,
+                                final Object value) {
+        this.formatAndCheck(jdk, emul, value, EN_AU);
+    }
+
+    private void formatAndCheck(final java.text.DecimalFormat jdk,
+                                final DecimalFormat emul,
+                                final Object value,
+                                final Locale locale) {
+        this.check(jdk, emul, locale, true);
+
+        this.formatAndCheck(emul, value, locale, jdk.format(value));
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final RoundingMode roundingMode,
+                                final Object value,
+                                final String expected) {
+        final Locale locale = EN_AU;
+        Locale.setDefault(locale);
+
+        final DecimalFormat emul = new DecimalFormat(pattern);
+        emul.setRoundingMode(roundingMode);
+
+        this.formatAndCheck(emul, value, locale, expected);
+    }
+
+    private void formatAndCheck(final DecimalFormat emul,
+                                final Object value,
+                                final Locale locale,
+                                final String expected) {
+        assertEquals(expected,
+                emul.format(value),
+                () -> emul.toPattern() + " value " + value + " locale " + locale + " decimalFormat: " + emul);
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseDoubleNan() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getNaN());
+    }
+
+    @Test
+    public void testParseDoublePositiveInfinity() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseDoublePositiveInfinityWithPrefixAndSuffix() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseAndCheck("P0S;Q0Z", "" + new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseDoubleNegativeInfinity() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseAndCheck("0", "" + new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseDoubleNegativeInfinityWithPrefixAndSuffix() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseAndCheck("P0S;Q0Z", "" + new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseIntegerTooFewDigits() {
+        this.parseBigDecimalOnlyAndCheck("00", "1");
+    }
+
+    @Test
+    public void testParseIntegerTooFewDigits2() {
+        this.parseBigDecimalOnlyAndCheck("0000", "123");
+    }
+
+    @Test
+    public void testParseIntegerTooManyDigits() {
+        this.parseBigDecimalOnlyAndCheck("0", "12");
+    }
+
+    @Test
+    public void testParseIntegerTooManyDigits2() {
+        this.parseBigDecimalOnlyAndCheck("00", "123");
+    }
+
+    @Test
+    public void testParseFractionTooFewDigits() {
+        this.parseBigDecimalOnlyAndCheck("0.00", "1");
+    }
+
+    @Test
+    public void testParseFractionTooFewDigits2() {
+        this.parseBigDecimalOnlyAndCheck("0.000", "1.23");
+    }
+
+    @Test
+    public void testParseFractionTooManyDigits() {
+        this.parseBigDecimalOnlyAndCheck("0", "1.2");
+    }
+
+    @Test
+    public void testParseFractionTooManyDigits2() {
+        this.parseBigDecimalOnlyAndCheck("0.0", "1.23");
+    }
+
+    @Test
+    public void testParseZeroBigDecimalOnly() {
+        this.parseBigDecimalOnlyAndCheck("#", "0");
+    }
+
+    @Test
+    public void testParseZeroIntegerOnly() {
+        this.parseIntegerOnlyAndCheck("#", "0");
+    }
+
+    @Test
+    public void testParseZero() {
+        this.parseAndCheck("#", "0");
+    }
+
+    @Test
+    public void testParseOneBigDecimalOnly() {
+        this.parseBigDecimalOnlyAndCheck("#", "1");
+    }
+
+    @Test
+    public void testParseOneIntegerOnly() {
+        this.parseIntegerOnlyAndCheck("#", "1");
+    }
+
+    @Test
+    public void testParseOne() {
+        this.parseAndCheck("#", "1");
+    }
+
+    @Test
+    public void testParseMinusOneBigDecimalOnly() {
+        this.parseBigDecimalOnlyAndCheck("#", "-1");
+    }
+
+    @Test
+    public void testParseMinusOneIntegerOnly() {
+        this.parseIntegerOnlyAndCheck("#", "-1");
+    }
+
+    @Test
+    public void testParseMinusOne() {
+        this.parseAndCheck("#", "-1");
+    }
+
+    @Test
+    public void testParseZeroHalfBigDecimalOnly() {
+        this.parseBigDecimalOnlyAndCheck("#.#", "0.5");
+    }
+
+    @Test
+    public void testParseZeroHalfIntegerOnly() {
+        this.parseIntegerOnlyAndCheck("#.#", "0.5");
+    }
+
+    @Test
+    public void testParseZeroHalf() {
+        this.parseAndCheck("#.#", "0.5");
+    }
+
+    @Test
+    public void testParseHalfBigDecimalOnly() {
+        this.parseBigDecimalOnlyAndCheck("#.#", ".5");
+    }
+
+    @Test
+    public void testParseHalfIntegerOnly() {
+        this.parseIntegerOnlyAndCheck("#.#", ".5");
+    }
+
+    @Test
+    public void testParseHalf() {
+        this.parseAndCheck("#.#", ".5");
     }
 
     @Test
@@ -2045,48 +2644,178 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
     }
 
     @Test
-    public void testParseIntegerExponent() {
-        this.parseAndCheck("#E0", "1e5");
+    public void testParseIntegerExponent() {
+        this.parseAndCheck("#E0", "1e5");
+    }
+
+    @Test
+    public void testParseIntegerExponentNegative() {
+        this.parseAndCheck("#E0", "1e-5");
+    }
+
+    @Test
+    public void testParseIntegerFractionExponent() {
+        this.parseAndCheck("#.#E0", "1.2e5");
+    }
+
+    @Test
+    public void testParseIntegerFractionExponentNegative() {
+        this.parseAndCheck("#.#E0", "1.2e-5");
+    }
+
+    @Test
+    public void testParseExponentWithoutDigits() {
+        this.parseAndCheck("#E0", "1e");
+    }
+
+    @Test
+    public void testParseExponentMinusWithoutDigits() {
+        this.parseAndCheck("#E0", "1e-");
+    }
+
+    @Test
+    public void testParseExponentMinusMinus() {
+        this.parseAndCheck("#E0", "1e--5");
+    }
+
+    @Test
+    public void testParseExponentFollowedByInvalid() {
+        this.parseAndCheck("#E0", "1e,");
+    }
+
+    @Test
+    public void testParseFractionExponentWithoutDigits() {
+        this.parseAndCheck("#.#E0", "1.2e");
+    }
+
+    @Test
+    public void testParsePercentage() {
+        this.parseAndCheck("#%", "123%");
+    }
+
+    @Test
+    public void testParsePercentage2() {
+        this.parseAndCheck("#.#%", "12.34%");
+    }
+
+    @Test
+    public void testParsePerMille() {
+        this.parseAndCheck("#" + DecimalFormat.PER_MILLE, "123" + DecimalFormat.PER_MILLE);
+    }
+
+    @Test
+    public void testParsePerMille2() {
+        this.parseAndCheck("#" + DecimalFormat.PER_MILLE, "12.34" + DecimalFormat.PER_MILLE);
+    }
+
+    @Test
+    public void testParseCurrency() {
+        this.parseAndCheck(DecimalFormat.CURRENCY + "#.00", "$1.25");
+    }
+
+    @Test
+    public void testParseRangeStartNegativeFails() {
+        this.parseRangeFails("123", -1, 3);
     }
 
     @Test
-    public void testParseIntegerExponentNegative() {
-        this.parseAndCheck("#E0", "1e-5");
+    public void testParseRangeStartAfterEndFails() {
+        this.parseRangeFails("123", 2, 1);
     }
 
     @Test
-    public void testParseIntegerFractionExponent() {
-        this.parseAndCheck("#.#E0", "1.2e5");
+    public void testParseRangeEndAfterLengthFails() {
+        this.parseRangeFails("123", 0, 4);
+    }
+
+    private void parseRangeFails(final String text,
+                                 final int start,
+                                 final int end) {
+        assertThrows(IndexOutOfBoundsException.class, () -> new DecimalFormat("#").parse(text, start, end, new ParsePosition(0)));
     }
 
     @Test
-    public void testParseIntegerFractionExponentNegative() {
-        this.parseAndCheck("#.#E0", "1.2e-5");
+    public void testParseRangeStopsAtEnd() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(123L,
+                new DecimalFormat("#").parse(new StringBuilder("x12345"), 1, 4, position));
+        assertEquals(4, position.getIndex(), "index");
+        assertEquals(-1, position.getErrorIndex(), "errorIndex");
     }
 
     @Test
-    public void testParsePercentage() {
-        this.parseAndCheck("#%", "123%");
+    public void testParseRangeSuffixOutsideRangeIgnored() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(12L,
+                new DecimalFormat("#%").parse("1200%", 0, 4, position));
+        assertEquals(4, position.getIndex(), "index");
     }
 
     @Test
-    public void testParsePercentage2() {
-        this.parseAndCheck("#.#%", "12.34%");
+    public void testParseRangeEmpty() {
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(null,
+                new DecimalFormat("#").parse("123", 1, 1, position));
+        assertEquals(1, position.getErrorIndex(), "errorIndex");
     }
 
     @Test
-    public void testParsePerMille() {
-        this.parseAndCheck("#" + DecimalFormat.PER_MILLE, "123" + DecimalFormat.PER_MILLE);
+    public void testParseFractionZerosLong() {
+        this.parseAndCheck("#.#", "12.000");
     }
 
     @Test
-    public void testParsePerMille2() {
-        this.parseAndCheck("#" + DecimalFormat.PER_MILLE, "12.34" + DecimalFormat.PER_MILLE);
+    public void testParseFractionDouble() {
+        this.parseAndCheck("#.#", "12.345");
     }
 
     @Test
-    public void testParseCurrency() {
-        this.parseAndCheck(DecimalFormat.CURRENCY + "#.00", "$1.25");
+    public void testParseNegativeFractionDouble() {
+        this.parseAndCheck("#.#", "-0.001");
+    }
+
+    @Test
+    public void testParseNumberLongMaxValue() {
+        this.parseAndCheck("#", "9223372036854775807");
+    }
+
+    @Test
+    public void testParseNumberLongMaxValuePlusOneDouble() {
+        this.parseAndCheck("#", "9223372036854775808");
+    }
+
+    @Test
+    public void testParseNumberLongMinValue() {
+        this.parseAndCheck("#", "-9223372036854775808");
+    }
+
+    @Test
+    public void testParseManyIntegerDigitsDouble() {
+        this.parseAndCheck("#", "123456789012345678901234567890");
+    }
+
+    @Test
+    public void testParseManyFractionDigitsDouble() {
+        this.parseAndCheck("#.#", "1.23456789012345678901234567890");
+    }
+
+    @Test
+    public void testParsePercentageFractionDouble() {
+        this.parseAndCheck("#%", "125%");
+    }
+
+    @Test
+    public void testParseIntegerOnlyPercentageTruncated() {
+        this.parseIntegerOnlyAndCheck("#%", "125%");
+    }
+
+    @Test
+    public void testParseIntegerOnlyPercentageTruncatedZero() {
+        this.parseIntegerOnlyAndCheck("#%", "-5%");
     }
 
     private void parseBigDecimalOnlyAndCheck(final String pattern,
@@ -2146,6 +2875,446 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
         assertEquals(jdkPosition.getErrorIndex(),
                 emulPosition.getErrorIndex(),
                 () -> "error index, " + jdk.toPattern() + " parse " + CharSequences.quoteAndEscape(value) + " jdk: " + jdk + " emul: " + emul);
+
+        this.parseRangeAndCheck(jdk, emul, value);
+    }
+
+    /**
+     * Parses the value surrounded by extra characters, using the range parse, which should produce the same
+     * {@link Number} and absolute positions as the JDK parsing the same value after the leading characters.
+     */
+    private void parseRangeAndCheck(final java.text.DecimalFormat jdk,
+                                    final DecimalFormat emul,
+                                    final String value) {
+        final String before = "@@";
+        final String after = "!!";
+        final int start = before.length();
+        final int end = start + value.length();
+
+        final java.text.ParsePosition jdkPosition = new java.text.ParsePosition(start);
+        final ParsePosition emulPosition = new ParsePosition(0);
+
+        assertEquals(jdk.parse(before + value, jdkPosition),
+                emul.parse(CharBuffer.wrap(before + value + after), start, end, emulPosition),
+                () -> jdk.toPattern() + " parse range " + CharSequences.quoteAndEscape(value) + " jdk: " + jdk + " emul: " + emul);
+        assertEquals(jdkPosition.getIndex(),
+                emulPosition.getIndex(),
+                () -> "index, " + jdk.toPattern() + " parse range " + CharSequences.quoteAndEscape(value) + " jdk: " + jdk + " emul: " + emul);
+        assertEquals(jdkPosition.getErrorIndex(),
+                emulPosition.getErrorIndex(),
+                () -> "error index, " + jdk.toPattern() + " parse range " + CharSequences.quoteAndEscape(value) + " jdk: " + jdk + " emul: " + emul);
+    }
+
+    // parseLong........................................................................................................
+
+    @Test
+    public void testParseLong() {
+        this.parseLongAndCheck("#,##0", "1,234", 1234);
+    }
+
+    @Test
+    public void testParseLongNegative() {
+        this.parseLongAndCheck("#,##0", "-1,234", -1234);
+    }
+
+    @Test
+    public void testParseLongFractionZeros() {
+        this.parseLongAndCheck("#.#", "12.00", 12);
+    }
+
+    @Test
+    public void testParseLongExponent() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseLongAndCheck("#.#E0", "1.25" + new DecimalFormatSymbols().getExponentSeparator() + "2", 125);
+    }
+
+    @Test
+    public void testParseLongPercent() {
+        this.parseLongAndCheck("#%", "1200%", 12);
+    }
+
+    @Test
+    public void testParseLongMaxValue() {
+        this.parseLongAndCheck("#", "9223372036854775807", Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testParseLongMinValue() {
+        this.parseLongAndCheck("#", "-9223372036854775808", Long.MIN_VALUE);
+    }
+
+    @Test
+    public void testParseLongIntegerOnly() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final DecimalFormat format = new DecimalFormat("#.#");
+        format.setParseIntegerOnly(true);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(12L, format.parseLong("12.5", 0, 4, position));
+        assertEquals(2, position.getIndex(), "index");
+        assertEquals(-1, position.getErrorIndex(), "errorIndex");
+    }
+
+    @Test
+    public void testParseLongFractionFails() {
+        this.parseLongFails("#.#", "12.5", 0);
+    }
+
+    @Test
+    public void testParseLongPercentFractionFails() {
+        this.parseLongFails("#%", "125%", 0);
+    }
+
+    @Test
+    public void testParseLongMaxValuePlusOneFails() {
+        this.parseLongFails("#", "9223372036854775808", 0);
+    }
+
+    @Test
+    public void testParseLongInfinityFails() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseLongFails("#", new DecimalFormatSymbols().getInfinity(), 0);
+    }
+
+    @Test
+    public void testParseLongNanFails() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseLongFails("#", new DecimalFormatSymbols().getNaN(), 0);
+    }
+
+    @Test
+    public void testParseLongInvalidFails() {
+        this.parseLongFails("#", "A", 0);
+    }
+
+    @Test
+    public void testParseLongRange() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(234L, new DecimalFormat("#").parseLong("12345", 1, 4, position));
+        assertEquals(4, position.getIndex(), "index");
+    }
+
+    private void parseLongAndCheck(final String pattern,
+                                   final String text,
+                                   final long expected) {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(expected,
+                new DecimalFormat(pattern).parseLong(text, 0, text.length(), position),
+                () -> pattern + " parseLong " + CharSequences.quoteAndEscape(text));
+        assertEquals(text.length(), position.getIndex(), "index");
+        assertEquals(-1, position.getErrorIndex(), "errorIndex");
+    }
+
+    private void parseLongFails(final String pattern,
+                                final String text,
+                                final int errorIndex) {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(0L,
+                new DecimalFormat(pattern).parseLong(text, 0, text.length(), position),
+                () -> pattern + " parseLong " + CharSequences.quoteAndEscape(text));
+        assertEquals(errorIndex, position.getErrorIndex(), "errorIndex");
+    }
+
+    // parseDouble......................................................................................................
+
+    @Test
+    public void testParseDoublePrimitive() {
+        this.parseDoubleAndCheck("#,##0.###", "1,234.5");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveNegative() {
+        this.parseDoubleAndCheck("#,##0.###", "-1,234.5");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveNegativeZero() {
+        this.parseDoubleAndCheck("#.#", "-0");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveInteger() {
+        this.parseDoubleAndCheck("#.#", "123");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveExponent() {
+        this.parseDoubleAndCheck("#.#E0", "1.5E-7");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveExponentWithoutDigits() {
+        this.parseDoubleAndCheck("#.#E0", "1.5e-");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveLargeExponent() {
+        this.parseDoubleAndCheck("#.#E0", "1.5E300");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveManyDigits() {
+        this.parseDoubleAndCheck("#.#", "1234567890.12345678901234567890");
+    }
+
+    @Test
+    public void testParseDoublePrimitivePercent() {
+        this.parseDoubleAndCheck("#.#%", "12.5%");
+    }
+
+    @Test
+    public void testParseDoublePrimitivePerMille() {
+        this.parseDoubleAndCheck("#.#" + DecimalFormat.PER_MILLE, "12.5" + DecimalFormat.PER_MILLE);
+    }
+
+    @Test
+    public void testParseDoublePrimitiveNan() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseDoubleAndCheck("#.#", new DecimalFormatSymbols().getNaN());
+    }
+
+    @Test
+    public void testParseDoublePrimitiveInfinity() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseDoubleAndCheck("#.#", new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseDoublePrimitiveNegativeInfinity() {
+        Locale.setDefault(DEFAULT_LOCALE);
+        this.parseDoubleAndCheck("#.#", "-" + new DecimalFormatSymbols().getInfinity());
+    }
+
+    @Test
+    public void testParseDoublePrimitiveMultiplier() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final DecimalFormat format = new DecimalFormat("#.#");
+        format.setMultiplier(4);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(0.25, format.parseDouble("1", 0, 1, position));
+        assertEquals(1, position.getIndex(), "index");
+    }
+
+    @Test
+    public void testParseDoublePrimitiveInvalidFails() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(0.0, new DecimalFormat("#.#").parseDouble("A", 0, 1, position));
+        assertEquals(0, position.getErrorIndex(), "errorIndex");
+    }
+
+    private void parseDoubleAndCheck(final String pattern,
+                                     final String text) {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final java.text.ParsePosition jdkPosition = new java.text.ParsePosition(0);
+        final Number expected = new java.text.DecimalFormat(pattern).parse(text, jdkPosition);
+
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(expected.doubleValue(),
+                new DecimalFormat(pattern).parseDouble(text, 0, text.length(), position),
+                () -> pattern + " parseDouble " + CharSequences.quoteAndEscape(text));
+        assertEquals(jdkPosition.getIndex(), position.getIndex(), "index");
+        assertEquals(-1, position.getErrorIndex(), "errorIndex");
+    }
+
+    // parseLongs.......................................................................................................
+
+    @Test
+    public void testParseLongs() {
+        this.parseLongsAndCheck("#,##0",
+                "1,234;-5;0;9223372036854775807",
+                ';',
+                new long[]{1234, -5, 0, Long.MAX_VALUE},
+                new int[]{-1, -1, -1, -1});
+    }
+
+    @Test
+    public void testParseLongsErrors() {
+        //        0123456789012345678
+        final String text = "12|A|3.5|4x|||5";
+        this.parseLongsAndCheck("#.#",
+                text,
+                '|',
+                new long[]{12, 0, 0, 0, 0, 0, 5},
+                new int[]{-1, 3, 5, 10, 12, 13, -1});
+    }
+
+    @Test
+    public void testParseLongsExponentWithoutDigits() {
+        //        0123456789
+        final String text = "1e,1e-,1e2";
+        this.parseLongsAndCheck("#E0",
+                text,
+                ',',
+                new long[]{0, 0, 100},
+                new int[]{1, 4, -1});
+    }
+
+    @Test
+    public void testParseLongsTrailingDelimiter() {
+        this.parseLongsAndCheck("0",
+                "1\n2\n",
+                '\n',
+                new long[]{1, 2},
+                new int[]{-1, -1});
+    }
+
+    @Test
+    public void testParseLongsEmpty() {
+        this.parseLongsAndCheck("0",
+                "",
+                ',',
+                new long[0],
+                new int[0]);
+    }
+
+    @Test
+    public void testParseLongsPercent() {
+        this.parseLongsAndCheck("0%",
+                "100%,200%,50%",
+                ',',
+                new long[]{1, 2, 0},
+                new int[]{-1, -1, 10});
+    }
+
+    @Test
+    public void testParseLongsIntegerOnly() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final DecimalFormat format = new DecimalFormat("#.#");
+        format.setParseIntegerOnly(true);
+
+        final long[] values = new long[2];
+        final int[] errorIndices = new int[2];
+        assertEquals(2, format.parseLongs("12.5,7", 0, 6, ',', values, errorIndices));
+        assertArrayEquals(new long[]{0, 7}, values, "values");
+        assertArrayEquals(new int[]{2, -1}, errorIndices, "errorIndices");
+    }
+
+    @Test
+    public void testParseLongsRange() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final long[] values = new long[2];
+        final int[] errorIndices = new int[2];
+        assertEquals(2, new DecimalFormat("0").parseLongs("header,1,A,3", 7, 10, ',', values, errorIndices));
+        assertArrayEquals(new long[]{1, 0}, values, "values");
+        assertArrayEquals(new int[]{-1, 9}, errorIndices, "errorIndices");
+    }
+
+    @Test
+    public void testParseLongsTooManyFieldsFails() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new DecimalFormat("0").parseLongs("1,2,3", 0, 5, ',', new long[2], new int[3]));
+    }
+
+    @Test
+    public void testParseLongsInvalidRangeFails() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new DecimalFormat("0").parseLongs("1,2,3", 0, 6, ',', new long[3], new int[3]));
+    }
+
+    private void parseLongsAndCheck(final String pattern,
+                                    final String text,
+                                    final char delimiter,
+                                    final long[] values,
+                                    final int[] errorIndices) {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final long[] actualValues = new long[values.length + 1];
+        final int[] actualErrorIndices = new int[errorIndices.length + 1];
+
+        assertEquals(values.length,
+                new DecimalFormat(pattern).parseLongs(text, 0, text.length(), delimiter, actualValues, actualErrorIndices),
+                () -> pattern + " parseLongs " + CharSequences.quoteAndEscape(text));
+        assertArrayEquals(values, Arrays.copyOf(actualValues, values.length), "values");
+        assertArrayEquals(errorIndices, Arrays.copyOf(actualErrorIndices, errorIndices.length), "errorIndices");
+    }
+
+    // parseDoubles.....................................................................................................
+
+    @Test
+    public void testParseDoubles() {
+        this.parseDoublesAndCheck("#,##0.###",
+                "1,234.5\t-0.25\t12\t\u221E",
+                '\t',
+                new double[]{1234.5, -0.25, 12, Double.POSITIVE_INFINITY},
+                new int[]{-1, -1, -1, -1});
+    }
+
+    @Test
+    public void testParseDoublesErrors() {
+        //        012345678901
+        final String text = "1.5;;x;2.5z";
+        this.parseDoublesAndCheck("#.#",
+                text,
+                ';',
+                new double[]{1.5, 0, 0, 0},
+                new int[]{-1, 4, 5, 10});
+    }
+
+    @Test
+    public void testParseDoublesExponentWithoutDigits() {
+        //        0123456789012
+        final String text = "1.5e;2e-;2e-1";
+        this.parseDoublesAndCheck("#.#E0",
+                text,
+                ';',
+                new double[]{0, 0, 0.2},
+                new int[]{3, 6, -1});
+    }
+
+    @Test
+    public void testParseDoublesMatchesParse() {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final DecimalFormat format = new DecimalFormat("#,##0.###;(#,##0.###)");
+        final String[] fields = {"1", "(2.5)", "1,234,567.891", "0.001", "(0)"};
+        final String text = String.join("|", fields);
+
+        final double[] values = new double[fields.length];
+        final int[] errorIndices = new int[fields.length];
+        assertEquals(fields.length, format.parseDoubles(text, 0, text.length(), '|', values, errorIndices));
+
+        for (int i = 0; i < fields.length; i++) {
+            final String field = fields[i];
+            assertEquals(new java.text.DecimalFormat("#,##0.###;(#,##0.###)").parse(field, new java.text.ParsePosition(0)).doubleValue(),
+                    values[i],
+                    () -> "parseDoubles " + field);
+            assertEquals(-1, errorIndices[i], () -> "errorIndex " + field);
+        }
+    }
+
+    private void parseDoublesAndCheck(final String pattern,
+                                      final String text,
+                                      final char delimiter,
+                                      final double[] values,
+                                      final int[] errorIndices) {
+        Locale.setDefault(DEFAULT_LOCALE);
+
+        final double[] actualValues = new double[values.length];
+        final int[] actualErrorIndices = new int[errorIndices.length];
+
+        assertEquals(values.length,
+                new DecimalFormat(pattern).parseDoubles(text, 0, text.length(), delimiter, actualValues, actualErrorIndices),
+                () -> pattern + " parseDoubles " + CharSequences.quoteAndEscape(text));
+        assertArrayEquals(values, actualValues, "values");
+        assertArrayEquals(errorIndices, actualErrorIndices, "errorIndices");
     }
 
     // equals............................................................................................................
@@ -2296,9 +3465,24 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
 
             switch(m.getName()) {
                 case "clone":
+                case "compile":
+                case "parseDouble": // emulation only
+                case "parseDoubles": // emulation only
+                case "parseLong": // emulation only
+                case "parseLongs": // emulation only
+                case "patternCacheHits": // emulation only
+                case "patternCacheMisses": // emulation only
                 case "toString":
                     required = false;
                     break;
+                case "format":
+                    // format(double|long, StringBuilder) and the column format(double[]|long[], int, int, StringBuilder, int[]) are emulation only
+                    required = false == isNumberFormatToStringBuilder(m.getParameterTypes());
+                    break;
+                case "parse":
+                    // parse(CharSequence, int, int, ParsePosition) is emulation only
+                    required = CharSequence.class != m.getParameterTypes()[0];
+                    break;
                 default:
                     required = true;
                     break;
@@ -2308,6 +3492,10 @@ public final class DecimalFormatTest extends FormatTestCase<DecimalFormat> imple
         };
     }
 
+    private static boolean isNumberFormatToStringBuilder(final Class<?>[] parameters) {
+        return Arrays.asList(parameters).contains(StringBuilder.class);
+    }
+
     @Override
     public Predicate<Field> requiredFields() {
         return (f) -> {
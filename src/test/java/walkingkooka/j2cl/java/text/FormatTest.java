@@ -34,7 +34,25 @@ public final class FormatTest extends JavaTextTestCase<Format> {
 
     @Override
     public Predicate<Method> requiredMethods() {
-        return Predicates.always();
+        return (m) -> {
+            final boolean required;
+
+            switch (m.getName()) {
+                case "format":
+                    // format(Object, StringBuilder) and format(Object, Appendable) are emulation only
+                    required = false == isStringBuilderOrAppendable(m.getParameterTypes()[m.getParameterCount() - 1]);
+                    break;
+                default:
+                    required = true;
+                    break;
+            }
+
+            return required;
+        };
+    }
+
+    private static boolean isStringBuilderOrAppendable(final Class<?> type) {
+        return StringBuilder.class == type || Appendable.class == type;
     }
 
     @Override
@@ -20,6 +20,8 @@ package walkingkooka.j2cl.java.text;
 import org.junit.jupiter.api.Test;
 import walkingkooka.collect.set.Sets;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
@@ -33,9 +35,12 @@ import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
@@ -479,6 +484,126 @@ public final class NumberFormatTest extends FormatTestCase<NumberFormat> {
         this.checkFieldPosition(jdkFieldPosition, fieldPosition);
     }
 
+    // format StringBuilder / Appendable................................................................................
+
+    @Test
+    public void testFormatObjectStringBuilderNonNumberFails() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TestNumberFormat().format("not a number", new StringBuilder()));
+    }
+
+    @Test
+    public void testFormatObjectStringBuilderInteger() {
+        this.formatStringBuilderAndCheck((f, b) -> f.format((Object) 5, b), "L5");
+    }
+
+    @Test
+    public void testFormatObjectStringBuilderBigDecimal() {
+        this.formatStringBuilderAndCheck((f, b) -> f.format(new BigDecimal(0.5), b), "D0.5");
+    }
+
+    @Test
+    public void testFormatDoubleStringBuilder() {
+        this.formatStringBuilderAndCheck((f, b) -> f.format(1.5, b), "D1.5");
+    }
+
+    @Test
+    public void testFormatLongStringBuilder() {
+        this.formatStringBuilderAndCheck((f, b) -> f.format(15L, b), "L15");
+    }
+
+    private void formatStringBuilderAndCheck(final BiFunction<NumberFormat, StringBuilder, StringBuilder> format,
+                                             final String expected) {
+        final StringBuilder b = new StringBuilder("before ");
+        assertSame(b, format.apply(new TestNumberFormat(), b), "same StringBuilder");
+        assertEquals("before " + expected, b.toString());
+    }
+
+    @Test
+    public void testFormatDoubleAppendable() throws IOException {
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new TestNumberFormat().format(1.5, writer));
+        assertEquals("D1.5", writer.toString());
+    }
+
+    @Test
+    public void testFormatLongAppendable() throws IOException {
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new TestNumberFormat().format(15L, writer));
+        assertEquals("L15", writer.toString());
+    }
+
+    @Test
+    public void testFormatLongAppendableStringBuilder() throws IOException {
+        final StringBuilder b = new StringBuilder();
+        final Appendable appendable = b;
+        assertSame(appendable, new TestNumberFormat().format(15L, appendable));
+        assertEquals("L15", b.toString());
+    }
+
+    @Test
+    public void testFormatObjectAppendable() throws IOException {
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new TestNumberFormat().format((Object) 15L, writer));
+        assertEquals("L15", writer.toString());
+    }
+
+    // format column....................................................................................................
+
+    @Test
+    public void testFormatDoubleColumn() {
+        final StringBuilder b = new StringBuilder("before ");
+        final int[] offsets = new int[3];
+
+        assertSame(b, new TestNumberFormat().format(new double[]{1.5, 2.5, 3.5, 4.5}, 1, 3, b, offsets));
+        assertEquals("before D2.5D3.5", b.toString());
+        assertArrayEquals(new int[]{7, 11, 15}, offsets);
+    }
+
+    @Test
+    public void testFormatLongColumn() {
+        final StringBuilder b = new StringBuilder();
+        final int[] offsets = new int[4];
+
+        assertSame(b, new TestNumberFormat().format(new long[]{1, 22, 333}, 0, 3, b, offsets));
+        assertEquals("L1L22L333", b.toString());
+        assertArrayEquals(new int[]{0, 2, 5, 9}, offsets);
+    }
+
+    @Test
+    public void testFormatLongColumnEmpty() {
+        final StringBuilder b = new StringBuilder("before");
+        final int[] offsets = new int[1];
+
+        new TestNumberFormat().format(new long[]{1}, 1, 1, b, offsets);
+        assertEquals("before", b.toString());
+        assertArrayEquals(new int[]{6}, offsets);
+    }
+
+    @Test
+    public void testFormatLongColumnInvalidStartFails() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new TestNumberFormat().format(new long[2], -1, 1, new StringBuilder(), new int[3]));
+    }
+
+    @Test
+    public void testFormatLongColumnStartAfterEndFails() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new TestNumberFormat().format(new long[2], 2, 1, new StringBuilder(), new int[3]));
+    }
+
+    @Test
+    public void testFormatDoubleColumnInvalidEndFails() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new TestNumberFormat().format(new double[2], 0, 3, new StringBuilder(), new int[4]));
+    }
+
+    @Test
+    public void testFormatDoubleColumnOffsetsTooShortFails() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new TestNumberFormat().format(new double[2], 0, 2, new StringBuilder(), new int[2]));
+    }
+
     private void checkFieldPosition(final java.text.FieldPosition jdkFieldPosition,
                                     final FieldPosition fieldPosition) {
         assertEquals(jdkFieldPosition.getBeginIndex(), fieldPosition.getBeginIndex(), "beginIndex");
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PatternCacheTest implements ClassTesting2<PatternCache<String, String>>,
+        ToStringTesting<PatternCache<String, String>> {
+
+    @Test
+    public void testWithInvalidMaxSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> PatternCache.with(7));
+    }
+
+    @Test
+    public void testGetMiss() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        assertEquals("ABC", cache.get("abc", String::toUpperCase));
+
+        this.checkCounters(cache, 0, 1, 1);
+    }
+
+    @Test
+    public void testGetHit() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        final String value = cache.get("abc", String::toUpperCase);
+
+        assertSame(value, cache.get("abc", this.compilerFails()));
+        this.checkCounters(cache, 1, 1, 1);
+    }
+
+    @Test
+    public void testGetDifferentKeys() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        cache.get("abc", String::toUpperCase);
+        cache.get("def", String::toUpperCase);
+        cache.get("abc", String::toUpperCase);
+
+        this.checkCounters(cache, 1, 2, 2);
+    }
+
+    @Test
+    public void testGetCompilerFailsNotCached() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        assertThrows(IllegalArgumentException.class, () -> cache.get("abc", this.compilerFails()));
+        assertEquals("ABC", cache.get("abc", String::toUpperCase));
+
+        this.checkCounters(cache, 0, 2, 1);
+    }
+
+    @Test
+    public void testGetBounded() {
+        final PatternCache<Integer, String> cache = PatternCache.with(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i, String::valueOf);
+        }
+
+        this.checkCounters(cache, 0, 1000, 16);
+    }
+
+    @Test
+    public void testGetLeastRecentlyUsedEvicted() {
+        final PatternCache<Integer, String> cache = PatternCache.with(8); // one entry per stripe
+        cache.get(0, String::valueOf);
+        cache.get(8, String::valueOf); // same stripe evicts 0
+
+        final AtomicInteger compiled = new AtomicInteger();
+        cache.get(0, (k) -> {
+            compiled.incrementAndGet();
+            return String.valueOf(k);
+        });
+        assertEquals(1, compiled.get(), "compiled");
+    }
+
+    @Test
+    public void testClear() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        cache.get("abc", String::toUpperCase);
+        cache.clear();
+
+        this.checkCounters(cache, 0, 1, 0);
+    }
+
+    @Test
+    public void testGetManyThreads() throws Exception {
+        final PatternCache<Integer, String> cache = PatternCache.with(64);
+
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    final int key = i % 32;
+                    assertEquals(String.valueOf(key), cache.get(key, String::valueOf));
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8 * 10_000L, cache.hits() + cache.misses(), "hits + misses");
+        assertEquals(32, cache.size(), "size");
+    }
+
+    private Function<String, String> compilerFails() {
+        return (k) -> {
+            throw new IllegalArgumentException("Unexpected compile " + k);
+        };
+    }
+
+    private void checkCounters(final PatternCache<?, ?> cache,
+                               final long hits,
+                               final long misses,
+                               final int size) {
+        assertEquals(hits, cache.hits(), () -> "hits " + cache);
+        assertEquals(misses, cache.misses(), () -> "misses " + cache);
+        assertEquals(size, cache.size(), () -> "size " + cache);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final PatternCache<String, String> cache = PatternCache.with(64);
+        cache.get("abc", String::toUpperCase);
+        cache.get("abc", String::toUpperCase);
+
+        this.toStringAndCheck(cache, "hits=1 misses=1 size=1");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<PatternCache<String, String>> type() {
+        return Cast.to(PatternCache.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
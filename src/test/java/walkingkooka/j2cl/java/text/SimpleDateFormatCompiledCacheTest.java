@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class SimpleDateFormatCompiledCacheTest implements ClassTesting2<SimpleDateFormatCompiledCache>,
+        ToStringTesting<SimpleDateFormatCompiledCache> {
+
+    private final static Locale EN_AU = Locale.forLanguageTag("EN-AU");
+    private final static TimeZone SYDNEY = TimeZone.getTimeZone("Australia/Sydney");
+    private final static String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    /**
+     * 2020-09-13 22:26:40.123 Sydney +10:00
+     */
+    private final static long EPOCH_MILLIS = 1_600_000_000_123L;
+
+    /**
+     * 2020-09-13 00:00:00.000 Sydney +10:00
+     */
+    private final static long DAY_START = 1_599_919_200_000L;
+
+    /**
+     * 2020-10-04 12:00:00.000 Sydney +11:00, daylight saving time started at 02:00.
+     */
+    private final static long DAYLIGHT_SAVING_TIME_STARTS = 1_601_773_200_000L;
+
+    private final static long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithFormats() {
+        final StringBuilder append = new StringBuilder("before ");
+        this.cache(EPOCH_MILLIS, false, append);
+        assertEquals("before 2020-09-13 22:26:40.123", append.toString());
+    }
+
+    @Test
+    public void testWithDay() {
+        this.windowAndCheck(this.cache(EPOCH_MILLIS, false), DAY_START, DAY_START + MILLIS_PER_DAY);
+    }
+
+    @Test
+    public void testWithSecond() {
+        this.windowAndCheck(this.cache(EPOCH_MILLIS, true), EPOCH_MILLIS - 123, EPOCH_MILLIS - 123 + 1000);
+    }
+
+    @Test
+    public void testWithDayOffsetChanges() {
+        this.windowAndCheck(this.cache(DAYLIGHT_SAVING_TIME_STARTS + 456, false),
+                DAYLIGHT_SAVING_TIME_STARTS,
+                DAYLIGHT_SAVING_TIME_STARTS + 1000);
+    }
+
+    private void windowAndCheck(final SimpleDateFormatCompiledCache cache,
+                                final long start,
+                                final long end) {
+        assertEquals(start, cache.start, () -> "start " + cache);
+        assertEquals(end, cache.end, () -> "end " + cache);
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTest() {
+        final SimpleDateFormatCompiledCache cache = this.cache(EPOCH_MILLIS, false);
+
+        this.testAndCheck(cache, DAY_START - 1, false);
+        this.testAndCheck(cache, DAY_START, true);
+        this.testAndCheck(cache, EPOCH_MILLIS, true);
+        this.testAndCheck(cache, DAY_START + MILLIS_PER_DAY - 1, true);
+        this.testAndCheck(cache, DAY_START + MILLIS_PER_DAY, false);
+    }
+
+    private void testAndCheck(final SimpleDateFormatCompiledCache cache,
+                              final long epochMillis,
+                              final boolean expected) {
+        assertEquals(expected,
+                cache.test(epochMillis),
+                () -> cache + " test " + epochMillis);
+    }
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatDay() {
+        final SimpleDateFormatCompiledCache cache = this.cache(EPOCH_MILLIS, false);
+
+        for (long epochMillis = DAY_START; epochMillis < DAY_START + MILLIS_PER_DAY; epochMillis += 1_234_567) {
+            this.formatAndCheck(cache, epochMillis);
+        }
+    }
+
+    @Test
+    public void testFormatSecond() {
+        final SimpleDateFormatCompiledCache cache = this.cache(EPOCH_MILLIS, true);
+
+        for (long epochMillis = EPOCH_MILLIS - 123; epochMillis < EPOCH_MILLIS - 123 + 1000; epochMillis += 7) {
+            this.formatAndCheck(cache, epochMillis);
+        }
+    }
+
+    private void formatAndCheck(final SimpleDateFormatCompiledCache cache,
+                                final long epochMillis) {
+        final java.text.SimpleDateFormat jdk = new java.text.SimpleDateFormat(PATTERN, EN_AU);
+        jdk.setTimeZone(SYDNEY);
+
+        assertEquals(jdk.format(new Date(epochMillis)),
+                cache.format(epochMillis, null, new StringBuilder()).toString(),
+                () -> cache + " format " + epochMillis);
+    }
+
+    private SimpleDateFormatCompiledCache cache(final long epochMillis,
+                                                final boolean seconds) {
+        return this.cache(epochMillis, seconds, new StringBuilder());
+    }
+
+    private SimpleDateFormatCompiledCache cache(final long epochMillis,
+                                                final boolean seconds,
+                                                final StringBuilder append) {
+        return SimpleDateFormatCompiledCache.with(SimpleDateFormatComponent.parsePattern(PATTERN),
+                SimpleDateFormatFields.with(epochMillis, SYDNEY),
+                null,
+                EN_AU,
+                DateFormatSymbols.getInstance(EN_AU),
+                seconds,
+                append);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToStringDay() {
+        this.toStringAndCheck(this.cache(EPOCH_MILLIS, false),
+                "day 1599919200000..1600005600000 \"2020-09-13 \" HH \":\" mm \":\" ss \".\" SSS");
+    }
+
+    @Test
+    public void testToStringSecond() {
+        this.toStringAndCheck(this.cache(EPOCH_MILLIS, true),
+                "second 1600000000000..1600000001000 \"2020-09-13 22:26:40.\" SSS");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatCompiledCache> type() {
+        return SimpleDateFormatCompiledCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
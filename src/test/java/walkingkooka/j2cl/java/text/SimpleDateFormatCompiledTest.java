@@ -0,0 +1,367 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class SimpleDateFormatCompiledTest implements ClassTesting2<SimpleDateFormatCompiled>,
+        ToStringTesting<SimpleDateFormatCompiled> {
+
+    private final static Locale EN_AU = Locale.forLanguageTag("EN-AU");
+    private final static TimeZone SYDNEY = TimeZone.getTimeZone("Australia/Sydney");
+    private final static long EPOCH_MILLIS = 1_600_000_000_123L;
+    private final static String LOG_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatNumbers() {
+        this.formatAndCheck("yyyy-MM-dd HH:mm:ss.SSS", EPOCH_MILLIS);
+    }
+
+    @Test
+    public void testFormatNames() {
+        this.formatAndCheck("EEEE, d MMMM yyyy h:mm a G", EPOCH_MILLIS);
+    }
+
+    @Test
+    public void testFormatTimeZones() {
+        this.formatAndCheck("z Z XXX", EPOCH_MILLIS);
+    }
+
+    @Test
+    public void testFormatBeforeGregorian() {
+        this.formatAndCheck("yyyy-MM-dd G", -15_000_000_000_000L);
+    }
+
+    @Test
+    public void testFormatDate() {
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat("yyyy-MM-dd HH:mm").compile();
+        assertEquals(this.jdk("yyyy-MM-dd HH:mm").format(new Date(EPOCH_MILLIS)),
+                compiled.format(new Date(EPOCH_MILLIS)));
+    }
+
+    @Test
+    public void testFormatStringBuilder() {
+        final StringBuilder append = new StringBuilder("before ");
+        this.simpleDateFormat("yyyy-MM-dd")
+                .compile()
+                .format(EPOCH_MILLIS, append);
+        assertEquals("before 2020-09-13", append.toString());
+    }
+
+    @Test
+    public void testFormatUnaffectedByLaterChanges() {
+        final SimpleDateFormat format = this.simpleDateFormat("yyyy-MM-dd HH:mm");
+        final SimpleDateFormatCompiled compiled = format.compile();
+
+        format.applyPattern("HH");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        assertEquals("2020-09-13 22:26", compiled.format(EPOCH_MILLIS));
+    }
+
+    @Test
+    public void testFormatManyThreads() throws Exception {
+        final String pattern = "EEE, d MMM yyyy HH:mm:ss.SSS Z";
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat(pattern).compile();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    final java.text.SimpleDateFormat jdk = this.jdk(pattern);
+                    for (int i = 0; i < 10000; i++) {
+                        final long epochMillis = EPOCH_MILLIS + i * 3_600_123L;
+                        assertEquals(jdk.format(new Date(epochMillis)), compiled.format(epochMillis));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void formatAndCheck(final String pattern,
+                                final long epochMillis) {
+        assertEquals(this.jdk(pattern).format(new Date(epochMillis)),
+                this.simpleDateFormat(pattern).compile().format(epochMillis),
+                () -> pattern + " format " + epochMillis);
+    }
+
+    // cache............................................................................................................
+
+    @Test
+    public void testCacheDay() {
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat("yyyy").compile();
+        final SimpleDateFormatCompiled cached = compiled.cacheDay();
+        assertNotSame(compiled, cached);
+        assertSame(cached, cached.cacheDay());
+    }
+
+    @Test
+    public void testCacheSecond() {
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat("yyyy").compile();
+        final SimpleDateFormatCompiled cached = compiled.cacheSecond();
+        assertNotSame(compiled, cached);
+        assertSame(cached, cached.cacheSecond());
+        assertNotSame(cached, cached.cacheDay());
+    }
+
+    @Test
+    public void testCacheDayFormatIncreasing() {
+        this.formatCachedAndCheck(this.simpleDateFormat(LOG_PATTERN).compile().cacheDay(), 7_777);
+    }
+
+    @Test
+    public void testCacheDayFormatNames() {
+        final String pattern = "EEE MMM dd HH:mm:ss zzz yyyy";
+        this.formatCachedAndCheck(pattern,
+                this.simpleDateFormat(pattern).compile().cacheDay(),
+                1_601_690_000_000L, // 2020-10-03 Sydney, the day before daylight saving time starts
+                3 * 24 * 60 * 60 * 1000,
+                123_457);
+    }
+
+    @Test
+    public void testCacheDayFormatDecreasing() {
+        this.formatCachedAndCheck(this.simpleDateFormat(LOG_PATTERN).compile().cacheDay(), -7_777);
+    }
+
+    @Test
+    public void testCacheSecondFormatIncreasing() {
+        this.formatCachedAndCheck(this.simpleDateFormat(LOG_PATTERN).compile().cacheSecond(), 77);
+    }
+
+    @Test
+    public void testCacheSecondFormatDecreasing() {
+        this.formatCachedAndCheck(this.simpleDateFormat(LOG_PATTERN).compile().cacheSecond(), -77);
+    }
+
+    @Test
+    public void testCacheSecondFormatWithoutMillis() {
+        final String pattern = "dd/MMM/yyyy:HH:mm:ss Z";
+        this.formatCachedAndCheck(pattern,
+                this.simpleDateFormat(pattern).compile().cacheSecond(),
+                EPOCH_MILLIS,
+                10_000,
+                97);
+    }
+
+    @Test
+    public void testCacheDayFormatIsoDateTime() {
+        final String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+        this.formatCachedAndCheck(pattern,
+                this.simpleDateFormat(pattern).compile().cacheDay(),
+                1_601_690_000_000L,
+                2 * 24 * 60 * 60 * 1000L,
+                7_777);
+    }
+
+    @Test
+    public void testCacheSecondFormatIsoDateTime() {
+        final String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+        this.formatCachedAndCheck(pattern,
+                this.simpleDateFormat(pattern).compile().cacheSecond(),
+                1_601_690_000_000L,
+                2 * 24 * 60 * 60 * 1000L,
+                77);
+    }
+
+    @Test
+    public void testCacheDayFormatBeforeGregorian() {
+        final String pattern = "yyyy-MM-dd G";
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat(pattern).compile().cacheDay();
+        final java.text.SimpleDateFormat jdk = this.jdk(pattern);
+
+        for (final long epochMillis : new long[]{-15_000_000_000_000L, EPOCH_MILLIS, -15_000_000_000_000L}) {
+            assertEquals(jdk.format(new Date(epochMillis)), compiled.format(epochMillis), () -> pattern + " format " + epochMillis);
+        }
+    }
+
+    @Test
+    public void testCacheDayFormatManyThreads() throws Exception {
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat(LOG_PATTERN).compile().cacheDay();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long step = 60_001L * (t + 1);
+                futures.add(executor.submit(() -> this.formatCachedAndCheck(LOG_PATTERN, compiled, EPOCH_MILLIS, 10 * 24 * 60 * 60 * 1000L, step)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Formats timestamps across the start of daylight saving time in Sydney on 2020-10-04 02:00.
+     */
+    private void formatCachedAndCheck(final SimpleDateFormatCompiled compiled,
+                                      final long step) {
+        this.formatCachedAndCheck(LOG_PATTERN,
+                compiled,
+                step > 0 ? 1_601_690_000_000L : 1_601_860_000_000L,
+                2 * 24 * 60 * 60 * 1000L,
+                step);
+    }
+
+    private void formatCachedAndCheck(final String pattern,
+                                      final SimpleDateFormatCompiled compiled,
+                                      final long start,
+                                      final long duration,
+                                      final long step) {
+        final java.text.SimpleDateFormat jdk = this.jdk(pattern);
+
+        for (long i = 0; i < duration; i += Math.abs(step)) {
+            final long epochMillis = start + (step > 0 ? i : -i);
+            assertEquals(jdk.format(new Date(epochMillis)),
+                    compiled.format(epochMillis),
+                    () -> pattern + " " + compiled + " format " + epochMillis);
+        }
+    }
+
+    // parseEpochMillis.................................................................................................
+
+    @Test
+    public void testParseEpochMillis() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm:ss.SSS", "2020-09-13 22:26:40.123");
+    }
+
+    @Test
+    public void testParseEpochMillisNames() {
+        this.parseEpochMillisAndCheck("EEEE, d MMMM yyyy h:mm a", "Sunday, 13 September 2020 10:26 pm");
+    }
+
+    @Test
+    public void testParseEpochMillisZoneOffset() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm Z", "2020-09-13 22:26 -0130");
+    }
+
+    @Test
+    public void testParseEpochMillisWeekInYear() {
+        this.parseEpochMillisAndCheck("yyyy ww", "2020 10");
+    }
+
+    @Test
+    public void testParseEpochMillisError() {
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(0L,
+                this.simpleDateFormat("yyyy-MM-dd").compile().parseEpochMillis("2020/09/13", position));
+        assertEquals(4, position.getErrorIndex(), "errorIndex");
+    }
+
+    @Test
+    public void testParseEpochMillisManyThreads() throws Exception {
+        final String pattern = "EEE, d MMM yyyy HH:mm:ss.SSS Z";
+        final SimpleDateFormatCompiled compiled = this.simpleDateFormat(pattern).compile();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    final java.text.SimpleDateFormat jdk = this.jdk(pattern);
+                    for (int i = 0; i < 10000; i++) {
+                        final long epochMillis = EPOCH_MILLIS + i * 3_600_123L;
+                        assertEquals(epochMillis,
+                                compiled.parseEpochMillis(jdk.format(new Date(epochMillis)), new ParsePosition(0)));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void parseEpochMillisAndCheck(final String pattern,
+                                          final String text) {
+        final ParsePosition position = new ParsePosition(0);
+        assertEquals(this.jdk(pattern).parse(text, new java.text.ParsePosition(0)).getTime(),
+                this.simpleDateFormat(pattern).compile().parseEpochMillis(text, position),
+                () -> pattern + " parseEpochMillis " + text);
+        assertEquals(text.length(), position.getIndex(), "index");
+    }
+
+    private SimpleDateFormat simpleDateFormat(final String pattern) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern, EN_AU);
+        format.setTimeZone(SYDNEY);
+        return format;
+    }
+
+    private java.text.SimpleDateFormat jdk(final String pattern) {
+        final java.text.SimpleDateFormat format = new java.text.SimpleDateFormat(pattern, EN_AU);
+        format.setTimeZone(SYDNEY);
+        return format;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.simpleDateFormat("yyyy-MM-dd").compile(),
+                "pattern=yyyy-MM-dd locale=en_AU timeZone=Australia/Sydney");
+    }
+
+    @Test
+    public void testToStringCacheDay() {
+        this.toStringAndCheck(this.simpleDateFormat("yyyy-MM-dd").compile().cacheDay(),
+                "pattern=yyyy-MM-dd locale=en_AU timeZone=Australia/Sydney cache=day");
+    }
+
+    @Test
+    public void testToStringCacheSecond() {
+        this.toStringAndCheck(this.simpleDateFormat("yyyy-MM-dd").compile().cacheSecond(),
+                "pattern=yyyy-MM-dd locale=en_AU timeZone=Australia/Sydney cache=second");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatCompiled> type() {
+        return SimpleDateFormatCompiled.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
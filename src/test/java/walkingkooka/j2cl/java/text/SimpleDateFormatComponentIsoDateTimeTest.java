@@ -0,0 +1,309 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class SimpleDateFormatComponentIsoDateTimeTest extends SimpleDateFormatComponentTestCase<SimpleDateFormatComponentIsoDateTime>
+        implements HashCodeEqualsDefinedTesting2<SimpleDateFormatComponentIsoDateTime>,
+        ToStringTesting<SimpleDateFormatComponentIsoDateTime> {
+
+    private final static String DATE_TIME_MILLIS_OFFSET = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+    private final static String DATE_TIME = "yyyy-MM-dd HH:mm:ss";
+
+    // parsePattern.....................................................................................................
+
+    @Test
+    public void testParsePatternDateTimeMillisOffset() {
+        assertEquals(Lists.of(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET),
+                SimpleDateFormatComponent.parsePattern(DATE_TIME_MILLIS_OFFSET));
+    }
+
+    @Test
+    public void testParsePatternDateTime() {
+        assertEquals(Lists.of(SimpleDateFormatComponentIsoDateTime.DATE_TIME),
+                SimpleDateFormatComponent.parsePattern(DATE_TIME));
+    }
+
+    @Test
+    public void testParsePatternQuotedLiterals() {
+        assertEquals(Lists.of(SimpleDateFormatComponentIsoDateTime.DATE_TIME),
+                SimpleDateFormatComponent.parsePattern("yyyy'-'MM'-'dd' 'HH':'mm':'ss"));
+    }
+
+    @Test
+    public void testParsePatternDateTimeMillis() {
+        this.parsePatternNotReplaced("yyyy-MM-dd HH:mm:ss.SSS");
+    }
+
+    @Test
+    public void testParsePatternDateTimeOffset() {
+        this.parsePatternNotReplaced("yyyy-MM-dd'T'HH:mm:ssXXX");
+    }
+
+    @Test
+    public void testParsePatternDateTimeMillisOffsetXX() {
+        this.parsePatternNotReplaced("yyyy-MM-dd'T'HH:mm:ss.SSSXX");
+    }
+
+    @Test
+    public void testParsePatternDateTimeTrailingLiteral() {
+        this.parsePatternNotReplaced("yyyy-MM-dd HH:mm:ss ");
+    }
+
+    @Test
+    public void testParsePatternDateTimeHour124() {
+        this.parsePatternNotReplaced("yyyy-MM-dd kk:mm:ss");
+    }
+
+    private void parsePatternNotReplaced(final String pattern) {
+        final List<SimpleDateFormatComponent> components = SimpleDateFormatComponent.parsePattern(pattern);
+        assertNotEquals(1, components.size(), () -> "parsePattern " + CharSequences.quoteAndEscape(pattern));
+        assertSame(components, SimpleDateFormatComponentIsoDateTime.components(components));
+    }
+
+    @Test
+    public void testComponents() {
+        assertEquals(SimpleDateFormatComponentIsoDateTime.DATE_TIME.components,
+                SimpleDateFormatComponentIsoDateTime.components(SimpleDateFormatComponent.parsePattern(DATE_TIME)));
+    }
+
+    // format...........................................................................................................
+
+    @Test
+    public void testFormatDateTimeMillisOffset() {
+        this.formatDateAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET,
+                DATE,
+                false,
+                "2020-06-30T13:00:37.765Z");
+    }
+
+    @Test
+    public void testFormatDateTime() {
+        this.formatDateAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME,
+                DATE,
+                false,
+                "2020-06-30 13:00:37");
+    }
+
+    @Test
+    public void testFormatLargeYear() {
+        this.formatDateAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME,
+                new Date(Date.UTC(12345 - 1900, Calendar.JANUARY, 2, 3, 4, 5)),
+                false,
+                "12345-01-02 03:04:05");
+    }
+
+    @Test
+    public void testFormatSameAsComponents() {
+        final Random random = new Random(1);
+        final String[] timeZones = {"UTC", "Australia/Sydney", "America/New_York", "Asia/Kolkata"};
+
+        for (int i = 0; i < 10_000; i++) {
+            final long epochMillis = (long) ((random.nextDouble() - 0.3) * 1e13);
+            final TimeZone timeZone = TimeZone.getTimeZone(timeZones[random.nextInt(timeZones.length)]);
+
+            this.formatSameAsComponentsAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, epochMillis, timeZone);
+            this.formatSameAsComponentsAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, epochMillis, timeZone);
+        }
+    }
+
+    private void formatSameAsComponentsAndCheck(final SimpleDateFormatComponentIsoDateTime component,
+                                                final long epochMillis,
+                                                final TimeZone timeZone) {
+        final Calendar calendar = Calendar.getInstance(timeZone, LOCALE);
+        calendar.setTimeInMillis(epochMillis);
+        final DateFormatSymbols symbols = new DateFormatSymbols(LOCALE);
+        final boolean daylightSavingTime = timeZone.inDaylightTime(calendar.getTime());
+
+        final StringBuilder expected = new StringBuilder();
+        final SimpleDateFormatFormatRequest request = SimpleDateFormatFormatRequest.with(calendar, expected, symbols, daylightSavingTime);
+        for (final SimpleDateFormatComponent c : component.components) {
+            c.formatDate(request);
+        }
+
+        this.formatDateAndCheck(component,
+                calendar,
+                symbols,
+                daylightSavingTime,
+                expected.toString());
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseDateTimeMillisOffset() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, "2020-06-30T13:00:37.765+10:00");
+    }
+
+    @Test
+    public void testParseDateTimeMillisOffsetNegative() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, "1999-12-31T23:59:59.999-05:30");
+    }
+
+    @Test
+    public void testParseDateTimeMillisOffsetMissingOffset() {
+        this.parseSameAsComponentsAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, "2020-06-30T13:00:37.765");
+    }
+
+    @Test
+    public void testParseDateTimeMillisOffsetFourDigitMillis() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, "2020-06-30T13:00:37.7654+10:00");
+    }
+
+    @Test
+    public void testParseDateTime() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-06-30 13:00:37");
+    }
+
+    @Test
+    public void testParseDateTimeTrailingText() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-06-30 13:00:37xyz");
+    }
+
+    @Test
+    public void testParseDateTimeSingleDigits() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-6-3 1:2:3");
+    }
+
+    @Test
+    public void testParseDateTimeThreeDigitSeconds() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-06-30 13:00:375");
+    }
+
+    @Test
+    public void testParseDateTimeFiveDigitYear() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "12020-06-30 13:00:37");
+    }
+
+    @Test
+    public void testParseDateTimeLenientMonth() {
+        this.parseTextAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-13-30 13:00:37");
+    }
+
+    @Test
+    public void testParseDateTimeMissingSeconds() {
+        this.parseSameAsComponentsAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-06-30 13:00");
+    }
+
+    @Test
+    public void testParseDateTimeWrongSeparator() {
+        this.parseSameAsComponentsAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "2020-06-30T13:00:37");
+    }
+
+    /**
+     * The JDK restores the index after a failure, which is done by {@link SimpleDateFormat} rather than each component,
+     * so failures are compared with the original components.
+     */
+    @Test
+    public void testParseSameAsComponents() {
+        final Random random = new Random(1);
+        final String noise = "0123456789-:T .Z+\uFF11";
+
+        for (int i = 0; i < 10_000; i++) {
+            final SimpleDateFormatComponentIsoDateTime component = random.nextBoolean() ?
+                    SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET :
+                    SimpleDateFormatComponentIsoDateTime.DATE_TIME;
+            final java.text.SimpleDateFormat jdk = new java.text.SimpleDateFormat(component.toString(), LOCALE);
+            jdk.setTimeZone(TimeZone.getTimeZone("Australia/Sydney"));
+
+            final StringBuilder text = new StringBuilder(jdk.format(new Date((long) ((random.nextDouble() - 0.3) * 1e13))));
+            final int index = random.nextInt(text.length());
+            final char c = noise.charAt(random.nextInt(noise.length()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    text.setLength(index);
+                    break;
+                case 1:
+                    text.setCharAt(index, c);
+                    break;
+                case 2:
+                    text.insert(index, c);
+                    break;
+                default:
+                    break;
+            }
+
+            this.parseSameAsComponentsAndCheck(component, text.toString());
+        }
+    }
+
+    private void parseSameAsComponentsAndCheck(final SimpleDateFormatComponentIsoDateTime component,
+                                               final String text) {
+        final ParsePosition expectedPosition = new ParsePosition(0);
+        final SimpleDateFormatParseFields expectedFields = SimpleDateFormatParseFields.empty();
+        SimpleDateFormatCompiled.parseComponents(component.components,
+                SimpleDateFormatParseRequest.withFields(text, expectedPosition, expectedFields, 2000, DateFormatSymbols.getInstance(LOCALE)));
+
+        final ParsePosition position = new ParsePosition(0);
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        SimpleDateFormatCompiled.parseComponents(Lists.of(component),
+                SimpleDateFormatParseRequest.withFields(text, position, fields, 2000, DateFormatSymbols.getInstance(LOCALE)));
+
+        assertEquals(expectedPosition.getIndex(), position.getIndex(), () -> "index " + CharSequences.quoteAndEscape(text));
+        assertEquals(expectedPosition.getErrorIndex(), position.getErrorIndex(), () -> "errorIndex " + CharSequences.quoteAndEscape(text));
+        assertEquals(expectedFields.toString(), fields.toString(), () -> "fields " + CharSequences.quoteAndEscape(text));
+    }
+
+    @Test
+    public void testIsDayConstant() {
+        assertEquals(false, SimpleDateFormatComponentIsoDateTime.DATE_TIME.isDayConstant());
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testDifferentComponents() {
+        this.checkNotEquals(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME, "yyyy'-'MM'-'dd' 'HH':'mm':'ss");
+    }
+
+    @Test
+    public void testToStringDateTimeMillisOffset() {
+        this.toStringAndCheck(SimpleDateFormatComponentIsoDateTime.DATE_TIME_MILLIS_OFFSET, "yyyy'-'MM'-'dd'T'HH':'mm':'ss'.'SSSXXX");
+    }
+
+    @Override
+    public SimpleDateFormatComponentIsoDateTime createObject() {
+        return SimpleDateFormatComponentIsoDateTime.DATE_TIME;
+    }
+
+    @Override
+    public Class<SimpleDateFormatComponentIsoDateTime> type() {
+        return SimpleDateFormatComponentIsoDateTime.class;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class SimpleDateFormatComponentLiteralStringTest extends SimpleDateFormatComponentTestCase<SimpleDateFormatComponentLiteralString>
+        implements HashCodeEqualsDefinedTesting2<SimpleDateFormatComponentLiteralString>,
+        ToStringTesting<SimpleDateFormatComponentLiteralString> {
+
+    @Test
+    public void testFormat() {
+        this.formatDateAndCheck(SimpleDateFormatComponentLiteralString.with(" GMT"),
+             new Date(),
+             false,
+             " GMT");
+    }
+
+    @Test
+    public void testFormatQuote() {
+        this.formatDateAndCheck(SimpleDateFormatComponentLiteralString.with("o'clock"),
+                new Date(),
+                false,
+                "o'clock");
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseTextAndCheck(SimpleDateFormatComponentLiteralString.with("AB"), "ZZ");
+    }
+
+    @Test
+    public void testParseFailsCase() {
+        this.parseTextAndCheck(SimpleDateFormatComponentLiteralString.with("AB"), "ab");
+    }
+
+    @Test
+    public void testParse() {
+        this.parseTextAndCheck(SimpleDateFormatComponentLiteralString.with(" GMT"), " GMT");
+    }
+
+    @Test
+    public void testParseQuote() {
+        this.parseTextAndCheck(SimpleDateFormatComponentLiteralString.with("o'clock"), "o'clock");
+    }
+
+    @Test
+    public void testParseFailsPartialMatch() {
+        this.parseTextAndCheck2(SimpleDateFormatComponentLiteralString.with("ABC"), "ABZ", 2, 2);
+    }
+
+    @Test
+    public void testParseFailsEndOfText() {
+        this.parseTextAndCheck2(SimpleDateFormatComponentLiteralString.with("ABC"), "AB", 2, 2);
+    }
+
+    @Test
+    public void testParseAfterPosition() {
+        final ParsePosition position = new ParsePosition(3);
+        SimpleDateFormatComponentLiteralString.with("BC")
+                .parseText(SimpleDateFormatParseRequest.withFields("123BC4", position, SimpleDateFormatParseFields.empty(), 2000, DateFormatSymbols.getInstance(LOCALE)));
+        assertEquals(5, position.getIndex(), "index");
+        assertEquals(-1, position.getErrorIndex(), "errorIndex");
+    }
+
+    /**
+     * The index is left at the first character that did not match, like the single character literals, while the
+     * JDK restores the index, so only the emulation is tested.
+     */
+    private void parseTextAndCheck2(final SimpleDateFormatComponentLiteralString component,
+                                    final String text,
+                                    final int index,
+                                    final int errorIndex) {
+        final ParsePosition position = new ParsePosition(0);
+        component.parseText(SimpleDateFormatParseRequest.withFields(text, position, SimpleDateFormatParseFields.empty(), 2000, DateFormatSymbols.getInstance(LOCALE)));
+        assertEquals(index, position.getIndex(), "index");
+        assertEquals(errorIndex, position.getErrorIndex(), "errorIndex");
+    }
+
+    @Test
+    public void testIsDayConstant() {
+        assertEquals(true, SimpleDateFormatComponentLiteralString.with("abc").isDayConstant());
+    }
+
+    @Test
+    public void testDifferentLiteral() {
+        this.checkNotEquals(SimpleDateFormatComponentLiteralString.with("!!"));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(SimpleDateFormatComponentLiteralString.with(" GMT"), "' GMT'");
+    }
+
+    @Test
+    public void testToStringQuote() {
+        this.toStringAndCheck(SimpleDateFormatComponentLiteralString.with("o'clock"), "'o''clock'");
+    }
+
+    @Override
+    public SimpleDateFormatComponentLiteralString createObject() {
+        return SimpleDateFormatComponentLiteralString.with("ab");
+    }
+
+    @Override
+    public Class<SimpleDateFormatComponentLiteralString> type() {
+        return SimpleDateFormatComponentLiteralString.class;
+    }
+}
@@ -23,6 +23,8 @@ import walkingkooka.ToStringTesting;
 
 import java.util.Date;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public final class SimpleDateFormatComponentLiteralTest extends SimpleDateFormatComponentTestCase<SimpleDateFormatComponentLiteral>
         implements HashCodeEqualsDefinedTesting2<SimpleDateFormatComponentLiteral>,
         ToStringTesting<SimpleDateFormatComponentLiteral> {
@@ -55,6 +57,11 @@ public final class SimpleDateFormatComponentLiteralTest extends SimpleDateFormat
         this.parseTextAndCheck(SimpleDateFormatComponentLiteral.with('A'), "A");
     }
 
+    @Test
+    public void testIsDayConstant() {
+        assertEquals(true, SimpleDateFormatComponentLiteral.with('!').isDayConstant());
+    }
+
     @Test
     public void testDifferentLiteral() {
         this.checkNotEquals(SimpleDateFormatComponentLiteral.with('!'));
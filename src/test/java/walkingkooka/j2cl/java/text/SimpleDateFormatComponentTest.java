@@ -209,7 +209,7 @@ public class SimpleDateFormatComponentTest extends SimpleDateFormatComponentTest
 
     @Test
     public void testParsePatternOClick() {
-        this.parseAndCheck("'o''clock'", SimpleDateFormatComponent.literal('o'), SimpleDateFormatComponent.literal('\''), SimpleDateFormatComponent.literal('c'), SimpleDateFormatComponent.literal('l'), SimpleDateFormatComponent.literal('o'), SimpleDateFormatComponent.literal('c'), SimpleDateFormatComponent.literal('k'));
+        this.parseAndCheck("'o''clock'", SimpleDateFormatComponent.literalString("o'clock"));
     }
 
     @Test
@@ -218,10 +218,7 @@ public class SimpleDateFormatComponentTest extends SimpleDateFormatComponentTest
                 SimpleDateFormatComponent.dayInMonth(1),
                 SimpleDateFormatComponent.literal(' '),
                 SimpleDateFormatComponent.monthInYear(4),
-                SimpleDateFormatComponent.literal(' '),
-                SimpleDateFormatComponent.literal('d'),
-                SimpleDateFormatComponent.literal('e'),
-                SimpleDateFormatComponent.literal(' '),
+                SimpleDateFormatComponent.literalString(" de "),
                 SimpleDateFormatComponent.year(1));
     }
 
@@ -289,7 +286,34 @@ public class SimpleDateFormatComponentTest extends SimpleDateFormatComponentTest
 
     @Test
     public void testParseQuotes2() {
-        this.parseAndCheck("'hello'", SimpleDateFormatComponent.literal('h'), SimpleDateFormatComponent.literal('e'), SimpleDateFormatComponent.literal('l'), SimpleDateFormatComponent.literal('l'), SimpleDateFormatComponent.literal('o'));
+        this.parseAndCheck("'hello'", SimpleDateFormatComponent.literalString("hello"));
+    }
+
+    @Test
+    public void testParseLiteralsBetweenNumbers() {
+        this.parseAndCheck("yyyy-MM-dd'T'HH:mm:ss 'GMT'",
+                SimpleDateFormatComponent.year(4),
+                SimpleDateFormatComponent.literal('-'),
+                SimpleDateFormatComponent.monthInYear(2),
+                SimpleDateFormatComponent.literal('-'),
+                SimpleDateFormatComponent.dayInMonth(2),
+                SimpleDateFormatComponent.literal('T'),
+                SimpleDateFormatComponent.hourInDay023(2),
+                SimpleDateFormatComponent.literal(':'),
+                SimpleDateFormatComponent.minuteInHour(2),
+                SimpleDateFormatComponent.literal(':'),
+                SimpleDateFormatComponent.secondInMinute(2),
+                SimpleDateFormatComponent.literalString(" GMT"));
+    }
+
+    @Test
+    public void testParseLiteralsUnquotedAndQuoted() {
+        this.parseAndCheck("HH:mm, 'at' ss",
+                SimpleDateFormatComponent.hourInDay023(2),
+                SimpleDateFormatComponent.literal(':'),
+                SimpleDateFormatComponent.minuteInHour(2),
+                SimpleDateFormatComponent.literalString(", at "),
+                SimpleDateFormatComponent.secondInMinute(2));
     }
 
     private void parseAndCheck(final char pattern, final SimpleDateFormatComponent component) {
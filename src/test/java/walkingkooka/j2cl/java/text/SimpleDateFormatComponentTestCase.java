@@ -88,7 +88,7 @@ public abstract class SimpleDateFormatComponentTestCase<C extends SimpleDateForm
                                   final DateFormatSymbols symbols,
                                   final boolean daylightSavingTime,
                                   final String expected) {
-        final StringBuffer text = new StringBuffer();
+        final StringBuilder text = new StringBuilder();
         component.formatDate(SimpleDateFormatFormatRequest.with(calendar, text, symbols, daylightSavingTime));
         assertEquals(expected,
                 text.toString(),
@@ -90,6 +90,31 @@ public abstract class SimpleDateFormatComponentTestCase2<C extends SimpleDateFor
                 new java.text.SimpleDateFormat(CharSequences.repeating(component.letter(), length).toString(), locale).format(date));
     }
 
+    // isDayConstant....................................................................................................
+
+    @Test
+    public final void testIsDayConstant() {
+        final C component = this.createComponent(3);
+        if (component.isDayConstant()) {
+            final long start = Date.UTC(YEAR - 1900, MONTH, DAY, 0, 0, 0);
+
+            assertEquals(this.format(component, start),
+                    this.format(component, start + 24 * 60 * 60 * 1000 - 1),
+                    () -> component + " format start and end of day");
+        }
+    }
+
+    private String format(final C component,
+                          final long epochMillis) {
+        final StringBuilder text = new StringBuilder();
+        component.formatDate(SimpleDateFormatFormatRequest.withFields(SimpleDateFormatFields.with(epochMillis, TIMEZONE),
+                null,
+                LOCALE,
+                text,
+                new DateFormatSymbols(LOCALE)));
+        return text.toString();
+    }
+
     // Object...........................................................................................................
 
     @Test
@@ -19,7 +19,10 @@ package walkingkooka.j2cl.java.text;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Calendar;
+import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 public final class SimpleDateFormatComponentTimeZoneRfc822Test extends SimpleDateFormatComponentTimeZoneGeneralRfc822TestCase<SimpleDateFormatComponentTimeZoneRfc822> {
 
@@ -28,6 +31,42 @@ public final class SimpleDateFormatComponentTimeZoneRfc822Test extends SimpleDat
         this.formatDateAndCheck(1, DATE, Locale.forLanguageTag("Australia/Adelaide"));
     }
 
+    @Test
+    public void testFormatDateDaylightSaving() {
+        this.formatDateAndCheck("Australia/Sydney", Date.UTC(120, 0, 15, 0, 0, 0));
+    }
+
+    @Test
+    public void testFormatDateHalfHour() {
+        this.formatDateAndCheck("Asia/Kolkata", Date.UTC(120, 0, 15, 0, 0, 0));
+    }
+
+    @Test
+    public void testFormatDateNegative() {
+        this.formatDateAndCheck("America/New_York", Date.UTC(120, 0, 15, 0, 0, 0));
+    }
+
+    @Test
+    public void testFormatDateNegativeHalfHourDaylightSaving() {
+        this.formatDateAndCheck("America/St_Johns", Date.UTC(120, 6, 15, 0, 0, 0));
+    }
+
+    private void formatDateAndCheck(final String timeZoneId,
+                                    final long epochMillis) {
+        final TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+        final Calendar calendar = Calendar.getInstance(timeZone, LOCALE);
+        calendar.setTimeInMillis(epochMillis);
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat("Z", LOCALE);
+        jre.setTimeZone(timeZone);
+
+        this.formatDateAndCheck(this.createComponent(1),
+                calendar,
+                new DateFormatSymbols(LOCALE),
+                timeZone.inDaylightTime(new Date(epochMillis)),
+                jre.format(new Date(epochMillis)));
+    }
+
     @Override
     SimpleDateFormatComponentTimeZoneRfc822 createComponent(final int length) {
         return SimpleDateFormatComponentTimeZoneRfc822.with(length);
@@ -19,9 +19,12 @@ package walkingkooka.j2cl.java.text;
 
 import javaemul.internal.annotations.GwtIncompatible;
 import org.junit.jupiter.api.Test;
+import walkingkooka.text.CharSequences;
 
 import java.util.Date;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public final class SimpleDateFormatComponentYearTest extends SimpleDateFormatComponentNumberTestCase<SimpleDateFormatComponentYear> {
 
     @Test
@@ -50,6 +53,47 @@ public final class SimpleDateFormatComponentYearTest extends SimpleDateFormatCom
         }
     }
 
+    @Test
+    public void testFormatYearLarge() {
+        this.formatDateAndCheck(4, new Date(DATE.UTC(12345 - 1900, 1, 2, 3, 4, 5)));
+    }
+
+    // formatNumericValue...............................................................................................
+
+    @Test
+    public void testFormatNumericValue() {
+        for (int length = 1; length <= 6; length++) {
+            for (int value = 0; value < 12000; value++) {
+                this.formatNumericValueAndCheck(value, length);
+            }
+        }
+    }
+
+    @Test
+    public void testFormatNumericValueLarge() {
+        this.formatNumericValueAndCheck(123456, 4);
+        this.formatNumericValueAndCheck(123456, 8);
+        this.formatNumericValueAndCheck(Integer.MAX_VALUE, 4);
+    }
+
+    @Test
+    public void testFormatNumericValueNegative() {
+        this.formatNumericValueAndCheck(-1, 1);
+        this.formatNumericValueAndCheck(-1, 4);
+        this.formatNumericValueAndCheck(-1234, 2);
+    }
+
+    private void formatNumericValueAndCheck(final int value,
+                                            final int minLength) {
+        final String digits = String.valueOf(value);
+        final StringBuilder text = new StringBuilder("before ");
+        SimpleDateFormatComponent2.formatNumericValue(value, minLength, text);
+
+        assertEquals("before " + (digits.length() >= minLength ? digits : CharSequences.padLeft(digits, minLength, '0')),
+                text.toString(),
+                () -> "formatNumericValue " + value + " " + minLength);
+    }
+
     @Override
     SimpleDateFormatComponentYear createComponent(final int patternLength,
                                                   final int maxDigitLength) {
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class SimpleDateFormatFieldsTest implements ClassTesting2<SimpleDateFormatFields>,
+        ToStringTesting<SimpleDateFormatFields> {
+
+    private final static TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private final static TimeZone SYDNEY = TimeZone.getTimeZone("Australia/Sydney");
+    private final static TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+    private final static int[] FIELDS = new int[]{
+            Calendar.ERA,
+            Calendar.YEAR,
+            Calendar.MONTH,
+            Calendar.DAY_OF_MONTH,
+            Calendar.DAY_OF_YEAR,
+            Calendar.DAY_OF_WEEK,
+            Calendar.DAY_OF_WEEK_IN_MONTH,
+            Calendar.AM_PM,
+            Calendar.HOUR,
+            Calendar.HOUR_OF_DAY,
+            Calendar.MINUTE,
+            Calendar.SECOND,
+            Calendar.MILLISECOND
+    };
+
+    // isSupported......................................................................................................
+
+    @Test
+    public void testIsSupportedEpochMillis() {
+        this.isSupportedAndCheck(0, true);
+    }
+
+    @Test
+    public void testIsSupportedEpochMillisNegative() {
+        this.isSupportedAndCheck(-1, true);
+    }
+
+    @Test
+    public void testIsSupportedEpochMillisBeforeGregorian() {
+        this.isSupportedAndCheck(-12219292800000L, false); // 1582-10-15
+    }
+
+    @Test
+    public void testIsSupportedEpochMillisMaxValue() {
+        this.isSupportedAndCheck(Long.MAX_VALUE, false);
+    }
+
+    private void isSupportedAndCheck(final long epochMillis,
+                                     final boolean expected) {
+        assertEquals(expected,
+                SimpleDateFormatFields.isSupported(epochMillis),
+                () -> "isSupported " + epochMillis);
+    }
+
+    @Test
+    public void testIsSupportedCalendarFields() {
+        for (final int field : FIELDS) {
+            assertEquals(true, SimpleDateFormatFields.isSupported(field), () -> "isSupported field " + field);
+        }
+    }
+
+    @Test
+    public void testIsSupportedWeekOfYear() {
+        assertEquals(false, SimpleDateFormatFields.isSupported(Calendar.WEEK_OF_YEAR));
+    }
+
+    @Test
+    public void testIsSupportedZoneOffset() {
+        assertEquals(false, SimpleDateFormatFields.isSupported(Calendar.ZONE_OFFSET));
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetEpoch() {
+        this.getAndCheck(0, UTC);
+    }
+
+    @Test
+    public void testGetBeforeEpoch() {
+        this.getAndCheck(-1, UTC);
+    }
+
+    @Test
+    public void testGetLeapDay() {
+        this.getAndCheck(date(2000, Calendar.FEBRUARY, 29, 23, 59, 59), UTC);
+    }
+
+    @Test
+    public void testGetLastDayOfLeapYear() {
+        this.getAndCheck(date(2020, Calendar.DECEMBER, 31, 12, 0, 0), UTC);
+    }
+
+    @Test
+    public void testGetFirstOfMarchNonLeapYear() {
+        this.getAndCheck(date(1900, Calendar.MARCH, 1, 0, 0, 0), UTC);
+    }
+
+    @Test
+    public void testGetPositiveOffset() {
+        this.getAndCheck(date(2000, Calendar.DECEMBER, 31, 14, 0, 0), SYDNEY);
+    }
+
+    @Test
+    public void testGetNegativeOffset() {
+        this.getAndCheck(date(2001, Calendar.JANUARY, 1, 3, 0, 0), NEW_YORK);
+    }
+
+    @Test
+    public void testGetFirstGregorianYear() {
+        this.getAndCheck(date(1583, Calendar.JANUARY, 2, 0, 0, 0), NEW_YORK);
+    }
+
+    @Test
+    public void testGetManyDays() {
+        final long start = date(1899, Calendar.DECEMBER, 25, 13, 14, 15);
+        for (int i = 0; i < 200 * 366; i++) {
+            this.getAndCheck(start + i * (24 * 60 * 60 * 1000L + 1234567), SYDNEY);
+        }
+    }
+
+    private void getAndCheck(final long epochMillis,
+                             final TimeZone timeZone) {
+        final Calendar calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(epochMillis);
+
+        final SimpleDateFormatFields fields = SimpleDateFormatFields.with(epochMillis, timeZone);
+
+        for (final int field : FIELDS) {
+            assertEquals(calendar.get(field),
+                    fields.get(field),
+                    () -> "field " + field + " " + calendar.getTime() + " " + timeZone.getID());
+        }
+
+        assertEquals(calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET),
+                fields.offset,
+                () -> "offset " + calendar.getTime() + " " + timeZone.getID());
+    }
+
+    private static long date(final int year,
+                             final int month,
+                             final int day,
+                             final int hours,
+                             final int minutes,
+                             final int seconds) {
+        final Calendar calendar = new GregorianCalendar(UTC);
+        calendar.clear();
+        calendar.set(year, month, day, hours, minutes, seconds);
+        return calendar.getTimeInMillis();
+    }
+
+    // sameDay..........................................................................................................
+
+    @Test
+    public void testSameDay() {
+        this.sameDayAndCheck(date(2020, Calendar.SEPTEMBER, 13, 14, 0, 0), SYDNEY); // 2020-09-14 00:00 Sydney
+    }
+
+    @Test
+    public void testSameDayNegativeOffset() {
+        this.sameDayAndCheck(date(2020, Calendar.JANUARY, 1, 5, 0, 0), NEW_YORK); // 2020-01-01 00:00 New York
+    }
+
+    @Test
+    public void testSameDayBeforeEpoch() {
+        this.sameDayAndCheck(date(1969, Calendar.DECEMBER, 31, 0, 0, 0), UTC);
+    }
+
+    private void sameDayAndCheck(final long dayStart,
+                                 final TimeZone timeZone) {
+        final SimpleDateFormatFields day = SimpleDateFormatFields.with(dayStart + 12345, timeZone);
+
+        for (long epochMillis = dayStart; epochMillis < dayStart + SimpleDateFormatFields.MILLIS_PER_DAY; epochMillis += 1234567) {
+            final SimpleDateFormatFields expected = SimpleDateFormatFields.with(epochMillis, timeZone);
+            final SimpleDateFormatFields sameDay = day.sameDay(epochMillis);
+
+            for (final int field : FIELDS) {
+                final long e = epochMillis;
+                assertEquals(expected.get(field),
+                        sameDay.get(field),
+                        () -> "field " + field + " " + e + " " + timeZone.getID());
+            }
+            assertEquals(epochMillis, sameDay.epochMillis, "epochMillis");
+            assertEquals(expected.offset, sameDay.offset, "offset");
+        }
+    }
+
+    // epochDay.........................................................................................................
+
+    @Test
+    public void testEpochDay() {
+        for (int year = 1585; year < 2500; year += 7) {
+            for (int month = -13; month < 26; month++) {
+                final Calendar calendar = new GregorianCalendar(UTC);
+                calendar.clear();
+                calendar.set(Calendar.YEAR, year);
+                calendar.set(Calendar.MONTH, month);
+
+                final long expected = Math.floorDiv(calendar.getTimeInMillis(), 24 * 60 * 60 * 1000);
+                final int y = year;
+                final int m = month;
+                assertEquals(expected,
+                        SimpleDateFormatFields.epochDay(year, month),
+                        () -> "epochDay " + y + " " + m);
+            }
+        }
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(SimpleDateFormatFields.with(date(2000, Calendar.DECEMBER, 31, 14, 58, 59) + 123, SYDNEY),
+                "2001-1-1 1:58:59.123 39600000");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatFields> type() {
+        return SimpleDateFormatFields.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -27,23 +27,125 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class SimpleDateFormatFormatRequestTest implements ClassTesting2<SimpleDateFormatFormatRequest>,
         ToStringTesting<SimpleDateFormatFormatRequest> {
 
     private final static Date DATE = new Date(Date.UTC(2000-1900, 1, 31, 12, 58, 59));
 
+    private final static TimeZone TIMEZONE = TimeZone.getTimeZone("Australia/Sydney");
+    private final static Locale LOCALE = Locale.forLanguageTag("EN-AU");
+
+    @Test
+    public void testGetFields() {
+        final SimpleDateFormatFormatRequest request = this.createRequestWithFields();
+        final Calendar calendar = this.calendar();
+
+        for (final int field : new int[]{Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND}) {
+            assertEquals(calendar.get(field), request.get(field), () -> "field " + field);
+        }
+    }
+
+    @Test
+    public void testGetUnsupportedFieldUsesCalendar() {
+        assertEquals(this.calendar().get(Calendar.WEEK_OF_YEAR),
+                this.createRequestWithFields().get(Calendar.WEEK_OF_YEAR));
+    }
+
+    @Test
+    public void testCalendarCreatedOnce() {
+        final SimpleDateFormatFormatRequest request = this.createRequestWithFields();
+        final Calendar calendar = request.calendar();
+        assertEquals(DATE, calendar.getTime());
+        assertSame(calendar, request.calendar());
+    }
+
+    @Test
+    public void testOffset() {
+        final Calendar calendar = this.calendar();
+        assertEquals(calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET),
+                this.createRequestWithFields().offset());
+    }
+
+    @Test
+    public void testOffsetCalendar() {
+        final Calendar calendar = this.calendar();
+        assertEquals(calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET),
+                SimpleDateFormatFormatRequest.with(calendar,
+                        new StringBuilder(),
+                        new DateFormatSymbols(LOCALE),
+                        false).offset());
+    }
+
+    @Test
+    public void testTimeZone() {
+        assertSame(TIMEZONE, this.createRequestWithFields().timeZone());
+    }
+
+    @Test
+    public void testDaylightSavingTimeFields() {
+        assertEquals(true, this.createRequestWithFields().daylightSavingTime());
+    }
+
+    @Test
+    public void testDaylightSavingTimeFieldsStandardTime() {
+        assertEquals(false,
+                SimpleDateFormatFormatRequest.withFields(SimpleDateFormatFields.with(Date.UTC(2000 - 1900, 6, 1, 0, 0, 0), TIMEZONE),
+                        null,
+                        LOCALE,
+                        new StringBuilder(),
+                        new DateFormatSymbols(LOCALE))
+                        .daylightSavingTime());
+    }
+
+    @Test
+    public void testDaylightSavingTimeCalendar() {
+        assertEquals(true,
+                SimpleDateFormatFormatRequest.with(this.calendar(),
+                        new StringBuilder(),
+                        new DateFormatSymbols(LOCALE),
+                        true)
+                        .daylightSavingTime());
+    }
+
+    private SimpleDateFormatFormatRequest createRequestWithFields() {
+        return SimpleDateFormatFormatRequest.withFields(SimpleDateFormatFields.with(DATE.getTime(), TIMEZONE),
+                null,
+                LOCALE,
+                new StringBuilder(),
+                new DateFormatSymbols(LOCALE));
+    }
+
+    private Calendar calendar() {
+        final Calendar calendar = Calendar.getInstance(TIMEZONE, LOCALE);
+        calendar.setTime(DATE);
+        return calendar;
+    }
+
     @Test
     public void testToString() {
         final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Australia/Sydney"), Locale.forLanguageTag("EN-AU"));
         calendar.setTime(DATE);
 
         this.toStringAndCheck(SimpleDateFormatFormatRequest.with(calendar,
-                new StringBuffer(),
+                new StringBuilder(),
                 new DateFormatSymbols(Locale.forLanguageTag("EN-AU")),
                 false),
                 "java.util.GregorianCalendar[time=952001939000,areFieldsSet=true,areAllFieldsSet=true,lenient=true,zone=sun.util.calendar.ZoneInfo[id=\"Australia/Sydney\",offset=36000000,dstSavings=3600000,useDaylight=true,transitions=142,lastRule=java.util.SimpleTimeZone[id=Australia/Sydney,offset=36000000,dstSavings=3600000,useDaylight=true,startYear=0,startMode=3,startMonth=9,startDay=1,startDayOfWeek=1,startTime=7200000,startTimeMode=1,endMode=3,endMonth=3,endDay=1,endDayOfWeek=1,endTime=7200000,endTimeMode=1]],firstDayOfWeek=1,minimalDaysInFirstWeek=1,ERA=1,YEAR=2000,MONTH=2,WEEK_OF_YEAR=10,WEEK_OF_MONTH=1,DAY_OF_MONTH=2,DAY_OF_YEAR=62,DAY_OF_WEEK=5,DAY_OF_WEEK_IN_MONTH=1,AM_PM=1,HOUR=11,HOUR_OF_DAY=23,MINUTE=58,SECOND=59,MILLISECOND=0,ZONE_OFFSET=36000000,DST_OFFSET=3600000] \"\" ampm=\"am\", \"pm\" eras=\"BC\", \"AD\" months=\"January\", \"February\", \"March\", \"April\", \"May\", \"June\", \"July\", \"August\", \"September\", \"October\", \"November\", \"December\", \"\" shortMonths=\"Jan.\", \"Feb.\", \"Mar.\", \"Apr.\", \"May\", \"Jun.\", \"Jul.\", \"Aug.\", \"Sep.\", \"Oct.\", \"Nov.\", \"Dec.\", \"\" shortWeekdays=\"\", \"Sun.\", \"Mon.\", \"Tue.\", \"Wed.\", \"Thu.\", \"Fri.\", \"Sat.\" weekdays=\"\", \"Sunday\", \"Monday\", \"Tuesday\", \"Wednesday\", \"Thursday\", \"Friday\", \"Saturday\" false");
     }
 
+    @Test
+    public void testToStringFields() {
+        this.toStringAndCheck(SimpleDateFormatFormatRequest.withFields(SimpleDateFormatFields.with(DATE.getTime(), TIMEZONE),
+                null,
+                LOCALE,
+                new StringBuilder("abc"),
+                new DateFormatSymbols(LOCALE)),
+                "2000-3-2 23:58:59.0 39600000 \"abc\" ampm=\"am\", \"pm\" eras=\"BC\", \"AD\" months=\"January\", \"February\", \"March\", \"April\", \"May\", \"June\", \"July\", \"August\", \"September\", \"October\", \"November\", \"December\", \"\" shortMonths=\"Jan.\", \"Feb.\", \"Mar.\", \"Apr.\", \"May\", \"Jun.\", \"Jul.\", \"Aug.\", \"Sep.\", \"Oct.\", \"Nov.\", \"Dec.\", \"\" shortWeekdays=\"\", \"Sun.\", \"Mon.\", \"Tue.\", \"Wed.\", \"Thu.\", \"Fri.\", \"Sat.\" weekdays=\"\", \"Sunday\", \"Monday\", \"Tuesday\", \"Wednesday\", \"Thursday\", \"Friday\", \"Saturday\" true");
+    }
+
     @Override
     public Class<SimpleDateFormatFormatRequest> type() {
         return SimpleDateFormatFormatRequest.class;
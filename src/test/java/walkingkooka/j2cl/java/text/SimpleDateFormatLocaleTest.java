@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SimpleDateFormatLocaleTest implements ClassTesting2<SimpleDateFormatLocale>,
+        ToStringTesting<SimpleDateFormatLocale> {
+
+    private final static Locale LOCALE = Locale.forLanguageTag("en-AU");
+
+    @Test
+    public void testWithInvalidPatternNotParsedUntilGet() {
+        final SimpleDateFormatLocale locale = SimpleDateFormatLocale.with(LOCALE, new String[]{"yyyy", "!invalid!"});
+        assertEquals("yyyy", locale.get(0).toPattern());
+        assertThrows(IllegalArgumentException.class, () -> locale.get(1));
+    }
+
+    @Test
+    public void testGet() {
+        final SimpleDateFormat format = this.createLocale()
+                .get(1);
+        assertEquals("HH:mm", format.toPattern(), "pattern");
+        assertEquals(new DateFormatSymbols(LOCALE), format.getDateFormatSymbols(), "symbols");
+    }
+
+    @Test
+    public void testGetCached() {
+        final SimpleDateFormatLocale locale = this.createLocale();
+        final SimpleDateFormat format = locale.get(0);
+        assertSame(format, locale.get(0));
+    }
+
+    @Test
+    public void testGetDifferentIndices() {
+        final SimpleDateFormatLocale locale = this.createLocale();
+        assertNotSame(locale.get(0), locale.get(1));
+    }
+
+    @Test
+    public void testGetManyThreads() throws Exception {
+        final SimpleDateFormatLocale locale = this.createLocale();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<SimpleDateFormat>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return locale.get(0);
+                }));
+            }
+            start.countDown();
+
+            final SimpleDateFormat format = futures.get(0).get();
+            assertEquals("dd/MM/yyyy", format.toPattern(), "pattern");
+            for (final Future<SimpleDateFormat> future : futures) {
+                assertSame(format, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createLocale(), LOCALE.toString());
+    }
+
+    private SimpleDateFormatLocale createLocale() {
+        return SimpleDateFormatLocale.with(LOCALE, new String[]{"dd/MM/yyyy", "HH:mm"});
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatLocale> type() {
+        return SimpleDateFormatLocale.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class SimpleDateFormatParseFieldsTest implements ClassTesting2<SimpleDateFormatParseFields>,
+        ToStringTesting<SimpleDateFormatParseFields> {
+
+    private final static TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private final static TimeZone SYDNEY = TimeZone.getTimeZone("Australia/Sydney");
+    private final static TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+    // isSupported......................................................................................................
+
+    @Test
+    public void testIsSupportedEmpty() {
+        this.isSupportedAndCheck(SimpleDateFormatParseFields.empty(), UTC, true);
+    }
+
+    @Test
+    public void testIsSupportedDateTime() {
+        this.isSupportedAndCheck(this.dateTime(), SYDNEY, true);
+    }
+
+    @Test
+    public void testIsSupportedEraBc() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.ERA, GregorianCalendar.BC);
+        this.isSupportedAndCheck(fields, UTC, false);
+    }
+
+    @Test
+    public void testIsSupportedYearBeforeGregorian() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.YEAR, 1582);
+        this.isSupportedAndCheck(fields, UTC, false);
+    }
+
+    @Test
+    public void testIsSupportedDayOfWeekWithDayOfMonth() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.DAY_OF_WEEK, Calendar.MONDAY);
+        this.isSupportedAndCheck(fields, UTC, true);
+    }
+
+    @Test
+    public void testIsSupportedDayOfWeekWithoutDayOfMonth() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        fields.set(Calendar.YEAR, 2020);
+        fields.set(Calendar.DAY_OF_WEEK, Calendar.MONDAY);
+        this.isSupportedAndCheck(fields, UTC, false);
+    }
+
+    @Test
+    public void testIsSupportedWeekOfYear() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.WEEK_OF_YEAR, 10);
+        this.isSupportedAndCheck(fields, UTC, false);
+    }
+
+    @Test
+    public void testIsSupportedZoneOffsetWithoutDstOffset() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.ZONE_OFFSET, 60 * 60 * 1000);
+        this.isSupportedAndCheck(fields, UTC, false);
+    }
+
+    @Test
+    public void testIsSupportedTimeZoneTransition() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        fields.set(Calendar.YEAR, 2020);
+        fields.set(Calendar.MONTH, Calendar.MARCH);
+        fields.set(Calendar.DAY_OF_MONTH, 8);
+        fields.set(Calendar.HOUR_OF_DAY, 2);
+        this.isSupportedAndCheck(fields, NEW_YORK, false);
+    }
+
+    private void isSupportedAndCheck(final SimpleDateFormatParseFields fields,
+                                     final TimeZone timeZone,
+                                     final boolean expected) {
+        assertEquals(expected,
+                fields.isSupported(timeZone),
+                () -> "isSupported " + fields + " " + timeZone.getID());
+    }
+
+    // epochMillis......................................................................................................
+
+    @Test
+    public void testEpochMillisEmpty() {
+        this.epochMillisAndCheck(SimpleDateFormatParseFields.empty(), UTC);
+    }
+
+    @Test
+    public void testEpochMillisDateTime() {
+        this.epochMillisAndCheck(this.dateTime(), SYDNEY);
+    }
+
+    @Test
+    public void testEpochMillisDateTimeNewYork() {
+        this.epochMillisAndCheck(this.dateTime(), NEW_YORK);
+    }
+
+    @Test
+    public void testEpochMillisLenient() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        fields.set(Calendar.YEAR, 2019);
+        fields.set(Calendar.MONTH, 13);
+        fields.set(Calendar.DAY_OF_MONTH, 60);
+        fields.set(Calendar.HOUR_OF_DAY, 49);
+        fields.set(Calendar.MINUTE, 61);
+        fields.set(Calendar.SECOND, 61);
+        fields.set(Calendar.MILLISECOND, 1001);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisHourAmPm() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR, 11);
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisHourWithoutAmPm() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR, 11);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisAmPmWithoutHour() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisHourOfDayAfterHourAmPm() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR, 11);
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        fields.set(Calendar.HOUR_OF_DAY, 3);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisHourAmPmAfterHourOfDay() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR_OF_DAY, 3);
+        fields.set(Calendar.HOUR, 11);
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisHourOfDayAmPm() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR_OF_DAY, 3);
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        this.epochMillisAndCheck(fields, UTC);
+    }
+
+    @Test
+    public void testEpochMillisZoneOffset() {
+        final SimpleDateFormatParseFields fields = this.dateTime();
+        fields.set(Calendar.ZONE_OFFSET, -(5 * 60 + 30) * 60 * 1000);
+        fields.set(Calendar.DST_OFFSET, 0);
+        this.epochMillisAndCheck(fields, SYDNEY);
+    }
+
+    private void epochMillisAndCheck(final SimpleDateFormatParseFields fields,
+                                     final TimeZone timeZone) {
+        final Calendar calendar = new GregorianCalendar(timeZone);
+        calendar.clear();
+        fields.copyTo(calendar);
+
+        this.isSupportedAndCheck(fields, timeZone, true);
+        assertEquals(calendar.getTimeInMillis(),
+                fields.epochMillis(timeZone),
+                () -> "epochMillis " + fields + " " + timeZone.getID());
+    }
+
+    // copyTo...........................................................................................................
+
+    @Test
+    public void testCopyToSetOrder() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR_OF_DAY, 3);
+        fields.set(Calendar.HOUR, 11);
+        fields.set(Calendar.AM_PM, Calendar.PM);
+        fields.set(Calendar.MONTH, Calendar.JUNE);
+
+        final Calendar calendar = new GregorianCalendar(UTC);
+        calendar.clear();
+        fields.copyTo(calendar);
+
+        final Calendar expected = new GregorianCalendar(UTC);
+        expected.clear();
+        expected.set(Calendar.YEAR, 2000);
+        expected.set(Calendar.DAY_OF_MONTH, 31);
+        expected.set(Calendar.HOUR_OF_DAY, 3);
+        expected.set(Calendar.HOUR, 11);
+        expected.set(Calendar.AM_PM, Calendar.PM);
+        expected.set(Calendar.MONTH, Calendar.JUNE);
+
+        assertEquals(expected.getTimeInMillis(), calendar.getTimeInMillis());
+    }
+
+    private SimpleDateFormatParseFields date() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        fields.set(Calendar.YEAR, 2000);
+        fields.set(Calendar.MONTH, Calendar.DECEMBER);
+        fields.set(Calendar.DAY_OF_MONTH, 31);
+        return fields;
+    }
+
+    private SimpleDateFormatParseFields dateTime() {
+        final SimpleDateFormatParseFields fields = this.date();
+        fields.set(Calendar.HOUR_OF_DAY, 23);
+        fields.set(Calendar.MINUTE, 58);
+        fields.set(Calendar.SECOND, 59);
+        fields.set(Calendar.MILLISECOND, 123);
+        return fields;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        fields.set(Calendar.YEAR, 2000);
+        fields.set(Calendar.MINUTE, 58);
+
+        this.toStringAndCheck(fields, "1=2000, 12=58");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatParseFields> type() {
+        return SimpleDateFormatParseFields.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Date;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class SimpleDateFormatParseRequestTest implements ClassTesting2<SimpleDateFormatParseRequest>, ToStringTesting<SimpleDateFormatParseRequest> {
 
@@ -49,6 +50,63 @@ public final class SimpleDateFormatParseRequestTest implements ClassTesting2<Sim
         assertEquals(20, parser.twoDigitRollOver, "twoDigitRollOver");
     }
 
+    @Test
+    public void testWithFields() {
+        final String text = "abc123";
+        final ParsePosition position = new ParsePosition(123);
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+        final int twoDigitDate = 1920;
+
+        final SimpleDateFormatParseRequest parser = SimpleDateFormatParseRequest.withFields(text, position, fields, twoDigitDate, SYMBOLS);
+        assertEquals(text, parser.text, "text");
+        assertEquals(position, parser.position, "position");
+        assertEquals(null, parser.calendar, "calendar");
+        assertSame(fields, parser.fields, "fields");
+        assertEquals(1900, parser.twoDigitCentury, "twoDigitCentury");
+        assertEquals(20, parser.twoDigitRollOver, "twoDigitRollOver");
+    }
+
+    // set..............................................................................................................
+
+    @Test
+    public void testSetCalendar() {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+
+        SimpleDateFormatParseRequest.with("", new ParsePosition(0), calendar, 1920, SYMBOLS)
+                .set(Calendar.YEAR, 2000);
+        assertEquals(2000, calendar.get(Calendar.YEAR));
+    }
+
+    @Test
+    public void testSetFields() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+
+        SimpleDateFormatParseRequest.withFields("", new ParsePosition(0), fields, 1920, SYMBOLS)
+                .set(Calendar.YEAR, 2000);
+        assertEquals("1=2000", fields.toString());
+    }
+
+    @Test
+    public void testSetZoneOffset() {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+
+        SimpleDateFormatParseRequest.with("", new ParsePosition(0), calendar, 1920, SYMBOLS)
+                .setZoneOffset(36000000);
+        assertEquals(36000000, calendar.get(Calendar.ZONE_OFFSET), "zoneOffset");
+        assertEquals(0, calendar.get(Calendar.DST_OFFSET), "dstOffset");
+    }
+
+    @Test
+    public void testSetZoneOffsetFields() {
+        final SimpleDateFormatParseFields fields = SimpleDateFormatParseFields.empty();
+
+        SimpleDateFormatParseRequest.withFields("", new ParsePosition(0), fields, 1920, SYMBOLS)
+                .setZoneOffset(36000000);
+        assertEquals("15=36000000, 16=0", fields.toString());
+    }
+
     // adjustYear.......................................................................................................
 
     @Test
@@ -24,18 +24,24 @@ import walkingkooka.j2cl.locale.WalkingkookaLanguageTag;
 import walkingkooka.predicate.Predicates;
 import walkingkooka.text.CharSequences;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class SimpleDateFormatTest extends FormatTestCase<SimpleDateFormat> implements ToStringTesting<SimpleDateFormat> {
 
@@ -295,6 +301,41 @@ public final class SimpleDateFormatTest extends FormatTestCase<SimpleDateFormat>
         return toString;
     }
 
+    // applyPattern.....................................................................................................
+
+    @Test
+    public void testApplyPatternSharesCachedComponents() {
+        final String pattern = "yyyy-MM-dd'T'HH:mm 'testApplyPatternSharesCachedComponents'";
+
+        final long misses = SimpleDateFormat.patternCacheMisses();
+        final SimpleDateFormat first = new SimpleDateFormat(pattern, EN_AU);
+        assertEquals(misses + 1, SimpleDateFormat.patternCacheMisses(), "misses");
+
+        final long hits = SimpleDateFormat.patternCacheHits();
+        final SimpleDateFormat second = new SimpleDateFormat("d", EN_AU);
+        second.applyPattern(pattern);
+        assertEquals(hits + 1, SimpleDateFormat.patternCacheHits(), "hits");
+
+        assertSame(first.components, second.components, "components");
+    }
+
+    @Test
+    public void testApplyPatternCachedComponentsUnmodifiable() {
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd", EN_AU);
+        assertThrows(UnsupportedOperationException.class, () -> format.components.clear());
+    }
+
+    @Test
+    public void testApplyPatternInvalidNotCached() {
+        final String pattern = "yyyy-MM-dd 'testApplyPatternInvalidNotCached";
+
+        for (int i = 0; i < 2; i++) {
+            final long misses = SimpleDateFormat.patternCacheMisses();
+            assertThrows(IllegalArgumentException.class, () -> new SimpleDateFormat(pattern, EN_AU));
+            assertEquals(misses + 1, SimpleDateFormat.patternCacheMisses(), "misses");
+        }
+    }
+
     // format...........................................................................................................
 
     @Test
@@ -515,6 +556,195 @@ public final class SimpleDateFormatTest extends FormatTestCase<SimpleDateFormat>
                 () -> "pattern=" + CharSequences.quoteAndEscape(emul.toPattern()) + " date=" + new java.text.SimpleDateFormat("yyyy/MM/dd kk:mm:ss:SSS aaa").format(date));
     }
 
+    @Test
+    public void testFormatAfterSetDateFormatSymbols() {
+        final String pattern = "EEE EEEE MMM MMMM a G";
+        final Date date = new Date(Date.UTC(120, 11, 31, 23, 58, 59));
+        final Locale locale = Locale.forLanguageTag("en-AU");
+
+        final java.text.DateFormatSymbols jreSymbols = new java.text.DateFormatSymbols(locale);
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, locale);
+        jreSymbols.setShortWeekdays(new String[]{"", "su", "mo", "tu", "we", "th", "fr", "sa"});
+        jreSymbols.setMonths(new String[]{"m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9", "m10", "m11", "m12", ""});
+        jreSymbols.setAmPmStrings(new String[]{"morning", "afternoon"});
+        jre.setDateFormatSymbols(jreSymbols);
+
+        final DateFormatSymbols emulSymbols = new DateFormatSymbols(locale);
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, locale);
+        emulSymbols.setShortWeekdays(jreSymbols.getShortWeekdays());
+        emulSymbols.setMonths(jreSymbols.getMonths());
+        emulSymbols.setAmPmStrings(jreSymbols.getAmPmStrings());
+        emul.setDateFormatSymbols(emulSymbols);
+
+        emulSymbols.setEras(new String[]{"ignored", "ignored"}); // setDateFormatSymbols copied
+
+        assertEquals(jre.format(date), emul.format(date));
+    }
+
+    // format StringBuilder / Appendable...............................................................................
+
+    @Test
+    public void testFormatStringBuilder() {
+        final String pattern = "yyyy/MM/dd HH:mm:ss.SSS";
+        final Date date = new Date(Date.UTC(120, 11, 31, 23, 58, 59));
+        final StringBuilder b = new StringBuilder("prefix ");
+
+        assertSame(b, new SimpleDateFormat(pattern).format(date, b));
+        assertEquals("prefix " + new java.text.SimpleDateFormat(pattern).format(date), b.toString());
+    }
+
+    @Test
+    public void testFormatStringBufferTwice() {
+        final String pattern = "yyyy/MM/dd HH:mm:ss.SSS";
+        final Date date = new Date(Date.UTC(120, 11, 31, 23, 58, 59));
+        final Date date2 = new Date(Date.UTC(99, 0, 1, 2, 3, 4));
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern);
+        final java.text.SimpleDateFormat jdk = new java.text.SimpleDateFormat(pattern);
+
+        final StringBuffer b = new StringBuffer("prefix ");
+        assertSame(b, emul.format(date, b, new FieldPosition(0)));
+        assertEquals("prefix " + jdk.format(date), b.toString());
+
+        final StringBuffer b2 = new StringBuffer();
+        assertSame(b2, emul.format(date2, b2, new FieldPosition(0)));
+        assertEquals(jdk.format(date2), b2.toString());
+    }
+
+    @Test
+    public void testFormatAppendable() throws IOException {
+        final String pattern = "EEEE, d MMMM yyyy h:mm a z";
+        final Date date = new Date(Date.UTC(120, 11, 31, 23, 58, 59));
+        final StringWriter writer = new StringWriter();
+
+        assertSame(writer, new SimpleDateFormat(pattern).format(date, writer));
+        assertEquals(new java.text.SimpleDateFormat(pattern).format(date), writer.toString());
+    }
+
+    // format epochMillis...............................................................................................
+
+    @Test
+    public void testFormatEpochMillisStringBuilder() {
+        final String pattern = "yyyy/MM/dd HH:mm:ss.SSS";
+        final long epochMillis = Date.UTC(120, 11, 31, 23, 58, 59) + 123;
+        final StringBuilder b = new StringBuilder("prefix ");
+
+        assertSame(b, new SimpleDateFormat(pattern).format(epochMillis, b));
+        assertEquals("prefix " + new java.text.SimpleDateFormat(pattern).format(epochMillis), b.toString());
+    }
+
+    @Test
+    public void testFormatEpochMillisAppendable() throws IOException {
+        final String pattern = "EEEE, d MMMM yyyy h:mm a z Z";
+        final long epochMillis = Date.UTC(120, 11, 31, 23, 58, 59);
+        final StringWriter writer = new StringWriter();
+
+        assertSame(writer, new SimpleDateFormat(pattern).format(epochMillis, writer));
+        assertEquals(new java.text.SimpleDateFormat(pattern).format(epochMillis), writer.toString());
+    }
+
+    @Test
+    public void testFormatEpochMillisDaylightSavingTime() {
+        this.formatEpochMillisAndCheck("yyyy-MM-dd HH:mm zzzz Z", Date.UTC(120, 0, 15, 0, 0, 0), "Australia/Sydney");
+    }
+
+    @Test
+    public void testFormatEpochMillisStandardTime() {
+        this.formatEpochMillisAndCheck("yyyy-MM-dd HH:mm zzzz Z", Date.UTC(120, 6, 15, 0, 0, 0), "Australia/Sydney");
+    }
+
+    @Test
+    public void testFormatEpochMillisBeforeGregorian() {
+        this.formatEpochMillisAndCheck("G yyyy-MM-dd HH:mm:ss z", Date.UTC(-400, 5, 1, 12, 0, 0), "UTC");
+    }
+
+    @Test
+    public void testFormatEpochMillisNegative() {
+        this.formatEpochMillisAndCheck("yyyy-MM-dd HH:mm:ss.SSS", -1L, "UTC");
+    }
+
+    @Test
+    public void testFormatObjectLong() {
+        final String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        final Long epochMillis = Date.UTC(120, 11, 31, 23, 58, 59);
+
+        assertEquals(new java.text.SimpleDateFormat(pattern).format(epochMillis),
+                new SimpleDateFormat(pattern).format(epochMillis, new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testFormatEpochMillisSameFormatDaylightSavingTimeChanges() {
+        final String pattern = "yyyy-MM-dd HH:mm:ss z zzzz Z X XX XXX";
+        final TimeZone timeZone = TimeZone.getTimeZone("Australia/Sydney");
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, EN_AU);
+        jre.setTimeZone(timeZone);
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, EN_AU);
+        emul.setTimeZone(timeZone);
+
+        // 2020-10-04 02:00 daylight saving time starts, followed by the start and end of daylight saving time in 2021
+        final long start = Date.UTC(120, 9, 3, 0, 0, 0);
+        for (long epochMillis = start; epochMillis < start + 400 * 24 * 60 * 60 * 1000L; epochMillis += 59 * 60 * 1000 + 59_999) {
+            final long e = epochMillis;
+            assertEquals(jre.format(new Date(epochMillis)),
+                    emul.format(epochMillis, new StringBuilder()).toString(),
+                    () -> pattern + " " + e);
+        }
+    }
+
+    @Test
+    public void testFormatEpochMillisSameFormatTimeZoneChanged() {
+        final String pattern = "yyyy-MM-dd HH:mm zzzz Z";
+        final long epochMillis = Date.UTC(120, 0, 15, 0, 0, 0);
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, EN_AU);
+        emul.setTimeZone(TimeZone.getTimeZone("Australia/Sydney"));
+        emul.format(epochMillis, new StringBuilder());
+
+        final TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        emul.setTimeZone(timeZone);
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, EN_AU);
+        jre.setTimeZone(timeZone);
+
+        assertEquals(jre.format(new Date(epochMillis)),
+                emul.format(epochMillis, new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testFormatEpochMillisSameFormatTimeZoneModified() {
+        final String pattern = "yyyy-MM-dd HH:mm zzzz Z XXX";
+        final long epochMillis = Date.UTC(120, 6, 15, 0, 0, 0);
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, EN_AU);
+        emul.setTimeZone(new SimpleTimeZone(10 * 60 * 60 * 1000, "Custom"));
+        emul.format(epochMillis, new StringBuilder());
+
+        emul.getTimeZone().setRawOffset(-5 * 60 * 60 * 1000);
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, EN_AU);
+        jre.setTimeZone(new SimpleTimeZone(-5 * 60 * 60 * 1000, "Custom"));
+
+        assertEquals(jre.format(new Date(epochMillis)),
+                emul.format(epochMillis, new StringBuilder()).toString());
+    }
+
+    private void formatEpochMillisAndCheck(final String pattern,
+                                           final long epochMillis,
+                                           final String timeZoneId) {
+        final TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, EN_AU);
+        jre.setTimeZone(timeZone);
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, EN_AU);
+        emul.setTimeZone(timeZone);
+
+        assertEquals(jre.format(new Date(epochMillis)),
+                emul.format(epochMillis, new StringBuilder()).toString(),
+                () -> pattern + " " + epochMillis + " " + timeZoneId);
+    }
+
     // parse............................................................................................................
 
     @Test
@@ -618,6 +848,165 @@ public final class SimpleDateFormatTest extends FormatTestCase<SimpleDateFormat>
         assertEquals(jrePosition.getErrorIndex(),
                 emulPosition.getErrorIndex(),
                 () -> "errorIndex, " + "pattern " + CharSequences.quoteAndEscape(pattern) + " parse " + CharSequences.quoteAndEscape(text) + " parsePosition: " + jrePosition);
+
+        final Date jreDate = jre.parse(text, new java.text.ParsePosition(position));
+        this.parseEpochMillisAndCheck(emul,
+                text,
+                position,
+                null != jreDate ? jreDate.getTime() : 0,
+                jrePosition.getIndex(),
+                jrePosition.getErrorIndex());
+    }
+
+    // parseEpochMillis.................................................................................................
+
+    @Test
+    public void testParseEpochMillisIso8601() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+                "2020-01-15T10:11:12.345+10:00",
+                "UTC");
+    }
+
+    @Test
+    public void testParseEpochMillisIso8601Negative() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+                "1999-12-31T23:59:59.999-05:00",
+                "Australia/Sydney");
+    }
+
+    @Test
+    public void testParseEpochMillisRfc822DuringDaylightSaving() {
+        this.parseEpochMillisAndCheck("EEE, d MMM yyyy HH:mm:ss Z",
+                "Wed, 15 Jan 2020 10:00:00 +1000",
+                "Australia/Sydney");
+    }
+
+    @Test
+    public void testParseEpochMillisGeneralDuringDaylightSaving() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm z",
+                "2020-07-04 12:30 GMT-04:00",
+                "America/New_York");
+    }
+
+    @Test
+    public void testParseEpochMillisTimeZone() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm:ss",
+                "2020-07-04 12:30:59",
+                "America/New_York");
+    }
+
+    @Test
+    public void testParseEpochMillisTimeZoneDaylightSavingTransition() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm:ss",
+                "2020-03-08 02:30:00",
+                "America/New_York");
+    }
+
+    @Test
+    public void testParseEpochMillisLenient() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd HH:mm:ss",
+                "2019-13-32 25:61:61",
+                "UTC");
+    }
+
+    @Test
+    public void testParseEpochMillisHourAmPm() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd hh:mm a",
+                "2000-02-29 12:15 AM",
+                "Europe/Paris");
+    }
+
+    @Test
+    public void testParseEpochMillisWeekInYear() {
+        this.parseEpochMillisAndCheck("yyyy ww EEE",
+                "2020 10 Tue",
+                "UTC");
+    }
+
+    @Test
+    public void testParseEpochMillisBeforeGregorian() {
+        this.parseEpochMillisAndCheck("yyyy-MM-dd",
+                "1500-06-01",
+                "UTC");
+    }
+
+    @Test
+    public void testParseEpochMillisNotLenient() {
+        final String pattern = "yyyy-MM-dd";
+        final String text = "2020-01-15";
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, Locale.ENGLISH);
+        emul.setTimeZone(TimeZone.getTimeZone("UTC"));
+        emul.setLenient(false);
+
+        this.parseEpochMillisAndCheck(emul,
+                text,
+                0,
+                Date.UTC(120, 0, 15, 0, 0, 0),
+                text.length(),
+                -1);
+    }
+
+    @Test
+    public void testParseEpochMillisError() {
+        final SimpleDateFormat emul = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+
+        this.parseEpochMillisAndCheck(emul,
+                "2020/01/15",
+                0,
+                0,
+                4,
+                4);
+    }
+
+    @Test
+    public void testParseEpochMillisStringBuilder() {
+        final String text = "2020-01-15";
+        final SimpleDateFormat emul = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+        emul.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        assertEquals(Date.UTC(120, 0, 15, 0, 0, 0),
+                emul.parseEpochMillis(new StringBuilder(text), new ParsePosition(0)));
+    }
+
+    private void parseEpochMillisAndCheck(final String pattern,
+                                          final String text,
+                                          final String timeZoneId) {
+        final TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+
+        final java.text.SimpleDateFormat jre = new java.text.SimpleDateFormat(pattern, Locale.ENGLISH);
+        jre.setTimeZone(timeZone);
+        final java.text.ParsePosition jrePosition = new java.text.ParsePosition(0);
+        final Date jreDate = jre.parse(text, jrePosition);
+
+        final SimpleDateFormat emul = new SimpleDateFormat(pattern, Locale.ENGLISH);
+        emul.setTimeZone(timeZone);
+
+        this.parseEpochMillisAndCheck(emul,
+                text,
+                0,
+                null != jreDate ? jreDate.getTime() : 0,
+                jrePosition.getIndex(),
+                jrePosition.getErrorIndex());
+    }
+
+    private void parseEpochMillisAndCheck(final SimpleDateFormat format,
+                                          final String text,
+                                          final int position,
+                                          final long expected,
+                                          final int expectedIndex,
+                                          final int expectedErrorIndex) {
+        final ParsePosition parsePosition = new ParsePosition(position);
+
+        assertEquals(expected,
+                format.parseEpochMillis(text, parsePosition),
+                () -> "parseEpochMillis " + format.toPattern() + " " + CharSequences.quoteAndEscape(text));
+        assertEquals(expectedIndex,
+                parsePosition.getIndex(),
+                () -> "index, parseEpochMillis " + format.toPattern() + " " + CharSequences.quoteAndEscape(text));
+        assertEquals(expectedErrorIndex,
+                parsePosition.getErrorIndex(),
+                () -> "errorIndex, parseEpochMillis " + format.toPattern() + " " + CharSequences.quoteAndEscape(text));
     }
 
     // ShadedClassTesting...............................................................................................
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.j2cl.java.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class SimpleDateFormatTimeZoneIntervalTest implements ClassTesting2<SimpleDateFormatTimeZoneInterval>,
+        ToStringTesting<SimpleDateFormatTimeZoneInterval> {
+
+    private final static TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private final static TimeZone SYDNEY = TimeZone.getTimeZone("Australia/Sydney");
+    private final static TimeZone KOLKATA = TimeZone.getTimeZone("Asia/Kolkata");
+
+    private final static long HOUR = 60 * 60 * 1000L;
+    private final static long DAY = 24 * HOUR;
+
+    /**
+     * 2020-10-04 02:00 Sydney, daylight saving time starts.
+     */
+    private final static long DAYLIGHT_SAVING_TIME_STARTS = Date.UTC(120, 9, 3, 16, 0, 0);
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithWithoutTransition() {
+        final long epochMillis = Date.UTC(120, 0, 1, 12, 0, 0);
+        this.withAndCheck(UTC,
+                epochMillis,
+                null,
+                epochMillis - DAY + 1,
+                epochMillis + DAY,
+                0,
+                false);
+    }
+
+    @Test
+    public void testWithBeforeDaylightSavingTimeStarts() {
+        this.withAndCheck(SYDNEY,
+                DAYLIGHT_SAVING_TIME_STARTS - HOUR,
+                null,
+                DAYLIGHT_SAVING_TIME_STARTS - HOUR - DAY + 1,
+                DAYLIGHT_SAVING_TIME_STARTS,
+                10 * (int) HOUR,
+                false);
+    }
+
+    @Test
+    public void testWithAfterDaylightSavingTimeStarts() {
+        this.withAndCheck(SYDNEY,
+                DAYLIGHT_SAVING_TIME_STARTS + HOUR,
+                null,
+                DAYLIGHT_SAVING_TIME_STARTS,
+                DAYLIGHT_SAVING_TIME_STARTS + HOUR + DAY,
+                11 * (int) HOUR,
+                true);
+    }
+
+    @Test
+    public void testWithDaylightSavingTimeStarts() {
+        this.withAndCheck(SYDNEY,
+                DAYLIGHT_SAVING_TIME_STARTS,
+                null,
+                DAYLIGHT_SAVING_TIME_STARTS,
+                DAYLIGHT_SAVING_TIME_STARTS + DAY,
+                11 * (int) HOUR,
+                true);
+    }
+
+    @Test
+    public void testWithExtendsPrevious() {
+        final long epochMillis = Date.UTC(120, 0, 1, 12, 0, 0);
+        final SimpleDateFormatTimeZoneInterval previous = SimpleDateFormatTimeZoneInterval.with(UTC, epochMillis, null);
+
+        this.withAndCheck(UTC,
+                previous.end + HOUR,
+                previous,
+                previous.start,
+                previous.end + HOUR + DAY,
+                0,
+                false);
+    }
+
+    @Test
+    public void testWithExtendsPreviousBackwards() {
+        final long epochMillis = Date.UTC(120, 0, 1, 12, 0, 0);
+        final SimpleDateFormatTimeZoneInterval previous = SimpleDateFormatTimeZoneInterval.with(UTC, epochMillis, null);
+
+        this.withAndCheck(UTC,
+                previous.start - HOUR,
+                previous,
+                previous.start - HOUR - DAY + 1,
+                previous.end,
+                0,
+                false);
+    }
+
+    @Test
+    public void testWithPreviousDifferentTimeZone() {
+        final long epochMillis = Date.UTC(120, 0, 1, 12, 0, 0);
+        final SimpleDateFormatTimeZoneInterval previous = SimpleDateFormatTimeZoneInterval.with(TimeZone.getTimeZone("GMT"), epochMillis, null);
+
+        this.withAndCheck(UTC,
+                previous.end + HOUR,
+                previous,
+                previous.end + HOUR - DAY + 1,
+                previous.end + HOUR + DAY,
+                0,
+                false);
+    }
+
+    @Test
+    public void testWithPreviousDifferentOffset() {
+        final SimpleDateFormatTimeZoneInterval previous = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS - HOUR, null);
+
+        this.withAndCheck(SYDNEY,
+                DAYLIGHT_SAVING_TIME_STARTS + HOUR,
+                previous,
+                DAYLIGHT_SAVING_TIME_STARTS,
+                DAYLIGHT_SAVING_TIME_STARTS + HOUR + DAY,
+                11 * (int) HOUR,
+                true);
+    }
+
+    private void withAndCheck(final TimeZone timeZone,
+                              final long epochMillis,
+                              final SimpleDateFormatTimeZoneInterval previous,
+                              final long start,
+                              final long end,
+                              final int offset,
+                              final boolean daylightSavingTime) {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(timeZone, epochMillis, previous);
+        assertSame(timeZone, interval.timeZone, "timeZone");
+        assertEquals(start, interval.start, () -> "start " + interval);
+        assertEquals(end, interval.end, () -> "end " + interval);
+        assertEquals(offset, interval.offset, () -> "offset " + interval);
+        assertEquals(daylightSavingTime, interval.daylightSavingTime, () -> "daylightSavingTime " + interval);
+    }
+
+    // get..............................................................................................................
+
+    @Test
+    public void testGetSame() {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+        assertSame(interval, SimpleDateFormatTimeZoneInterval.get(interval, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS + HOUR));
+    }
+
+    @Test
+    public void testGetOutside() {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+        assertNotSame(interval, SimpleDateFormatTimeZoneInterval.get(interval, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS - 1));
+    }
+
+    @Test
+    public void testGetNull() {
+        assertEquals(DAYLIGHT_SAVING_TIME_STARTS,
+                SimpleDateFormatTimeZoneInterval.get(null, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS).start);
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTest() {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+
+        this.testAndCheck(interval, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS - 1, false);
+        this.testAndCheck(interval, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, true);
+        this.testAndCheck(interval, SYDNEY, interval.end - 1, true);
+        this.testAndCheck(interval, SYDNEY, interval.end, false);
+    }
+
+    @Test
+    public void testTestDifferentTimeZone() {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+        this.testAndCheck(interval, (TimeZone) SYDNEY.clone(), DAYLIGHT_SAVING_TIME_STARTS, false);
+    }
+
+    @Test
+    public void testTestDefaultLocaleChanged() {
+        final Locale locale = Locale.getDefault();
+        try {
+            final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+            Locale.setDefault(Locale.forLanguageTag("de-DE".equals(locale.toLanguageTag()) ? "en-AU" : "de-DE"));
+            this.testAndCheck(interval, SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, false);
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    private void testAndCheck(final SimpleDateFormatTimeZoneInterval interval,
+                              final TimeZone timeZone,
+                              final long epochMillis,
+                              final boolean expected) {
+        assertEquals(expected,
+                interval.test(timeZone, epochMillis),
+                () -> interval + " test " + timeZone.getID() + " " + epochMillis);
+    }
+
+    // texts............................................................................................................
+
+    @Test
+    public void testDisplayNameShort() {
+        this.displayNameAndCheck(TimeZone.SHORT);
+    }
+
+    @Test
+    public void testDisplayNameLong() {
+        this.displayNameAndCheck(TimeZone.LONG);
+    }
+
+    private void displayNameAndCheck(final int style) {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null);
+        final String displayName = interval.displayName(style);
+        assertEquals(SYDNEY.getDisplayName(true, style), displayName);
+        assertSame(displayName, interval.displayName(style), "displayName not cached");
+    }
+
+    @Test
+    public void testRfc822() {
+        this.rfc822AndCheck(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, "+1100");
+    }
+
+    @Test
+    public void testRfc822Kolkata() {
+        this.rfc822AndCheck(KOLKATA, DAYLIGHT_SAVING_TIME_STARTS, "+0530");
+    }
+
+    @Test
+    public void testRfc822Utc() {
+        this.rfc822AndCheck(UTC, DAYLIGHT_SAVING_TIME_STARTS, "+0000");
+    }
+
+    private void rfc822AndCheck(final TimeZone timeZone,
+                                final long epochMillis,
+                                final String expected) {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(timeZone, epochMillis, null);
+        assertEquals(expected, interval.rfc822(), () -> "rfc822 " + interval);
+        assertSame(interval.rfc822(), interval.rfc822(), "rfc822 not cached");
+    }
+
+    @Test
+    public void testIso8601() {
+        this.iso8601AndCheck(KOLKATA, 1, "+05");
+        this.iso8601AndCheck(KOLKATA, 2, "+0530");
+        this.iso8601AndCheck(KOLKATA, 3, "+05:30");
+    }
+
+    @Test
+    public void testIso8601Utc() {
+        this.iso8601AndCheck(UTC, 1, "Z");
+        this.iso8601AndCheck(UTC, 3, "Z");
+    }
+
+    private void iso8601AndCheck(final TimeZone timeZone,
+                                 final int length,
+                                 final String expected) {
+        final SimpleDateFormatTimeZoneInterval interval = SimpleDateFormatTimeZoneInterval.with(timeZone, DAYLIGHT_SAVING_TIME_STARTS, null);
+        assertEquals(expected, interval.iso8601(length), () -> "iso8601 " + length + " " + interval);
+        assertSame(interval.iso8601(length), interval.iso8601(length), "iso8601 not cached");
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS, null),
+                "Australia/Sydney 1601740800000..1601827200000 39600000 daylightSavingTime");
+    }
+
+    @Test
+    public void testToStringStandardTime() {
+        this.toStringAndCheck(SimpleDateFormatTimeZoneInterval.with(SYDNEY, DAYLIGHT_SAVING_TIME_STARTS - HOUR, null),
+                "Australia/Sydney 1601650800001..1601740800000 36000000");
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SimpleDateFormatTimeZoneInterval> type() {
+        return SimpleDateFormatTimeZoneInterval.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}